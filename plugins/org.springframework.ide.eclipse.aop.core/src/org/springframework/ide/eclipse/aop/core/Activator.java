@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2010 Spring IDE Developers
+ * Copyright (c) 2006, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -36,6 +36,9 @@ public class Activator extends AbstractUIPlugin {
 	
 	public static final String PERSIST_AOP_MODEL_PREFERENCE = PLUGIN_ID + ".persistModel";
 
+	/** @since 3.9.17 */
+	public static final String PARALLEL_MATCHING_PREFERENCE = PLUGIN_ID + ".parallelMatching";
+
 	private static final String RESOURCE_NAME = PLUGIN_ID + ".messages";
 
 	// The shared instance
@@ -68,6 +71,7 @@ public class Activator extends AbstractUIPlugin {
 		}
 		// add default value
 		getPreferenceStore().setDefault(PERSIST_AOP_MODEL_PREFERENCE, true);
+		getPreferenceStore().setDefault(PARALLEL_MATCHING_PREFERENCE, false);
 
 		Job modelJob = new Job("Initializing Spring Aop Model") {
 			
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007 - 2013 Spring IDE Developers
+ * Copyright (c) 2007 - 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,12 +12,23 @@ package org.springframework.ide.eclipse.aop.core.internal.model.builder;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
@@ -27,6 +38,7 @@ import org.eclipse.core.resources.IWorkspaceRunnable;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
@@ -62,6 +74,7 @@ import org.springframework.ide.eclipse.core.SpringCore;
 import org.springframework.ide.eclipse.core.java.ClassUtils;
 import org.springframework.ide.eclipse.core.java.IProjectClassLoaderSupport;
 import org.springframework.ide.eclipse.core.java.JdtUtils;
+import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchyEngine;
 import org.springframework.ide.eclipse.core.model.IModelElement;
 
 /**
@@ -85,6 +98,11 @@ public class AopReferenceModelBuilderJob extends Job {
 
 	private static final String PROCESSING_TOOK_MSG = "Processing took";
 
+	private static final AtomicInteger matcherThreadCount = new AtomicInteger();
+
+	/** Seconds to wait for the matcher threads to finish at the end of a build */
+	private static final long MATCHER_TERMINATION_TIMEOUT = 10;
+
 	private final Set<IResource> affectedResources;
 
 	private final IProject project;
@@ -99,6 +117,24 @@ public class AopReferenceModelBuilderJob extends Job {
 
 	private AspectDefinitionBuilderHelper aspectDefinitionBuilder;
 
+	/** Pre-filters by aspect definition; <code>null</code> values for pointcuts that can't be pre-filtered */
+	private Map<IAspectDefinition, PointcutTypeFilter> pointcutFilters = null;
+
+	/** Aspect definitions whose pointcut has been parsed and matched by AspectJ without errors */
+	private Set<IAspectDefinition> matchedAspectDefinitions = null;
+
+	/** Runs the matching units in parallel matching mode; <code>null</code> if matching runs on the job thread */
+	private ExecutorService matchingExecutor = null;
+
+	/** The weaving class loader support of each matcher thread */
+	private final ThreadLocal<IProjectClassLoaderSupport> matcherClassLoaderSupport = new ThreadLocal<>();
+
+	/** The aspect definition matcher of each matcher thread, as matchers can't be shared by threads */
+	private final ThreadLocal<AspectDefinitionMatcher> matcherAspectDefinitionMatcher = new ThreadLocal<>();
+
+	/** The aspect definition matchers of all threads of the current executor, closed once the executor terminated */
+	private List<AspectDefinitionMatcher> matcherAspectDefinitionMatchers = null;
+
 	/**
 	 * Constructor to create a {@link AopReferenceModelBuilderJob} instance.
 	 * @param affectedResources the set of resources that should be processed
@@ -171,10 +207,13 @@ public class AopReferenceModelBuilderJob extends Job {
 
 	/**
 	 * Builds AOP references for given {@link IBean} instances. Matches the given Aspect definition against the
-	 * {@link IBean}.
+	 * {@link IBean} and records the references and problems found with the given {@link MatchingUnit}.
 	 */
-	private void buildAopReferencesForBean(final IBean bean, final IModelElement context, final IAspectDefinition info,
-			final IResource file, final IAopProject aopProject, IProgressMonitor monitor) {
+	private void buildAopReferencesForBean(final IBean bean, final IModelElement context, final MatchingUnit unit,
+			IProjectClassLoaderSupport loaderSupport, final AspectDefinitionMatcher matcher, IProgressMonitor monitor) {
+		final IAspectDefinition info = unit.getAspectDefinition();
+		final IResource file = unit.getResource();
+		final IAopProject aopProject = unit.getAopProject();
 		try {
 			AopLog.log(AopLog.BUILDER, Activator.getFormattedMessage(
 					"AopReferenceModelBuilder.processingBeanDefinition", bean, bean.getElementResource().getFullPath()));
@@ -193,6 +232,13 @@ public class AopReferenceModelBuilderJob extends Job {
 				return;
 			}
 
+			// skip beans that can't match the pointcut before resolving and loading any class
+			if (className != null && !mayMatch(bean, className, info, file)) {
+				AopLog.log(AopLog.BUILDER_MESSAGES, Activator.getFormattedMessage(
+						"AopReferenceModelBuilder.skippingBeanDefinitionByPreFilter", bean, info));
+				return;
+			}
+
 			final IType jdtTargetType = JdtUtils.getJavaType(file.getProject(), className);
 			final IType jdtAspectType = JdtUtils.getJavaType(aopProject.getProject().getProject(), info
 					.getAspectClassName());
@@ -205,7 +251,7 @@ public class AopReferenceModelBuilderJob extends Job {
 			}
 
 			// do in context of active weaving class loader
-			this.classLoaderSupport.executeCallback(new IProjectClassLoaderSupport.IProjectClassLoaderAwareCallback() {
+			loaderSupport.executeCallback(new IProjectClassLoaderSupport.IProjectClassLoaderAwareCallback() {
 
 				public void doWithActiveProjectClassLoader() throws Throwable {
 					Class<?> targetClass = null;
@@ -237,7 +283,7 @@ public class AopReferenceModelBuilderJob extends Job {
 								IAopReference ref = new AopReference(info.getType(), jdtAspectMember, JdtUtils
 										.getLineNumber(jdtAspectMember), jdtTargetType, JdtUtils
 										.getLineNumber(jdtTargetType), info, file, bean);
-								aopProject.addAopReference(ref);
+								unit.addAopReference(ref);
 							}
 						}
 					}
@@ -259,13 +305,14 @@ public class AopReferenceModelBuilderJob extends Job {
 
 						if (jdtAspectMethod != null) {
 							// long start = System.currentTimeMillis();
-							Set<IMethod> matchingMethods = aspectDefinitionMatcher.matches(targetClass, bean, info,
+							Set<IMethod> matchingMethods = matcher.matches(targetClass, bean, info,
 									aopProject.getProject().getProject());
+							matchedAspectDefinitions.add(info);
 							for (IMethod method : matchingMethods) {
 								IAopReference ref = new AopReference(info.getType(), jdtAspectMethod, JdtUtils
 										.getLineNumber(jdtAspectMethod), method, JdtUtils.getLineNumber(method), info,
 										file, bean);
-								aopProject.addAopReference(ref);
+								unit.addAopReference(ref);
 							}
 							// System.out.println(String.format("--- matching on '%s' took '%s'", targetClass, (System
 							// .currentTimeMillis() - start)));
@@ -275,33 +322,63 @@ public class AopReferenceModelBuilderJob extends Job {
 			});
 		}
 		catch (Throwable t) {
-			markerJob.addThrowableHolder(new ThrowableHolder(t, file, bean, info));
+			unit.addThrowableHolder(new ThrowableHolder(t, file, bean, info));
+		}
+	}
+
+	/**
+	 * Checks the given bean against the static type and bean name constraints of the pointcut of the given aspect
+	 * definition. Pointcuts are only pre-filtered after AspectJ matched them once without errors, so that problems in
+	 * a pointcut are still reported.
+	 */
+	private boolean mayMatch(IBean bean, String className, IAspectDefinition info, IResource file) {
+		if (!(info instanceof BeanAspectDefinition) || info instanceof BeanIntroductionDefinition
+				|| !matchedAspectDefinitions.contains(info)) {
+			return true;
+		}
+
+		PointcutTypeFilter filter;
+		if (pointcutFilters.containsKey(info)) {
+			filter = pointcutFilters.get(info);
+		}
+		else {
+			filter = PointcutTypeFilter.forExpression(info.getPointcutExpression());
+			pointcutFilters.put(info, filter);
+		}
+		if (filter == null) {
+			return true;
 		}
+
+		TypeHierarchyEngine typeHierarchyEngine = SpringCore.getTypeHierarchyEngine();
+		if (filter.mayMatch(bean, className, file.getProject(), typeHierarchyEngine)) {
+			AopLog.countPreFilterHit();
+			return true;
+		}
+		AopLog.countPreFilterSkip();
+		return false;
 	}
 
-	private void buildAopReferencesForBeans(IModelElement config, IAspectDefinition info, IProgressMonitor monitor,
-			IResource file, IAopProject aopProject, Set<IBean> beans) {
+	private void buildAopReferencesForBeans(IModelElement config, MatchingUnit unit,
+			IProjectClassLoaderSupport loaderSupport, AspectDefinitionMatcher matcher, IProgressMonitor monitor,
+			Set<IBean> beans) {
 
 		monitor.subTask(Activator.getFormattedMessage("AopReferenceModelBuilder.buildingAopReferences"));
 
 		for (IBean bean : beans) {
 			monitor.subTask(Activator.getFormattedMessage("AopReferenceModelBuilder.buildingAopReferencesForBean", bean
 					.getElementName(), bean.getElementResource().getFullPath()));
-			buildAopReferencesForBean(bean, config, info, file, aopProject, monitor);
+			buildAopReferencesForBean(bean, config, unit, loaderSupport, matcher, monitor);
 
 			// Make sure that inner beans are handled as well
-			buildAopReferencesForBeans(config, info, monitor, file, aopProject, BeansModelUtils.getInnerBeans(bean));
+			buildAopReferencesForBeans(config, unit, loaderSupport, matcher, monitor, BeansModelUtils.getInnerBeans(bean));
 		}
 	}
 
-	private void buildAopReferencesForBeansConfig(IBeansConfig config, IAspectDefinition info, IProgressMonitor monitor) {
-
-		IResource file = config.getElementResource();
-		IJavaProject javaProject = JdtUtils.getJavaProject(file.getProject());
-
-		if (javaProject != null) {
-			IAopProject aopProject = ((AopReferenceModel) Activator.getModel()).getProjectWithInitialization(javaProject);
+	private void buildAopReferencesForBeansConfig(MatchingUnit unit, IProjectClassLoaderSupport loaderSupport,
+			AspectDefinitionMatcher matcher, IProgressMonitor monitor) {
 
+		IBeansConfig config = unit.getConfig();
+		if (unit.getAopProject() != null) {
 			Set<IBean> beans = new LinkedHashSet<>();
 			beans.addAll(config.getBeans());
 
@@ -310,7 +387,7 @@ public class AopReferenceModelBuilderJob extends Job {
 				addBeansFromComponent(component, beans);
 			}
 
-			buildAopReferencesForBeans(config, info, monitor, file, aopProject, beans);
+			buildAopReferencesForBeans(config, unit, loaderSupport, matcher, monitor, beans);
 		}
 	}
 
@@ -362,13 +439,18 @@ public class AopReferenceModelBuilderJob extends Job {
 				//
 				// start = System.currentTimeMillis();
 
+				Set<IBeansConfig> configSetConfigs = getConfigsFromBeansConfigSets(project, config);
+				List<MatchingUnit> units = new ArrayList<>();
 				for (IAspectDefinition info : aspectInfos) {
 					// build model for config
-					buildAopReferencesForBeansConfig(config, info, monitor);
+					units.add(new MatchingUnit(config, info));
 
 					// build model for config sets
-					buildAopReferencesFromBeansConfigSets(project, config, info, monitor);
+					for (IBeansConfig configSetConfig : configSetConfigs) {
+						units.add(new MatchingUnit(configSetConfig, info));
+					}
 				}
+				matchUnits(units, monitor);
 
 				// System.out.println(String.format("-- building aop model for file '%s' took '%s'", currentFile,
 				// (System
@@ -391,11 +473,10 @@ public class AopReferenceModelBuilderJob extends Job {
 
 	/**
 	 * Iterates over the list of {@link IBeansConfigSet} to determine if the given <code>config</code> is part of a
-	 * certain config set and as such the {@link IAspectDefinition} need to be matched against the beans contained in
-	 * the config set.
+	 * certain config set and as such the {@link IAspectDefinition}s need to be matched against the beans contained in
+	 * the other configs of the config set.
 	 */
-	private void buildAopReferencesFromBeansConfigSets(IBeansProject project, IBeansConfig config,
-			IAspectDefinition info, IProgressMonitor monitor) {
+	private Set<IBeansConfig> getConfigsFromBeansConfigSets(IBeansProject project, IBeansConfig config) {
 
 		Set<IBeansConfig> foundConfigs = new LinkedHashSet<>();
 		for (IBeansConfigSet configSet : project.getConfigSets()) {
@@ -408,9 +489,157 @@ public class AopReferenceModelBuilderJob extends Job {
 				}
 			}
 		}
-		for (IBeansConfig bc : foundConfigs) {
-			buildAopReferencesForBeansConfig(bc, info, monitor);
+		return foundConfigs;
+	}
+
+	/**
+	 * Matches the given units, either one after the other on the job thread or in parallel on the matcher threads.
+	 * The results are merged into the {@link IAopProject}s in the order of the given units in both cases.
+	 */
+	private void matchUnits(List<MatchingUnit> units, final IProgressMonitor monitor) {
+		if (matchingExecutor == null || units.size() < 2) {
+			for (MatchingUnit unit : units) {
+				if (monitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+				buildAopReferencesForBeansConfig(unit, classLoaderSupport, aspectDefinitionMatcher, monitor);
+				unit.merge();
+			}
+			return;
+		}
+
+		// matcher threads only report cancellation; sub tasks can't be shown for several threads at once
+		final IProgressMonitor matcherMonitor = new NullProgressMonitor() {
+
+			@Override
+			public boolean isCanceled() {
+				return monitor.isCanceled();
+			}
+		};
+
+		monitor.subTask(Activator.getFormattedMessage("AopReferenceModelBuilder.buildingAopReferences"));
+		List<Future<MatchingUnit>> futures = new ArrayList<>(units.size());
+		for (final MatchingUnit unit : units) {
+			futures.add(matchingExecutor.submit(new Callable<MatchingUnit>() {
+
+				public MatchingUnit call() {
+					if (!matcherMonitor.isCanceled()) {
+						buildAopReferencesForBeansConfig(unit, getMatcherClassLoaderSupport(),
+								getMatcherAspectDefinitionMatcher(), matcherMonitor);
+					}
+					return unit;
+				}
+			}));
+		}
+
+		try {
+			for (Future<MatchingUnit> future : futures) {
+				getResult(future).merge();
+			}
+		}
+		catch (InterruptedException e) {
+			for (Future<MatchingUnit> future : futures) {
+				future.cancel(true);
+			}
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		}
+		if (monitor.isCanceled()) {
+			throw new OperationCanceledException();
+		}
+	}
+
+	private MatchingUnit getResult(Future<MatchingUnit> future) throws InterruptedException {
+		try {
+			return future.get();
+		}
+		catch (ExecutionException e) {
+			// problems are recorded per bean; anything else is a bug
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	/**
+	 * Returns the weaving class loader support of the current matcher thread. Each matcher thread activates its own
+	 * support as thread context class loader so that threads don't reset each others context class loaders.
+	 */
+	private IProjectClassLoaderSupport getMatcherClassLoaderSupport() {
+		IProjectClassLoaderSupport loaderSupport = matcherClassLoaderSupport.get();
+		if (loaderSupport == null) {
+			loaderSupport = createWeavingClassLoaderSupport();
+			matcherClassLoaderSupport.set(loaderSupport);
 		}
+		return loaderSupport;
+	}
+
+	/**
+	 * Returns the aspect definition matcher of the current matcher thread. The pointcuts cached by a matcher are created
+	 * with the thread's weaving class loader and hold AspectJ state that isn't thread-safe.
+	 */
+	private AspectDefinitionMatcher getMatcherAspectDefinitionMatcher() {
+		AspectDefinitionMatcher matcher = matcherAspectDefinitionMatcher.get();
+		if (matcher == null) {
+			matcher = new AspectDefinitionMatcher();
+			matcherAspectDefinitionMatcher.set(matcher);
+			matcherAspectDefinitionMatchers.add(matcher);
+		}
+		return matcher;
+	}
+
+	/**
+	 * Stops the matcher threads. Their aspect definition matchers are closed by the executor once it terminated.
+	 */
+	private void shutdownMatchingExecutor() {
+		matchingExecutor.shutdownNow();
+		try {
+			// after a cancellation units may still be running on the matcher threads; if they don't finish in time, the
+			// matchers are closed when the last of them is done
+			matchingExecutor.awaitTermination(MATCHER_TERMINATION_TIMEOUT, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			matchingExecutor = null;
+		}
+	}
+
+	/**
+	 * Creates a fixed thread pool that closes the aspect definition matchers of its threads once all threads are done,
+	 * which may be after the build has ended.
+	 */
+	private ExecutorService createMatchingExecutor() {
+		final List<AspectDefinitionMatcher> matchers = Collections.synchronizedList(new ArrayList<AspectDefinitionMatcher>());
+		matcherAspectDefinitionMatchers = matchers;
+		int threads = Runtime.getRuntime().availableProcessors();
+		return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(),
+				new ThreadFactory() {
+
+					public Thread newThread(Runnable runnable) {
+						Thread thread = new Thread(runnable, "Spring AOP Reference Matcher "
+								+ matcherThreadCount.incrementAndGet());
+						thread.setDaemon(true);
+						return thread;
+					}
+				}) {
+
+			@Override
+			protected void terminated() {
+				synchronized (matchers) {
+					for (AspectDefinitionMatcher matcher : matchers) {
+						matcher.close();
+					}
+					matchers.clear();
+				}
+			}
+		};
 	}
 
 	private List<IAspectDefinition> buildAspectDefinitions(IFile file) {
@@ -438,7 +667,13 @@ public class AopReferenceModelBuilderJob extends Job {
 		aspectDefinitionMatcher = new AspectDefinitionMatcher();
 		aspectDefinitionCache = new HashMap<>();
 		aspectDefinitionBuilder = new AspectDefinitionBuilderHelper();
+		pointcutFilters = Collections.synchronizedMap(new HashMap<IAspectDefinition, PointcutTypeFilter>());
+		matchedAspectDefinitions = Collections.newSetFromMap(new ConcurrentHashMap<IAspectDefinition, Boolean>());
 		classLoaderSupport = createWeavingClassLoaderSupport();
+		matchingExecutor = (isParallelMatching() ? createMatchingExecutor() : null);
+
+		long preFilterHits = AopLog.getPreFilterHitCount();
+		long preFilterSkips = AopLog.getPreFilterSkipCount();
 
 		monitor.beginTask(Activator.getFormattedMessage("AopReferenceModelBuilder.startBuildingAopReferenceModel"),
 				affectedResources.size());
@@ -483,9 +718,14 @@ public class AopReferenceModelBuilderJob extends Job {
 				markerJob.addAopReference(entry.getKey(), references);
 			}
 
+			AopLog.log(AopLog.BUILDER, Activator.getFormattedMessage("AopReferenceModelBuilder.preFilterStatistics",
+					AopLog.getPreFilterHitCount() - preFilterHits, AopLog.getPreFilterSkipCount() - preFilterSkips));
 			AopLog.logEnd(AopLog.BUILDER, PROCESSING_TOOK_MSG);
 		}
 		finally {
+			if (matchingExecutor != null) {
+				shutdownMatchingExecutor();
+			}
 			aspectDefinitionMatcher.close();
 			aspectDefinitionBuilder.close();
 			// schedule marker update job
@@ -494,6 +734,15 @@ public class AopReferenceModelBuilderJob extends Job {
 
 	}
 
+	/**
+	 * Returns <code>true</code> if the units of config and aspect definition should be matched in parallel.
+	 * @since 3.9.17
+	 */
+	protected boolean isParallelMatching() {
+		return Runtime.getRuntime().availableProcessors() > 1
+				&& Activator.getDefault().getPreferenceStore().getBoolean(Activator.PARALLEL_MATCHING_PREFERENCE);
+	}
+
 	/**
 	 * Template method to create a {@link IProjectClassLoaderSupport} instance.
 	 * <p>
@@ -652,6 +901,68 @@ public class AopReferenceModelBuilderJob extends Job {
 
 	}
 
+	/**
+	 * The beans of one config that are matched against one aspect definition, together with the references and
+	 * problems found. Units are matched independently of each other and merged afterwards on the job thread.
+	 * @since 3.9.17
+	 */
+	private class MatchingUnit {
+
+		private final IBeansConfig config;
+
+		private final IAspectDefinition aspectDefinition;
+
+		private final IAopProject aopProject;
+
+		private final List<IAopReference> references = new ArrayList<>();
+
+		private final List<ThrowableHolder> throwables = new ArrayList<>();
+
+		public MatchingUnit(IBeansConfig config, IAspectDefinition aspectDefinition) {
+			this.config = config;
+			this.aspectDefinition = aspectDefinition;
+			IJavaProject javaProject = JdtUtils.getJavaProject(config.getElementResource().getProject());
+			this.aopProject = (javaProject != null ? ((AopReferenceModel) Activator.getModel())
+					.getProjectWithInitialization(javaProject) : null);
+		}
+
+		public IBeansConfig getConfig() {
+			return config;
+		}
+
+		public IAspectDefinition getAspectDefinition() {
+			return aspectDefinition;
+		}
+
+		public IResource getResource() {
+			return config.getElementResource();
+		}
+
+		public IAopProject getAopProject() {
+			return aopProject;
+		}
+
+		public void addAopReference(IAopReference reference) {
+			references.add(reference);
+		}
+
+		public void addThrowableHolder(ThrowableHolder throwableHolder) {
+			throwables.add(throwableHolder);
+		}
+
+		/**
+		 * Adds the collected references to the aop project and the collected problems to the marker job.
+		 */
+		public void merge() {
+			for (IAopReference reference : references) {
+				aopProject.addAopReference(reference);
+			}
+			for (ThrowableHolder throwableHolder : throwables) {
+				markerJob.addThrowableHolder(throwableHolder);
+			}
+		}
+	}
+
 	/**
 	 * Holder to collect {@link Exception}s thrown during pointcut parsing and matching.
 	 * @since 2.0.4
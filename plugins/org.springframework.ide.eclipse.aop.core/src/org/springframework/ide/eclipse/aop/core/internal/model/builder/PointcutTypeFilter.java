@@ -0,0 +1,463 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.aop.core.internal.model.builder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.eclipse.core.resources.IProject;
+import org.springframework.ide.eclipse.beans.core.model.IBean;
+import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchyEngine;
+import org.springframework.util.PatternMatchUtils;
+
+/**
+ * Static pre-filter for pointcut expressions.
+ * <p>
+ * Extracts the type and package constraints of the <code>execution</code> and <code>within</code> primitives as well as
+ * the name constraints of the <code>bean</code> primitive of a pointcut expression. These are checked against the
+ * names of a bean and the supertypes of its class as read from the bytecode by the {@link TypeHierarchyEngine}. A bean
+ * rejected by the filter cannot match the pointcut, so there is no need to load its class and run the AspectJ matcher.
+ * Everything else in an expression, like negations, named pointcuts, annotation based primitives and the
+ * <code>this</code> and <code>target</code> primitives, is treated as a possible match. The latter refer to the proxy
+ * or target object, which can implement types the bean class doesn't, e.g. interfaces introduced by
+ * <code>@DeclareParents</code>.
+ * @since 3.9.17
+ */
+public class PointcutTypeFilter {
+
+	private static final Pattern TYPE_PATTERN = Pattern.compile("[\\w$.*]+");
+
+	private static final Pattern BEAN_NAME_PATTERN = Pattern.compile("[^\\s!&|()]+");
+
+	private static final Constraint ANY = new Constraint() {
+
+		@Override
+		boolean mayMatch(Candidate candidate) {
+			return true;
+		}
+	};
+
+	private final Constraint constraint;
+
+	private PointcutTypeFilter(Constraint constraint) {
+		this.constraint = constraint;
+	}
+
+	/**
+	 * Returns a filter for the given pointcut expression or <code>null</code> if the expression does not contain any
+	 * constraint that could be checked without loading classes.
+	 */
+	public static PointcutTypeFilter forExpression(String expression) {
+		if (expression == null) {
+			return null;
+		}
+		try {
+			Constraint constraint = new Parser(expression).parse();
+			return (constraint != ANY ? new PointcutTypeFilter(constraint) : null);
+		}
+		catch (IllegalArgumentException e) {
+			// leave it to AspectJ to report the problem
+			return null;
+		}
+	}
+
+	/**
+	 * Returns <code>false</code> if no method of the given bean can match the pointcut.
+	 * @param bean the bean
+	 * @param className the name of the bean class
+	 * @param project the project to resolve the bean class in
+	 * @param typeHierarchyEngine the engine to read the supertypes of the bean class with
+	 */
+	public boolean mayMatch(IBean bean, String className, IProject project, TypeHierarchyEngine typeHierarchyEngine) {
+		return constraint.mayMatch(new BeanCandidate(bean, className, project, typeHierarchyEngine));
+	}
+
+	/**
+	 * Returns <code>false</code> if no method of a bean with the given names can match the pointcut.
+	 * @param beanNames the name and the aliases of the bean
+	 * @param supertypes the bean class and all its supertypes, or <code>null</code> if they are not known
+	 */
+	public boolean mayMatch(List<String> beanNames, Set<String> supertypes) {
+		return constraint.mayMatch(new Candidate(beanNames, supertypes));
+	}
+
+	private static Constraint and(Constraint left, Constraint right) {
+		if (left == ANY) {
+			return right;
+		}
+		if (right == ANY) {
+			return left;
+		}
+		return new AndConstraint(left, right);
+	}
+
+	private static Constraint or(Constraint left, Constraint right) {
+		if (left == ANY || right == ANY) {
+			return ANY;
+		}
+		return new OrConstraint(left, right);
+	}
+
+	private static Constraint typeConstraint(String typePattern) {
+		// supertypes are checked anyway
+		if (typePattern.endsWith("+")) {
+			typePattern = typePattern.substring(0, typePattern.length() - 1);
+		}
+		// unqualified names are resolved against the imports of the aspect
+		if (!TYPE_PATTERN.matcher(typePattern).matches() || typePattern.indexOf('.') <= 0
+				|| typePattern.endsWith(".") || typePattern.contains("...")) {
+			return ANY;
+		}
+
+		StringBuilder regex = new StringBuilder();
+		for (int i = 0; i < typePattern.length(); i++) {
+			char c = typePattern.charAt(i);
+			if (c == '.') {
+				if (i + 1 < typePattern.length() && typePattern.charAt(i + 1) == '.') {
+					// any number of packages or enclosing types
+					regex.append("\\.(?:.*\\.)?");
+					i++;
+				}
+				else {
+					regex.append("\\.");
+				}
+			}
+			else if (c == '*') {
+				regex.append("[^.]*");
+			}
+			else if (c == '$') {
+				regex.append("\\$");
+			}
+			else {
+				regex.append(c);
+			}
+		}
+		return new TypeConstraint(Pattern.compile(regex.toString()));
+	}
+
+	private static Constraint executionConstraint(String signature) {
+		int parameters = signature.indexOf('(');
+		if (parameters < 0) {
+			return ANY;
+		}
+		String[] tokens = signature.substring(0, parameters).trim().split("\\s+");
+		String qualifiedName = tokens[tokens.length - 1];
+		int lastDot = qualifiedName.lastIndexOf('.');
+		if (lastDot <= 0) {
+			return ANY;
+		}
+		String declaringType = qualifiedName.substring(0, lastDot);
+		if (declaringType.endsWith(".")) {
+			// com.foo..find(..) -> any type in com.foo and its sub packages
+			declaringType = declaringType + ".*";
+		}
+		return typeConstraint(declaringType);
+	}
+
+	private static Constraint createConstraint(String designator, String body) {
+		body = body.trim();
+		if ("execution".equals(designator)) {
+			return executionConstraint(body);
+		}
+		else if ("within".equals(designator)) {
+			return typeConstraint(body);
+		}
+		else if ("bean".equals(designator)) {
+			return (BEAN_NAME_PATTERN.matcher(body).matches() ? new BeanNameConstraint(body) : ANY);
+		}
+		return ANY;
+	}
+
+	/**
+	 * The names of a bean and the supertypes of its class to check against a pointcut.
+	 */
+	private static class Candidate {
+
+		protected List<String> beanNames;
+
+		protected Set<String> supertypes;
+
+		Candidate(List<String> beanNames, Set<String> supertypes) {
+			this.beanNames = beanNames;
+			this.supertypes = supertypes;
+		}
+
+		List<String> getBeanNames() {
+			return beanNames;
+		}
+
+		/**
+		 * Returns the bean class and all its supertypes or <code>null</code> if they are not known.
+		 */
+		Set<String> getSupertypes() {
+			return supertypes;
+		}
+	}
+
+	/**
+	 * A bean of the model; the supertypes of its class are only read if needed.
+	 */
+	private static class BeanCandidate extends Candidate {
+
+		private final IBean bean;
+
+		private final String className;
+
+		private final IProject project;
+
+		private final TypeHierarchyEngine typeHierarchyEngine;
+
+		private boolean supertypesResolved;
+
+		BeanCandidate(IBean bean, String className, IProject project, TypeHierarchyEngine typeHierarchyEngine) {
+			super(null, null);
+			this.bean = bean;
+			this.className = className;
+			this.project = project;
+			this.typeHierarchyEngine = typeHierarchyEngine;
+		}
+
+		@Override
+		List<String> getBeanNames() {
+			if (beanNames == null) {
+				beanNames = new ArrayList<String>();
+				beanNames.add(bean.getElementName());
+				if (bean.getAliases() != null) {
+					beanNames.addAll(Arrays.asList(bean.getAliases()));
+				}
+			}
+			return beanNames;
+		}
+
+		@Override
+		Set<String> getSupertypes() {
+			if (!supertypesResolved) {
+				supertypesResolved = true;
+				Set<String> types = typeHierarchyEngine.getAllSupertypes(className, project);
+				// every class that could be read has at least java.lang.Object as supertype
+				supertypes = (types.size() > 1 ? types : null);
+			}
+			return supertypes;
+		}
+	}
+
+	private static abstract class Constraint {
+
+		abstract boolean mayMatch(Candidate candidate);
+	}
+
+	private static class AndConstraint extends Constraint {
+
+		private final Constraint left;
+
+		private final Constraint right;
+
+		AndConstraint(Constraint left, Constraint right) {
+			this.left = left;
+			this.right = right;
+		}
+
+		@Override
+		boolean mayMatch(Candidate candidate) {
+			return left.mayMatch(candidate) && right.mayMatch(candidate);
+		}
+	}
+
+	private static class OrConstraint extends Constraint {
+
+		private final Constraint left;
+
+		private final Constraint right;
+
+		OrConstraint(Constraint left, Constraint right) {
+			this.left = left;
+			this.right = right;
+		}
+
+		@Override
+		boolean mayMatch(Candidate candidate) {
+			return left.mayMatch(candidate) || right.mayMatch(candidate);
+		}
+	}
+
+	/**
+	 * Matches if the bean class or any of its supertypes matches the type pattern.
+	 */
+	private static class TypeConstraint extends Constraint {
+
+		private final Pattern pattern;
+
+		TypeConstraint(Pattern pattern) {
+			this.pattern = pattern;
+		}
+
+		@Override
+		boolean mayMatch(Candidate candidate) {
+			Set<String> supertypes = candidate.getSupertypes();
+			if (supertypes == null) {
+				return true;
+			}
+			for (String type : supertypes) {
+				if (pattern.matcher(type).matches()
+						|| (type.indexOf('$') != -1 && pattern.matcher(type.replace('$', '.')).matches())) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Matches if the bean name or any of its aliases matches the pattern of a <code>bean(...)</code> primitive.
+	 */
+	private static class BeanNameConstraint extends Constraint {
+
+		private final String pattern;
+
+		BeanNameConstraint(String pattern) {
+			this.pattern = pattern;
+		}
+
+		@Override
+		boolean mayMatch(Candidate candidate) {
+			for (String beanName : candidate.getBeanNames()) {
+				if (PatternMatchUtils.simpleMatch(pattern, beanName)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Recursive descent parser for the boolean structure of pointcut expressions.
+	 */
+	private static class Parser {
+
+		private final String expression;
+
+		private int position;
+
+		Parser(String expression) {
+			this.expression = expression;
+		}
+
+		Constraint parse() {
+			Constraint constraint = parseOr();
+			skipWhitespace();
+			if (position < expression.length()) {
+				throw new IllegalArgumentException("Unexpected character at " + position);
+			}
+			return constraint;
+		}
+
+		private Constraint parseOr() {
+			Constraint constraint = parseAnd();
+			while (consumeOperator("||", "or")) {
+				constraint = or(constraint, parseAnd());
+			}
+			return constraint;
+		}
+
+		private Constraint parseAnd() {
+			Constraint constraint = parseUnary();
+			while (consumeOperator("&&", "and")) {
+				constraint = and(constraint, parseUnary());
+			}
+			return constraint;
+		}
+
+		private Constraint parseUnary() {
+			if (consumeOperator("!", "not")) {
+				// a negated constraint can't be checked conservatively
+				parseUnary();
+				return ANY;
+			}
+			if (peek() == '(') {
+				position++;
+				Constraint constraint = parseOr();
+				skipWhitespace();
+				if (peek() != ')') {
+					throw new IllegalArgumentException("Missing ')' at " + position);
+				}
+				position++;
+				return constraint;
+			}
+
+			String designator = readWord();
+			skipWhitespace();
+			if (designator.length() == 0 || peek() != '(') {
+				throw new IllegalArgumentException("Expected pointcut primitive at " + position);
+			}
+			return createConstraint(designator, readBalanced());
+		}
+
+		private boolean consumeOperator(String symbol, String word) {
+			skipWhitespace();
+			if (expression.startsWith(symbol, position)) {
+				position += symbol.length();
+				return true;
+			}
+			int end = position + word.length();
+			if (expression.startsWith(word, position) && end < expression.length()
+					&& (Character.isWhitespace(expression.charAt(end)) || expression.charAt(end) == '(')) {
+				position = end;
+				return true;
+			}
+			return false;
+		}
+
+		private String readWord() {
+			int start = position;
+			while (position < expression.length()) {
+				char c = expression.charAt(position);
+				if (!Character.isJavaIdentifierPart(c) && c != '.' && c != '@') {
+					break;
+				}
+				position++;
+			}
+			return expression.substring(start, position);
+		}
+
+		/**
+		 * Reads the content between the parenthesis at the current position and its matching closing parenthesis.
+		 */
+		private String readBalanced() {
+			int start = position + 1;
+			int depth = 0;
+			while (position < expression.length()) {
+				char c = expression.charAt(position++);
+				if (c == '(') {
+					depth++;
+				}
+				else if (c == ')' && --depth == 0) {
+					return expression.substring(start, position - 1);
+				}
+			}
+			throw new IllegalArgumentException("Unbalanced parenthesis");
+		}
+
+		private char peek() {
+			skipWhitespace();
+			return (position < expression.length() ? expression.charAt(position) : 0);
+		}
+
+		private void skipWhitespace() {
+			while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+				position++;
+			}
+		}
+	}
+
+}
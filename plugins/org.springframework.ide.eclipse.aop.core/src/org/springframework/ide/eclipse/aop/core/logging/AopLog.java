@@ -12,6 +12,7 @@ package org.springframework.ide.eclipse.aop.core.logging;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Minimal logging - if a logger hasn't been set, dump to sdout
@@ -35,6 +36,11 @@ public class AopLog {
 	// support for logging the start and end of activies
 	private static Map<String, Long> timers = new HashMap<String, Long>();
 
+	// statistics of the pointcut pre-filter of the AOP reference model builder
+	private static final AtomicLong preFilterHits = new AtomicLong();
+
+	private static final AtomicLong preFilterSkips = new AtomicLong();
+
 	public static void log(String msg) {
 		log(DEFAULT, msg);
 	}
@@ -74,6 +80,44 @@ public class AopLog {
 		}
 	}
 
+	/**
+	 * Counts a bean that passed the pointcut pre-filter and had to be matched by AspectJ.
+	 * @since 3.9.17
+	 */
+	public static void countPreFilterHit() {
+		preFilterHits.incrementAndGet();
+	}
+
+	/**
+	 * Counts a bean that was skipped by the pointcut pre-filter without loading its class.
+	 * @since 3.9.17
+	 */
+	public static void countPreFilterSkip() {
+		preFilterSkips.incrementAndGet();
+	}
+
+	/**
+	 * @since 3.9.17
+	 */
+	public static long getPreFilterHitCount() {
+		return preFilterHits.get();
+	}
+
+	/**
+	 * @since 3.9.17
+	 */
+	public static long getPreFilterSkipCount() {
+		return preFilterSkips.get();
+	}
+
+	/**
+	 * @since 3.9.17
+	 */
+	public static void resetPreFilterCounts() {
+		preFilterHits.set(0);
+		preFilterSkips.set(0);
+	}
+
 	public static void setLogger(IAopLogger l) {
 		logger = l;
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009 Spring IDE Developers
+ * Copyright (c) 2009, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -49,7 +49,17 @@ public class AutowireBeanReference extends BeanReference {
 
 	public void setSource(Member member, int index) {
 		IResource resource = BeansModelUtils.getParentOfClass(parent, IResourceModelElement.class).getElementResource();
-		source = AutowireUtils.getJavaElement(resource, member, index);
+		setSource(AutowireUtils.getJavaElement(resource, member, index), index);
+	}
+
+	/**
+	 * Sets the already resolved java element of the field, method or constructor the reference got injected into.
+	 * @param source the java element
+	 * @param index the index of the injected parameter or <code>-1</code> for fields
+	 * @since 3.9.17
+	 */
+	public void setSource(IJavaElement source, int index) {
+		this.source = source;
 		if (source != null) {
 			try {
 				this.parameterIndex = index;
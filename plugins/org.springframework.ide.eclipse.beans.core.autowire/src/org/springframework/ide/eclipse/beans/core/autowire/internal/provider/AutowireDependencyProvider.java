@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 Spring IDE Developers
+ * Copyright (c) 2009, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,10 +17,12 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -29,7 +31,6 @@ import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Resource;
 import javax.inject.Provider;
 
-import org.eclipse.core.resources.IMarker;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.JavaModelException;
 import org.springframework.beans.BeanWrapperImpl;
@@ -118,6 +119,11 @@ public class AutowireDependencyProvider implements IAutowireDependencyResolver {
 	private Class<?> objectFactoryClass;
 	private Class<?> providerClass;
 
+	/** Index of the beans of the context; built on first use after the classes have been preloaded */
+	private CandidateIndex candidateIndex;
+
+	private boolean bytecodeOnly = false;
+
 	public AutowireDependencyProvider(IBeansModelElement element, IBeansModelElement context) {
 		this.context = (context == null ? element : context);
 		this.element = element;
@@ -129,7 +135,24 @@ public class AutowireDependencyProvider implements IAutowireDependencyResolver {
 		return this.problems;
 	}
 
+	/**
+	 * Resolve autowired dependencies from the class files of the project instead of loading the bean classes into a
+	 * project class loader.
+	 * @see BytecodeAutowireDependencyResolver
+	 * @since 3.9.17
+	 */
+	public void setBytecodeOnly(boolean bytecodeOnly) {
+		this.bytecodeOnly = bytecodeOnly;
+	}
+
 	public Map<IBean, Set<IBeanReference>> resolveAutowiredDependencies() {
+		if (bytecodeOnly) {
+			BytecodeAutowireDependencyResolver resolver = new BytecodeAutowireDependencyResolver(this, element, context);
+			Map<IBean, Set<IBeanReference>> autowiredBeanReferences = resolver.resolveAutowiredDependencies();
+			problems.addAll(resolver.getValidationProblems());
+			return autowiredBeanReferences;
+		}
+
 		final Map<IBean, Set<IBeanReference>> autowiredBeanReferences = new HashMap<IBean, Set<IBeanReference>>();
 
 		createProjectClassLoaderSupport();
@@ -285,6 +308,9 @@ public class AutowireDependencyProvider implements IAutowireDependencyResolver {
 	}
 
 	public void preloadClasses() {
+		// the index depends on the preloaded classes and the active class loader
+		candidateIndex = null;
+
 		try {
 			factoryBeanClass = ClassUtils.loadClass(FactoryBean.class.getName());
 		} catch (Throwable e) {
@@ -309,38 +335,12 @@ public class AutowireDependencyProvider implements IAutowireDependencyResolver {
 	}
 
 	public String[] getAliases(String beanName) {
-		Set<String> aliases = new HashSet<String>();
-		if (context instanceof IBeansConfig) {
-			for (IBeanAlias alias : ((IBeansConfig) context).getAliases()) {
-				if (beanName.equals(alias.getBeanName())) {
-					aliases.add(alias.getElementName());
-				}
-			}
-		}
-		else if (context instanceof IBeansConfigSet) {
-			for (IBeanAlias alias : ((IBeansConfigSet) context).getAliases()) {
-				if (beanName.equals(alias.getBeanName())) {
-					aliases.add(alias.getElementName());
-				}
-			}
-		}
+		Set<String> aliases = getCandidateIndex().getAliases(beanName);
 		return (String[]) aliases.toArray(new String[aliases.size()]);
 	}
 
 	public IBean getBean(String candidateName) {
-		for (IBean bean : beans) {
-			if (bean.getElementName().equals(candidateName)) {
-				return bean;
-			}
-			else {
-				for (String alias : getAliases(bean.getElementName())) {
-					if (alias.equals(candidateName)) {
-						return bean;
-					}
-				}
-			}
-		}
-		return null;
+		return getCandidateIndex().getBean(candidateName);
 	}
 	
 	public String[] getBeansForType(String requiredTypeName) {
@@ -361,37 +361,14 @@ public class AutowireDependencyProvider implements IAutowireDependencyResolver {
 	}
 
 	public String[] getBeansForType(Class<?> requiredType) {
-		Set<String> matchingBeans = new HashSet<String>();
-		
-		for (IBean bean : beans) {
-			String beanClassName = ValidationRuleUtils.getBeanClassName(bean, context);
-			if (beanClassName != null) {
-				try {
-					Class<?> beanClass = ClassUtils.loadClass(beanClassName);
-					if (requiredType.isAssignableFrom(beanClass)) {
-						matchingBeans.add(bean.getElementName());
-					}
-					else if (factoryBeanClass != null && factoryBeanClass.isAssignableFrom(beanClass)) {
-						if (isFactoryForType(beanClass, requiredType)) {
-							matchingBeans.add(bean.getElementName());
-						} 
-						else if (isExtensibleFactoryForType(bean, beanClass, requiredType)) {
-							matchingBeans.add(bean.getElementName());
-						}
-					}
-				}
-				catch (ClassNotFoundException e) {
-					// Ignore here as this can easily happen if project class path is not complete
-				}
-				catch (NoClassDefFoundError e) {
-					// Ignore here as this can easily happen if project class path is not complete
-				}
-				catch (Throwable e) {
-					BeansCorePlugin.log(e);
-				}
-			}
+		return getCandidateIndex().getBeansForType(requiredType).clone();
+	}
+
+	private CandidateIndex getCandidateIndex() {
+		if (candidateIndex == null) {
+			candidateIndex = new CandidateIndex();
 		}
-		return (String[]) matchingBeans.toArray(new String[matchingBeans.size()]);
+		return candidateIndex;
 	}
 
 	private boolean isFactoryForType(Class<?> beanClass, Class<?> requiredType) {
@@ -701,6 +678,142 @@ public class AutowireDependencyProvider implements IAutowireDependencyResolver {
 		}
 	}
 
+	/**
+	 * Index of the beans of the context by name, alias and type.
+	 * <p>
+	 * Every bean class is loaded only once; candidate lookups by type are hash lookups in the map of all super classes
+	 * and interfaces of the bean classes. Only factory beans are checked against each required type.
+	 * @since 3.9.17
+	 */
+	private class CandidateIndex {
+
+		private final Map<String, IBean> beansByName = new HashMap<String, IBean>();
+
+		private final Map<String, Set<String>> aliasesByBeanName = new HashMap<String, Set<String>>();
+
+		private Map<Class<?>, Set<String>> beanNamesByType;
+
+		private final Map<IBean, Class<?>> factoryBeans = new LinkedHashMap<IBean, Class<?>>();
+
+		private final Map<Class<?>, String[]> beanNamesByRequiredType = new HashMap<Class<?>, String[]>();
+
+		public CandidateIndex() {
+			Set<IBeanAlias> aliases = null;
+			if (context instanceof IBeansConfig) {
+				aliases = ((IBeansConfig) context).getAliases();
+			}
+			else if (context instanceof IBeansConfigSet) {
+				aliases = ((IBeansConfigSet) context).getAliases();
+			}
+			if (aliases != null) {
+				for (IBeanAlias alias : aliases) {
+					Set<String> beanAliases = aliasesByBeanName.get(alias.getBeanName());
+					if (beanAliases == null) {
+						beanAliases = new LinkedHashSet<String>();
+						aliasesByBeanName.put(alias.getBeanName(), beanAliases);
+					}
+					beanAliases.add(alias.getElementName());
+				}
+			}
+
+			// the first bean with a matching name or alias wins
+			for (IBean bean : beans) {
+				String beanName = bean.getElementName();
+				if (!beansByName.containsKey(beanName)) {
+					beansByName.put(beanName, bean);
+				}
+				for (String alias : getAliases(beanName)) {
+					if (!beansByName.containsKey(alias)) {
+						beansByName.put(alias, bean);
+					}
+				}
+			}
+		}
+
+		public IBean getBean(String beanName) {
+			return beansByName.get(beanName);
+		}
+
+		public Set<String> getAliases(String beanName) {
+			Set<String> aliases = aliasesByBeanName.get(beanName);
+			return (aliases != null ? aliases : Collections.<String> emptySet());
+		}
+
+		public String[] getBeansForType(Class<?> requiredType) {
+			String[] beanNames = beanNamesByRequiredType.get(requiredType);
+			if (beanNames == null) {
+				if (beanNamesByType == null) {
+					indexBeanClasses();
+				}
+
+				Set<String> matchingBeans = new LinkedHashSet<String>();
+				Set<String> assignableBeans = beanNamesByType.get(requiredType);
+				if (assignableBeans != null) {
+					matchingBeans.addAll(assignableBeans);
+				}
+				for (Map.Entry<IBean, Class<?>> factoryBean : factoryBeans.entrySet()) {
+					IBean bean = factoryBean.getKey();
+					if (!matchingBeans.contains(bean.getElementName())
+							&& (isFactoryForType(factoryBean.getValue(), requiredType) || isExtensibleFactoryForType(
+									bean, factoryBean.getValue(), requiredType))) {
+						matchingBeans.add(bean.getElementName());
+					}
+				}
+				beanNames = (String[]) matchingBeans.toArray(new String[matchingBeans.size()]);
+				beanNamesByRequiredType.put(requiredType, beanNames);
+			}
+			return beanNames;
+		}
+
+		private void indexBeanClasses() {
+			beanNamesByType = new HashMap<Class<?>, Set<String>>();
+			for (IBean bean : beans) {
+				String beanClassName = ValidationRuleUtils.getBeanClassName(bean, context);
+				if (beanClassName != null) {
+					try {
+						Class<?> beanClass = ClassUtils.loadClass(beanClassName);
+						Set<Class<?>> types = new HashSet<Class<?>>();
+						// interfaces are assignable to Object as well
+						types.add(Object.class);
+						addTypes(beanClass, types);
+						for (Class<?> type : types) {
+							Set<String> beanNames = beanNamesByType.get(type);
+							if (beanNames == null) {
+								beanNames = new LinkedHashSet<String>();
+								beanNamesByType.put(type, beanNames);
+							}
+							beanNames.add(bean.getElementName());
+						}
+						if (factoryBeanClass != null && factoryBeanClass.isAssignableFrom(beanClass)) {
+							factoryBeans.put(bean, beanClass);
+						}
+					}
+					catch (ClassNotFoundException e) {
+						// Ignore here as this can easily happen if project class path is not complete
+					}
+					catch (NoClassDefFoundError e) {
+						// Ignore here as this can easily happen if project class path is not complete
+					}
+					catch (Throwable e) {
+						BeansCorePlugin.log(e);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Adds the given type and all its super classes and interfaces.
+		 */
+		private void addTypes(Class<?> type, Set<Class<?>> types) {
+			if (type != null && types.add(type)) {
+				addTypes(type.getSuperclass(), types);
+				for (Class<?> interfaceType : type.getInterfaces()) {
+					addTypes(interfaceType, types);
+				}
+			}
+		}
+	}
+
 	@SuppressWarnings("serial")
 	private static class AutowireResolutionException extends RuntimeException {
 	}
@@ -710,17 +823,9 @@ public class AutowireDependencyProvider implements IAutowireDependencyResolver {
 		public void error(String message, Member member, ValidationProblemAttribute... attributes) {
 			try {
 				IJavaElement source = AutowireUtils.getJavaElement(project.getProject(), member, -1);
-				if (source != null && source.getUnderlyingResource() != null) {
-					ValidationProblemAttribute[] newAttributes = new ValidationProblemAttribute[attributes.length + 1];
-					for(int i=0; i<attributes.length; i++) {
-						newAttributes[i] = attributes[i];
-					}
-					newAttributes[attributes.length] = new ValidationProblemAttribute("JAVA_HANDLE", source.getHandleIdentifier());
-					
-					// By convention autowire problems will only get reported as warnings (for now?)
-					problems.add(new ValidationProblem(IMarker.SEVERITY_WARNING, message, source
-							.getUnderlyingResource(), JdtUtils.getLineNumber(source), 
-							newAttributes));
+				ValidationProblem problem = AutowireUtils.createValidationProblem(message, source, attributes);
+				if (problem != null) {
+					problems.add(problem);
 				}
 			}
 			catch (JavaModelException e) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2012 Spring IDE Developers
+ * Copyright (c) 2009, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,10 +15,14 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 
+import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
 import org.springframework.ide.eclipse.core.java.JdtUtils;
+import org.springframework.ide.eclipse.core.model.validation.ValidationProblem;
+import org.springframework.ide.eclipse.core.model.validation.ValidationProblemAttribute;
 
 /**
  * Utility class for the autowiring support.
@@ -42,5 +46,26 @@ public abstract class AutowireUtils {
 		}
 		return source;
 	}
-	
-}	
+
+	/**
+	 * Creates the {@link ValidationProblem} for an autowiring problem at the given java element or returns
+	 * <code>null</code> if the element is not backed by a resource in the workspace.
+	 * @since 3.9.17
+	 */
+	public static ValidationProblem createValidationProblem(String message, IJavaElement source,
+			ValidationProblemAttribute... attributes) throws JavaModelException {
+		if (source == null || source.getUnderlyingResource() == null) {
+			return null;
+		}
+		ValidationProblemAttribute[] newAttributes = new ValidationProblemAttribute[attributes.length + 1];
+		for (int i = 0; i < attributes.length; i++) {
+			newAttributes[i] = attributes[i];
+		}
+		newAttributes[attributes.length] = new ValidationProblemAttribute("JAVA_HANDLE", source.getHandleIdentifier());
+
+		// By convention autowire problems will only get reported as warnings (for now?)
+		return new ValidationProblem(IMarker.SEVERITY_WARNING, message, source.getUnderlyingResource(),
+				JdtUtils.getLineNumber(source), newAttributes);
+	}
+
+}
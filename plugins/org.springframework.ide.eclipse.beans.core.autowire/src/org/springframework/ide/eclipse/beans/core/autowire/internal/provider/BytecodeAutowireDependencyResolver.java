@@ -0,0 +1,969 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.autowire.internal.provider;
+
+import java.beans.Introspector;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.springframework.asm.ClassReader;
+import org.springframework.beans.PropertyValue;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.annotation.AutowiredAnnotationBeanPostProcessor;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.factory.config.TypedStringValue;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.AutowireCandidateQualifier;
+import org.springframework.context.annotation.CommonAnnotationBeanPostProcessor;
+import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
+import org.springframework.ide.eclipse.beans.core.autowire.AutowireBeanReference;
+import org.springframework.ide.eclipse.beans.core.autowire.internal.provider.InjectionMetadataReadingVisitor.AnnotatedMember;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansModelUtils;
+import org.springframework.ide.eclipse.beans.core.internal.model.validation.rules.ValidationRuleUtils;
+import org.springframework.ide.eclipse.beans.core.model.IBean;
+import org.springframework.ide.eclipse.beans.core.model.IBeanReference;
+import org.springframework.ide.eclipse.beans.core.model.IBeansModelElement;
+import org.springframework.ide.eclipse.beans.core.model.IBeansProject;
+import org.springframework.ide.eclipse.core.SpringCore;
+import org.springframework.ide.eclipse.core.java.JdtUtils;
+import org.springframework.ide.eclipse.core.java.typehierarchy.ClasspathLookup;
+import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchyEngine;
+import org.springframework.ide.eclipse.core.model.validation.ValidationProblem;
+import org.springframework.ide.eclipse.core.model.validation.ValidationProblemAttribute;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Resolves autowired dependencies from the class files of a project without loading any bean class into a project
+ * class loader.
+ * <p>
+ * The injection metadata of <code>@Autowired</code>, <code>@Inject</code>, <code>@Resource</code> and the qualifier
+ * annotations is read by the {@link InjectionMetadataReadingVisitor}; assignability of bean classes is decided on the
+ * supertypes returned by the {@link TypeHierarchyEngine}. The resolution rules, problem messages and problem
+ * attributes are the ones of the {@link AutowireDependencyProvider}, with these exceptions:
+ * <ul>
+ * <li><code>@Value</code> annotated members are not resolved, as they don't refer to beans</li>
+ * <li><code>@EJB</code> and <code>@WebServiceRef</code> are ignored</li>
+ * <li>the product type of a factory bean is the declared return type of its <code>getObject()</code> method; the
+ * contributed {@link org.springframework.ide.eclipse.beans.core.autowire.IFactoryBeanTypeResolver}s are not consulted</li>
+ * <li>attribute values of qualifiers are compared by their string representation and annotation defaults are not
+ * taken into account</li>
+ * </ul>
+ * @since 3.9.17
+ */
+public class BytecodeAutowireDependencyResolver {
+
+	private static final String AUTOWIRED_ANNOTATION = "org.springframework.beans.factory.annotation.Autowired";
+
+	private static final String VALUE_ANNOTATION = "org.springframework.beans.factory.annotation.Value";
+
+	private static final String QUALIFIER_ANNOTATION = "org.springframework.beans.factory.annotation.Qualifier";
+
+	private static final String INJECT_ANNOTATION = "javax.inject.Inject";
+
+	private static final String JSR330_QUALIFIER_ANNOTATION = "javax.inject.Qualifier";
+
+	private static final String RESOURCE_ANNOTATION = "javax.annotation.Resource";
+
+	private static final String PROVIDER_CLASS = "javax.inject.Provider";
+
+	private static final String WEB_SERVICE_CONTEXT_CLASS = "javax.xml.ws.WebServiceContext";
+
+	private static final String OBJECT_CLASS = Object.class.getName();
+
+	/** Types that get resolved to objects registered by the application context and the names of these */
+	private static final String[][] RESOLVABLE_DEPENDENCIES = new String[][] {
+			{ "org.springframework.beans.factory.BeanFactory", "beanFactory" },
+			{ "org.springframework.core.io.ResourceLoader", "resourceLoader" },
+			{ "org.springframework.context.ApplicationEventPublisher", "applicationEventPublisher" },
+			{ "org.springframework.context.ApplicationContext", "applicationContext" },
+			{ "org.springframework.core.env.Environment", "environment" },
+			{ "javax.servlet.ServletConfig", "servletConfig" },
+			{ "javax.servlet.ServletRequest", "requestObjectFactory" },
+			{ "javax.servlet.http.HttpSession", "sessionObjectFactory" },
+			{ "javax.portlet.PortletRequest", "requestObjectFactory" },
+			{ "javax.portlet.PortletSession", "sessionObjectFactory" } };
+
+	/**
+	 * The JDK collection and map interfaces followed by all their supertypes. Classes of the JRE are not on the project
+	 * classpath if the JRE is a module image (Java 9 and later), so these types are known without their class files.
+	 */
+	private static final String[][] JDK_COLLECTION_INTERFACES = new String[][] {
+			{ "java.lang.Iterable" },
+			{ "java.util.Collection", "java.lang.Iterable" },
+			{ "java.util.List", "java.util.Collection", "java.lang.Iterable" },
+			{ "java.util.Set", "java.util.Collection", "java.lang.Iterable" },
+			{ "java.util.SortedSet", "java.util.Set", "java.util.Collection", "java.lang.Iterable" },
+			{ "java.util.NavigableSet", "java.util.SortedSet", "java.util.Set", "java.util.Collection",
+					"java.lang.Iterable" },
+			{ "java.util.Queue", "java.util.Collection", "java.lang.Iterable" },
+			{ "java.util.Deque", "java.util.Queue", "java.util.Collection", "java.lang.Iterable" },
+			{ "java.util.Map" },
+			{ "java.util.SortedMap", "java.util.Map" },
+			{ "java.util.NavigableMap", "java.util.SortedMap", "java.util.Map" },
+			{ "java.util.concurrent.ConcurrentMap", "java.util.Map" },
+			{ "java.util.concurrent.ConcurrentNavigableMap", "java.util.concurrent.ConcurrentMap",
+					"java.util.NavigableMap", "java.util.SortedMap", "java.util.Map" } };
+
+	private final AutowireDependencyProvider provider;
+
+	private final IBeansModelElement element;
+
+	private final IBeansModelElement context;
+
+	private final IProject project;
+
+	private final TypeHierarchyEngine typeHierarchyEngine;
+
+	private final List<ValidationProblem> problems = new ArrayList<ValidationProblem>();
+
+	private final Set<String> autowiredAnnotationTypes = new LinkedHashSet<String>();
+
+	private String requiredParameterName = "required";
+
+	private boolean requiredParameterValue = true;
+
+	private final Map<String, InjectionMetadataReadingVisitor> classMetadata = new HashMap<String, InjectionMetadataReadingVisitor>();
+
+	private final Map<String, Set<String>> supertypes = new HashMap<String, Set<String>>();
+
+	private final Map<String, Boolean> qualifierTypes = new HashMap<String, Boolean>();
+
+	private final Map<AnnotatedMember, IJavaElement> javaElements = new HashMap<AnnotatedMember, IJavaElement>();
+
+	/** Classes whose member declarations have already been checked */
+	private final Set<String> checkedClasses = new HashSet<String>();
+
+	private Map<String, Set<String>> beanNamesByType;
+
+	private ClasspathLookup classpathLookup;
+
+	public BytecodeAutowireDependencyResolver(AutowireDependencyProvider provider, IBeansModelElement element,
+			IBeansModelElement context) {
+		this.provider = provider;
+		this.element = element;
+		this.context = (context == null ? element : context);
+		this.project = BeansModelUtils.getParentOfClass(this.context, IBeansProject.class).getProject();
+		this.typeHierarchyEngine = SpringCore.getTypeHierarchyEngine();
+	}
+
+	public List<ValidationProblem> getValidationProblems() {
+		return problems;
+	}
+
+	public Map<IBean, Set<IBeanReference>> resolveAutowiredDependencies() {
+		Map<IBean, Set<IBeanReference>> autowiredBeanReferences = new HashMap<IBean, Set<IBeanReference>>();
+
+		ClasspathLookupCache.Entry classpathLookupEntry = ClasspathLookupCache.acquire(project);
+		classpathLookup = classpathLookupEntry.getLookup();
+		try {
+			boolean autowiredAnnotationSupport = configureAutowiredAnnotationTypes();
+			boolean commonAnnotationSupport = getBeansForType(CommonAnnotationBeanPostProcessor.class.getName()).length > 0;
+			if (!autowiredAnnotationSupport && !commonAnnotationSupport) {
+				return autowiredBeanReferences;
+			}
+
+			for (IBean bean : BeansModelUtils.getBeans(element)) {
+				String className = BeansModelUtils.getBeanClass(bean, context);
+				if (className == null || bean.isFactory()) {
+					continue;
+				}
+				Set<IBeanReference> autowiredReferences = new HashSet<IBeanReference>();
+				resolveBean(bean, className, autowiredReferences, autowiredAnnotationSupport, commonAnnotationSupport);
+				if (autowiredReferences.size() > 0) {
+					autowiredBeanReferences.put(bean, autowiredReferences);
+				}
+			}
+		}
+		catch (Throwable e) {
+			BeansCorePlugin.log(e);
+		}
+		finally {
+			ClasspathLookupCache.release(classpathLookupEntry);
+			classpathLookup = null;
+		}
+		return autowiredBeanReferences;
+	}
+
+	/**
+	 * Sets up the autowired annotation types from the first {@link AutowiredAnnotationBeanPostProcessor} of the context.
+	 * @return <code>false</code> if there is no such post processor
+	 */
+	private boolean configureAutowiredAnnotationTypes() {
+		String[] processorNames = getBeansForType(AutowiredAnnotationBeanPostProcessor.class.getName());
+		if (processorNames.length == 0) {
+			return false;
+		}
+
+		autowiredAnnotationTypes.add(AUTOWIRED_ANNOTATION);
+		autowiredAnnotationTypes.add(VALUE_ANNOTATION);
+		autowiredAnnotationTypes.add(INJECT_ANNOTATION);
+
+		BeanDefinition processorDefinition = BeansModelUtils.getMergedBeanDefinition(provider
+				.getBean(processorNames[0]), context);
+		for (PropertyValue pv : processorDefinition.getPropertyValues().getPropertyValueList()) {
+			if (pv.getValue() instanceof TypedStringValue) {
+				String value = ((TypedStringValue) pv.getValue()).getValue();
+				if ("autowiredAnnotationType".equals(pv.getName()) && StringUtils.hasText(value)) {
+					autowiredAnnotationTypes.clear();
+					autowiredAnnotationTypes.add(value.trim());
+				}
+				else if ("requiredParameterName".equals(pv.getName())) {
+					requiredParameterName = value;
+				}
+				else if ("requiredParameterValue".equals(pv.getName())) {
+					requiredParameterValue = Boolean.valueOf(value);
+				}
+			}
+		}
+		return true;
+	}
+
+	private void resolveBean(IBean bean, String className, Set<IBeanReference> autowiredReferences,
+			boolean autowiredAnnotationSupport, boolean commonAnnotationSupport) {
+		List<InjectionMetadataReadingVisitor> hierarchy = getClassHierarchy(className);
+		if (hierarchy.isEmpty()) {
+			return;
+		}
+
+		BeanDefinition beanDefinition = BeansModelUtils.getMergedBeanDefinition(bean, context);
+		boolean report = checkedClasses.add(className);
+
+		for (int level = 0; level < hierarchy.size(); level++) {
+			InjectionMetadataReadingVisitor metadata = hierarchy.get(level);
+			for (AnnotatedMember member : metadata.getAnnotatedMembers()) {
+				if (member.isConstructor() || (!member.isField() && isOverridden(member, hierarchy, level))) {
+					continue;
+				}
+				if (autowiredAnnotationSupport) {
+					Map<String, Object> annotation = findAutowiredAnnotation(member);
+					if (annotation != null) {
+						resolveAutowiredMember(bean, beanDefinition, metadata.getClassName(), member, annotation,
+								autowiredReferences, report);
+					}
+				}
+				if (commonAnnotationSupport && member.hasAnnotation(RESOURCE_ANNOTATION)) {
+					resolveResourceMember(bean, beanDefinition, metadata.getClassName(), member, autowiredReferences,
+							report);
+				}
+			}
+		}
+
+		if (autowiredAnnotationSupport) {
+			resolveAutowiredConstructors(bean, hierarchy.get(0), autowiredReferences, report);
+		}
+	}
+
+	private void resolveAutowiredMember(IBean bean, BeanDefinition beanDefinition, String className,
+			AnnotatedMember member, Map<String, Object> annotation, Set<IBeanReference> autowiredReferences,
+			boolean report) {
+		if (member.isField()) {
+			if (member.isStatic()) {
+				if (report) {
+					error("@Autowired annotation is not supported on static fields", className, member);
+				}
+				return;
+			}
+			if (!member.hasAnnotation(VALUE_ANNOTATION)) {
+				resolveDependency(bean, new InjectionPoint(className, member, -1, isRequired(annotation)),
+						autowiredReferences);
+			}
+			return;
+		}
+
+		boolean error = false;
+		if (member.isStatic()) {
+			if (report) {
+				error("@Autowired annotation is not supported on static methods", className, member);
+			}
+			error = true;
+		}
+		if (member.getParameterCount() == 0) {
+			if (report) {
+				error("@Autowired annotation requires at least one argument", className, member);
+			}
+			error = true;
+		}
+		if (!error && !member.hasAnnotation(VALUE_ANNOTATION) && !isPropertySkipped(member, beanDefinition)) {
+			boolean required = isRequired(annotation);
+			for (int i = 0; i < member.getParameterCount(); i++) {
+				if (!member.getParameterAnnotations(i).containsKey(VALUE_ANNOTATION)) {
+					resolveDependency(bean, new InjectionPoint(className, member, i, required), autowiredReferences);
+				}
+			}
+		}
+	}
+
+	private void resolveAutowiredConstructors(IBean bean, InjectionMetadataReadingVisitor metadata,
+			Set<IBeanReference> autowiredReferences, boolean report) {
+		String className = metadata.getClassName();
+		List<AnnotatedMember> candidates = new ArrayList<AnnotatedMember>();
+		AnnotatedMember requiredConstructor = null;
+		for (AnnotatedMember member : metadata.getAnnotatedMembers()) {
+			if (!member.isConstructor()) {
+				continue;
+			}
+			Map<String, Object> annotation = findAutowiredAnnotation(member);
+			if (annotation == null) {
+				continue;
+			}
+			if (requiredConstructor != null) {
+				if (report) {
+					error("Invalid @Autowire-marked constructor", className, member);
+					error("Found another constructor with 'required' @Autowired annotation", className,
+							requiredConstructor);
+				}
+				break;
+			}
+			if (member.getParameterCount() == 0) {
+				if (report) {
+					error("@Autowired annotation requires at least one argument", className, member);
+				}
+				break;
+			}
+			boolean required = isRequired(annotation);
+			if (required) {
+				if (!candidates.isEmpty()) {
+					if (report) {
+						for (AnnotatedMember candidate : candidates) {
+							error("Invalid @Autowire-marked constructor", className, candidate);
+						}
+					}
+					break;
+				}
+				requiredConstructor = member;
+			}
+			candidates.add(member);
+		}
+
+		for (AnnotatedMember candidate : candidates) {
+			boolean required = isRequired(findAutowiredAnnotation(candidate));
+			for (int i = 0; i < candidate.getParameterCount(); i++) {
+				if (!candidate.getParameterAnnotations(i).containsKey(VALUE_ANNOTATION)) {
+					resolveDependency(bean, new InjectionPoint(className, candidate, i, required),
+							autowiredReferences);
+				}
+			}
+		}
+	}
+
+	private void resolveResourceMember(IBean bean, BeanDefinition beanDefinition, String className,
+			AnnotatedMember member, Set<IBeanReference> autowiredReferences, boolean report) {
+		if (member.isStatic()) {
+			if (report) {
+				error("@Resource annotation is not supported on static " + (member.isField() ? "fields" : "methods"),
+						className, member);
+			}
+			return;
+		}
+		if (!member.isField() && member.getParameterCount() != 1) {
+			if (report) {
+				error("@Resource annotation requires a single-arg method", className, member);
+			}
+			return;
+		}
+		String memberType = member.getTypeNames()[0];
+		if (WEB_SERVICE_CONTEXT_CLASS.equals(memberType) || isPropertySkipped(member, beanDefinition)) {
+			return;
+		}
+
+		Map<String, Object> resource = member.getAnnotations().get(RESOURCE_ANNOTATION);
+		String name = (String) resource.get("name");
+		boolean isDefaultName = !StringUtils.hasLength(name);
+		if (isDefaultName) {
+			name = member.getName();
+			if (!member.isField() && name.startsWith("set") && name.length() > 3) {
+				name = Introspector.decapitalize(name.substring(3));
+			}
+		}
+		String lookupType = (String) resource.get("type");
+		if (lookupType == null || OBJECT_CLASS.equals(lookupType)) {
+			lookupType = memberType;
+		}
+		String mappedName = (String) resource.get("mappedName");
+		int index = (member.isField() ? -1 : 0);
+
+		if (StringUtils.hasLength(mappedName)) {
+			for (String matchingBean : getBeansForType(lookupType)) {
+				if (mappedName.equals(matchingBean)) {
+					autowiredReferences.add(createReference(bean, matchingBean, className, member, index));
+					return;
+				}
+			}
+		}
+		else if (isDefaultName && !provider.containsBean(name)) {
+			// fall back to type matching
+			resolveDependency(bean, new InjectionPoint(className, member, index, true), autowiredReferences);
+		}
+		else {
+			for (String matchingBean : getBeansForType(lookupType)) {
+				if (name.equals(matchingBean) || ObjectUtils.containsElement(provider.getAliases(matchingBean), name)) {
+					autowiredReferences.add(createReference(bean, matchingBean, className, member, index));
+					return;
+				}
+			}
+		}
+	}
+
+	private void resolveDependency(IBean bean, InjectionPoint injectionPoint, Set<IBeanReference> autowiredReferences) {
+		String type = injectionPoint.getTypeName();
+		String[] typeArguments = injectionPoint.getTypeArguments();
+		if (ObjectFactory.class.getName().equals(type) || PROVIDER_CLASS.equals(type)) {
+			type = (typeArguments != null && typeArguments.length == 1 ? typeArguments[0] : null);
+			if (type == null) {
+				return;
+			}
+			// the type arguments of the nested type are not tracked
+			typeArguments = null;
+		}
+
+		Set<String> autowiredBeanNames = new LinkedHashSet<String>();
+		try {
+			doResolveDependency(injectionPoint, type, typeArguments, bean.getElementName(), autowiredBeanNames);
+		}
+		catch (AutowireResolutionException e) {
+			// we can ignore this as problems have been reported already
+		}
+
+		for (String autowiredBeanName : autowiredBeanNames) {
+			autowiredReferences.add(createReference(bean, autowiredBeanName, injectionPoint.className,
+					injectionPoint.member, injectionPoint.index));
+		}
+	}
+
+	private void doResolveDependency(InjectionPoint injectionPoint, String type, String[] typeArguments,
+			String beanName, Set<String> autowiredBeanNames) {
+		if (type.endsWith("[]")) {
+			String componentType = type.substring(0, type.length() - 2);
+			Map<String, IBean> matchingBeans = findAutowireCandidates(beanName, componentType, injectionPoint);
+			if (matchingBeans.isEmpty() && injectionPoint.required) {
+				error("No matching beans found for 'required' dependency array", injectionPoint);
+				throw new AutowireResolutionException();
+			}
+			autowiredBeanNames.addAll(matchingBeans.keySet());
+		}
+		else if (isInterface(type) && isAssignable(type, "java.util.Collection")) {
+			String elementType = (typeArguments != null && typeArguments.length == 1 ? typeArguments[0] : null);
+			if (elementType == null) {
+				if (injectionPoint.required) {
+					error("No element type declared for 'required' collection [" + type + "]", injectionPoint);
+				}
+				throw new AutowireResolutionException();
+			}
+			Map<String, IBean> matchingBeans = findAutowireCandidates(beanName, elementType, injectionPoint);
+			if (matchingBeans.isEmpty() && injectionPoint.required) {
+				error("No matching beans found for 'required' dependency collection", injectionPoint);
+				throw new AutowireResolutionException();
+			}
+			autowiredBeanNames.addAll(matchingBeans.keySet());
+		}
+		else if (isInterface(type) && isAssignable(type, "java.util.Map")) {
+			String keyType = (typeArguments != null && typeArguments.length == 2 ? typeArguments[0] : null);
+			if ((keyType == null || !isAssignable(keyType, String.class.getName())) && injectionPoint.required) {
+				error("Key type [" + keyType + "] of map [" + type + "] must be assignable to [java.lang.String]",
+						injectionPoint);
+				throw new AutowireResolutionException();
+			}
+			String valueType = (typeArguments != null && typeArguments.length == 2 ? typeArguments[1] : null);
+			if (valueType == null) {
+				if (injectionPoint.required) {
+					error("No value type declared for 'required' map [" + type + "]", injectionPoint);
+				}
+				throw new AutowireResolutionException();
+			}
+			Map<String, IBean> matchingBeans = findAutowireCandidates(beanName, valueType, injectionPoint);
+			if (matchingBeans.isEmpty() && injectionPoint.required) {
+				error("No matching beans found for 'required' dependency map for value type [" + valueType + "]",
+						injectionPoint);
+				throw new AutowireResolutionException();
+			}
+			autowiredBeanNames.addAll(matchingBeans.keySet());
+		}
+		else {
+			Map<String, IBean> matchingBeans = findAutowireCandidates(beanName, type, injectionPoint);
+			if (matchingBeans.isEmpty()) {
+				if (injectionPoint.required) {
+					error("Unsatisfied 'required' dependency of type [" + describeType(type)
+							+ "]. Expected at least 1 matching bean", injectionPoint, new ValidationProblemAttribute(
+							AutowireDependencyProvider.AUTOWIRE_PROBLEM_TYPE,
+							AutowireDependencyProvider.REQUIRED_NO_MATCH));
+					throw new AutowireResolutionException();
+				}
+				return;
+			}
+			if (matchingBeans.size() > 1) {
+				String primaryBeanName = determinePrimaryCandidate(matchingBeans, injectionPoint);
+				if (primaryBeanName == null) {
+					Set<String> matchingBeanNames = matchingBeans.keySet();
+					ValidationProblemAttribute[] attributes = new ValidationProblemAttribute[matchingBeanNames.size() + 2];
+					attributes[0] = new ValidationProblemAttribute(AutowireDependencyProvider.AUTOWIRE_PROBLEM_TYPE,
+							AutowireDependencyProvider.TOO_MANY_MATCHING_BEANS);
+					attributes[1] = new ValidationProblemAttribute(AutowireDependencyProvider.BEAN_TYPE, type);
+					int counter = 2;
+					for (String matchingBeanName : matchingBeanNames) {
+						attributes[counter] = new ValidationProblemAttribute(
+								AutowireDependencyProvider.MATCHING_BEAN_NAME + counter, matchingBeanName);
+						counter++;
+					}
+					error("Expected single matching bean but found " + matchingBeans.size() + ": " + matchingBeanNames,
+							injectionPoint, attributes);
+					throw new AutowireResolutionException();
+				}
+				autowiredBeanNames.add(primaryBeanName);
+				return;
+			}
+			autowiredBeanNames.add(matchingBeans.keySet().iterator().next());
+		}
+	}
+
+	private Map<String, IBean> findAutowireCandidates(String beanName, String requiredType,
+			InjectionPoint injectionPoint) {
+		String[] candidateNames = getBeansForType(requiredType);
+		Map<String, IBean> result = new LinkedHashMap<String, IBean>(candidateNames.length);
+
+		for (String[] resolvableDependency : RESOLVABLE_DEPENDENCIES) {
+			if (isAssignable(requiredType, resolvableDependency[0])) {
+				result.put(resolvableDependency[1], null);
+				break;
+			}
+		}
+
+		for (String candidateName : candidateNames) {
+			if (!candidateName.equals(beanName) && isAutowireCandidate(candidateName, injectionPoint)) {
+				result.put(candidateName, provider.getBean(candidateName));
+			}
+		}
+		return result;
+	}
+
+	private String determinePrimaryCandidate(Map<String, IBean> candidateBeans, InjectionPoint injectionPoint) {
+		String primaryBeanName = null;
+		String fallbackBeanName = null;
+		for (Map.Entry<String, IBean> entry : candidateBeans.entrySet()) {
+			String candidateBeanName = entry.getKey();
+			IBean candidateBean = entry.getValue();
+			if (candidateBean != null
+					&& BeansModelUtils.getMergedBeanDefinition(candidateBean, context).isPrimary()) {
+				if (primaryBeanName != null) {
+					error("More than one 'primary' bean found among candiates [" + candidateBeans.keySet() + "]",
+							injectionPoint);
+					throw new AutowireResolutionException();
+				}
+				primaryBeanName = candidateBeanName;
+			}
+			if (primaryBeanName == null && matchesBeanName(candidateBeanName, injectionPoint.getDependencyName())) {
+				fallbackBeanName = candidateBeanName;
+			}
+		}
+		return (primaryBeanName != null ? primaryBeanName : fallbackBeanName);
+	}
+
+	private boolean isAutowireCandidate(String beanName, InjectionPoint injectionPoint) {
+		IBean bean = provider.getBean(beanName);
+		if (bean == null) {
+			return true;
+		}
+		BeanDefinition beanDefinition = BeansModelUtils.getMergedBeanDefinition(bean, context);
+		if (!beanDefinition.isAutowireCandidate()) {
+			return false;
+		}
+		if (!checkQualifiers(beanName, beanDefinition, injectionPoint.getAnnotations())) {
+			return false;
+		}
+		Map<String, Map<String, Object>> methodAnnotations = injectionPoint.getMethodAnnotations();
+		return (methodAnnotations == null || checkQualifiers(beanName, beanDefinition, methodAnnotations));
+	}
+
+	private boolean checkQualifiers(String beanName, BeanDefinition beanDefinition,
+			Map<String, Map<String, Object>> annotations) {
+		for (Map.Entry<String, Map<String, Object>> annotation : annotations.entrySet()) {
+			if (isQualifier(annotation.getKey())
+					&& !checkQualifier(beanName, beanDefinition, annotation.getKey(), annotation.getValue())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Match the given qualifier annotation against the candidate bean definition; see
+	 * {@link org.springframework.ide.eclipse.beans.core.autowire.internal.provider.QualifierAnnotationAutowireCandidateResolver#checkQualifier}.
+	 */
+	private boolean checkQualifier(String beanName, BeanDefinition beanDefinition, String type,
+			Map<String, Object> attributes) {
+		if (!(beanDefinition instanceof AbstractBeanDefinition)) {
+			return true;
+		}
+		AbstractBeanDefinition bd = (AbstractBeanDefinition) beanDefinition;
+		AutowireCandidateQualifier qualifier = bd.getQualifier(type);
+		if (qualifier == null) {
+			qualifier = bd.getQualifier(ClassUtils.getShortName(type));
+		}
+		if (qualifier == null && bd.getBeanClassName() != null) {
+			// look for matching annotation on the target class
+			InjectionMetadataReadingVisitor beanClass = getClassMetadata(bd.getBeanClassName());
+			if (beanClass != null && attributes.equals(beanClass.getAnnotations().get(type))) {
+				return true;
+			}
+		}
+		if (attributes.isEmpty() && qualifier == null) {
+			// if no attributes, the qualifier must be present
+			return false;
+		}
+		for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+			String attributeName = entry.getKey();
+			Object expectedValue = entry.getValue();
+			Object actualValue = null;
+			if (qualifier != null) {
+				actualValue = qualifier.getAttribute(attributeName);
+			}
+			if (actualValue == null) {
+				actualValue = bd.getAttribute(attributeName);
+			}
+			if (actualValue == null && attributeName.equals(AutowireCandidateQualifier.VALUE_KEY)
+					&& expectedValue instanceof String && matchesBeanName(beanName, (String) expectedValue)) {
+				// fall back on bean name (or alias) match
+				continue;
+			}
+			if (actualValue == null || !expectedValue.toString().equals(actualValue.toString())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks whether the given annotation type is Spring's or JSR-330's qualifier or is annotated with one of them.
+	 */
+	private boolean isQualifier(String annotationType) {
+		Boolean qualifier = qualifierTypes.get(annotationType);
+		if (qualifier == null) {
+			if (QUALIFIER_ANNOTATION.equals(annotationType) || JSR330_QUALIFIER_ANNOTATION.equals(annotationType)) {
+				qualifier = Boolean.TRUE;
+			}
+			else {
+				InjectionMetadataReadingVisitor metadata = getClassMetadata(annotationType);
+				qualifier = (metadata != null && (metadata.getAnnotations().containsKey(QUALIFIER_ANNOTATION) || metadata
+						.getAnnotations().containsKey(JSR330_QUALIFIER_ANNOTATION)));
+			}
+			qualifierTypes.put(annotationType, qualifier);
+		}
+		return qualifier;
+	}
+
+	private boolean matchesBeanName(String beanName, String candidateName) {
+		return (candidateName != null && (candidateName.equals(beanName) || ObjectUtils.containsElement(
+				provider.getAliases(beanName), candidateName)));
+	}
+
+	/**
+	 * Returns the names of all beans of the context that are assignable to the given type; factory beans match their
+	 * own class as well as the type of the object they create.
+	 */
+	private String[] getBeansForType(String requiredType) {
+		if (beanNamesByType == null) {
+			beanNamesByType = new HashMap<String, Set<String>>();
+			for (IBean bean : BeansModelUtils.getBeans(context)) {
+				String beanClassName = ValidationRuleUtils.getBeanClassName(bean, context);
+				if (beanClassName == null) {
+					continue;
+				}
+				Set<String> beanTypes = getSupertypes(beanClassName);
+				// only the type itself is returned for classes that can't be found on the classpath
+				if (beanTypes.size() == 1 && !OBJECT_CLASS.equals(beanClassName)) {
+					continue;
+				}
+				Set<String> types = new HashSet<String>(beanTypes);
+				types.add(OBJECT_CLASS);
+				if (types.contains(FactoryBean.class.getName())) {
+					String objectType = getFactoryObjectType(beanClassName);
+					if (objectType != null) {
+						types.addAll(getSupertypes(objectType));
+					}
+				}
+				for (String type : types) {
+					Set<String> beanNames = beanNamesByType.get(type);
+					if (beanNames == null) {
+						beanNames = new LinkedHashSet<String>();
+						beanNamesByType.put(type, beanNames);
+					}
+					beanNames.add(bean.getElementName());
+				}
+			}
+		}
+		Set<String> beanNames = beanNamesByType.get(requiredType);
+		return (beanNames != null ? beanNames.toArray(new String[beanNames.size()]) : new String[0]);
+	}
+
+	private String getFactoryObjectType(String factoryBeanClassName) {
+		for (InjectionMetadataReadingVisitor metadata : getClassHierarchy(factoryBeanClassName)) {
+			if (metadata.getFactoryObjectType() != null) {
+				return metadata.getFactoryObjectType();
+			}
+		}
+		return null;
+	}
+
+	private Set<String> getSupertypes(String type) {
+		Set<String> result = supertypes.get(type);
+		if (result == null) {
+			result = new LinkedHashSet<String>(typeHierarchyEngine.getAllSupertypes(type, project));
+			// the traversal ends at JDK types whose class files can't be found
+			for (String supertype : result.toArray(new String[result.size()])) {
+				String[] jdkSupertypes = getJdkCollectionInterface(supertype);
+				if (jdkSupertypes != null) {
+					result.addAll(Arrays.asList(jdkSupertypes));
+				}
+			}
+			supertypes.put(type, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the given JDK collection or map interface followed by its supertypes, or <code>null</code> if the type
+	 * is none of these.
+	 */
+	private static String[] getJdkCollectionInterface(String type) {
+		for (String[] jdkInterface : JDK_COLLECTION_INTERFACES) {
+			if (jdkInterface[0].equals(type)) {
+				return jdkInterface;
+			}
+		}
+		return null;
+	}
+
+	private boolean isAssignable(String type, String superType) {
+		return getSupertypes(type).contains(superType);
+	}
+
+	private boolean isInterface(String type) {
+		if (getJdkCollectionInterface(type) != null) {
+			return true;
+		}
+		InjectionMetadataReadingVisitor metadata = getClassMetadata(type);
+		return (metadata != null && metadata.isInterface());
+	}
+
+	/**
+	 * Returns the type as printed by {@link Class#toString()}.
+	 */
+	private String describeType(String type) {
+		if (ClassUtils.resolvePrimitiveClassName(type) != null) {
+			return type;
+		}
+		return (isInterface(type) ? "interface " : "class ") + type;
+	}
+
+	private boolean isRequired(Map<String, Object> annotation) {
+		Object required = annotation.get(requiredParameterName);
+		// annotation defaults are not part of the class file
+		return (required instanceof Boolean ? requiredParameterValue == (Boolean) required : true);
+	}
+
+	private boolean isPropertySkipped(AnnotatedMember member, BeanDefinition beanDefinition) {
+		String name = member.getName();
+		if (!member.isField() && member.getParameterCount() == 1 && name.startsWith("set") && name.length() > 3) {
+			// explicit value provided as part of the bean definition
+			return beanDefinition.getPropertyValues().contains(Introspector.decapitalize(name.substring(3)));
+		}
+		return false;
+	}
+
+	private Map<String, Object> findAutowiredAnnotation(AnnotatedMember member) {
+		for (String autowiredAnnotationType : autowiredAnnotationTypes) {
+			Map<String, Object> annotation = member.getAnnotations().get(autowiredAnnotationType);
+			if (annotation != null) {
+				return annotation;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns <code>true</code> if a subclass at a lower level of the hierarchy overrides the given method.
+	 */
+	private boolean isOverridden(AnnotatedMember method, List<InjectionMetadataReadingVisitor> hierarchy, int level) {
+		if (method.isPrivate() || method.isStatic()) {
+			return false;
+		}
+		for (int i = 0; i < level; i++) {
+			if (hierarchy.get(i).declaresOverridableMethod(method.getName(), method.getDescriptor())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the metadata of the given class and all its readable superclasses except {@link Object}.
+	 */
+	private List<InjectionMetadataReadingVisitor> getClassHierarchy(String className) {
+		List<InjectionMetadataReadingVisitor> hierarchy = new ArrayList<InjectionMetadataReadingVisitor>();
+		InjectionMetadataReadingVisitor metadata = getClassMetadata(className);
+		while (metadata != null) {
+			hierarchy.add(metadata);
+			String superClassName = metadata.getSuperClassName();
+			metadata = (superClassName != null && !OBJECT_CLASS.equals(superClassName) ? getClassMetadata(superClassName)
+					: null);
+		}
+		return hierarchy;
+	}
+
+	/**
+	 * Reads the class file of the given class from the classpath of the project or returns <code>null</code> if it
+	 * can't be found. Classes of the JRE are not found if the JRE is a module image; the collection and map interfaces
+	 * needed for the resolution are known by {@link #JDK_COLLECTION_INTERFACES}.
+	 */
+	private InjectionMetadataReadingVisitor getClassMetadata(String className) {
+		if (classMetadata.containsKey(className)) {
+			return classMetadata.get(className);
+		}
+
+		InjectionMetadataReadingVisitor metadata = null;
+		String classFileName = className.replace('.', '/') + ".class";
+		int lastSlash = classFileName.lastIndexOf('/');
+		String packageName = (lastSlash > -1 ? classFileName.substring(0, lastSlash) : "");
+		InputStream stream = classpathLookup.getStream(classFileName, packageName, classFileName.substring(lastSlash + 1));
+		if (stream != null) {
+			try {
+				metadata = new InjectionMetadataReadingVisitor();
+				new ClassReader(stream).accept(metadata, ClassReader.SKIP_FRAMES);
+			}
+			catch (Exception e) {
+				// unreadable class files are treated like missing ones
+				metadata = null;
+			}
+			finally {
+				try {
+					stream.close();
+				}
+				catch (IOException e) {
+				}
+			}
+		}
+		classMetadata.put(className, metadata);
+		return metadata;
+	}
+
+	private AutowireBeanReference createReference(IBean bean, String beanName, String className,
+			AnnotatedMember member, int index) {
+		AutowireBeanReference reference = new AutowireBeanReference(bean, new RuntimeBeanReference(beanName));
+		reference.setSource(getJavaElement(className, member), index);
+		return reference;
+	}
+
+	private IJavaElement getJavaElement(String className, AnnotatedMember member) {
+		if (javaElements.containsKey(member)) {
+			return javaElements.get(member);
+		}
+		IJavaElement source = null;
+		IType type = JdtUtils.getJavaType(project, className);
+		if (type != null) {
+			if (member.isField()) {
+				source = JdtUtils.getField(type, member.getName());
+			}
+			else if (member.isConstructor()) {
+				source = JdtUtils.getConstructor(type, member.getTypeNames());
+			}
+			else {
+				source = JdtUtils.getMethod(type, member.getName(), member.getTypeNames());
+			}
+		}
+		javaElements.put(member, source);
+		return source;
+	}
+
+	private void error(String message, InjectionPoint injectionPoint, ValidationProblemAttribute... attributes) {
+		error(message, injectionPoint.className, injectionPoint.member, attributes);
+	}
+
+	private void error(String message, String className, AnnotatedMember member,
+			ValidationProblemAttribute... attributes) {
+		try {
+			ValidationProblem problem = AutowireUtils.createValidationProblem(message, getJavaElement(className,
+					member), attributes);
+			if (problem != null) {
+				problems.add(problem);
+			}
+		}
+		catch (JavaModelException e) {
+		}
+	}
+
+	/**
+	 * A field or a parameter of a method or constructor to inject a dependency into.
+	 */
+	private static class InjectionPoint {
+
+		private final String className;
+
+		private final AnnotatedMember member;
+
+		private final int index;
+
+		private final boolean required;
+
+		InjectionPoint(String className, AnnotatedMember member, int index, boolean required) {
+			this.className = className;
+			this.member = member;
+			this.index = index;
+			this.required = required;
+		}
+
+		String getTypeName() {
+			return member.getTypeNames()[member.isField() ? 0 : index];
+		}
+
+		String[] getTypeArguments() {
+			return member.getTypeArguments(index);
+		}
+
+		String getDependencyName() {
+			return (member.isField() ? member.getName() : member.getParameterName(index));
+		}
+
+		Map<String, Map<String, Object>> getAnnotations() {
+			return (member.isField() ? member.getAnnotations() : member.getParameterAnnotations(index));
+		}
+
+		/**
+		 * Returns the annotations of the method or constructor if they qualify the parameters as well.
+		 */
+		Map<String, Map<String, Object>> getMethodAnnotations() {
+			if (member.isConstructor() || member.isVoidMethod()) {
+				return member.getAnnotations();
+			}
+			return null;
+		}
+	}
+
+	@SuppressWarnings("serial")
+	private static class AutowireResolutionException extends RuntimeException {
+	}
+
+}
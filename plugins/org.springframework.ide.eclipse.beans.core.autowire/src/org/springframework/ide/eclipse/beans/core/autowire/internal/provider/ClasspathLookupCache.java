@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.autowire.internal.provider;
+
+import java.net.URL;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.JavaCore;
+import org.springframework.ide.eclipse.core.java.ProjectClassLoaderCache;
+import org.springframework.ide.eclipse.core.java.typehierarchy.ClasspathLookup;
+import org.springframework.ide.eclipse.core.java.typehierarchy.ClasspathLookupDirect;
+
+/**
+ * Caches the {@link ClasspathLookupDirect} of a project for the {@link BytecodeAutowireDependencyResolver}.
+ * <p>
+ * A lookup is shared by all resolutions of the same project. Once its last user released it, the jar files it keeps
+ * open are closed; they are reopened on the next lookup. All lookups are dropped whenever the class path of a java
+ * project changes or a project is added, removed, opened or closed, as the class path of a project includes the
+ * output locations and class path entries of the projects it depends on.
+ * @since 3.9.17
+ */
+public class ClasspathLookupCache {
+
+	private static final int PROJECT_CHANGE_FLAGS = IJavaElementDelta.F_CLASSPATH_CHANGED
+			| IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED;
+
+	private static final Map<String, Entry> ENTRIES = new HashMap<String, Entry>();
+
+	private static IElementChangedListener elementChangedListener = null;
+
+	/**
+	 * Returns the shared lookup of the given project; every acquired entry has to be passed to
+	 * {@link #release(Entry)} once it isn't used anymore.
+	 */
+	public static Entry acquire(IProject project) {
+		synchronized (ENTRIES) {
+			registerListenerIfRequired();
+			Entry entry = ENTRIES.get(project.getName());
+			if (entry != null) {
+				entry.users++;
+				return entry;
+			}
+		}
+
+		List<URL> urls = ProjectClassLoaderCache.getClassPathUrls(project, null);
+		Entry created = new Entry(new ClasspathLookupDirect(urls.toArray(new URL[urls.size()])));
+		synchronized (ENTRIES) {
+			Entry entry = ENTRIES.get(project.getName());
+			if (entry == null) {
+				entry = created;
+				ENTRIES.put(project.getName(), entry);
+			}
+			entry.users++;
+			return entry;
+		}
+	}
+
+	/**
+	 * Releases the given entry and closes the jar files of its lookup if it isn't used anymore.
+	 */
+	public static void release(Entry entry) {
+		synchronized (ENTRIES) {
+			entry.users--;
+			if (entry.users == 0) {
+				// closed under the lock, so no other resolution can acquire the entry meanwhile
+				entry.lookup.close();
+			}
+		}
+	}
+
+	/**
+	 * Drops all cached lookups; lookups that are still in use are closed when they are released.
+	 */
+	public static void clear() {
+		synchronized (ENTRIES) {
+			for (Entry entry : ENTRIES.values()) {
+				if (entry.users == 0) {
+					entry.lookup.close();
+				}
+			}
+			ENTRIES.clear();
+		}
+	}
+
+	private static void registerListenerIfRequired() {
+		if (elementChangedListener == null) {
+			elementChangedListener = new ProjectChangeListener();
+			JavaCore.addElementChangedListener(elementChangedListener, ElementChangedEvent.POST_CHANGE);
+		}
+	}
+
+	/**
+	 * A shared {@link ClasspathLookup} together with the number of resolutions using it.
+	 */
+	public static class Entry {
+
+		private final ClasspathLookup lookup;
+
+		private int users;
+
+		Entry(ClasspathLookup lookup) {
+			this.lookup = lookup;
+		}
+
+		public ClasspathLookup getLookup() {
+			return lookup;
+		}
+	}
+
+	/**
+	 * {@link IElementChangedListener} to drop the cached lookups whenever a java project or its class path changes.
+	 */
+	static class ProjectChangeListener implements IElementChangedListener {
+
+		public void elementChanged(ElementChangedEvent event) {
+			for (IJavaElementDelta delta : event.getDelta().getAffectedChildren()) {
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & PROJECT_CHANGE_FLAGS) != 0) {
+					clear();
+					return;
+				}
+			}
+		}
+	}
+
+}
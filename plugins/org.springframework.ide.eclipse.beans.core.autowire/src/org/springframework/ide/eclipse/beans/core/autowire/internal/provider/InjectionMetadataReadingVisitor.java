@@ -0,0 +1,508 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.autowire.internal.provider;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.asm.AnnotationVisitor;
+import org.springframework.asm.FieldVisitor;
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.ide.eclipse.core.type.asm.ClassMetadataReadingVisitor;
+import org.springframework.ide.eclipse.core.type.asm.EmptyAnnotationVisitor;
+import org.springframework.ide.eclipse.core.type.asm.EmptyFieldVisitor;
+import org.springframework.ide.eclipse.core.type.asm.EmptyMethodVisitor;
+
+/**
+ * ASM class visitor that collects the runtime visible annotations of a class and its annotated fields, methods and
+ * constructors together with everything needed to resolve them as injection points: descriptors, generic signatures
+ * and parameter names from the local variable table.
+ * <p>
+ * Annotation attribute values are exposed as {@link String}s for strings, enums and classes and as their wrapper types
+ * for primitives; array and nested annotation values are not collected.
+ * @since 3.9.17
+ */
+public class InjectionMetadataReadingVisitor extends ClassMetadataReadingVisitor {
+
+	private final Map<String, Map<String, Object>> annotations = new LinkedHashMap<String, Map<String, Object>>();
+
+	private final List<AnnotatedMember> annotatedMembers = new ArrayList<AnnotatedMember>();
+
+	private final Set<String> overridableMethods = new HashSet<String>();
+
+	private String factoryObjectType;
+
+	@Override
+	public AnnotationVisitor visitAnnotation(String desc, boolean visible) {
+		if (!visible) {
+			return new EmptyAnnotationVisitor();
+		}
+		return new AnnotationAttributesVisitor(Type.getType(desc).getClassName(), annotations);
+	}
+
+	@Override
+	public FieldVisitor visitField(int access, String name, String desc, String signature, Object value) {
+		if ((access & Opcodes.ACC_SYNTHETIC) != 0) {
+			return new EmptyFieldVisitor();
+		}
+		final AnnotatedMember member = new AnnotatedMember(AnnotatedMember.FIELD, access, name, desc, signature);
+		return new EmptyFieldVisitor() {
+
+			@Override
+			public AnnotationVisitor visitAnnotation(String desc, boolean visible) {
+				if (!visible) {
+					return new EmptyAnnotationVisitor();
+				}
+				return new AnnotationAttributesVisitor(Type.getType(desc).getClassName(), member.annotations);
+			}
+
+			@Override
+			public void visitEnd() {
+				if (!member.annotations.isEmpty()) {
+					annotatedMembers.add(member);
+				}
+			}
+		};
+	}
+
+	@Override
+	public MethodVisitor visitMethod(int access, String name, String desc, String signature, String[] exceptions) {
+		if ((access & (Opcodes.ACC_SYNTHETIC | Opcodes.ACC_BRIDGE)) != 0 || "<clinit>".equals(name)) {
+			return new EmptyMethodVisitor();
+		}
+
+		boolean isConstructor = "<init>".equals(name);
+		if (!isConstructor && (access & (Opcodes.ACC_STATIC | Opcodes.ACC_PRIVATE)) == 0) {
+			overridableMethods.add(name + desc);
+		}
+		if ("getObject".equals(name) && desc.startsWith("()") && (access & Opcodes.ACC_STATIC) == 0) {
+			Type returnType = Type.getReturnType(desc);
+			if (returnType.getSort() == Type.OBJECT && !Object.class.getName().equals(returnType.getClassName())) {
+				factoryObjectType = returnType.getClassName();
+			}
+		}
+
+		final AnnotatedMember member = new AnnotatedMember(isConstructor ? AnnotatedMember.CONSTRUCTOR
+				: AnnotatedMember.METHOD, access, name, desc, signature);
+		return new EmptyMethodVisitor() {
+
+			private Map<Integer, String> localVariableNames;
+
+			@Override
+			public AnnotationVisitor visitAnnotation(String desc, boolean visible) {
+				if (!visible) {
+					return new EmptyAnnotationVisitor();
+				}
+				return new AnnotationAttributesVisitor(Type.getType(desc).getClassName(), member.annotations);
+			}
+
+			@Override
+			public AnnotationVisitor visitParameterAnnotation(int parameter, String desc, boolean visible) {
+				if (!visible || parameter >= member.parameterAnnotations.length) {
+					return new EmptyAnnotationVisitor();
+				}
+				if (member.parameterAnnotations[parameter] == null) {
+					member.parameterAnnotations[parameter] = new LinkedHashMap<String, Map<String, Object>>();
+				}
+				return new AnnotationAttributesVisitor(Type.getType(desc).getClassName(),
+						member.parameterAnnotations[parameter]);
+			}
+
+			@Override
+			public void visitLocalVariable(String name, String desc, String signature, Label start, Label end,
+					int index) {
+				if (member.isAnnotated()) {
+					if (localVariableNames == null) {
+						localVariableNames = new HashMap<Integer, String>();
+					}
+					localVariableNames.put(index, name);
+				}
+			}
+
+			@Override
+			public void visitEnd() {
+				if (member.isAnnotated()) {
+					if (localVariableNames != null) {
+						int slot = (member.isStatic() ? 0 : 1);
+						Type[] argumentTypes = Type.getArgumentTypes(member.descriptor);
+						for (int i = 0; i < argumentTypes.length; i++) {
+							member.parameterNames[i] = localVariableNames.get(slot);
+							slot += argumentTypes[i].getSize();
+						}
+					}
+					annotatedMembers.add(member);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Returns the attributes of the class level annotations keyed by annotation type.
+	 */
+	public Map<String, Map<String, Object>> getAnnotations() {
+		return annotations;
+	}
+
+	/**
+	 * Returns the fields, methods and constructors declared by this class that carry at least one annotation.
+	 */
+	public List<AnnotatedMember> getAnnotatedMembers() {
+		return annotatedMembers;
+	}
+
+	/**
+	 * Returns <code>true</code> if this class declares a non-static, non-private method with the given name and
+	 * descriptor.
+	 */
+	public boolean declaresOverridableMethod(String name, String descriptor) {
+		return overridableMethods.contains(name + descriptor);
+	}
+
+	/**
+	 * Returns the declared return type of a <code>getObject()</code> method of this class if it is more specific than
+	 * {@link Object}.
+	 */
+	public String getFactoryObjectType() {
+		return factoryObjectType;
+	}
+
+	/**
+	 * An annotated field, method or constructor.
+	 */
+	public static class AnnotatedMember {
+
+		static final int FIELD = 0;
+
+		static final int METHOD = 1;
+
+		static final int CONSTRUCTOR = 2;
+
+		private final int kind;
+
+		private final int access;
+
+		private final String name;
+
+		private final String descriptor;
+
+		private final String signature;
+
+		private final Map<String, Map<String, Object>> annotations = new LinkedHashMap<String, Map<String, Object>>();
+
+		private final Map<String, Map<String, Object>>[] parameterAnnotations;
+
+		private final String[] parameterNames;
+
+		@SuppressWarnings("unchecked")
+		AnnotatedMember(int kind, int access, String name, String descriptor, String signature) {
+			this.kind = kind;
+			this.access = access;
+			this.name = name;
+			this.descriptor = descriptor;
+			this.signature = signature;
+			int parameterCount = (kind == FIELD ? 0 : Type.getArgumentTypes(descriptor).length);
+			this.parameterAnnotations = new Map[parameterCount];
+			this.parameterNames = new String[parameterCount];
+		}
+
+		public boolean isField() {
+			return kind == FIELD;
+		}
+
+		public boolean isConstructor() {
+			return kind == CONSTRUCTOR;
+		}
+
+		public boolean isStatic() {
+			return (access & Opcodes.ACC_STATIC) != 0;
+		}
+
+		public boolean isPrivate() {
+			return (access & Opcodes.ACC_PRIVATE) != 0;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public String getDescriptor() {
+			return descriptor;
+		}
+
+		public boolean hasAnnotation(String annotationType) {
+			return annotations.containsKey(annotationType);
+		}
+
+		/**
+		 * Returns the annotations of the member itself keyed by annotation type.
+		 */
+		public Map<String, Map<String, Object>> getAnnotations() {
+			return annotations;
+		}
+
+		/**
+		 * Returns the annotations of the parameter with the given index keyed by annotation type.
+		 */
+		public Map<String, Map<String, Object>> getParameterAnnotations(int index) {
+			Map<String, Map<String, Object>> result = parameterAnnotations[index];
+			return (result != null ? result : Collections.<String, Map<String, Object>> emptyMap());
+		}
+
+		public int getParameterCount() {
+			return parameterNames.length;
+		}
+
+		/**
+		 * Returns the name of the parameter with the given index or <code>null</code> if the class has been compiled
+		 * without debug information.
+		 */
+		public String getParameterName(int index) {
+			return parameterNames[index];
+		}
+
+		/**
+		 * Returns the type of the field or the types of the parameters in the format of {@link Type#getClassName()}.
+		 */
+		public String[] getTypeNames() {
+			Type[] types = (kind == FIELD ? new Type[] { Type.getType(descriptor) } : Type.getArgumentTypes(descriptor));
+			String[] typeNames = new String[types.length];
+			for (int i = 0; i < types.length; i++) {
+				typeNames[i] = types[i].getClassName();
+			}
+			return typeNames;
+		}
+
+		/**
+		 * Returns <code>true</code> if this is a method with return type <code>void</code>.
+		 */
+		public boolean isVoidMethod() {
+			return kind == METHOD && Type.getReturnType(descriptor).getSort() == Type.VOID;
+		}
+
+		/**
+		 * Returns the erased type arguments of the field type or of the type of the parameter with the given index;
+		 * type variables and lower bounded wildcards are returned as <code>null</code>. Returns <code>null</code> if
+		 * there is no generic signature.
+		 * @param index the parameter index, ignored for fields
+		 */
+		public String[] getTypeArguments(int index) {
+			if (signature == null) {
+				return null;
+			}
+			if (kind == FIELD) {
+				return GenericSignatures.getTypeArguments(signature);
+			}
+			List<String> parameterSignatures = GenericSignatures.getParameterSignatures(signature);
+			// signatures don't include synthetic parameters like the outer instance of inner class constructors
+			if (parameterSignatures.size() != parameterNames.length) {
+				return null;
+			}
+			return GenericSignatures.getTypeArguments(parameterSignatures.get(index));
+		}
+
+		boolean isAnnotated() {
+			if (!annotations.isEmpty()) {
+				return true;
+			}
+			for (Map<String, Map<String, Object>> parameterAnnotation : parameterAnnotations) {
+				if (parameterAnnotation != null) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Collects the simple attribute values of an annotation into the given map.
+	 */
+	private static class AnnotationAttributesVisitor extends EmptyAnnotationVisitor {
+
+		private final String annotationType;
+
+		private final Map<String, Map<String, Object>> target;
+
+		private final Map<String, Object> attributes = new LinkedHashMap<String, Object>();
+
+		AnnotationAttributesVisitor(String annotationType, Map<String, Map<String, Object>> target) {
+			this.annotationType = annotationType;
+			this.target = target;
+		}
+
+		@Override
+		public void visit(String name, Object value) {
+			attributes.put(name, (value instanceof Type ? ((Type) value).getClassName() : value));
+		}
+
+		@Override
+		public void visitEnum(String name, String desc, String value) {
+			attributes.put(name, value);
+		}
+
+		@Override
+		public AnnotationVisitor visitAnnotation(String name, String desc) {
+			return new EmptyAnnotationVisitor();
+		}
+
+		@Override
+		public AnnotationVisitor visitArray(String name) {
+			return new EmptyAnnotationVisitor();
+		}
+
+		@Override
+		public void visitEnd() {
+			target.put(annotationType, attributes);
+		}
+	}
+
+	/**
+	 * Minimal parser for the generic signatures of fields and methods as defined in the JVM specification.
+	 */
+	static class GenericSignatures {
+
+		/**
+		 * Returns the type signatures of the parameters of the given method signature.
+		 */
+		static List<String> getParameterSignatures(String methodSignature) {
+			List<String> result = new ArrayList<String>();
+			int position = 0;
+			if (methodSignature.charAt(0) == '<') {
+				position = skipTypeParameters(methodSignature, 0);
+			}
+			position++; // (
+			while (methodSignature.charAt(position) != ')') {
+				int end = skipType(methodSignature, position);
+				result.add(methodSignature.substring(position, end));
+				position = end;
+			}
+			return result;
+		}
+
+		/**
+		 * Returns the erased top-level type arguments of the given type signature.
+		 */
+		static String[] getTypeArguments(String typeSignature) {
+			if (typeSignature.charAt(0) != 'L') {
+				return null;
+			}
+			// type arguments of the outermost parameterized type; enough for collections and maps
+			int position = typeSignature.indexOf('<');
+			if (position < 0) {
+				return new String[0];
+			}
+			position++;
+			List<String> result = new ArrayList<String>();
+			while (typeSignature.charAt(position) != '>') {
+				char c = typeSignature.charAt(position);
+				if (c == '*') {
+					result.add(null);
+					position++;
+				}
+				else {
+					if (c == '+' || c == '-') {
+						position++;
+					}
+					int end = skipType(typeSignature, position);
+					result.add(c == '-' ? null : getErasure(typeSignature.substring(position, end)));
+					position = end;
+				}
+			}
+			return result.toArray(new String[result.size()]);
+		}
+
+		/**
+		 * Returns the erasure of the given type signature in the format of {@link Type#getClassName()} or
+		 * <code>null</code> for type variables.
+		 */
+		static String getErasure(String typeSignature) {
+			char c = typeSignature.charAt(0);
+			if (c == '[') {
+				String componentType = getErasure(typeSignature.substring(1));
+				return (componentType != null ? componentType + "[]" : null);
+			}
+			else if (c == 'T') {
+				return null;
+			}
+			else if (c == 'L') {
+				StringBuilder name = new StringBuilder();
+				int depth = 0;
+				for (int i = 1; i < typeSignature.length(); i++) {
+					c = typeSignature.charAt(i);
+					if (c == '<') {
+						depth++;
+					}
+					else if (c == '>') {
+						depth--;
+					}
+					else if (depth == 0) {
+						if (c == ';') {
+							break;
+						}
+						name.append(c == '/' ? '.' : (c == '.' ? '$' : c));
+					}
+				}
+				return name.toString();
+			}
+			return Type.getType(typeSignature).getClassName();
+		}
+
+		private static int skipTypeParameters(String signature, int position) {
+			int depth = 0;
+			do {
+				char c = signature.charAt(position++);
+				if (c == '<') {
+					depth++;
+				}
+				else if (c == '>') {
+					depth--;
+				}
+			}
+			while (depth > 0);
+			return position;
+		}
+
+		private static int skipType(String signature, int position) {
+			char c = signature.charAt(position);
+			if (c == '[') {
+				return skipType(signature, position + 1);
+			}
+			else if (c == 'T') {
+				return signature.indexOf(';', position) + 1;
+			}
+			else if (c == 'L') {
+				int depth = 0;
+				while (true) {
+					c = signature.charAt(position++);
+					if (c == '<') {
+						depth++;
+					}
+					else if (c == '>') {
+						depth--;
+					}
+					else if (c == ';' && depth == 0) {
+						return position;
+					}
+				}
+			}
+			return position + 1;
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2013 Spring IDE Developers
+ * Copyright (c) 2009, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -30,6 +30,16 @@ import org.springframework.ide.eclipse.core.model.validation.ValidationProblem;
  */
 public class AutowireDependencyProblemsRule implements IValidationRule<IBeansConfig, IBeansValidationContext> {
 
+	private boolean bytecodeOnly = false;
+
+	/**
+	 * Resolve the autowired dependencies from the class files of the project instead of loading the bean classes.
+	 * @since 3.9.17
+	 */
+	public void setBytecodeOnly(boolean bytecodeOnly) {
+		this.bytecodeOnly = bytecodeOnly;
+	}
+
 	/**
 	 * Checks if the this rule supports given {@link IModelElement} and {@link IValidationContext}.
 	 * @return true if element is a {@link BeansConfig} and context is {@link IBeansValidationContext}
@@ -45,7 +55,8 @@ public class AutowireDependencyProblemsRule implements IValidationRule<IBeansCon
 		AutowireDependencyProvider provider = new AutowireDependencyProvider(element, (IBeansModelElement) context
 				.getContextElement());
 		provider.setProjectClassLoaderSupport(context.getProjectClassLoaderSupport());
-		
+		provider.setBytecodeOnly(bytecodeOnly);
+
 		provider.resolveAutowiredDependencies();
 		for (ValidationProblem problem : provider.getValidationProblems()) {
 			context.addProblems(problem);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010 Spring IDE Developers
+ * Copyright (c) 2010, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,9 +11,7 @@
 package org.springframework.ide.eclipse.beans.core.metadata.internal.model;
 
 import java.util.Collections;
-import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -43,15 +41,17 @@ public class BeanMetadataModel implements IBeanMetadataModel {
 
 	private final Lock w = rwl.writeLock();
 
-	private Map<String, BeanMetadataHolder> beanMetadata = new ConcurrentHashMap<String, BeanMetadataHolder>();
+	private BeanMetadataStore<BeanMetadataHolder> beanMetadata = new BeanMetadataStore<BeanMetadataHolder>(null);
 
-	private Map<String, BeanPropertyDataHolder> beanPropertyData = new ConcurrentHashMap<String, BeanPropertyDataHolder>();
+	private BeanMetadataStore<BeanPropertyDataHolder> beanPropertyData = new BeanMetadataStore<BeanPropertyDataHolder>(
+			null);
 
 	public Set<IBeanMetadata> getBeanMetadata(IBean bean) {
 		try {
 			r.lock();
-			if (beanMetadata.containsKey(bean.getElementID())) {
-				return beanMetadata.get(bean.getElementID()).getBeanMetaData();
+			BeanMetadataHolder holder = beanMetadata.get(bean.getElementID());
+			if (holder != null) {
+				return holder.getBeanMetaData();
 			}
 			return Collections.emptySet();
 		}
@@ -90,8 +90,9 @@ public class BeanMetadataModel implements IBeanMetadataModel {
 	public Set<IBeanProperty> getBeanProperties(IBean bean) {
 		try {
 			r.lock();
-			if (beanPropertyData.containsKey(bean.getElementID())) {
-				return beanPropertyData.get(bean.getElementID()).getBeanProperties();
+			BeanPropertyDataHolder holder = beanPropertyData.get(bean.getElementID());
+			if (holder != null) {
+				return holder.getBeanProperties();
 			}
 			return Collections.emptySet();
 		}
@@ -130,8 +131,9 @@ public class BeanMetadataModel implements IBeanMetadataModel {
 	 */
 	public void start() {
 
-		Map<String, BeanMetadataHolder> storedBeanMetadata = BeanMetadataPersistence.loadMetadata();
-		Map<String, BeanPropertyDataHolder> storedProperties = BeanMetadataPersistence
+		// The segments of a project are only read on first access to its metadata
+		BeanMetadataStore<BeanMetadataHolder> storedBeanMetadata = BeanMetadataPersistence.loadMetadata();
+		BeanMetadataStore<BeanPropertyDataHolder> storedProperties = BeanMetadataPersistence
 				.loadProperties();
 		try {
 			w.lock();
@@ -139,8 +141,8 @@ public class BeanMetadataModel implements IBeanMetadataModel {
 			beanPropertyData = storedProperties;
 		}
 		catch (Exception e) {
-			beanMetadata = new ConcurrentHashMap<String, BeanMetadataHolder>();
-			beanPropertyData = new ConcurrentHashMap<String, BeanPropertyDataHolder>();
+			beanMetadata = new BeanMetadataStore<BeanMetadataHolder>(null);
+			beanPropertyData = new BeanMetadataStore<BeanPropertyDataHolder>(null);
 		}
 		finally {
 			w.unlock();
@@ -148,7 +150,7 @@ public class BeanMetadataModel implements IBeanMetadataModel {
 	}
 
 	/**
-	 * Stops and saves the internal model.
+	 * Stops and saves the changed parts of the internal model.
 	 */
 	public void stop() {
 		BeanMetadataPersistence.storeMetadata(beanMetadata);
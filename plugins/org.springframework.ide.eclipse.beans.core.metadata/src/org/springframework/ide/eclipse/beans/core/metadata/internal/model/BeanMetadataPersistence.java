@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2013 Spring IDE Developers
+ * Copyright (c) 2010, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,91 +12,80 @@ package org.springframework.ide.eclipse.beans.core.metadata.internal.model;
 
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.io.Serializable;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.springframework.ide.eclipse.beans.core.metadata.BeansMetadataPlugin;
 import org.springframework.ide.eclipse.beans.core.metadata.model.IBeanMetadata;
 
 /**
- * Stores and loads the {@link IBeanMetadata}s from the persisted file.
+ * Stores and loads the {@link IBeanMetadata}s from the persisted {@link BeanMetadataStore}s.
  * @author Christian Dupuis
  * @author Martin Lippert
  * @since 2.0.5
  */
 public class BeanMetadataPersistence {
 
+	/** The state file of previous versions, which stored all data in a single file */
 	private static final String STATE_FILE_NAME = ".state";
 
+	private static final String SEGMENTS_FOLDER_NAME = "segments";
+
 	private static final String METADATA_FOLDER_NAME = "/metadata/";
 
 	private static final String BEANPROPERTIES_FOLDER_NAME = "/properties/";
 
-	public static void storeMetadata(Map<String, BeanMetadataHolder> metaData) {
-		File file = BeansMetadataPlugin.getDefault().getStateLocation().append(METADATA_FOLDER_NAME + STATE_FILE_NAME)
-				.toFile();
-		store(metaData, file);
+	public static void storeMetadata(BeanMetadataStore<BeanMetadataHolder> metaData) {
+		metaData.save();
 	}
 
-	public static void storeProperties(Map<String, BeanPropertyDataHolder> properties) {
-		File file = BeansMetadataPlugin.getDefault().getStateLocation()
-				.append(BEANPROPERTIES_FOLDER_NAME + STATE_FILE_NAME).toFile();
-		store(properties, file);
+	public static void storeProperties(BeanMetadataStore<BeanPropertyDataHolder> properties) {
+		properties.save();
 	}
 
-	private static void store(Object obj, File file) {
-		ObjectOutputStream out = null;
-
-		try {
-			if (!file.exists()) {
-				file.getParentFile().mkdirs();
-				file.createNewFile();
-			}
-			out = new ObjectOutputStream(new FileOutputStream(file));
-			out.writeObject(obj);
-		}
-		catch (IOException e) {
-			BeansMetadataPlugin.getDefault().getLog().log(new Status(IStatus.ERROR, BeansMetadataPlugin.PLUGIN_ID,
-					"Exception saving meta data model for class " + obj.getClass(), e));
-		}
-		finally {
-			try {
-				if (out != null)
-					out.close();
-			}
-			catch (IOException e) {
-			}
-		}
+	/**
+	 * Returns the store of the {@link BeanMetadataHolder}s; its segments are read on first access to a project.
+	 * @since 3.9.17
+	 */
+	public static BeanMetadataStore<BeanMetadataHolder> loadMetadata() {
+		return createStore(METADATA_FOLDER_NAME);
 	}
 
-	@SuppressWarnings("unchecked")
-	public static Map<String, BeanMetadataHolder> loadMetadata() {
-		File f = BeansMetadataPlugin.getDefault().getStateLocation().append(METADATA_FOLDER_NAME + STATE_FILE_NAME)
-				.toFile();
-		Map<String, BeanMetadataHolder> metaData = load(f, Map.class);
-		if (metaData != null && metaData.size() > 0) {
-			return metaData;
-		}
-		// create new empty model
-		return new ConcurrentHashMap<String, BeanMetadataHolder>();
+	/**
+	 * Returns the store of the {@link BeanPropertyDataHolder}s; its segments are read on first access to a project.
+	 * @since 3.9.17
+	 */
+	public static BeanMetadataStore<BeanPropertyDataHolder> loadProperties() {
+		return createStore(BEANPROPERTIES_FOLDER_NAME);
 	}
 
+	/**
+	 * Creates the store of the given folder and moves the contents of a state file written by a previous version into
+	 * the store. The state file is kept until all of its contents have been written to the store.
+	 */
 	@SuppressWarnings("unchecked")
-	public static Map<String, BeanPropertyDataHolder> loadProperties() {
-		File f = BeansMetadataPlugin.getDefault().getStateLocation().append(BEANPROPERTIES_FOLDER_NAME + STATE_FILE_NAME)
-				.toFile();
-		Map<String, BeanPropertyDataHolder> metaData = load(f, Map.class);
-		if (metaData != null && metaData.size() > 0) {
-			return metaData;
+	private static <T extends Serializable> BeanMetadataStore<T> createStore(String folderName) {
+		IPath folder = BeansMetadataPlugin.getDefault().getStateLocation().append(folderName);
+		BeanMetadataStore<T> store = new BeanMetadataStore<T>(folder.append(SEGMENTS_FOLDER_NAME).toFile());
+
+		File stateFile = folder.append(STATE_FILE_NAME).toFile();
+		if (stateFile.exists()) {
+			Map<String, T> state = load(stateFile, Map.class);
+			if (state != null) {
+				for (Map.Entry<String, T> entry : state.entrySet()) {
+					store.put(entry.getKey(), entry.getValue());
+				}
+			}
+			if (state == null || store.save()) {
+				stateFile.delete();
+			}
 		}
-		// create new empty model
-		return new ConcurrentHashMap<String, BeanPropertyDataHolder>();
+		return store;
 	}
 
 	public static <T> T load(File file, Class<T> clazz) {
@@ -0,0 +1,293 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.metadata.internal.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.springframework.ide.eclipse.beans.core.metadata.BeansMetadataPlugin;
+import org.springframework.ide.eclipse.core.model.IModelElement;
+
+/**
+ * Persistent store of per-bean data keyed by the element ID of the bean, split into one segment file per config.
+ * <p>
+ * The segments of a project are read on first access to an element of the project; only segments that have been
+ * changed are written on {@link #save()}. Each segment file starts with a version header followed by the segment key;
+ * files of an unknown version are dropped. File names are derived from the hash code of the keys, so keys with the same
+ * hash code are told apart by the key in the header and new segments get the first file name not taken yet.
+ * @since 3.9.17
+ */
+public class BeanMetadataStore<T extends Serializable> {
+
+	static final int MAGIC = 0x424d4453;
+
+	static final int VERSION = 1;
+
+	private static final String FILE_EXTENSION = ".segment";
+
+	private final File directory;
+
+	/** The segments by config part of the element ID */
+	private final Map<String, Segment<T>> segments = new ConcurrentHashMap<String, Segment<T>>();
+
+	/** The project parts of the element IDs whose segments have been read */
+	private final Set<String> loadedProjects = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+	/**
+	 * Creates a store for the given directory.
+	 * @param directory the directory of the segment files, or <code>null</code> for a store that is only kept in memory
+	 */
+	public BeanMetadataStore(File directory) {
+		this.directory = directory;
+	}
+
+	public T get(String elementId) {
+		Segment<T> segment = getSegment(elementId, false);
+		return (segment != null ? segment.entries.get(elementId) : null);
+	}
+
+	public void put(String elementId, T value) {
+		Segment<T> segment = getSegment(elementId, true);
+		segment.entries.put(elementId, value);
+		segment.dirty = true;
+	}
+
+	public void remove(String elementId) {
+		Segment<T> segment = getSegment(elementId, false);
+		if (segment != null && segment.entries.remove(elementId) != null) {
+			segment.dirty = true;
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if the segments of the project of the given element have been read.
+	 */
+	public boolean isLoaded(String elementId) {
+		return directory == null || loadedProjects.contains(getProjectKey(elementId));
+	}
+
+	/**
+	 * Writes all changed segments to disk; files of segments without entries are deleted.
+	 * @return <code>true</code> if all changed segments have been written
+	 */
+	public boolean save() {
+		if (directory == null) {
+			return true;
+		}
+		boolean saved = true;
+		for (Segment<T> segment : segments.values()) {
+			if (segment.dirty) {
+				// Changes made while writing mark the segment dirty again
+				segment.dirty = false;
+				Map<String, T> entries = new HashMap<String, T>(segment.entries);
+				try {
+					if (entries.isEmpty()) {
+						segment.file.delete();
+					}
+					else {
+						write(segment.key, entries, segment.file);
+					}
+				}
+				catch (IOException e) {
+					saved = false;
+					segment.dirty = true;
+					BeansMetadataPlugin.getDefault().getLog().log(new Status(IStatus.ERROR,
+							BeansMetadataPlugin.PLUGIN_ID, "Exception saving meta data segment " + segment.key, e));
+				}
+			}
+		}
+		return saved;
+	}
+
+	private Segment<T> getSegment(String elementId, boolean create) {
+		loadProject(getProjectKey(elementId));
+		String key = getSegmentKey(elementId);
+		Segment<T> segment = segments.get(key);
+		if (segment == null && create) {
+			synchronized (segments) {
+				segment = segments.get(key);
+				if (segment == null) {
+					segment = new Segment<T>(key, getNewFile(key));
+					segments.put(key, segment);
+				}
+			}
+		}
+		return segment;
+	}
+
+	private void loadProject(String projectKey) {
+		if (directory == null || loadedProjects.contains(projectKey)) {
+			return;
+		}
+		synchronized (segments) {
+			if (!loadedProjects.contains(projectKey)) {
+				File[] files = getProjectDirectory(projectKey).listFiles();
+				if (files != null) {
+					for (File file : files) {
+						if (file.getName().endsWith(FILE_EXTENSION)) {
+							Segment<T> segment = read(file);
+							if (segment == null) {
+								file.delete();
+							}
+							else if (projectKey.equals(getProjectKey(segment.key))
+									&& !segments.containsKey(segment.key)) {
+								segments.put(segment.key, segment);
+							}
+						}
+					}
+				}
+				loadedProjects.add(projectKey);
+			}
+		}
+	}
+
+	private File getProjectDirectory(String projectKey) {
+		return new File(directory, getFileName(projectKey));
+	}
+
+	/**
+	 * Returns the first file for the given segment that neither exists nor belongs to a known segment; an existing file
+	 * belongs to a segment of another key with the same hash code, as the segments of the project have been read.
+	 */
+	private File getNewFile(String segmentKey) {
+		if (directory == null) {
+			return null;
+		}
+		Set<File> files = new HashSet<File>();
+		for (Segment<T> segment : segments.values()) {
+			files.add(segment.file);
+		}
+		File projectDirectory = getProjectDirectory(getProjectKey(segmentKey));
+		String fileName = getFileName(segmentKey);
+		for (int i = 0;; i++) {
+			File file = new File(projectDirectory, (i == 0 ? fileName : fileName + '-' + i) + FILE_EXTENSION);
+			if (!file.exists() && !files.contains(file)) {
+				return file;
+			}
+		}
+	}
+
+	private static String getFileName(String key) {
+		return Integer.toHexString(key.hashCode()) + '-' + Integer.toHexString(key.length());
+	}
+
+	/**
+	 * Returns the element ID up to the project, e.g. <code>1:beans|2:project</code>.
+	 */
+	static String getProjectKey(String elementId) {
+		return getPrefix(elementId, 2);
+	}
+
+	/**
+	 * Returns the element ID up to the config, e.g. <code>1:beans|2:project|3:config.xml</code>.
+	 */
+	static String getSegmentKey(String elementId) {
+		return getPrefix(elementId, 3);
+	}
+
+	private static String getPrefix(String elementId, int elements) {
+		int index = -1;
+		for (int i = 0; i < elements; i++) {
+			index = elementId.indexOf(IModelElement.ID_DELIMITER, index + 1);
+			if (index < 0) {
+				return elementId;
+			}
+		}
+		return elementId.substring(0, index);
+	}
+
+	private void write(String key, Map<String, T> entries, File file) throws IOException {
+		if (!file.getParentFile().exists() && !file.getParentFile().mkdirs()) {
+			throw new IOException("Unable to create " + file.getParentFile());
+		}
+		File tempFile = new File(file.getPath() + ".tmp");
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)));
+		try {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeUTF(key);
+			ObjectOutputStream objectOut = new ObjectOutputStream(out);
+			objectOut.writeObject(entries);
+			objectOut.flush();
+		}
+		finally {
+			out.close();
+		}
+		if (!file.delete() && file.exists() || !tempFile.renameTo(file)) {
+			tempFile.delete();
+			throw new IOException("Unable to replace " + file);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private Segment<T> read(File file) {
+		DataInputStream in = null;
+		try {
+			in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				return null;
+			}
+			Segment<T> segment = new Segment<T>(in.readUTF(), file);
+			segment.entries.putAll((Map<String, T>) new ObjectInputStream(in).readObject());
+			return segment;
+		}
+		catch (Exception e) {
+			BeansMetadataPlugin.getDefault().getLog().log(new Status(IStatus.ERROR, BeansMetadataPlugin.PLUGIN_ID,
+					"Exception restoring meta data segment " + file, e));
+			return null;
+		}
+		finally {
+			try {
+				if (in != null)
+					in.close();
+			}
+			catch (IOException e) {
+			}
+		}
+	}
+
+	/**
+	 * The entries of a single config.
+	 */
+	private static class Segment<T> {
+
+		final String key;
+
+		final File file;
+
+		final Map<String, T> entries = new ConcurrentHashMap<String, T>();
+
+		volatile boolean dirty = false;
+
+		Segment(String key, File file) {
+			this.key = key;
+			this.file = file;
+		}
+	}
+
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.aop.core.internal.model.builder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.ide.eclipse.aop.core.Activator;
+import org.springframework.ide.eclipse.aop.core.model.IAopProject;
+import org.springframework.ide.eclipse.aop.core.model.IAopReference;
+import org.springframework.ide.eclipse.core.java.JdtUtils;
+import org.springsource.ide.eclipse.commons.tests.util.StsTestUtil;
+
+/**
+ * Test case for the parallel matching mode of the {@link AopReferenceModelBuilderJob}.
+ * @since 3.9.17
+ */
+public class AopReferenceModelBuilderJobTest {
+
+	private IProject project;
+
+	@Before
+	public void createProject() throws Exception {
+		project = StsTestUtil.createPredefinedProject("aop-matching", "org.springframework.ide.eclipse.beans.core.tests");
+	}
+
+	@After
+	public void deleteProject() throws Exception {
+		project.delete(true, null);
+	}
+
+	@Test
+	public void testParallelMatchingMergesLikeSequentialMatching() throws Exception {
+		List<IAopReference> sequential = build(false);
+		assertFalse(sequential.isEmpty());
+
+		// the units are merged in the same order, whichever matcher thread finishes first
+		for (int i = 0; i < 5; i++) {
+			assertEquals(sequential, build(true));
+		}
+		assertEquals(sequential, build(false));
+	}
+
+	private List<IAopReference> build(boolean parallelMatching) {
+		IResource config = project.findMember("src/aop-matching.xml");
+		new TestBuilderJob(project, config, parallelMatching).build();
+		IAopProject aopProject = Activator.getModel().getProject(JdtUtils.getJavaProject(project));
+		return new ArrayList<IAopReference>(aopProject.getAllReferences());
+	}
+
+	private static class TestBuilderJob extends AopReferenceModelBuilderJob {
+
+		private final boolean parallelMatching;
+
+		public TestBuilderJob(IProject project, IResource config, boolean parallelMatching) {
+			super(project, Collections.singleton(config), Collections.singleton(config));
+			this.parallelMatching = parallelMatching;
+		}
+
+		public void build() {
+			buildAopModel(new NullProgressMonitor());
+		}
+
+		@Override
+		protected boolean isParallelMatching() {
+			return parallelMatching;
+		}
+	}
+
+}
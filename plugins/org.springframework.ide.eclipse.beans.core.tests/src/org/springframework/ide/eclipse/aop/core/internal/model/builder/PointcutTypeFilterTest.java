@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.aop.core.internal.model.builder;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * Test case for the {@link PointcutTypeFilter}.
+ * @since 3.9.17
+ */
+public class PointcutTypeFilterTest {
+
+	private static final String[] SERVICE = { "com.foo.ServiceImpl", "com.foo.Service", "java.lang.Object" };
+
+	private static final String[] SUB_PACKAGE = { "com.foo.sub.Dao", "java.lang.Object" };
+
+	private static final String[] INNER_CLASS = { "com.foo.Outer$Inner", "java.lang.Object" };
+
+	private static final String[] OTHER = { "org.bar.Other", "java.lang.Object" };
+
+	private static final String[] UNKNOWN = null;
+
+	/**
+	 * Pointcut expression, bean name, supertypes of the bean class, expected result.
+	 */
+	private static final Object[][] CASES = {
+			// execution: declaring type checked against all supertypes
+			{ "execution(* com.foo.Service.*(..))", "bean", SERVICE, true },
+			{ "execution(* com.foo.Service.*(..))", "bean", OTHER, false },
+			{ "execution(public * com.foo.Service+.find*(java.lang.String, ..))", "bean", SERVICE, true },
+			{ "execution(* com.foo.Service.*(..))", "bean", UNKNOWN, true },
+			{ "execution(* com.foo.*.*(..))", "bean", SERVICE, true },
+			{ "execution(* com.foo.*.*(..))", "bean", SUB_PACKAGE, false },
+			{ "execution(* com.foo..*.*(..))", "bean", SUB_PACKAGE, true },
+			{ "execution(* com.foo..*(..))", "bean", SUB_PACKAGE, true },
+			{ "execution(* com.foo..*(..))", "bean", OTHER, false },
+			{ "execution(* *..Service+.*(..))", "bean", SERVICE, true },
+			{ "execution(* *..Service+.*(..))", "bean", OTHER, false },
+			{ "execution(* com.foo.Outer.Inner.*(..))", "bean", INNER_CLASS, true },
+			{ "execution(* com.foo.Outer.Inner.*(..))", "bean", OTHER, false },
+			// execution: nothing that can be checked
+			{ "execution(public * *(..))", "bean", OTHER, true },
+			{ "execution(* find*(..))", "bean", OTHER, true },
+			{ "execution(* Service.*(..))", "bean", OTHER, true },
+			{ "execution(* (com.foo.Service || com.foo.Dao).*(..))", "bean", OTHER, true },
+			{ "execution(* com.foo.Repository<*>.*(..))", "bean", OTHER, true },
+			{ "execution(@org.springframework.transaction.annotation.Transactional * *(..))", "bean", OTHER, true },
+			// within
+			{ "within(com.foo.Service)", "bean", SERVICE, true },
+			{ "within(com.foo.Service)", "bean", OTHER, false },
+			{ "within(com.foo..*)", "bean", SUB_PACKAGE, true },
+			{ "within(com.foo..*)", "bean", OTHER, false },
+			{ "within(com.foo.Outer.Inner)", "bean", INNER_CLASS, true },
+			{ "within(Service)", "bean", OTHER, true },
+			{ "within(@org.springframework.stereotype.Service *)", "bean", OTHER, true },
+			// this and target: the proxy or target may implement introduced interfaces
+			{ "this(com.foo.Service)", "bean", OTHER, true },
+			{ "target(com.foo.Service)", "bean", OTHER, true },
+			{ "target(service) && execution(* com.foo.Service.*(..))", "bean", OTHER, false },
+			// bean
+			{ "bean(userService)", "userService", OTHER, true },
+			{ "bean(userService)", "userDao", OTHER, false },
+			{ "bean(*Service)", "userService", OTHER, true },
+			{ "bean(*Service)", "userDao", OTHER, false },
+			{ "bean(account*) || bean(user*)", "userDao", OTHER, true },
+			{ "bean(account*) || bean(user*)", "orderDao", OTHER, false },
+			// combinations
+			{ "bean(userService) && execution(* com.foo.Service.*(..))", "userService", SERVICE, true },
+			{ "bean(userService) && execution(* com.foo.Service.*(..))", "userService", OTHER, false },
+			{ "bean(userService) && execution(* com.foo.Service.*(..))", "orderService", SERVICE, false },
+			{ "bean(userService) and execution(* com.foo.Service.*(..))", "orderService", SERVICE, false },
+			{ "execution(* com.foo.Service.*(..)) || within(org.bar..*)", "bean", OTHER, true },
+			{ "execution(* com.foo.Service.*(..)) or within(org.baz..*)", "bean", OTHER, false },
+			{ "(within(com.foo..*) || within(org.baz..*)) && bean(*)", "bean", OTHER, false },
+			{ "execution(* com.foo.Service.*(..)) && args(name)", "bean", OTHER, false },
+			{ "execution(* com.foo.Service.*(..)) || com.foo.Pointcuts.any()", "bean", OTHER, true },
+			{ "execution(* com.foo.Service.*(..)) || args(java.lang.String)", "bean", OTHER, true },
+			// negations can't be checked
+			{ "!within(com.foo..*)", "bean", SUB_PACKAGE, true },
+			{ "not within(com.foo..*)", "bean", SUB_PACKAGE, true },
+			{ "!bean(userService)", "userService", OTHER, true },
+			// designators that are not modeled
+			{ "@annotation(org.springframework.transaction.annotation.Transactional)", "bean", OTHER, true },
+			{ "@within(org.springframework.stereotype.Service)", "bean", OTHER, true },
+			{ "@target(org.springframework.stereotype.Service)", "bean", OTHER, true },
+			{ "@args(org.springframework.stereotype.Service)", "bean", OTHER, true },
+			{ "args(java.lang.String, ..)", "bean", OTHER, true },
+			{ "com.foo.SystemArchitecture.businessService()", "bean", OTHER, true },
+			{ "businessService()", "bean", OTHER, true },
+			// invalid expressions are left to AspectJ
+			{ "execution(* com.foo.Service.*(..)", "bean", OTHER, true },
+			{ "within(com.foo..*) &&", "bean", OTHER, true },
+			{ "within(com.foo..*) within(org.bar..*)", "bean", OTHER, true } };
+
+	@Test
+	public void testExpressions() {
+		for (Object[] testCase : CASES) {
+			String expression = (String) testCase[0];
+			String beanName = (String) testCase[1];
+			String[] supertypes = (String[]) testCase[2];
+			boolean expected = (Boolean) testCase[3];
+			assertEquals(expression + " for " + beanName + " " + Arrays.toString(supertypes), expected,
+					mayMatch(expression, beanName, supertypes));
+		}
+	}
+
+	@Test
+	public void testAliasesAreMatched() {
+		PointcutTypeFilter filter = PointcutTypeFilter.forExpression("bean(userService)");
+		assertEquals(true, filter.mayMatch(Arrays.asList("service", "userService"), null));
+		assertEquals(false, filter.mayMatch(Arrays.asList("service", "orderService"), null));
+	}
+
+	private boolean mayMatch(String expression, String beanName, String[] supertypes) {
+		PointcutTypeFilter filter = PointcutTypeFilter.forExpression(expression);
+		if (filter == null) {
+			return true;
+		}
+		List<String> beanNames = Arrays.asList(beanName);
+		Set<String> types = (supertypes != null ? new LinkedHashSet<String>(Arrays.asList(supertypes)) : null);
+		return filter.mayMatch(beanNames, types);
+	}
+
+}
@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.autowire;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
+import org.springframework.ide.eclipse.beans.core.autowire.internal.provider.AutowireDependencyProvider;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansConfig;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansModel;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansProject;
+import org.springframework.ide.eclipse.beans.core.internal.model.validation.rules.ValidationRuleUtils;
+import org.springframework.ide.eclipse.beans.core.model.IBean;
+import org.springframework.ide.eclipse.beans.core.model.IBeanReference;
+import org.springframework.ide.eclipse.beans.core.model.IBeansConfig;
+import org.springframework.ide.eclipse.beans.core.model.IBeansProject;
+import org.springframework.ide.eclipse.core.SpringCore;
+import org.springframework.ide.eclipse.core.java.ClassUtils;
+import org.springframework.ide.eclipse.core.java.IProjectClassLoaderSupport;
+import org.springframework.ide.eclipse.core.java.JdtUtils;
+import org.springsource.ide.eclipse.commons.tests.util.StsTestUtil;
+
+/**
+ * Benchmark for the autowire resolution of the {@link AutowireDependencyProvider} over all configs of the
+ * <code>autowire</code> test project. Also checks the candidate index against the beans of each config.
+ * <p>
+ * The benchmark only runs if the system property <code>{@value #BENCHMARK_PROPERTY}</code> is set to
+ * <code>true</code>.
+ * @since 3.9.17
+ */
+public class AutowireDependencyProviderBenchmarkTest {
+
+	private static final String CONFIG_FOLDER = "src/org/springframework/beans/factory/annotation";
+
+	private static final int ITERATIONS = 20;
+
+	static final String BENCHMARK_PROPERTY = "org.springframework.ide.eclipse.benchmarks";
+
+	private IProject project;
+
+	private BeansModel model;
+
+	private IBeansProject beansProject;
+
+	private BeansModel modelBackup;
+
+	@BeforeClass
+	public static void setUp() {
+		if (Platform.OS_WIN32.equals(Platform.getOS())) {
+			/*
+			 * Set non-locking class-loader for windows testing
+			 */
+			InstanceScope.INSTANCE.getNode(SpringCore.PLUGIN_ID).putBoolean(
+					SpringCore.USE_NON_LOCKING_CLASSLOADER, true);
+		}
+	}
+
+	@Before
+	public void createProject() throws Exception {
+		project = StsTestUtil.createPredefinedProject("autowire", "org.springframework.ide.eclipse.beans.core.tests");
+
+		model = new BeansModel();
+		beansProject = new BeansProject(model, project);
+
+		modelBackup = (BeansModel) BeansCorePlugin.getModel();
+		BeansCorePlugin.setModel(model);
+	}
+
+	@After
+	public void deleteProject() throws Exception {
+		project.delete(true, null);
+		BeansCorePlugin.setModel(modelBackup);
+	}
+
+	@Test
+	public void testResolutionBenchmark() throws Exception {
+		Assume.assumeTrue(Boolean.getBoolean(BENCHMARK_PROPERTY));
+
+		List<BeansConfig> configs = getConfigs();
+		assertFalse(configs.isEmpty());
+
+		// warm up class loaders and configs; the first run is the reference for all others
+		int[] referenceCounts = new int[configs.size()];
+		for (int i = 0; i < configs.size(); i++) {
+			referenceCounts[i] = countReferences(resolve(configs.get(i)));
+		}
+
+		long start = System.currentTimeMillis();
+		for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+			for (int i = 0; i < configs.size(); i++) {
+				assertEquals(configs.get(i).getElementName(), referenceCounts[i],
+						countReferences(resolve(configs.get(i))));
+			}
+		}
+		long time = System.currentTimeMillis() - start;
+
+		System.out.println(String.format("> resolved autowired dependencies of %s configs %s times in %sms",
+				configs.size(), ITERATIONS, time));
+	}
+
+	@Test
+	public void testEveryBeanIsCandidateForItsOwnClass() throws Throwable {
+		final AtomicInteger checkedBeans = new AtomicInteger();
+		for (final BeansConfig config : getConfigs()) {
+			final AutowireDependencyProvider provider = new AutowireDependencyProvider(config, config);
+			IProjectClassLoaderSupport classLoaderSupport = JdtUtils.getProjectClassLoaderSupport(project, null);
+			classLoaderSupport.executeCallback(new IProjectClassLoaderSupport.IProjectClassLoaderAwareCallback() {
+
+				public void doWithActiveProjectClassLoader() throws Throwable {
+					provider.preloadClasses();
+					for (IBean bean : config.getBeans()) {
+						assertSame(bean, provider.getBean(bean.getElementName()));
+						for (String alias : provider.getAliases(bean.getElementName())) {
+							assertNotNull(provider.getBean(alias));
+						}
+
+						String beanClassName = ValidationRuleUtils.getBeanClassName(bean, config);
+						if (beanClassName != null && !bean.isAbstract() && isLoadable(beanClassName)) {
+							List<String> candidates = Arrays.asList(provider.getBeansForType(beanClassName));
+							assertTrue(bean.getElementName() + " in " + config.getElementName(),
+									candidates.contains(bean.getElementName()));
+							checkedBeans.incrementAndGet();
+						}
+					}
+				}
+			});
+		}
+		assertTrue(checkedBeans.get() > 0);
+	}
+
+	/**
+	 * Beans with classes missing from the project's class path can't be candidates.
+	 */
+	private boolean isLoadable(String className) {
+		try {
+			ClassUtils.loadClass(className);
+			return true;
+		}
+		catch (ClassNotFoundException e) {
+			return false;
+		}
+		catch (NoClassDefFoundError e) {
+			return false;
+		}
+	}
+
+	private List<BeansConfig> getConfigs() throws Exception {
+		List<BeansConfig> configs = new ArrayList<BeansConfig>();
+		IFolder folder = project.getFolder(CONFIG_FOLDER);
+		for (IResource member : folder.members()) {
+			if (member.getName().endsWith("-context.xml")) {
+				configs.add(new BeansConfig(beansProject, CONFIG_FOLDER + "/" + member.getName(),
+						IBeansConfig.Type.MANUAL));
+			}
+		}
+		return configs;
+	}
+
+	private Map<IBean, Set<IBeanReference>> resolve(BeansConfig config) {
+		return new AutowireDependencyProvider(config, config).resolveAutowiredDependencies();
+	}
+
+	private int countReferences(Map<IBean, Set<IBeanReference>> references) {
+		int count = 0;
+		for (Set<IBeanReference> beanReferences : references.values()) {
+			count += beanReferences.size();
+		}
+		return count;
+	}
+
+}
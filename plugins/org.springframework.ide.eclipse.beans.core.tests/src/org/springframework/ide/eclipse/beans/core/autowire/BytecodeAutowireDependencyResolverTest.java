@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.autowire;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
+import org.springframework.ide.eclipse.beans.core.autowire.internal.provider.AutowireDependencyProvider;
+import org.springframework.ide.eclipse.beans.core.autowire.internal.provider.BytecodeAutowireDependencyResolver;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansConfig;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansModel;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansModelUtils;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansProject;
+import org.springframework.ide.eclipse.beans.core.model.IBean;
+import org.springframework.ide.eclipse.beans.core.model.IBeanReference;
+import org.springframework.ide.eclipse.beans.core.model.IBeansConfig;
+import org.springframework.ide.eclipse.beans.core.model.IBeansProject;
+import org.springframework.ide.eclipse.core.SpringCore;
+import org.springsource.ide.eclipse.commons.tests.util.StsTestUtil;
+
+/**
+ * Test case for the {@link BytecodeAutowireDependencyResolver}; the expectations are the ones of the
+ * {@link AutowireDependencyProviderTest}.
+ * @since 3.9.17
+ */
+public class BytecodeAutowireDependencyResolverTest {
+
+	private static final String CONFIG_FOLDER = "src/org/springframework/beans/factory/annotation/";
+
+	private IProject project;
+
+	private BeansModel model;
+
+	private IBeansProject beansProject;
+
+	private BeansModel modelBackup;
+
+	@BeforeClass
+	public static void setUp() {
+		if (Platform.OS_WIN32.equals(Platform.getOS())) {
+			/*
+			 * Set non-locking class-loader for windows testing
+			 */
+			InstanceScope.INSTANCE.getNode(SpringCore.PLUGIN_ID).putBoolean(
+					SpringCore.USE_NON_LOCKING_CLASSLOADER, true);
+		}
+	}
+
+	@Before
+	public void createProject() throws Exception {
+		project = StsTestUtil.createPredefinedProject("autowire", "org.springframework.ide.eclipse.beans.core.tests");
+
+		model = new BeansModel();
+		beansProject = new BeansProject(model, project);
+
+		modelBackup = (BeansModel) BeansCorePlugin.getModel();
+		BeansCorePlugin.setModel(model);
+	}
+
+	@After
+	public void deleteProject() throws Exception {
+		project.delete(true, null);
+		BeansCorePlugin.setModel(modelBackup);
+	}
+
+	@Test
+	public void testResourceInjection() throws Exception {
+		BeansConfig config = createConfig("testResourceInjection-context.xml");
+
+		Map<String, Integer[]> allowedRefs = new HashMap<String, Integer[]>();
+		allowedRefs.put("testBean", new Integer[] { 42, 48 });
+
+		Map<IBean, Set<IBeanReference>> references = createProvider(config).resolveAutowiredDependencies();
+		assertReferences(references, BeansModelUtils.getBean("annotatedBean", config), 2, allowedRefs);
+	}
+
+	@Test
+	public void testConstructorResourceInjection() throws Exception {
+		BeansConfig config = createConfig("testConstructorResourceInjection-context.xml");
+
+		Map<String, Integer[]> allowedRefs = new HashMap<String, Integer[]>();
+		allowedRefs.put("testBean", new Integer[] { 42, 244, 262, 278 });
+		allowedRefs.put("nestedTestBean", new Integer[] { 262 });
+		allowedRefs.put("beanFactory", new Integer[] { 262 });
+
+		Map<IBean, Set<IBeanReference>> references = createProvider(config).resolveAutowiredDependencies();
+		assertReferences(references, BeansModelUtils.getBean("annotatedBean", config), 6, allowedRefs);
+	}
+
+	@Test
+	public void testMethodInjectionWithMapAndMultipleMatches() throws Exception {
+		BeansConfig config = createConfig("testMethodInjectionWithMapAndMultipleMatches-context.xml");
+
+		Map<String, Integer[]> allowedRefs = new HashMap<String, Integer[]>();
+		allowedRefs.put("testBean1", new Integer[] { 423 });
+		allowedRefs.put("testBean2", new Integer[] { 423 });
+
+		AutowireDependencyProvider provider = createProvider(config);
+		Map<IBean, Set<IBeanReference>> references = provider.resolveAutowiredDependencies();
+		assertReferences(references, BeansModelUtils.getBean("annotatedBean", config), 2, allowedRefs);
+		assertEquals(1, provider.getValidationProblems().size());
+	}
+
+	@Test
+	public void testObjectFactoryInjection() throws Exception {
+		BeansConfig config = createConfig("testObjectFactoryInjection-context.xml");
+
+		Map<String, Integer[]> allowedRefs = new HashMap<String, Integer[]>();
+		allowedRefs.put("testBean", new Integer[] { 441 });
+
+		Map<IBean, Set<IBeanReference>> references = createProvider(config).resolveAutowiredDependencies();
+		assertReferences(references, BeansModelUtils.getBean("annotatedBean", config), 1, allowedRefs);
+	}
+
+	@Test
+	public void testSameReferencesAsReflectiveResolution() throws Exception {
+		for (String configName : new String[] { "testExtendedResourceInjection-context.xml",
+				"testExtendedResourceInjectionWithOverriding-context.xml", "testFieldInjectionWithMap-context.xml",
+				"testConstructorResourceInjectionWithMultipleCandidatesAsCollection-context.xml",
+				"testMethodInjectionWithMapAndMultipleMatchesButOnlyOneAutowireCandidate-context.xml" }) {
+			BeansConfig config = createConfig(configName);
+			Set<String> expected = describe(new AutowireDependencyProvider(config, config)
+					.resolveAutowiredDependencies());
+			Set<String> actual = describe(createProvider(config).resolveAutowiredDependencies());
+			assertEquals(configName, expected, actual);
+		}
+	}
+
+	@Test
+	public void testCollectionAndMapInjection() throws Exception {
+		// java.util.List and java.util.Map are not on the project classpath if the JRE is a module image
+		BeansConfig config = createConfig("testConstructorResourceInjectionWithMultipleCandidatesAsCollection-context.xml");
+		AutowireDependencyProvider provider = createProvider(config);
+		Map<IBean, Set<IBeanReference>> references = provider.resolveAutowiredDependencies();
+		assertTrue(provider.getValidationProblems().isEmpty());
+		assertEquals(new HashSet<String>(Arrays.asList("testBean", "nestedTestBean1", "nestedTestBean2")),
+				getBeanNames(references.get(BeansModelUtils.getBean("annotatedBean", config))));
+
+		config = createConfig("testFieldInjectionWithMap-context.xml");
+		provider = createProvider(config);
+		references = provider.resolveAutowiredDependencies();
+		assertTrue(provider.getValidationProblems().isEmpty());
+		assertEquals(new HashSet<String>(Arrays.asList("testBean1", "testBean2")),
+				getBeanNames(references.get(BeansModelUtils.getBean("annotatedBean", config))));
+	}
+
+	private BeansConfig createConfig(String configName) {
+		return new BeansConfig(beansProject, CONFIG_FOLDER + configName, IBeansConfig.Type.MANUAL);
+	}
+
+	private AutowireDependencyProvider createProvider(BeansConfig config) {
+		AutowireDependencyProvider provider = new AutowireDependencyProvider(config, config);
+		provider.setBytecodeOnly(true);
+		return provider;
+	}
+
+	private void assertReferences(Map<IBean, Set<IBeanReference>> references, IBean bean, int count,
+			Map<String, Integer[]> allowedRefs) {
+		assertEquals(1, references.size());
+		assertTrue(references.containsKey(bean));
+
+		Set<IBeanReference> refs = references.get(bean);
+		assertEquals(count, refs.size());
+		for (IBeanReference ref : refs) {
+			assertTrue(allowedRefs.containsKey(ref.getBeanName()));
+			assertTrue(Arrays.asList(allowedRefs.get(ref.getBeanName())).contains(
+					ref.getElementSourceLocation().getStartLine()));
+		}
+	}
+
+	private Set<String> getBeanNames(Set<IBeanReference> references) {
+		Set<String> result = new HashSet<String>();
+		if (references != null) {
+			for (IBeanReference ref : references) {
+				result.add(ref.getBeanName());
+			}
+		}
+		return result;
+	}
+
+	private Set<String> describe(Map<IBean, Set<IBeanReference>> references) {
+		Set<String> result = new HashSet<String>();
+		for (Map.Entry<IBean, Set<IBeanReference>> entry : references.entrySet()) {
+			for (IBeanReference ref : entry.getValue()) {
+				result.add(entry.getKey().getElementName() + " -> " + ref.getBeanName() + " at "
+						+ ref.getElementSourceLocation().getStartLine());
+			}
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.internal.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
+import org.springframework.ide.eclipse.beans.core.model.IBeansConfig;
+import org.springframework.ide.eclipse.beans.core.model.IBeansConfigSet;
+import org.springframework.ide.eclipse.beans.core.model.IBeansProject;
+import org.springframework.ide.eclipse.beans.core.model.locate.BeansConfigLocatorDefinition;
+import org.springframework.ide.eclipse.beans.core.model.locate.BeansConfigLocatorFactory;
+import org.springsource.ide.eclipse.commons.tests.util.StsTestUtil;
+
+/**
+ * Test case for the {@link BeansConfigDependencyGraph}.
+ * @since 3.9.17
+ */
+public class BeansConfigDependencyGraphTest {
+
+	private static final String IMPORTING_CONFIG = "importing-bean-config-advanced.xml";
+
+	private IProject project;
+
+	private BeansModel model;
+
+	private BeansProject beansProject;
+
+	private BeansModel realModel;
+
+	private BeansConfigDependencyGraph graph;
+
+	@Before
+	public void createProject() throws Exception {
+		project = StsTestUtil.createPredefinedProject("beans-config-tests", "org.springframework.ide.eclipse.beans.core.tests");
+
+		model = new BeansModel();
+		beansProject = new BeansProject(model, project);
+		model.addProject(beansProject);
+		graph = model.getDependencyGraph();
+
+		realModel = (BeansModel) BeansCorePlugin.getModel();
+		BeansCorePlugin.setModel(model);
+
+		// disable automatic configuration of Java configs
+		for (BeansConfigLocatorDefinition locator : BeansConfigLocatorFactory.getBeansConfigLocatorDefinitions()) {
+			locator.setEnabled(false, project);
+		}
+	}
+
+	@After
+	public void deleteProject() throws Exception {
+		project.delete(true, null);
+		BeansCorePlugin.setModel(realModel);
+	}
+
+	@Test
+	public void testNestedImports() throws Exception {
+		beansProject.addConfig(IMPORTING_CONFIG, IBeansConfig.Type.MANUAL);
+		IBeansConfig config = beansProject.getConfig(IMPORTING_CONFIG);
+		config.getImports();
+
+		assertTrue(graph.hasImports(config));
+		assertEquals(Collections.singleton(config),
+				graph.getImportingConfigs(project.findMember("importing-bean-config-advanced-second.xml")));
+		assertEquals(Collections.singleton(config),
+				graph.getImportingConfigs(project.findMember("importing-bean-config-advanced-third.xml")));
+		assertTrue(graph.getImportingConfigs(project.findMember("basic-bean-config.xml")).isEmpty());
+	}
+
+	@Test
+	public void testImportsAreReplacedOnReread() throws Exception {
+		beansProject.addConfig(IMPORTING_CONFIG, IBeansConfig.Type.MANUAL);
+		BeansConfig config = (BeansConfig) beansProject.getConfig(IMPORTING_CONFIG);
+		config.getImports();
+		assertTrue(graph.hasImports(config));
+
+		config.reload();
+		assertFalse(graph.hasImports(config));
+		IResource thirdFile = project.findMember("importing-bean-config-advanced-third.xml");
+		assertTrue(graph.getImportingConfigs(thirdFile).isEmpty());
+
+		config.getImports();
+		assertTrue(graph.hasImports(config));
+		assertEquals(Collections.singleton(config), graph.getImportingConfigs(thirdFile));
+
+		// an equal config of the same file replaces the imports of the previous instance once it has been read
+		BeansConfig copy = new BeansConfig(beansProject, IMPORTING_CONFIG, IBeansConfig.Type.MANUAL);
+		assertEquals(config, copy);
+		assertFalse(graph.hasImports(copy));
+		copy.getImports();
+		assertTrue(graph.hasImports(copy));
+		assertFalse(graph.hasImports(config));
+	}
+
+	@Test
+	public void testRenamedConfigInConfigSet() throws Exception {
+		beansProject.addConfig("basic-bean-config.xml", IBeansConfig.Type.MANUAL);
+		beansProject.addConfig("advanced-bean-config.xml", IBeansConfig.Type.MANUAL);
+		BeansConfigSet configSet = new BeansConfigSet(beansProject, "test-set", IBeansConfigSet.Type.MANUAL);
+		configSet.addConfig("basic-bean-config.xml");
+		beansProject.addConfigSet(configSet);
+
+		Set<IBeansProject> projects = Collections.<IBeansProject> singleton(beansProject);
+		IResource basicFile = project.findMember("basic-bean-config.xml");
+		IResource advancedFile = project.findMember("advanced-bean-config.xml");
+		assertEquals(Collections.singleton(configSet), graph.getConfigSets(projects, basicFile));
+		assertTrue(graph.getConfigSets(projects, advancedFile).isEmpty());
+
+		// the memberships calculated above must not survive the change of the config names
+		configSet.removeConfig("basic-bean-config.xml");
+		configSet.addConfig("advanced-bean-config.xml");
+		assertTrue(graph.getConfigSets(projects, basicFile).isEmpty());
+		assertEquals(Collections.singleton(configSet), graph.getConfigSets(projects, advancedFile));
+	}
+
+}
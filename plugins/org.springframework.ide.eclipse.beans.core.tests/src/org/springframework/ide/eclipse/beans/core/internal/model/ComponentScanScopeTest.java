@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.internal.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.Test;
+import org.w3c.dom.Element;
+
+/**
+ * Test case for the {@link ComponentScanScope}.
+ * @since 3.9.17
+ */
+public class ComponentScanScopeTest {
+
+	@Test
+	public void testBasePackage() {
+		assertEquals("com.example.service", ComponentScanScope.getBasePackage("classpath*:com/example/service/**/*.class"));
+		assertEquals("com.example", ComponentScanScope.getBasePackage("classpath:/com/example/*.class"));
+		assertEquals("com.example", ComponentScanScope.getBasePackage("classpath*:com/example/*Service.class"));
+		assertEquals("com", ComponentScanScope.getBasePackage("classpath*:com/ex*/**/*.class"));
+		assertEquals("", ComponentScanScope.getBasePackage("classpath*:**/*.class"));
+		assertEquals("", ComponentScanScope.getBasePackage("file:/tmp/com/example/**/*.class"));
+	}
+
+	@Test
+	public void testCovers() {
+		ComponentScanScope scope = new ComponentScanScope();
+		scope.recordScan("classpath*:com/example/service/**/*.class");
+		scope.recordScan("classpath*:META-INF/spring/*.xml");
+
+		assertEquals(1, scope.getBasePackages().size());
+		assertFalse(scope.isUnbounded());
+		assertTrue(scope.covers("com.example.service.OrderService"));
+		assertTrue(scope.covers("com.example.service.impl.OrderServiceImpl"));
+		assertFalse(scope.covers("com.example.services.Other"));
+		assertFalse(scope.covers("com.example.util.StringUtils"));
+	}
+
+	@Test
+	public void testUnboundedScan() {
+		ComponentScanScope scope = new ComponentScanScope();
+		scope.recordScan("classpath*:**/*.class");
+
+		assertTrue(scope.isUnbounded());
+		assertTrue(scope.covers("com.example.util.StringUtils"));
+		assertTrue(scope.covers("TypeInDefaultPackage"));
+	}
+
+	@Test
+	public void testRecordFilters() throws Exception {
+		DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+		factory.setNamespaceAware(true);
+		Element element = factory.newDocumentBuilder().parse(new ByteArrayInputStream(( //
+				"<context:component-scan xmlns:context=\"http://www.springframework.org/schema/context\" base-package=\"com.example\">" //
+						+ "<context:include-filter type=\"annotation\" expression=\"com.example.Repository\"/>" //
+						+ "<context:include-filter type=\"assignable\" expression=\" com.other.Marker \"/>" //
+						+ "<context:exclude-filter type=\"regex\" expression=\"com\\.example\\..*Test\"/>" //
+						+ "</context:component-scan>").getBytes("UTF-8"))).getDocumentElement();
+
+		ComponentScanScope scope = new ComponentScanScope();
+		scope.recordFilters(element);
+		assertEquals(2, scope.getFilterTypes().size());
+		assertTrue(scope.isFilteredBy("com.example.Repository"));
+		assertTrue(scope.isFilteredBy("com.other.Marker"));
+		assertFalse(scope.isFilteredBy("com.other.Unrelated"));
+
+		scope.recordFilter("ASPECTJ", "com.example..*Service+");
+		assertTrue(scope.isFilteredBy("com.other.Unrelated"));
+	}
+
+}
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.internal.model.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansConfig;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansModel;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansProject;
+import org.springframework.ide.eclipse.beans.core.model.IBeansConfig;
+import org.springframework.ide.eclipse.beans.core.model.locate.BeansConfigLocatorDefinition;
+import org.springframework.ide.eclipse.beans.core.model.locate.BeansConfigLocatorFactory;
+import org.springframework.ide.eclipse.core.SpringCore;
+import org.springsource.ide.eclipse.commons.tests.util.StsTestUtil;
+
+/**
+ * Test case for the selection of the annotation-driven configs that get reset by the
+ * {@link BeansConfigReloadingProjectContributionEventListener} on annotation changes of Java types.
+ * @since 3.9.17
+ */
+public class BeansConfigReloadingProjectContributionEventListenerTest {
+
+	private static final String HEADER = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+			+ "<beans xmlns=\"http://www.springframework.org/schema/beans\"\n"
+			+ "\txmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n"
+			+ "\txmlns:context=\"http://www.springframework.org/schema/context\"\n"
+			+ "\txsi:schemaLocation=\"http://www.springframework.org/schema/beans https://www.springframework.org/schema/beans/spring-beans.xsd\n"
+			+ "\t\thttp://www.springframework.org/schema/context https://www.springframework.org/schema/context/spring-context.xsd\">\n";
+
+	private IProject project;
+
+	private BeansModel model;
+
+	private BeansModel realModel;
+
+	private IBeansConfig serviceConfig;
+
+	private IBeansConfig webConfig;
+
+	private BeansConfigReloadingProjectContributionEventListener listener;
+
+	@BeforeClass
+	public static void setUp() {
+		if (Platform.OS_WIN32.equals(Platform.getOS())) {
+			/*
+			 * Set non-locking class-loader for windows testing
+			 */
+			InstanceScope.INSTANCE.getNode(SpringCore.PLUGIN_ID).putBoolean(
+					SpringCore.USE_NON_LOCKING_CLASSLOADER, true);
+		}
+	}
+
+	@Before
+	public void createProject() throws Exception {
+		project = StsTestUtil.createPredefinedProject("beans-config-tests", "org.springframework.ide.eclipse.beans.core.tests");
+
+		model = new BeansModel();
+		BeansProject beansProject = new BeansProject(model, project);
+		model.addProject(beansProject);
+
+		realModel = (BeansModel) BeansCorePlugin.getModel();
+		BeansCorePlugin.setModel(model);
+
+		// disable automatic configuration of Java configs
+		for (BeansConfigLocatorDefinition locator : BeansConfigLocatorFactory.getBeansConfigLocatorDefinitions()) {
+			locator.setEnabled(false, project);
+		}
+
+		createFile("scanning-service.xml", HEADER //
+				+ "\t<context:component-scan base-package=\"org.test.scanning.service\">\n" //
+				+ "\t\t<context:include-filter type=\"assignable\" expression=\"org.test.scanning.api.Marker\"/>\n" //
+				+ "\t\t<context:exclude-filter type=\"regex\" expression=\"org\\.test\\.scanning\\.api\\..*\"/>\n" //
+				+ "\t</context:component-scan>\n</beans>\n");
+		createFile("scanning-web.xml", HEADER //
+				+ "\t<context:component-scan base-package=\"org.test.scanning.web\"/>\n</beans>\n");
+
+		createFile("src/org/test/scanning/service/OrderService.java",
+				"package org.test.scanning.service;\n\npublic class OrderService {\n}\n");
+		createFile("src/org/test/scanning/web/OrderController.java",
+				"package org.test.scanning.web;\n\npublic class OrderController {\n}\n");
+		createFile("src/org/test/scanning/api/Marker.java",
+				"package org.test.scanning.api;\n\npublic interface Marker {\n}\n");
+		createFile("src/org/test/scanning/api/Unrelated.java",
+				"package org.test.scanning.api;\n\npublic class Unrelated {\n}\n");
+		createFile("src/org/test/scanning/api/Audited.java",
+				"package org.test.scanning.api;\n\npublic @interface Audited {\n}\n");
+
+		beansProject.addConfig("basic-bean-config.xml", IBeansConfig.Type.MANUAL);
+		beansProject.addConfig("scanning-service.xml", IBeansConfig.Type.MANUAL);
+		beansProject.addConfig("scanning-web.xml", IBeansConfig.Type.MANUAL);
+		serviceConfig = beansProject.getConfig("scanning-service.xml");
+		webConfig = beansProject.getConfig("scanning-web.xml");
+
+		// read the configs to record their component scans
+		for (IBeansConfig config : beansProject.getConfigs()) {
+			config.getBeans();
+		}
+
+		listener = new BeansConfigReloadingProjectContributionEventListener();
+	}
+
+	@After
+	public void deleteProject() throws Exception {
+		project.delete(true, null);
+		BeansCorePlugin.setModel(realModel);
+	}
+
+	@Test
+	public void testScannedTypeAffectsScanningConfig() throws Exception {
+		assertEquals(configs(serviceConfig), getAffectedConfigs("src/org/test/scanning/service/OrderService.java"));
+		assertEquals(configs(webConfig), getAffectedConfigs("src/org/test/scanning/web/OrderController.java"));
+	}
+
+	@Test
+	public void testTypeOutsideOfScannedPackagesAffectsNoConfig() throws Exception {
+		assertEquals(configs(), getAffectedConfigs("src/org/test/scanning/api/Unrelated.java"));
+	}
+
+	@Test
+	public void testFilterTypeAffectsFilteringConfig() throws Exception {
+		assertTrue(((BeansConfig) serviceConfig).getComponentScanScope().isFilteredBy("org.test.scanning.api.Marker"));
+		assertEquals(configs(serviceConfig), getAffectedConfigs("src/org/test/scanning/api/Marker.java"));
+	}
+
+	@Test
+	public void testAnnotationTypeAffectsAllScanningConfigs() throws Exception {
+		assertEquals(configs(serviceConfig, webConfig), getAffectedConfigs("src/org/test/scanning/api/Audited.java"));
+	}
+
+	@Test
+	public void testRemovedTypeAffectsAllScanningConfigs() throws Exception {
+		IFile file = project.getFile("src/org/test/scanning/api/Unrelated.java");
+		file.delete(true, null);
+		assertEquals(configs(serviceConfig, webConfig), listener.getAffectedConfigs(file));
+	}
+
+	private Set<IBeansConfig> getAffectedConfigs(String path) {
+		return listener.getAffectedConfigs(project.getFile(path));
+	}
+
+	private Set<IBeansConfig> configs(IBeansConfig... configs) {
+		return new HashSet<IBeansConfig>(Arrays.asList(configs));
+	}
+
+	private IFile createFile(String path, String content) throws Exception {
+		IFile file = project.getFile(path);
+		createFolders(file.getParent());
+		file.create(new ByteArrayInputStream(content.getBytes("UTF-8")), true, null);
+		return file;
+	}
+
+	private void createFolders(IResource resource) throws Exception {
+		if (resource instanceof IFolder && !resource.exists()) {
+			createFolders(resource.getParent());
+			((IFolder) resource).create(true, true, null);
+		}
+	}
+
+}
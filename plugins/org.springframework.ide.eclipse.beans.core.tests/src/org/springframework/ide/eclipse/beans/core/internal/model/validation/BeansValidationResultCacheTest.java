@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.internal.model.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansModelUtils;
+import org.springframework.ide.eclipse.beans.core.model.IBean;
+import org.springframework.ide.eclipse.beans.core.model.IBeansConfig;
+import org.springframework.ide.eclipse.beans.core.tests.BeansCoreTestCase;
+import org.springframework.ide.eclipse.core.model.IModelElement;
+import org.springframework.ide.eclipse.core.model.validation.IValidationProblemMarker;
+import org.springframework.ide.eclipse.core.model.validation.ValidationProblem;
+import org.springframework.ide.eclipse.core.model.validation.ValidationProblemAttribute;
+import org.springsource.ide.eclipse.commons.tests.util.StsTestUtil;
+
+/**
+ * Test case for the {@link BeansValidationResultCache}.
+ * @since 3.9.17
+ */
+public class BeansValidationResultCacheTest extends BeansCoreTestCase {
+
+	private IResource resource;
+
+	private IBeansConfig beansConfig;
+
+	private BeansValidationResultCache cache;
+
+	@Before
+	public void setUp() throws Exception {
+		IProject project = createPredefinedProject("validation");
+		resource = project.findMember("src/bean-class-rule-tests.xml");
+		StsTestUtil.waitForResource(resource);
+		beansConfig = BeansCorePlugin.getModel().getConfig((IFile) resource);
+		cache = new BeansValidationResultCache();
+	}
+
+	@Test
+	public void testCachedProblemsRequireSameFingerprint() throws Exception {
+		IBean bean = BeansModelUtils.getBean("interfaceNotAllowed", beansConfig);
+		assertNotNull(bean);
+
+		ValidationProblem problem = createProblem(bean.getElementStartLine());
+		assertTrue(cache.put(bean, "key", 42L, Collections.singleton(problem)));
+
+		Set<ValidationProblem> problems = cache.get(bean, "key", 42L);
+		assertNotNull(problems);
+		assertEquals(1, problems.size());
+		assertSame(problem, problems.iterator().next());
+
+		assertNull(cache.get(bean, "key", 43L));
+		assertNull(cache.get(bean, "otherKey", 42L));
+	}
+
+	@Test
+	public void testEmptyResultsAreCached() throws Exception {
+		IBean bean = BeansModelUtils.getBean("fine", beansConfig);
+		assertNotNull(bean);
+
+		assertTrue(cache.put(bean, "key", 1L, Collections.<ValidationProblem> emptySet()));
+		Set<ValidationProblem> problems = cache.get(bean, "key", 1L);
+		assertNotNull(problems);
+		assertTrue(problems.isEmpty());
+	}
+
+	@Test
+	public void testProblemsWithCharacterRangeAreNotCached() throws Exception {
+		IBean bean = BeansModelUtils.getBean("interfaceNotAllowed", beansConfig);
+		assertNotNull(bean);
+
+		ValidationProblem problem = new ValidationProblem("rule", "error", IValidationProblemMarker.SEVERITY_WARNING,
+				"message", resource, bean.getElementStartLine(), new ValidationProblemAttribute(IMarker.CHAR_START, 0));
+		assertFalse(cache.put(bean, "key", 1L, Collections.singleton(problem)));
+		assertNull(cache.get(bean, "key", 1L));
+	}
+
+	@Test
+	public void testInvalidate() throws Exception {
+		IBean interfaceBean = BeansModelUtils.getBean("interfaceNotAllowed", beansConfig);
+		IBean abstractBean = BeansModelUtils.getBean("abstractClassNotAllowed", beansConfig);
+
+		cache.put(interfaceBean, "key", 1L, Collections.singleton(createProblem(interfaceBean.getElementStartLine())));
+		cache.put(abstractBean, "key", 1L, Collections.singleton(createProblem(abstractBean.getElementStartLine())));
+		assertEquals(2, cache.size());
+
+		cache.invalidate(interfaceBean);
+		assertNull(cache.get(interfaceBean, "key", 1L));
+		assertNotNull(cache.get(abstractBean, "key", 1L));
+
+		cache.invalidate(beansConfig);
+		assertNull(cache.get(abstractBean, "key", 1L));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testInvalidateConfigMatchesWholeId() throws Exception {
+		String configId = beansConfig.getElementID();
+		IBean bean = BeansModelUtils.getBean("fine", beansConfig);
+		assertTrue(BeansValidationResultCache.isElementOf(configId, configId));
+		assertTrue(BeansValidationResultCache.isElementOf(bean.getElementID(), configId));
+		assertFalse(BeansValidationResultCache.isElementOf(configId + ".bak", configId));
+		assertFalse(BeansValidationResultCache.isElementOf(configId + ".bak" + IModelElement.ID_DELIMITER + "bean",
+				configId));
+	}
+
+	private ValidationProblem createProblem(int line) {
+		return new ValidationProblem("rule", "error", IValidationProblemMarker.SEVERITY_WARNING, "message", resource,
+				line);
+	}
+
+}
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.internal.parser.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.ide.eclipse.beans.core.internal.parser.RootNamespaceSniffer;
+import org.springframework.ide.eclipse.beans.core.namespaces.NamespaceUtils;
+import org.springsource.ide.eclipse.commons.tests.util.StsTestUtil;
+
+/**
+ * @since 3.9.17
+ */
+public class RootNamespaceSnifferTest {
+
+	private IProject project;
+
+	@Before
+	public void createProject() throws Exception {
+		project = StsTestUtil.createPredefinedProject("beans-config-tests", "org.springframework.ide.eclipse.beans.core.tests");
+		RootNamespaceSniffer.clearCache();
+	}
+
+	@After
+	public void deleteProject() throws Exception {
+		project.delete(true, null);
+	}
+
+	@Test
+	public void testBeansConfig() throws Exception {
+		IFile file = (IFile) project.findMember("basic-bean-config.xml");
+		assertEquals(NamespaceUtils.DEFAULT_NAMESPACE_URI, RootNamespaceSniffer.getRootNamespaceUri(file));
+	}
+
+	@Test
+	public void testNoNamespace() throws Exception {
+		IFile file = (IFile) project.findMember(".springBeans");
+		assertNull(RootNamespaceSniffer.getRootNamespaceUri(file));
+	}
+
+	@Test
+	public void testChangedFileIsReadAgain() throws Exception {
+		IFile file = project.getFile("sniffed.xml");
+		file.create(new ByteArrayInputStream("<?xml version=\"1.0\"?><root/>".getBytes("UTF-8")), true, null);
+		assertNull(RootNamespaceSniffer.getRootNamespaceUri(file));
+
+		file.setContents(new ByteArrayInputStream("<root xmlns=\"urn:test\"><child/></root>".getBytes("UTF-8")), true,
+				false, null);
+		assertEquals("urn:test", RootNamespaceSniffer.getRootNamespaceUri(file));
+	}
+
+	@Test
+	public void testMalformedFile() throws Exception {
+		IFile file = project.getFile("malformed.xml");
+		file.create(new ByteArrayInputStream("no xml at all".getBytes("UTF-8")), true, null);
+		assertNull(RootNamespaceSniffer.getRootNamespaceUri(file));
+	}
+
+}
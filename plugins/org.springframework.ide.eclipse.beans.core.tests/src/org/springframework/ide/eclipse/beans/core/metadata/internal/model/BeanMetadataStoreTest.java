@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.metadata.internal.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test case for the {@link BeanMetadataStore}.
+ * @since 3.9.17
+ */
+public class BeanMetadataStoreTest {
+
+	private static final String BEAN_A = "1:beans|2:project|3:config-a.xml|8:a";
+
+	private static final String BEAN_B = "1:beans|2:project|3:config-b.xml|8:b";
+
+	private static final String BEAN_C = "1:beans|2:other|3:config-c.xml|8:c";
+
+	private File directory;
+
+	@Before
+	public void setUp() throws IOException {
+		directory = File.createTempFile("metadata", "");
+		directory.delete();
+		directory.mkdirs();
+	}
+
+	@After
+	public void tearDown() {
+		delete(directory);
+	}
+
+	@Test
+	public void testSegmentsAreLoadedPerProject() {
+		BeanMetadataStore<String> store = new BeanMetadataStore<String>(directory);
+		store.put(BEAN_A, "a");
+		store.put(BEAN_B, "b");
+		store.put(BEAN_C, "c");
+		store.save();
+		assertEquals(3, getSegmentFiles().size());
+
+		store = new BeanMetadataStore<String>(directory);
+		assertFalse(store.isLoaded(BEAN_A));
+		assertEquals("a", store.get(BEAN_A));
+		assertTrue(store.isLoaded(BEAN_B));
+		assertFalse(store.isLoaded(BEAN_C));
+		assertEquals("b", store.get(BEAN_B));
+		assertEquals("c", store.get(BEAN_C));
+		assertNull(store.get("1:beans|2:project|3:config-a.xml|8:unknown"));
+	}
+
+	@Test
+	public void testOnlyChangedSegmentsAreWritten() {
+		BeanMetadataStore<String> store = new BeanMetadataStore<String>(directory);
+		store.put(BEAN_A, "a");
+		store.put(BEAN_B, "b");
+		store.save();
+		for (File file : getSegmentFiles()) {
+			file.setLastModified(0);
+		}
+
+		store.put(BEAN_A, "a2");
+		store.save();
+		int changedFiles = 0;
+		for (File file : getSegmentFiles()) {
+			if (file.lastModified() != 0) {
+				changedFiles++;
+			}
+		}
+		assertEquals(1, changedFiles);
+		assertEquals("a2", new BeanMetadataStore<String>(directory).get(BEAN_A));
+	}
+
+	@Test
+	public void testEmptySegmentIsDeleted() {
+		BeanMetadataStore<String> store = new BeanMetadataStore<String>(directory);
+		store.put(BEAN_A, "a");
+		store.put(BEAN_B, "b");
+		store.save();
+
+		store.remove(BEAN_A);
+		store.save();
+		assertEquals(1, getSegmentFiles().size());
+		assertNull(new BeanMetadataStore<String>(directory).get(BEAN_A));
+	}
+
+	@Test
+	public void testSegmentOfUnknownVersionIsDropped() throws IOException {
+		BeanMetadataStore<String> store = new BeanMetadataStore<String>(directory);
+		store.put(BEAN_A, "a");
+		store.save();
+		File file = getSegmentFiles().get(0);
+		FileOutputStream out = new FileOutputStream(file);
+		try {
+			out.write(new byte[] { 0, 0, 0, 1, 0, 0, 0, 1 });
+		}
+		finally {
+			out.close();
+		}
+
+		assertNull(new BeanMetadataStore<String>(directory).get(BEAN_A));
+		assertFalse(file.exists());
+	}
+
+	@Test
+	public void testSegmentsWithSameHashCodeAreKeptApart() {
+		// "Aa" and "BB" have the same hash code, so do keys that only differ in them
+		String beanAa = "1:beans|2:project|3:Aa.xml|8:a";
+		String beanBB = "1:beans|2:project|3:BB.xml|8:b";
+		String otherAa = "1:beans|2:Aa|3:config.xml|8:a";
+		String otherBB = "1:beans|2:BB|3:config.xml|8:b";
+		assertEquals(BeanMetadataStore.getSegmentKey(beanAa).hashCode(), BeanMetadataStore.getSegmentKey(beanBB)
+				.hashCode());
+
+		BeanMetadataStore<String> store = new BeanMetadataStore<String>(directory);
+		store.put(beanAa, "a");
+		store.put(otherAa, "c");
+		assertTrue(store.save());
+
+		store = new BeanMetadataStore<String>(directory);
+		store.put(beanBB, "b");
+		store.put(otherBB, "d");
+		assertTrue(store.save());
+		assertEquals(4, getSegmentFiles().size());
+
+		store = new BeanMetadataStore<String>(directory);
+		assertEquals("a", store.get(beanAa));
+		assertEquals("b", store.get(beanBB));
+		assertEquals("c", store.get(otherAa));
+		assertEquals("d", store.get(otherBB));
+	}
+
+	private List<File> getSegmentFiles() {
+		List<File> files = new ArrayList<File>();
+		for (File projectDirectory : directory.listFiles()) {
+			for (File file : projectDirectory.listFiles()) {
+				if (file.getName().endsWith(".segment")) {
+					files.add(file);
+				}
+			}
+		}
+		return files;
+	}
+
+	private void delete(File file) {
+		File[] children = file.listFiles();
+		if (children != null) {
+			for (File child : children) {
+				delete(child);
+			}
+		}
+		file.delete();
+	}
+
+}
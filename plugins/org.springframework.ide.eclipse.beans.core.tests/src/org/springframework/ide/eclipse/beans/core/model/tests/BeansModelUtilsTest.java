@@ -23,6 +23,7 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansConfig;
 import org.springframework.ide.eclipse.beans.core.internal.model.BeansModel;
 import org.springframework.ide.eclipse.beans.core.internal.model.BeansModelUtils;
 import org.springframework.ide.eclipse.beans.core.internal.model.BeansProject;
@@ -297,4 +298,25 @@ public class BeansModelUtilsTest {
 		assertTrue(realConfig2 == config1 || realConfig2 == config2);
 	}
 
+	@Test
+	public void testTypeIndexUpdatedAfterConfigReloadInGetConfigsByType() throws Exception {
+		IType type = javaProject.findType("org.test.spring.SimpleBeanClass");
+		IResource resource = type.getResource();
+		assertNotNull(resource);
+		
+		BeansConfig config = (BeansConfig) beansProject.getConfig("basic-bean-config.xml");
+		Set<IBeansConfig> configs = BeansModelUtils.getConfigsByContainingTypes(resource, typeEngine, null);
+		assertEquals(1, configs.size());
+		assertSame(config, configs.iterator().next());
+		
+		config.reload();
+		
+		configs = BeansModelUtils.getConfigsByContainingTypes(resource, typeEngine, null);
+		assertEquals(1, configs.size());
+		assertSame(config, configs.iterator().next());
+		
+		Set<IBean> beans = BeansModelUtils.getBeansByContainingTypes(resource, typeEngine, null);
+		assertEquals(2, beans.size());
+	}
+
 }
@@ -14,8 +14,11 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.resources.IFile;
@@ -41,6 +44,7 @@ import org.springframework.ide.eclipse.beans.core.model.locate.BeansConfigLocato
 import org.springframework.ide.eclipse.beans.core.model.locate.BeansConfigLocatorFactory;
 import org.springframework.ide.eclipse.core.SpringCore;
 import org.springframework.ide.eclipse.core.java.JdtUtils;
+import org.springframework.ide.eclipse.core.model.ILazyInitializedModelElement;
 import org.springsource.ide.eclipse.commons.tests.util.StsTestUtil;
 
 /**
@@ -482,4 +486,28 @@ public class BeansProjectTest {
 		assertFalse(beansProject.hasConfig(otherFile, "basic-bean-config.xml", false));
 	}
 	
+	@Test
+	public void testPreloadConfigsAfterImportedConfigs() throws Exception {
+		beansProject.addConfig("importing-bean-config-many.xml", IBeansConfig.Type.MANUAL);
+		beansProject.addConfig("importing-bean-config-many1.xml", IBeansConfig.Type.MANUAL);
+		beansProject.addConfig("importing-bean-config-many-base.xml", IBeansConfig.Type.MANUAL);
+		beansProject.addConfig("basic-bean-config.xml", IBeansConfig.Type.MANUAL);
+
+		Map<IBeansConfig, Long> timings = beansProject.preloadConfigs(null);
+		assertEquals(4, timings.size());
+		for (IBeansConfig config : beansProject.getConfigs()) {
+			assertTrue(((ILazyInitializedModelElement) config).isInitialized());
+		}
+
+		List<String> loadOrder = new ArrayList<String>();
+		for (IBeansConfig config : timings.keySet()) {
+			loadOrder.add(config.getElementName());
+		}
+		assertTrue(loadOrder.indexOf("importing-bean-config-many-base.xml") < loadOrder.indexOf("importing-bean-config-many1.xml"));
+		assertTrue(loadOrder.indexOf("importing-bean-config-many1.xml") < loadOrder.indexOf("importing-bean-config-many.xml"));
+
+		// initialized configs are not loaded again
+		assertEquals(0, beansProject.preloadConfigs(null).size());
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2014 Spring IDE Developers
+ * Copyright (c) 2005, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,9 +16,17 @@ import org.junit.runners.Suite.SuiteClasses;
 import org.springframework.ide.core.classreading.tests.JdtAnnotationMetadataTest;
 import org.springframework.ide.core.classreading.tests.JdtBasedAnnotationMetadataTest;
 import org.springframework.ide.core.classreading.tests.JdtClassMetadataTest;
+import org.springframework.ide.eclipse.aop.core.internal.model.builder.AopReferenceModelBuilderJobTest;
+import org.springframework.ide.eclipse.aop.core.internal.model.builder.PointcutTypeFilterTest;
+import org.springframework.ide.eclipse.beans.core.autowire.AutowireDependencyProviderBenchmarkTest;
 import org.springframework.ide.eclipse.beans.core.autowire.AutowireDependencyProviderTest;
+import org.springframework.ide.eclipse.beans.core.autowire.BytecodeAutowireDependencyResolverTest;
 import org.springframework.ide.eclipse.beans.core.autowire.CommonAnnotationInjectionMetadataProviderTests;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansConfigDependencyGraphTest;
+import org.springframework.ide.eclipse.beans.core.internal.model.ComponentScanScopeTest;
 import org.springframework.ide.eclipse.beans.core.internal.model.resources.tests.ResourceChangeEventHandlerTest;
+import org.springframework.ide.eclipse.beans.core.internal.model.validation.BeansConfigReloadingProjectContributionEventListenerTest;
+import org.springframework.ide.eclipse.beans.core.internal.model.validation.BeansValidationResultCacheTest;
 import org.springframework.ide.eclipse.beans.core.internal.model.validation.rules.BeanClassRuleTest;
 import org.springframework.ide.eclipse.beans.core.internal.model.validation.rules.BeanConstructorArgumentRuleTest;
 import org.springframework.ide.eclipse.beans.core.internal.model.validation.rules.BeanConstructorArgumentRulesAutowireTest;
@@ -30,6 +38,8 @@ import org.springframework.ide.eclipse.beans.core.internal.model.validation.rule
 import org.springframework.ide.eclipse.beans.core.internal.model.validation.rules.BeanReferenceRuleWithConfigSetTest;
 import org.springframework.ide.eclipse.beans.core.internal.model.validation.rules.NamespaceElementsRuleTest;
 import org.springframework.ide.eclipse.beans.core.internal.model.validation.rules.RequiredPropertyRuleTest;
+import org.springframework.ide.eclipse.beans.core.internal.parser.tests.RootNamespaceSnifferTest;
+import org.springframework.ide.eclipse.beans.core.metadata.internal.model.BeanMetadataStoreTest;
 import org.springframework.ide.eclipse.beans.core.model.tests.BeansProjectAutoConfigTest;
 import org.springframework.ide.eclipse.beans.core.model.tests.BeansProjectDescriptionWriterTest;
 import org.springframework.ide.eclipse.beans.core.model.tests.BeansConfigFactoryTest;
@@ -38,9 +48,12 @@ import org.springframework.ide.eclipse.beans.core.model.tests.BeansJavaConfigTes
 import org.springframework.ide.eclipse.beans.core.model.tests.BeansModelUtilsTest;
 import org.springframework.ide.eclipse.beans.core.model.tests.BeansProjectTest;
 import org.springframework.ide.eclipse.beans.ui.refactoring.tests.BeansJavaConfigRenameTypeRefactoringParticipantTest;
+import org.springframework.ide.eclipse.core.java.ClasspathElementIndexedJarTest;
 import org.springframework.ide.eclipse.core.java.IntrospectorTest;
 import org.springframework.ide.eclipse.core.java.JdtUtilsTest;
+import org.springframework.ide.eclipse.core.java.TypeHierarchyElementCacheTest;
 import org.springframework.ide.eclipse.core.java.TypeHierarchyEngineTest;
+import org.springframework.ide.eclipse.core.java.TypeHierarchySnapshotStoreTest;
 
 /**
  * Test suite for <code>beans.core</code> plugin.
@@ -64,9 +77,13 @@ import org.springframework.ide.eclipse.core.java.TypeHierarchyEngineTest;
 	BeanReferenceRuleWithConfigSetTest.class,
 	BeanReferenceRuleWithConfigSetAndProfileTest.class,
 	NamespaceElementsRuleTest.class,
+	BeansValidationResultCacheTest.class,
+	BeansConfigReloadingProjectContributionEventListenerTest.class,
 	IntrospectorTest.class,
 	JdtUtilsTest.class,
 	AutowireDependencyProviderTest.class,
+	AutowireDependencyProviderBenchmarkTest.class,
+	BytecodeAutowireDependencyResolverTest.class,
 	CommonAnnotationInjectionMetadataProviderTests.class,
 	JdtAnnotationMetadataTest.class,
 	JdtBasedAnnotationMetadataTest.class,
@@ -79,7 +96,16 @@ import org.springframework.ide.eclipse.core.java.TypeHierarchyEngineTest;
 	BeansProjectDescriptionWriterTest.class,
 	BeansJavaConfigRenameTypeRefactoringParticipantTest.class,
 	ResourceChangeEventHandlerTest.class,
+	RootNamespaceSnifferTest.class,
 	TypeHierarchyEngineTest.class,
+	TypeHierarchyElementCacheTest.class,
+	TypeHierarchySnapshotStoreTest.class,
+	ClasspathElementIndexedJarTest.class,
+	ComponentScanScopeTest.class,
+	BeansConfigDependencyGraphTest.class,
+	BeanMetadataStoreTest.class,
+	PointcutTypeFilterTest.class,
+	AopReferenceModelBuilderJobTest.class,
 	BeansModelUtilsTest.class
 })
 public class AllBeansCoreTests {
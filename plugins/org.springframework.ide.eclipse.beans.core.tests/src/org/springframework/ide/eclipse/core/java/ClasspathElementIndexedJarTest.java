@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.ClosedByInterruptException;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.ide.eclipse.core.java.typehierarchy.ClasspathElementIndexedJar;
+
+/**
+ * @since 3.9.17
+ */
+public class ClasspathElementIndexedJarTest {
+
+	private File jar;
+
+	@Before
+	public void setUp() throws Exception {
+		jar = File.createTempFile("indexed", ".jar");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		jar.delete();
+	}
+
+	@Test
+	public void testStoredAndDeflatedEntries() throws Exception {
+		byte[] stored = content("stored", 1000);
+		byte[] deflated = content("deflated", 5000);
+		writeJar(stored, deflated);
+
+		ClasspathElementIndexedJar element = new ClasspathElementIndexedJar(jar.getAbsolutePath());
+		assertArrayEquals(stored, read(element.getStream("org/Stored.class", "org", "Stored.class")));
+		assertArrayEquals(deflated, read(element.getStream("org/Deflated.class", "org", "Deflated.class")));
+		assertNotNull(element.getResource("org/Deflated.class", "org", "Deflated.class"));
+		assertNull(element.getStream("org/Missing.class", "org", "Missing.class"));
+		assertNull(element.getResource("org/Missing.class", "org", "Missing.class"));
+		element.cleanup();
+	}
+
+	@Test
+	public void testChangedJarIsIndexedAgain() throws Exception {
+		writeJar(content("stored", 10), content("deflated", 10));
+		ClasspathElementIndexedJar element = new ClasspathElementIndexedJar(jar.getAbsolutePath());
+		read(element.getStream("org/Stored.class", "org", "Stored.class"));
+		element.cleanup();
+
+		byte[] stored = content("changed", 2000);
+		writeJar(stored, content("deflated", 10));
+		assertArrayEquals(stored, read(element.getStream("org/Stored.class", "org", "Stored.class")));
+		element.cleanup();
+	}
+
+	@Test
+	public void testJarRewrittenInPlaceIsIndexedAgain() throws Exception {
+		writeJar(content("stored", 10), content("deflated", 10));
+		ClasspathElementIndexedJar element = new ClasspathElementIndexedJar(jar.getAbsolutePath());
+		read(element.getStream("org/Stored.class", "org", "Stored.class"));
+
+		// the open jar is overwritten and the deflated entry moves behind the larger stored one
+		byte[] deflated = content("rewritten", 3000);
+		writeJar(content("stored", 3000), deflated);
+		jar.setLastModified(jar.lastModified() + 2000);
+		assertArrayEquals(deflated, read(element.getStream("org/Deflated.class", "org", "Deflated.class")));
+		element.cleanup();
+	}
+
+	@Test
+	public void testInterruptedReadReopensJar() throws Exception {
+		byte[] stored = content("stored", 1000);
+		writeJar(stored, content("deflated", 10));
+		ClasspathElementIndexedJar element = new ClasspathElementIndexedJar(jar.getAbsolutePath());
+		read(element.getStream("org/Stored.class", "org", "Stored.class"));
+
+		// an interrupted read closes the channel of the jar
+		Thread.currentThread().interrupt();
+		try {
+			element.getStream("org/Stored.class", "org", "Stored.class");
+			fail();
+		}
+		catch (ClosedByInterruptException e) {
+		}
+		finally {
+			Thread.interrupted();
+		}
+		assertArrayEquals(stored, read(element.getStream("org/Stored.class", "org", "Stored.class")));
+		element.cleanup();
+	}
+
+	private void writeJar(byte[] stored, byte[] deflated) throws IOException {
+		JarOutputStream out = new JarOutputStream(new FileOutputStream(jar));
+		try {
+			ZipEntry storedEntry = new ZipEntry("org/Stored.class");
+			storedEntry.setMethod(ZipEntry.STORED);
+			storedEntry.setSize(stored.length);
+			CRC32 crc = new CRC32();
+			crc.update(stored);
+			storedEntry.setCrc(crc.getValue());
+			out.putNextEntry(storedEntry);
+			out.write(stored);
+			out.closeEntry();
+
+			out.putNextEntry(new ZipEntry("org/Deflated.class"));
+			out.write(deflated);
+			out.closeEntry();
+		}
+		finally {
+			out.close();
+		}
+	}
+
+	private byte[] content(String prefix, int length) {
+		StringBuilder builder = new StringBuilder();
+		while (builder.length() < length) {
+			builder.append(prefix).append(builder.length());
+		}
+		return builder.toString().getBytes();
+	}
+
+	private byte[] read(InputStream in) throws IOException {
+		try {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[1024];
+			int read;
+			while ((read = in.read(buffer)) > 0) {
+				out.write(buffer, 0, read);
+			}
+			return out.toByteArray();
+		}
+		finally {
+			in.close();
+		}
+	}
+
+}
@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Assume;
+import org.junit.Test;
+import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchyElement;
+import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchyElementCache;
+import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchyNames;
+
+/**
+ * Test case for the {@link TypeHierarchyElementCache}.
+ * <p>
+ * The benchmark against the previous map keyed by the boxed hash code only runs if the system property
+ * <code>{@value #BENCHMARK_PROPERTY}</code> is set to <code>true</code>.
+ * @since 3.9.17
+ */
+public class TypeHierarchyElementCacheTest {
+
+	private static final String BENCHMARK_PROPERTY = "org.springframework.ide.eclipse.benchmarks";
+
+	private static final int BENCHMARK_CLASSES = 50000;
+
+	private static final int BENCHMARK_ITERATIONS = 20;
+
+	@Test
+	public void testCollidingHashCodes() throws Exception {
+		// "Aa" and "BB" share the same hash code
+		assertEquals("org/Aa".hashCode(), "org/BB".hashCode());
+
+		TypeHierarchyElementCache cache = new TypeHierarchyElementCache();
+		TypeHierarchyElement elementAa = element("org/Aa");
+		TypeHierarchyElement elementBB = element("org/BB");
+		cache.put("org/Aa".toCharArray(), elementAa);
+		cache.put("org/BB".toCharArray(), elementBB);
+
+		assertEquals(2, cache.size());
+		assertSame(elementAa, cache.get("org/Aa".toCharArray()));
+		assertSame(elementBB, cache.get("org/BB".toCharArray()));
+	}
+
+	@Test
+	public void testReplaceExistingEntry() throws Exception {
+		TypeHierarchyElementCache cache = new TypeHierarchyElementCache();
+		TypeHierarchyElement first = element("org/SimpleClass");
+		TypeHierarchyElement second = element("org/SimpleClass");
+		cache.put("org/SimpleClass".toCharArray(), first);
+		cache.put("org/SimpleClass".toCharArray(), second);
+
+		assertEquals(1, cache.size());
+		assertSame(second, cache.get("org/SimpleClass".toCharArray()));
+	}
+
+	@Test
+	public void testGrowTable() throws Exception {
+		TypeHierarchyElementCache cache = new TypeHierarchyElementCache();
+		for (int i = 0; i < 10000; i++) {
+			cache.put(("org/Class" + i).toCharArray(), element("org/Class" + i));
+		}
+
+		assertEquals(10000, cache.size());
+		for (int i = 0; i < 10000; i++) {
+			assertEquals("org/Class" + i, new String(cache.get(("org/Class" + i).toCharArray()).className));
+		}
+		assertNull(cache.get("org/Class10000".toCharArray()));
+	}
+
+	@Test
+	public void testNamesAreInterned() throws Exception {
+		char[] name1 = "java/lang/Object".toCharArray();
+		char[] name2 = "java/lang/Object".toCharArray();
+		assertNotSame(name1, name2);
+		assertSame(TypeHierarchyNames.intern(name1), TypeHierarchyNames.intern(name2));
+	}
+
+	@Test
+	public void testLookupBenchmark() throws Exception {
+		Assume.assumeTrue(Boolean.getBoolean(BENCHMARK_PROPERTY));
+
+		// lookups use names read from class files, not the instances the elements were put with
+		char[][] names = new char[BENCHMARK_CLASSES][];
+		char[][] lookups = new char[BENCHMARK_CLASSES][];
+		TypeHierarchyElement[] elements = new TypeHierarchyElement[BENCHMARK_CLASSES];
+		for (int i = 0; i < BENCHMARK_CLASSES; i++) {
+			String name = "org/springframework/package" + (i % 100) + "/Class" + i;
+			names[i] = name.toCharArray();
+			lookups[i] = name.toCharArray();
+			elements[i] = element(name);
+		}
+
+		// warm up both implementations before measuring; times are put and get in ns
+		long[] cacheTimes = new long[2];
+		long[] mapTimes = new long[2];
+		runCache(names, lookups, elements, cacheTimes);
+		runPreviousMap(names, lookups, elements, mapTimes);
+		cacheTimes = new long[2];
+		mapTimes = new long[2];
+		for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+			runCache(names, lookups, elements, cacheTimes);
+			runPreviousMap(names, lookups, elements, mapTimes);
+		}
+
+		System.out.println(String.format("> put/got %s type hierarchy elements %s times: "
+				+ "cache %sms/%sms, map keyed by hash code %sms/%sms", BENCHMARK_CLASSES, BENCHMARK_ITERATIONS,
+				cacheTimes[0] / 1000000, cacheTimes[1] / 1000000, mapTimes[0] / 1000000, mapTimes[1] / 1000000));
+	}
+
+	private void runCache(char[][] names, char[][] lookups, TypeHierarchyElement[] elements, long[] times) {
+		long start = System.nanoTime();
+		TypeHierarchyElementCache cache = new TypeHierarchyElementCache();
+		for (int i = 0; i < names.length; i++) {
+			cache.put(names[i], elements[i]);
+		}
+		long put = System.nanoTime();
+		for (int i = 0; i < lookups.length; i++) {
+			assertNotNull(cache.get(lookups[i]));
+		}
+		times[0] += put - start;
+		times[1] += System.nanoTime() - put;
+	}
+
+	/**
+	 * The cache implementation before 3.9.17, keyed by the boxed hash code of the name.
+	 */
+	private void runPreviousMap(char[][] names, char[][] lookups, TypeHierarchyElement[] elements, long[] times) {
+		long start = System.nanoTime();
+		Map<Integer, TypeHierarchyElement> map = new ConcurrentHashMap<Integer, TypeHierarchyElement>();
+		for (int i = 0; i < names.length; i++) {
+			map.put(hashCode(names[i]), elements[i]);
+		}
+		long put = System.nanoTime();
+		for (int i = 0; i < lookups.length; i++) {
+			assertNotNull(map.get(hashCode(lookups[i])));
+		}
+		times[0] += put - start;
+		times[1] += System.nanoTime() - put;
+	}
+
+	private int hashCode(char[] characters) {
+		int h = 0;
+		for (int i = 0; i < characters.length; i++) {
+			h = 31 * h + characters[i];
+		}
+		return h;
+	}
+
+	private TypeHierarchyElement element(String className) {
+		return new TypeHierarchyElement(className.toCharArray(), "java/lang/Object".toCharArray(), null);
+	}
+
+}
@@ -18,6 +18,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.Platform;
@@ -231,6 +232,23 @@ public class TypeHierarchyEngineTest {
 		assertEquals("org.InterfaceB", interfaces[1]);
 	}
 	
+	@Test
+	public void testGetAllSupertypes() throws Exception {
+		Set<String> supertypes = engine.getAllSupertypes("org.sub.ClassABCD", project);
+		assertEquals(10, supertypes.size());
+		assertTrue(supertypes.contains("org.sub.ClassABCD"));
+		assertTrue(supertypes.contains("org.sub.ClassB"));
+		assertTrue(supertypes.contains("org.ClassA"));
+		assertTrue(supertypes.contains("java.lang.Object"));
+		assertTrue(supertypes.contains("org.sub.InterfaceAB"));
+		assertTrue(supertypes.contains("org.sub.InterfaceCD"));
+		assertTrue(supertypes.contains("org.InterfaceA"));
+		assertTrue(supertypes.contains("org.InterfaceB"));
+		assertTrue(supertypes.contains("org.InterfaceC"));
+		assertTrue(supertypes.contains("org.InterfaceD"));
+		assertFalse(supertypes.contains("org.SimpleClass"));
+	}
+	
 	@Test
 	public void testAdditionalCaseWithLongDoubleConstantsInClass() throws Exception {
 		IType type = javaProject.findType("org.CaseWithLongAndDoubleConstants");
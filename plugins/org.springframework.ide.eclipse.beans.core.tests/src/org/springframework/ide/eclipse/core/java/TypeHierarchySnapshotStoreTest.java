@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchyElement;
+import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchySnapshot;
+import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchySnapshotStore;
+
+/**
+ * @since 3.9.17
+ */
+public class TypeHierarchySnapshotStoreTest {
+
+	private File directory;
+
+	private File archive;
+
+	@Before
+	public void setUp() throws Exception {
+		directory = File.createTempFile("snapshots", "");
+		directory.delete();
+		archive = File.createTempFile("library", ".jar");
+		write(archive, 1);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		new TypeHierarchySnapshotStore(directory).clear();
+		directory.delete();
+		archive.delete();
+	}
+
+	@Test
+	public void testSnapshotSurvivesRestart() throws Exception {
+		TypeHierarchySnapshotStore store = new TypeHierarchySnapshotStore(directory);
+		store.startup();
+		TypeHierarchySnapshot snapshot = store.getArchiveSnapshot(archive);
+		for (int i = 0; i < 1000; i++) {
+			snapshot.put(new TypeHierarchyElement(("org/Class" + i).toCharArray(), "java/lang/Object".toCharArray(),
+					new char[][] { "java/io/Serializable".toCharArray() }), 0);
+		}
+		store.shutdown();
+
+		store = new TypeHierarchySnapshotStore(directory);
+		store.startup();
+		snapshot = store.getArchiveSnapshot(archive);
+		assertFalse(snapshot.isDirty());
+		assertEquals(1000, snapshot.size());
+
+		TypeHierarchyElement element = snapshot.get("org/Class42".toCharArray(), 0);
+		assertNotNull(element);
+		assertEquals("org/Class42", new String(element.className));
+		assertEquals("java/lang/Object", new String(element.superclassName));
+		assertEquals("java/io/Serializable", new String(element.interfaces[0]));
+		assertNull(snapshot.get("org/Class1000".toCharArray(), 0));
+	}
+
+	@Test
+	public void testChangedArchiveInvalidatesSnapshot() throws Exception {
+		TypeHierarchySnapshotStore store = new TypeHierarchySnapshotStore(directory);
+		store.getArchiveSnapshot(archive).put(element("org/SimpleClass"), 0);
+		store.save();
+
+		write(archive, 2);
+
+		store = new TypeHierarchySnapshotStore(directory);
+		store.startup();
+		assertNull(store.getArchiveSnapshot(archive).get("org/SimpleClass".toCharArray(), 0));
+	}
+
+	@Test
+	public void testFolderRecordsAreStamped() throws Exception {
+		File folder = archive.getParentFile();
+		TypeHierarchySnapshotStore store = new TypeHierarchySnapshotStore(directory);
+		store.getFolderSnapshot(folder).put(element("org/SimpleClass"), 42);
+		store.save();
+
+		store = new TypeHierarchySnapshotStore(directory);
+		store.startup();
+		assertNotNull(store.getFolderSnapshot(folder).get("org/SimpleClass".toCharArray(), 42));
+		assertNull(store.getFolderSnapshot(folder).get("org/SimpleClass".toCharArray(), 43));
+	}
+
+	@Test
+	public void testCollidingLocationsAreKeptApart() throws Exception {
+		// "Aa" and "BB" have the same hash code, so both paths have the same hash code and length
+		File first = new File(directory.getPath() + "-Aa");
+		File second = new File(directory.getPath() + "-BB");
+		assertEquals(first.getPath().hashCode(), second.getPath().hashCode());
+		assertTrue(first.mkdir());
+		assertTrue(second.mkdir());
+		try {
+			TypeHierarchySnapshotStore store = new TypeHierarchySnapshotStore(directory);
+			store.getFolderSnapshot(first).put(element("org/First"), 1);
+			store.save();
+
+			store = new TypeHierarchySnapshotStore(directory);
+			store.getFolderSnapshot(second).put(element("org/Second"), 2);
+			store.save();
+
+			store = new TypeHierarchySnapshotStore(directory);
+			assertNotNull(store.getFolderSnapshot(first).get("org/First".toCharArray(), 1));
+			assertNull(store.getFolderSnapshot(first).get("org/Second".toCharArray(), 2));
+			assertNotNull(store.getFolderSnapshot(second).get("org/Second".toCharArray(), 2));
+			assertEquals(2, directory.listFiles().length);
+		}
+		finally {
+			first.delete();
+			second.delete();
+		}
+	}
+
+	private TypeHierarchyElement element(String className) {
+		return new TypeHierarchyElement(className.toCharArray(), "java/lang/Object".toCharArray(), null);
+	}
+
+	private void write(File file, int length) throws IOException {
+		FileOutputStream out = new FileOutputStream(file);
+		try {
+			out.write(new byte[length]);
+		}
+		finally {
+			out.close();
+		}
+	}
+
+}
@@ -0,0 +1,8 @@
+package com.example.matching;
+
+public class OrderService implements Service {
+
+	public void process(String id) {
+	}
+
+}
@@ -0,0 +1,7 @@
+package com.example.matching;
+
+public interface Service {
+
+	void process(String id);
+
+}
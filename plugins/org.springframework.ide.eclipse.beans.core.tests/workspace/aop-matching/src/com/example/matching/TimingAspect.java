@@ -0,0 +1,8 @@
+package com.example.matching;
+
+public class TimingAspect {
+
+	public void time() {
+	}
+
+}
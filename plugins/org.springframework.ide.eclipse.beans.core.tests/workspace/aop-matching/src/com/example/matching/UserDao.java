@@ -0,0 +1,12 @@
+package com.example.matching;
+
+public class UserDao {
+
+	public Object findById(String id) {
+		return null;
+	}
+
+	public void save(Object entity) {
+	}
+
+}
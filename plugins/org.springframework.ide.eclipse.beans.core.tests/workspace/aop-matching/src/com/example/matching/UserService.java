@@ -0,0 +1,8 @@
+package com.example.matching;
+
+public class UserService implements Service {
+
+	public void process(String id) {
+	}
+
+}
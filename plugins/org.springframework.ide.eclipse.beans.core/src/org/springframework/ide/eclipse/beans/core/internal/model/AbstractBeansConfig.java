@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2013 Spring IDE Developers
+ * Copyright (c) 2008, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -55,10 +55,10 @@ public abstract class AbstractBeansConfig extends AbstractResourceModelElement i
 	private static final String ANNOTATION_CONFIG_ELEMENT_NAME = "annotation-config";
 
 	/** The component-scan element */
-	private static final String COMPONENT_SCAN_ELEMENT_NAME = "component-scan";
+	protected static final String COMPONENT_SCAN_ELEMENT_NAME = "component-scan";
 
 	/** The context namespace URI */
-	private static final String CONTEXT_NAMESPACE_URI = "http://www.springframework.org/schema/context";
+	protected static final String CONTEXT_NAMESPACE_URI = "http://www.springframework.org/schema/context";
 
 
 	/** List of aliases (in registration order) */
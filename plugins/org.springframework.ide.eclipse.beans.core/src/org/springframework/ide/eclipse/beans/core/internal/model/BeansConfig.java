@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2017 Spring IDE Developers
+ * Copyright (c) 2004, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -85,6 +85,7 @@ import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.core.type.MethodMetadata;
 import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
 import org.springframework.ide.eclipse.beans.core.internal.model.namespaces.DelegatingNamespaceHandlerResolver;
+import org.springframework.ide.eclipse.beans.core.internal.model.namespaces.NamespaceSchemaCache;
 import org.springframework.ide.eclipse.beans.core.internal.model.namespaces.XmlCatalogDelegatingEntityResolver;
 import org.springframework.ide.eclipse.beans.core.internal.model.process.BeansConfigPostProcessorFactory;
 import org.springframework.ide.eclipse.beans.core.internal.parser.BeansDtdResolver;
@@ -180,6 +181,9 @@ public class BeansConfig extends AbstractBeansConfig implements IBeansConfig, IL
 
 	private BeanRegistrationContextTracker beanRegistrationTracker = new BeanRegistrationContextTracker();
 
+	/** The packages scanned for components during the last read */
+	private volatile ComponentScanScope componentScanScope;
+
 	/**
 	 * Creates a new {@link BeansConfig}.
 	 */
@@ -234,12 +238,20 @@ public class BeansConfig extends AbstractBeansConfig implements IBeansConfig, IL
 				children = null;
 
 				beanRegistrationTracker.clear();
+				componentScanScope = null;
 
 			}
 			finally {
 				w.unlock();
 			}
 
+			// Drop the index entries as the bean classes and scanned packages might have changed
+			if (BeansCorePlugin.getModel() instanceof BeansModel) {
+				((BeansModel) BeansCorePlugin.getModel()).getTypeIndex().remove(this);
+				((BeansModel) BeansCorePlugin.getModel()).getComponentScanIndex().remove(this);
+				((BeansModel) BeansCorePlugin.getModel()).getDependencyGraph().removeImports(this);
+			}
+
 			// Reset all config sets which contain this config
 			for (IBeansConfigEventListener eventListener : eventListeners) {
 				eventListener.onReset(this);
@@ -325,6 +337,8 @@ public class BeansConfig extends AbstractBeansConfig implements IBeansConfig, IL
 			}
 
 			final ClassLoader projectIncludingClassloader = getProjectRelatedClassLoader();
+			final ComponentScanScope scanScope = new ComponentScanScope();
+			componentScanScope = scanScope;
 
 			try {
 				// Publish start events
@@ -339,10 +353,10 @@ public class BeansConfig extends AbstractBeansConfig implements IBeansConfig, IL
 					// as it could otherwise create a runtime deadlock
 					final ResourceLoader resourceLoader;
 					if (getElementParent() instanceof IBeansProject && ((IBeansProject) getElementParent()).isImportsEnabled()) {
-						resourceLoader = new EclipsePathMatchingResourcePatternResolver(file.getProject(), projectIncludingClassloader);
+						resourceLoader = new ComponentScanRecordingPatternResolver(file.getProject(), projectIncludingClassloader, scanScope);
 					}
 					else {
-						resourceLoader = new ClassResourceFilteringPatternResolver(file.getProject(), projectIncludingClassloader);
+						resourceLoader = new ClassResourceFilteringPatternResolver(file.getProject(), projectIncludingClassloader, scanScope);
 					}
 
 					modificationTimestamp = file.getModificationStamp();
@@ -361,12 +375,28 @@ public class BeansConfig extends AbstractBeansConfig implements IBeansConfig, IL
 
 					// Set up classloader to use for NamespaceHandler and XSD loading
 					ClassLoader namespaceResolvingClassloader = projectIncludingClassloader;
+					IProject namespaceProject = file.getProject();
 					if (!XmlNamespaceUtils.useNamespacesFromClasspath(file.getProject())) {
 						 namespaceResolvingClassloader = BeansCorePlugin.getClassLoader();
+						 namespaceProject = null;
+					}
+
+					// Share the spring.schemas mappings and compiled schemas with the other configs using the same
+					// namespaces
+					EntityResolver schemaResolver;
+					XercesDocumentLoader documentLoader;
+					if (BeansCorePlugin.getModel() instanceof BeansModel) {
+						NamespaceSchemaCache schemaCache = ((BeansModel) BeansCorePlugin.getModel()).getSchemaCache();
+						schemaResolver = schemaCache.getSchemaResolver(namespaceProject, namespaceResolvingClassloader);
+						documentLoader = new XercesDocumentLoader(schemaCache.getGrammarPool(namespaceProject));
+					}
+					else {
+						schemaResolver = new PluggableSchemaResolver(namespaceResolvingClassloader);
+						documentLoader = new XercesDocumentLoader();
 					}
 
 					registry = new ScannedGenericBeanDefinitionSuppressingBeanDefinitionRegistry();
-					EntityResolver resolver = new XmlCatalogDelegatingEntityResolver(new BeansDtdResolver(), new PluggableSchemaResolver(namespaceResolvingClassloader));
+					EntityResolver resolver = new XmlCatalogDelegatingEntityResolver(new BeansDtdResolver(), schemaResolver);
 					final DocumentAccessor documentAccessor = new DocumentAccessor();
 					final SourceExtractor sourceExtractor = new DelegatingSourceExtractor(file.getProject());
 					final BeansConfigReaderEventListener eventListener = new BeansConfigReaderEventListener(this, resource, sourceExtractor, documentAccessor);
@@ -427,7 +457,7 @@ public class BeansConfig extends AbstractBeansConfig implements IBeansConfig, IL
 						}
 					};
 
-					reader.setDocumentLoader(new XercesDocumentLoader());
+					reader.setDocumentLoader(documentLoader);
 					reader.setResourceLoader(resourceLoader);
 
 					reader.setEntityResolver(resolver);
@@ -562,6 +592,12 @@ public class BeansConfig extends AbstractBeansConfig implements IBeansConfig, IL
 					eventListener.onReadEnd(this);
 				}
 
+				// Index the scanned packages and imports unless the config got reset in the meantime
+				if (componentScanScope == scanScope && BeansCorePlugin.getModel() instanceof BeansModel) {
+					((BeansModel) BeansCorePlugin.getModel()).getComponentScanIndex().update(this, scanScope);
+					((BeansModel) BeansCorePlugin.getModel()).getDependencyGraph().updateImports(this);
+				}
+
 				if (DEBUG) {
 					System.out.println(String.format("> loading of %s beans from %s took %sms", count, file
 							.getFullPath().toString(), (System.currentTimeMillis() - start)));
@@ -570,6 +606,17 @@ public class BeansConfig extends AbstractBeansConfig implements IBeansConfig, IL
 		}
 	}
 
+	/**
+	 * Returns the packages scanned for components while reading this config, or <code>null</code> if the config
+	 * hasn't been read since the last reset.
+	 * <p>
+	 * Post processors that scan for components with their own resource loader record their scans here as well.
+	 * @since 3.9.17
+	 */
+	public ComponentScanScope getComponentScanScope() {
+		return componentScanScope;
+	}
+
 	public ClassLoader getProjectRelatedClassLoader() {
 		if (file != null && file.exists()) {
 			return JdtUtils.getClassLoader(file.getProject(), BeansCorePlugin.getClassLoader());
@@ -912,12 +959,24 @@ public class BeansConfig extends AbstractBeansConfig implements IBeansConfig, IL
 			// make sure nested BeanDefinitions have all the source extraction applied
 			addSourceToNestedBeanDefinitions(componentDefinition);
 
+			// record the types referenced by the filters of component scans
+			recordComponentScanFilters(documentAccessor.getCurrentElement());
+
 			if (source instanceof IModelSourceLocation) {
 				Resource resource = ((IModelSourceLocation) source).getResource();
 				addComponentToCache(componentDefinition, resource);
 			}
 		}
 
+		private void recordComponentScanFilters(Object element) {
+			ComponentScanScope scanScope = componentScanScope;
+			if (scanScope != null && element instanceof Element
+					&& COMPONENT_SCAN_ELEMENT_NAME.equals(((Element) element).getLocalName())
+					&& CONTEXT_NAMESPACE_URI.equals(((Element) element).getNamespaceURI())) {
+				scanScope.recordFilters((Element) element);
+			}
+		}
+
 		private void addAliasToCache(AliasDefinition aliasDefinition, Resource resource) {
 			if (aliasDefinitionsCache.containsKey(resource)) {
 				aliasDefinitionsCache.get(resource).add(aliasDefinition);
@@ -1058,17 +1117,46 @@ public class BeansConfig extends AbstractBeansConfig implements IBeansConfig, IL
 		}
 	}
 
+	/**
+	 * {@link ResourcePatternResolver} that records the <code>.class</code> resource patterns being requested in the
+	 * {@link ComponentScanScope} of the config.
+	 */
+	class ComponentScanRecordingPatternResolver extends EclipsePathMatchingResourcePatternResolver {
+
+		private final ComponentScanScope scanScope;
+
+		/**
+		 * Creates a new {@link ComponentScanRecordingPatternResolver}
+		 */
+		public ComponentScanRecordingPatternResolver(IProject project, ClassLoader classLoader,
+				ComponentScanScope scanScope) {
+			super(project, classLoader);
+			this.scanScope = scanScope;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Resource[] getResources(String locationPattern) throws IOException {
+			scanScope.recordScan(locationPattern);
+			return super.getResources(locationPattern);
+		}
+
+	}
+
 	/**
 	 * {@link ResourcePatternResolver} that checks if <code>.class</code> resource are being requested.
 	 */
-	class ClassResourceFilteringPatternResolver extends EclipsePathMatchingResourcePatternResolver implements
+	class ClassResourceFilteringPatternResolver extends ComponentScanRecordingPatternResolver implements
 			ResourcePatternResolver {
 
 		/**
 		 * Creates a new {@link ClassResourceFilteringPatternResolver}
 		 */
-		public ClassResourceFilteringPatternResolver(IProject project, ClassLoader classLoader) {
-			super(project, classLoader);
+		public ClassResourceFilteringPatternResolver(IProject project, ClassLoader classLoader,
+				ComponentScanScope scanScope) {
+			super(project, classLoader, scanScope);
 		}
 
 		/**
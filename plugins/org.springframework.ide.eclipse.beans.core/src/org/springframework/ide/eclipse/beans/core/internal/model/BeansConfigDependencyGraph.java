@@ -0,0 +1,206 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.internal.model;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.springframework.ide.eclipse.beans.core.model.IBeansConfig;
+import org.springframework.ide.eclipse.beans.core.model.IBeansConfigSet;
+import org.springframework.ide.eclipse.beans.core.model.IBeansImport;
+import org.springframework.ide.eclipse.beans.core.model.IBeansProject;
+import org.springframework.ide.eclipse.beans.core.model.IImportedBeansConfig;
+
+/**
+ * Workspace-wide reverse dependency graph from a config file to the {@link IBeansConfig}s importing it and to the
+ * {@link IBeansConfigSet}s containing it.
+ * <p>
+ * The imports of a config are added once the config has been read and removed when it gets reloaded; configs whose
+ * imports are not known yet have to be checked by the caller. The config set memberships are calculated lazily per
+ * project and dropped whenever the config sets of the project change.
+ * @since 3.9.17
+ */
+public class BeansConfigDependencyGraph {
+
+	/** The importing configs by imported file */
+	private final Map<IResource, Set<IBeansConfig>> importingConfigs = new HashMap<IResource, Set<IBeansConfig>>();
+
+	/** The imported files, keyed by importing config */
+	private final Map<IBeansConfig, ImportEntry> imports = new HashMap<IBeansConfig, ImportEntry>();
+
+	/** The config sets by full path of their config files, per project */
+	private final Map<IProject, Map<String, Set<IBeansConfigSet>>> configSetsByProject = new ConcurrentHashMap<IProject, Map<String, Set<IBeansConfigSet>>>();
+
+	/** Incremented on every config set change; memberships calculated concurrently with a change are not stored */
+	private final AtomicLong configSetsModificationCount = new AtomicLong();
+
+	/**
+	 * Replaces the imported files of the given config with the files of its current {@link IImportedBeansConfig}s,
+	 * including nested imports.
+	 */
+	public void updateImports(IBeansConfig config) {
+		Set<IResource> importedResources = new HashSet<IResource>();
+		addImportedResources(config, importedResources);
+
+		synchronized (importingConfigs) {
+			removeImportEntry(config);
+			imports.put(config, new ImportEntry(config, importedResources));
+			for (IResource resource : importedResources) {
+				Set<IBeansConfig> configs = importingConfigs.get(resource);
+				if (configs == null) {
+					configs = new HashSet<IBeansConfig>();
+					importingConfigs.put(resource, configs);
+				}
+				configs.add(config);
+			}
+		}
+	}
+
+	/**
+	 * Removes the imports of the given config; they are added again when it has been read.
+	 */
+	public void removeImports(IBeansConfig config) {
+		synchronized (importingConfigs) {
+			removeImportEntry(config);
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if the imports of the given config instance are known.
+	 */
+	public boolean hasImports(IBeansConfig config) {
+		synchronized (importingConfigs) {
+			ImportEntry entry = imports.get(config);
+			return entry != null && entry.config == config;
+		}
+	}
+
+	/**
+	 * Returns the configs with known imports that import the given file directly or indirectly.
+	 */
+	public Set<IBeansConfig> getImportingConfigs(IResource resource) {
+		synchronized (importingConfigs) {
+			Set<IBeansConfig> configs = importingConfigs.get(resource);
+			if (configs != null) {
+				return new LinkedHashSet<IBeansConfig>(configs);
+			}
+		}
+		return new LinkedHashSet<IBeansConfig>();
+	}
+
+	/**
+	 * Returns the config sets of the given projects that contain the given file.
+	 */
+	public Set<IBeansConfigSet> getConfigSets(Set<IBeansProject> projects, IResource resource) {
+		Set<IBeansConfigSet> result = new LinkedHashSet<IBeansConfigSet>();
+		if (resource != null) {
+			String path = resource.getFullPath().toString();
+			for (IBeansProject project : projects) {
+				Set<IBeansConfigSet> configSets = getConfigSetsByPath(project).get(path);
+				if (configSets != null) {
+					result.addAll(configSets);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Drops the config set memberships of the given project; they are recalculated on next access.
+	 */
+	public void configSetsChanged(IProject project) {
+		configSetsByProject.remove(project);
+		configSetsModificationCount.incrementAndGet();
+	}
+
+	public void clear() {
+		synchronized (importingConfigs) {
+			importingConfigs.clear();
+			imports.clear();
+		}
+		configSetsByProject.clear();
+		configSetsModificationCount.incrementAndGet();
+	}
+
+	private void addImportedResources(IBeansConfig config, Set<IResource> importedResources) {
+		for (IBeansImport beansImport : config.getImports()) {
+			for (IImportedBeansConfig importedBeansConfig : beansImport.getImportedBeansConfigs()) {
+				IResource resource = importedBeansConfig.getElementResource();
+				if (resource != null && importedResources.add(resource)) {
+					addImportedResources(importedBeansConfig, importedResources);
+				}
+			}
+		}
+	}
+
+	private void removeImportEntry(IBeansConfig config) {
+		ImportEntry entry = imports.remove(config);
+		if (entry != null) {
+			for (IResource resource : entry.importedResources) {
+				Set<IBeansConfig> configs = importingConfigs.get(resource);
+				if (configs != null) {
+					configs.remove(config);
+					if (configs.isEmpty()) {
+						importingConfigs.remove(resource);
+					}
+				}
+			}
+		}
+	}
+
+	private Map<String, Set<IBeansConfigSet>> getConfigSetsByPath(IBeansProject project) {
+		Map<String, Set<IBeansConfigSet>> configSetsByPath = configSetsByProject.get(project.getProject());
+		if (configSetsByPath == null) {
+			long count = configSetsModificationCount.get();
+			configSetsByPath = new HashMap<String, Set<IBeansConfigSet>>();
+			for (IBeansConfigSet configSet : project.getConfigSets()) {
+				for (String configName : configSet.getConfigNames()) {
+					// Config names are project relative or, for configs of other projects, full paths
+					String path = (configName.startsWith("/") ? configName : project.getProject().getFullPath()
+							.append(configName).toString());
+					Set<IBeansConfigSet> configSets = configSetsByPath.get(path);
+					if (configSets == null) {
+						configSets = new LinkedHashSet<IBeansConfigSet>();
+						configSetsByPath.put(path, configSets);
+					}
+					configSets.add(configSet);
+				}
+			}
+			if (count == configSetsModificationCount.get()) {
+				configSetsByProject.put(project.getProject(), configSetsByPath);
+			}
+		}
+		return configSetsByPath;
+	}
+
+	/**
+	 * The files imported by a single config.
+	 */
+	private static class ImportEntry {
+
+		final IBeansConfig config;
+
+		final Set<IResource> importedResources;
+
+		ImportEntry(IBeansConfig config, Set<IResource> importedResources) {
+			this.config = config;
+			this.importedResources = importedResources;
+		}
+	}
+
+}
@@ -0,0 +1,330 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.internal.model;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.Status;
+import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
+import org.springframework.ide.eclipse.beans.core.model.IBeansConfig;
+import org.springframework.ide.eclipse.beans.core.model.IBeansProject;
+import org.springframework.ide.eclipse.beans.core.namespaces.NamespaceUtils;
+import org.springframework.ide.eclipse.core.io.ZipEntryStorage;
+import org.springframework.ide.eclipse.core.model.ILazyInitializedModelElement;
+
+/**
+ * Loads a number of {@link IBeansConfig}s on a bounded pool of threads.
+ * <p>
+ * Configs importing other configs of the same batch (through <code>&lt;import resource="..."/&gt;</code> with imports
+ * enabled) are only loaded after the imported configs; all other configs are loaded in parallel. The imports of a
+ * config are found by a quick scan of the XML file before anything is loaded. Imported configs themselves
+ * ({@link ImportedBeansConfig}) are always read as part of their importing {@link BeansConfig}.
+ *
+ * @since 3.9.17
+ */
+public class BeansConfigPreloader {
+
+	private static final String IMPORT_ELEMENT = "import";
+
+	private static final String RESOURCE_ATTRIBUTE = "resource";
+
+	private static final String CLASSPATH_PREFIX = "classpath:";
+
+	private static final AtomicInteger threadCount = new AtomicInteger();
+
+	private final int poolSize;
+
+	public BeansConfigPreloader() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	public BeansConfigPreloader(int poolSize) {
+		this.poolSize = Math.max(1, poolSize);
+	}
+
+	/**
+	 * Loads all given configs that are not initialized yet.
+	 * @return the time in milliseconds it took to load each config, in the order the configs finished loading
+	 */
+	public Map<IBeansConfig, Long> preload(Collection<? extends IBeansConfig> configs, IProgressMonitor monitor) {
+		if (monitor == null) {
+			monitor = new NullProgressMonitor();
+		}
+
+		List<IBeansConfig> pending = new ArrayList<IBeansConfig>();
+		for (IBeansConfig config : configs) {
+			if (!(config instanceof ILazyInitializedModelElement)
+					|| !((ILazyInitializedModelElement) config).isInitialized()) {
+				pending.add(config);
+			}
+		}
+
+		Map<IBeansConfig, Long> timings = new LinkedHashMap<IBeansConfig, Long>();
+		if (pending.isEmpty()) {
+			return timings;
+		}
+
+		monitor.beginTask("Loading Spring bean configs", pending.size());
+
+		// dependents by config and number of not yet loaded imports by config
+		Map<IBeansConfig, Set<IBeansConfig>> dependents = new HashMap<IBeansConfig, Set<IBeansConfig>>();
+		Map<IBeansConfig, Integer> unloadedImports = new HashMap<IBeansConfig, Integer>();
+		for (IBeansConfig config : pending) {
+			Set<IBeansConfig> imported = getImportedConfigs(config, pending);
+			unloadedImports.put(config, imported.size());
+			for (IBeansConfig importedConfig : imported) {
+				Set<IBeansConfig> configDependents = dependents.get(importedConfig);
+				if (configDependents == null) {
+					configDependents = new LinkedHashSet<IBeansConfig>();
+					dependents.put(importedConfig, configDependents);
+				}
+				configDependents.add(config);
+			}
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(poolSize, pending.size()),
+				new ThreadFactory() {
+
+					public Thread newThread(Runnable runnable) {
+						Thread thread = new Thread(runnable, "Spring Beans Config Preloader "
+								+ threadCount.incrementAndGet());
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+		CompletionService<ConfigLoadResult> completionService = new ExecutorCompletionService<ConfigLoadResult>(
+				executor);
+
+		try {
+			Set<IBeansConfig> submitted = new LinkedHashSet<IBeansConfig>();
+			int running = 0;
+			for (IBeansConfig config : pending) {
+				if (unloadedImports.get(config) == 0) {
+					completionService.submit(new ConfigLoadTask(config));
+					submitted.add(config);
+					running++;
+				}
+			}
+
+			while (timings.size() < pending.size() && !monitor.isCanceled()) {
+				if (running == 0) {
+					// only import cycles left; load them in the given order
+					for (IBeansConfig config : pending) {
+						if (submitted.add(config)) {
+							completionService.submit(new ConfigLoadTask(config));
+							running++;
+						}
+					}
+				}
+
+				Future<ConfigLoadResult> future = completionService.poll(100, TimeUnit.MILLISECONDS);
+				if (future == null) {
+					continue;
+				}
+				running--;
+
+				ConfigLoadResult result = getResult(future);
+				timings.put(result.config, result.time);
+				monitor.subTask(result.config.getElementName());
+				monitor.worked(1);
+
+				if (BeansModel.DEBUG) {
+					System.out.println(String.format("> preloaded config '%s' in %sms", result.config.getElementName(),
+							result.time));
+				}
+
+				Set<IBeansConfig> configDependents = dependents.get(result.config);
+				if (configDependents != null) {
+					for (IBeansConfig dependent : configDependents) {
+						int remaining = unloadedImports.get(dependent) - 1;
+						unloadedImports.put(dependent, remaining);
+						if (remaining == 0 && submitted.add(dependent)) {
+							completionService.submit(new ConfigLoadTask(dependent));
+							running++;
+						}
+					}
+				}
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			// configs already being loaded are allowed to finish
+			executor.shutdown();
+			monitor.done();
+		}
+		return timings;
+	}
+
+	private ConfigLoadResult getResult(Future<ConfigLoadResult> future) throws InterruptedException {
+		try {
+			return future.get();
+		}
+		catch (ExecutionException e) {
+			// ConfigLoadTask never throws
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * Returns those configs of the given batch that are imported by the given config.
+	 */
+	private Set<IBeansConfig> getImportedConfigs(IBeansConfig config, List<IBeansConfig> batch) {
+		Set<IBeansConfig> importedConfigs = new LinkedHashSet<IBeansConfig>();
+
+		IResource resource = config.getElementResource();
+		if (!(config instanceof BeansConfig) || !(resource instanceof IFile) || !resource.isAccessible()
+				|| config.getElementName().indexOf(ZipEntryStorage.DELIMITER) != -1
+				|| !(config.getElementParent() instanceof IBeansProject)
+				|| !((IBeansProject) config.getElementParent()).isImportsEnabled()) {
+			return importedConfigs;
+		}
+
+		for (String location : getImportLocations((IFile) resource)) {
+			if (location.indexOf('*') != -1 || location.indexOf('?') != -1 || location.indexOf("${") != -1) {
+				continue;
+			}
+			if (location.startsWith(CLASSPATH_PREFIX)) {
+				String suffix = location.substring(CLASSPATH_PREFIX.length());
+				suffix = '/' + (suffix.startsWith("/") ? suffix.substring(1) : suffix);
+				for (IBeansConfig candidate : batch) {
+					IResource candidateResource = candidate.getElementResource();
+					if (candidate != config && candidateResource != null
+							&& candidateResource.getFullPath().toString().endsWith(suffix)) {
+						importedConfigs.add(candidate);
+					}
+				}
+			}
+			else if (location.indexOf(':') == -1) {
+				IResource importedResource = resource.getParent().findMember(new Path(location));
+				for (IBeansConfig candidate : batch) {
+					if (candidate != config && importedResource != null
+							&& importedResource.equals(candidate.getElementResource())) {
+						importedConfigs.add(candidate);
+					}
+				}
+			}
+		}
+		return importedConfigs;
+	}
+
+	private List<String> getImportLocations(IFile file) {
+		List<String> locations = new ArrayList<String>();
+		InputStream contents = null;
+		try {
+			contents = file.getContents(true);
+			XMLInputFactory factory = XMLInputFactory.newInstance();
+			factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+			XMLStreamReader reader = factory.createXMLStreamReader(contents);
+			try {
+				int depth = 0;
+				while (reader.hasNext()) {
+					int event = reader.next();
+					if (event == XMLStreamConstants.START_ELEMENT) {
+						depth++;
+						// imports are only allowed as children of the root element
+						if (depth == 2 && IMPORT_ELEMENT.equals(reader.getLocalName())
+								&& NamespaceUtils.DEFAULT_NAMESPACE_URI.equals(reader.getNamespaceURI())) {
+							String location = reader.getAttributeValue(null, RESOURCE_ATTRIBUTE);
+							if (location != null) {
+								locations.add(location.trim());
+							}
+						}
+					}
+					else if (event == XMLStreamConstants.END_ELEMENT) {
+						depth--;
+					}
+				}
+			}
+			finally {
+				reader.close();
+			}
+		}
+		catch (Exception e) {
+			// the config is loaded without waiting for its imports; errors are reported while loading the config
+		}
+		finally {
+			if (contents != null) {
+				try {
+					contents.close();
+				}
+				catch (Exception e) {
+					// ignore
+				}
+			}
+		}
+		return locations;
+	}
+
+	private static class ConfigLoadResult {
+
+		final IBeansConfig config;
+
+		final long time;
+
+		ConfigLoadResult(IBeansConfig config, long time) {
+			this.config = config;
+			this.time = time;
+		}
+	}
+
+	private static class ConfigLoadTask implements Callable<ConfigLoadResult> {
+
+		private final IBeansConfig config;
+
+		ConfigLoadTask(IBeansConfig config) {
+			this.config = config;
+		}
+
+		public ConfigLoadResult call() {
+			long start = System.currentTimeMillis();
+			try {
+				// triggers the lazy initialization of the config
+				config.getElementChildren();
+			}
+			catch (Throwable e) {
+				BeansCorePlugin.log(new Status(IStatus.WARNING, BeansCorePlugin.PLUGIN_ID, String.format(
+						"Error occured while loading config '%s'", config.getElementName()), e));
+			}
+			return new ConfigLoadResult(config, System.currentTimeMillis() - start);
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2011 Spring IDE Developers
+ * Copyright (c) 2004, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -161,6 +161,7 @@ public class BeansConfigSet extends AbstractResourceModelElement implements IBea
 				w.unlock();
 			}
 			reset();
+			configNamesChanged();
 		}
 	}
 
@@ -186,6 +187,7 @@ public class BeansConfigSet extends AbstractResourceModelElement implements IBea
 			w.unlock();
 		}
 		reset();
+		configNamesChanged();
 	}
 
 	public void removeAllConfigs() {
@@ -197,6 +199,16 @@ public class BeansConfigSet extends AbstractResourceModelElement implements IBea
 			w.unlock();
 		}
 		reset();
+		configNamesChanged();
+	}
+
+	/**
+	 * Updates the config set memberships of the project's configs.
+	 */
+	private void configNamesChanged() {
+		if (getElementParent() instanceof BeansProject) {
+			((BeansProject) getElementParent()).configSetsChanged();
+		}
 	}
 
 	public Set<IBeansConfig> getConfigs() {
@@ -306,6 +306,11 @@ public class BeansJavaConfig extends AbstractBeansConfig implements IBeansConfig
 				w.unlock();
 			}
 
+			// Drop the type index entry as the bean classes might have changed
+			if (BeansCorePlugin.getModel() instanceof BeansModel) {
+				((BeansModel) BeansCorePlugin.getModel()).getTypeIndex().remove(this);
+			}
+
 			// Reset all config sets which contain this config
 			for (IBeansConfigEventListener eventListener : eventListeners) {
 				eventListener.onReset(this);
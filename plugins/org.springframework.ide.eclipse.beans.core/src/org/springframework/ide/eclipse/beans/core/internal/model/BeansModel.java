@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2015 Spring IDE Developers
+ * Copyright (c) 2004, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -32,6 +32,8 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jface.util.IPropertyChangeListener;
 import org.eclipse.jface.util.PropertyChangeEvent;
 import org.eclipse.wst.common.project.facet.core.FacetedProjectFramework;
@@ -39,6 +41,7 @@ import org.eclipse.wst.common.project.facet.core.IFacetedProject;
 import org.eclipse.wst.common.project.facet.core.events.IFacetedProjectEvent;
 import org.eclipse.wst.common.project.facet.core.events.IFacetedProjectListener;
 import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
+import org.springframework.ide.eclipse.beans.core.internal.model.namespaces.NamespaceSchemaCache;
 import org.springframework.ide.eclipse.beans.core.internal.model.resources.BeansResourceChangeListener;
 import org.springframework.ide.eclipse.beans.core.internal.model.resources.IBeansResourceChangeEvents;
 import org.springframework.ide.eclipse.beans.core.internal.model.update.BeansModelUpdater;
@@ -89,6 +92,22 @@ public class BeansModel extends AbstractModel implements IBeansModel {
 
 	private IResourceChangeListener workspaceListener;
 
+	/** Reverse index from types to the configs and beans using them */
+	private final BeansTypeIndex typeIndex = new BeansTypeIndex();
+
+	private BeansTypeIndex.TypeChangeListener typeIndexListener;
+
+	/** Index from the packages scanned for components to the configs scanning them */
+	private final ComponentScanIndex componentScanIndex = new ComponentScanIndex();
+
+	/** Reverse dependencies from config files to their importing configs and containing config sets */
+	private final BeansConfigDependencyGraph dependencyGraph = new BeansConfigDependencyGraph();
+
+	/** Compiled schemas and <code>spring.schemas</code> mappings shared by all config reads */
+	private final NamespaceSchemaCache schemaCache = new NamespaceSchemaCache();
+
+	private NamespaceSchemaCache.ChangeListener schemaCacheListener;
+
 	private IFacetedProjectListener facetedProjectListener;
 
 	public BeansModel() {
@@ -169,6 +188,14 @@ public class BeansModel extends AbstractModel implements IBeansModel {
 		IWorkspace workspace = ResourcesPlugin.getWorkspace();
 		workspace.addResourceChangeListener(workspaceListener, BeansResourceChangeListener.LISTENER_FLAGS);
 
+		typeIndexListener = new BeansTypeIndex.TypeChangeListener(typeIndex);
+		workspace.addResourceChangeListener(typeIndexListener, IResourceChangeEvent.POST_CHANGE);
+		JavaCore.addElementChangedListener(typeIndexListener, ElementChangedEvent.POST_CHANGE);
+
+		schemaCacheListener = new NamespaceSchemaCache.ChangeListener(schemaCache);
+		JavaCore.addElementChangedListener(schemaCacheListener, ElementChangedEvent.POST_CHANGE);
+		workspace.addResourceChangeListener(schemaCacheListener, IResourceChangeEvent.POST_CHANGE);
+
 		facetedProjectListener = new FacetProjectFrameworkListener();
 		FacetedProjectFramework.addListener(facetedProjectListener, IFacetedProjectEvent.Type.POST_INSTALL,
 				IFacetedProjectEvent.Type.POST_UNINSTALL);
@@ -189,6 +216,18 @@ public class BeansModel extends AbstractModel implements IBeansModel {
 		workspace.removeResourceChangeListener(workspaceListener);
 		workspaceListener = null;
 
+		workspace.removeResourceChangeListener(typeIndexListener);
+		JavaCore.removeElementChangedListener(typeIndexListener);
+		typeIndexListener = null;
+		typeIndex.clear();
+		componentScanIndex.clear();
+		dependencyGraph.clear();
+
+		JavaCore.removeElementChangedListener(schemaCacheListener);
+		workspace.removeResourceChangeListener(schemaCacheListener);
+		schemaCacheListener = null;
+		schemaCache.clear();
+
 		FacetedProjectFramework.removeListener(facetedProjectListener);
 		facetedProjectListener = null;
 
@@ -229,6 +268,54 @@ public class BeansModel extends AbstractModel implements IBeansModel {
 		return getProject(project);
 	}
 
+	/**
+	 * Returns the workspace-wide index of the types used by the configs and beans of this model.
+	 * @since 3.9.17
+	 */
+	public BeansTypeIndex getTypeIndex() {
+		return typeIndex;
+	}
+
+	/**
+	 * Returns the workspace-wide index of the packages scanned for components by the configs of this model.
+	 * @since 3.9.17
+	 */
+	public ComponentScanIndex getComponentScanIndex() {
+		return componentScanIndex;
+	}
+
+	/**
+	 * Returns the workspace-wide graph of the configs importing a config file and the config sets containing it.
+	 * @since 3.9.17
+	 */
+	public BeansConfigDependencyGraph getDependencyGraph() {
+		return dependencyGraph;
+	}
+
+	/**
+	 * Returns the cache of the compiled schemas and <code>spring.schemas</code> mappings used to read the configs.
+	 * @since 3.9.17
+	 */
+	public NamespaceSchemaCache getSchemaCache() {
+		return schemaCache;
+	}
+
+	/**
+	 * Loads all configs of all projects of this model that are not initialized yet, sharing one pool of threads
+	 * across all projects.
+	 * @param monitor the progress monitor to report progress to; may be <code>null</code>
+	 * @return the time in milliseconds it took to load each config
+	 * @since 3.9.17
+	 * @see IBeansProject#preloadConfigs(IProgressMonitor)
+	 */
+	public Map<IBeansConfig, Long> preloadConfigs(IProgressMonitor monitor) {
+		Set<IBeansConfig> configs = new LinkedHashSet<IBeansConfig>();
+		for (IBeansProject project : getProjects()) {
+			configs.addAll(project.getConfigs());
+		}
+		return new BeansConfigPreloader().preload(configs, monitor);
+	}
+
 	/**
 	 * Returns a collection of all projects defined in this model.
 	 */
@@ -1302,13 +1302,8 @@ public abstract class BeansModelUtils {
 				if (element instanceof ICompilationUnit && element.getJavaProject().isOnClasspath(element)) {
 					
 					try {
-						IType[] types = ((ICompilationUnit) element).getAllTypes();
-						String[] changedTypeNames = new String[types.length];
-						boolean[] changedTypeIsInterface = new boolean[types.length];
-						for (int i = 0; i < types.length; i++) {
-							changedTypeNames[i] = types[i].getFullyQualifiedName();
-							changedTypeIsInterface[i] = types[i].isInterface();
-						}
+						String[] changedTypeNames = getTypeNames((ICompilationUnit) element);
+						BeansTypeIndex typeIndex = getTypeIndex();
 						
 						for (IBeansProject project : projects) {
 							if (project != null) {
@@ -1318,28 +1313,7 @@ public abstract class BeansModelUtils {
 									continue;
 								}
 								
-								Set<IBeansConfig> configs = project.getConfigs();
-								for (IBeansConfig config : configs) {
-									boolean configAdded = false;
-									Set<String> allBeanClasses = config.getBeanClasses();
-									for (int i = 0; i < changedTypeNames.length; i++) {
-										for (String className : allBeanClasses) {
-											if (changedTypeIsInterface[i] && typeEngine.doesImplement(className, changedTypeNames[i], project.getProject())) {
-												files.add(config);
-												configAdded = true;
-												break;
-											}
-											else if (!changedTypeIsInterface[i] && typeEngine.doesExtend(className, changedTypeNames[i], project.getProject())) {
-												files.add(config);
-												configAdded = true;
-												break;
-											}
-										}
-										if (configAdded) break;
-									}
-								}
-								
-//								typeHierarchyEngine.cleanup(project.getProject());
+								files.addAll(typeIndex.getConfigs(project, changedTypeNames, typeEngine));
 							}
 						}
 					}
@@ -1442,13 +1416,8 @@ public abstract class BeansModelUtils {
 				if (element instanceof ICompilationUnit && element.getJavaProject().isOnClasspath(element)) {
 
 					try {
-						IType[] types = ((ICompilationUnit) element).getAllTypes();
-						String[] changedTypeNames = new String[types.length];
-						boolean[] changedTypeIsInterface = new boolean[types.length];
-						for (int i = 0; i < types.length; i++) {
-							changedTypeNames[i] = types[i].getFullyQualifiedName();
-							changedTypeIsInterface[i] = types[i].isInterface();
-						}
+						String[] changedTypeNames = getTypeNames((ICompilationUnit) element);
+						BeansTypeIndex typeIndex = getTypeIndex();
 						
 						for (IBeansProject project : projects) {
 							if (project != null) {
@@ -1458,41 +1427,9 @@ public abstract class BeansModelUtils {
 									continue;
 								}
 								
-								Set<IBeansConfig> configs = project.getConfigs();
-								for (IBeansConfig config : configs) {
-									Set<IBean> allBeans = getBeans(config);
-
-									for (IBean bean : allBeans) {
-										String className = resolveBeanTypeAsString(bean);
-										
-										if (className != null) {
-											for (int i = 0; i < changedTypeNames.length; i++) {
-												if (changedTypeIsInterface[i] && typeEngine.doesImplement(className, changedTypeNames[i], project.getProject())) {
-													files.add(bean);
-													break;
-												}
-												else if (!changedTypeIsInterface[i] && typeEngine.doesExtend(className, changedTypeNames[i], project.getProject())) {
-													files.add(bean);
-													break;
-												}
-											}
-										}
-										else {
-											// We can't determine the beans type so don't be cleverer as we can and let
-											// it be processed again
-											// One last check before adding too much that is not even on the resource's
-											// classpath
-											if (project != null
-													&& JdtUtils.isJavaProject(project.getProject())
-													&& JdtUtils.getJavaProject(project.getProject()).isOnClasspath(
-															resource)) {
-												files.add(bean);
-											}
-										}
-									}
-								}
-								
-//								typeHierarchyEngine.cleanup(project.getProject());
+								// beans with types that can't be determined are part of the result as well; we don't
+								// want to be cleverer as we can and let them be processed again
+								files.addAll(typeIndex.getBeans(project, changedTypeNames, typeEngine));
 							}
 						}
 					}
@@ -1505,6 +1442,29 @@ public abstract class BeansModelUtils {
 		return files;
 	}
 
+	/**
+	 * Returns the fully-qualified names of all types declared in the given compilation unit, including inner types.
+	 */
+	private static String[] getTypeNames(ICompilationUnit compilationUnit) throws JavaModelException {
+		IType[] types = compilationUnit.getAllTypes();
+		String[] typeNames = new String[types.length];
+		for (int i = 0; i < types.length; i++) {
+			typeNames[i] = types[i].getFullyQualifiedName();
+		}
+		return typeNames;
+	}
+
+	/**
+	 * Returns the type index of the current beans model.
+	 */
+	private static BeansTypeIndex getTypeIndex() {
+		IBeansModel model = BeansCorePlugin.getModel();
+		if (model instanceof BeansModel) {
+			return ((BeansModel) model).getTypeIndex();
+		}
+		return new BeansTypeIndex();
+	}
+
 	protected static Set<IBean> getBeansByContainingTypesJDT(IResource resource, IProgressMonitor monitor) {
 		Set<IBean> files = new LinkedHashSet<IBean>();
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2016 Spring IDE Developers
+ * Copyright (c) 2004, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -717,6 +717,13 @@ public class BeansProject extends AbstractResourceModelElement implements IBeans
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public Map<IBeansConfig, Long> preloadConfigs(IProgressMonitor monitor) {
+		return new BeansConfigPreloader().preload(getConfigs(), monitor);
+	}
+
 	/**
 	 * Updates the {@link BeansConfigSet}s defined within this project.
 	 * <p>
@@ -739,6 +746,7 @@ public class BeansProject extends AbstractResourceModelElement implements IBeans
 		} finally {
 			w.unlock();
 		}
+		configSetsChanged();
 	}
 
 	public boolean addConfigSet(IBeansConfigSet configSet) {
@@ -759,6 +767,7 @@ public class BeansProject extends AbstractResourceModelElement implements IBeans
 			}
 		} finally {
 			r.unlock();
+			configSetsChanged();
 		}
 		return false;
 	}
@@ -770,6 +779,7 @@ public class BeansProject extends AbstractResourceModelElement implements IBeans
 		} finally {
 			w.unlock();
 		}
+		configSetsChanged();
 	}
 
 	/**
@@ -896,6 +906,7 @@ public class BeansProject extends AbstractResourceModelElement implements IBeans
 			autoDetectedConfigSetsByLocator.clear();
 		} finally {
 			updateAllConfigsCache();
+			configSetsChanged();
 			w.unlock();
 		}
 	}
@@ -994,6 +1005,7 @@ public class BeansProject extends AbstractResourceModelElement implements IBeans
 			}
 		} finally {
 			updateAllConfigsCache();
+			configSetsChanged();
 			w.unlock();
 		}
 	}
@@ -1090,6 +1102,7 @@ public class BeansProject extends AbstractResourceModelElement implements IBeans
 			}
 		} finally {
 			updateAllConfigsCache();
+			configSetsChanged();
 			w.unlock();
 		}
 	}
@@ -1288,6 +1301,7 @@ public class BeansProject extends AbstractResourceModelElement implements IBeans
 			}
 
 		} finally {
+			configSetsChanged();
 			w.unlock();
 			
 			//The commented line below was a fix for 'STS-3541: added additional project build after asynchronous beans config scanning'
@@ -1321,6 +1335,17 @@ public class BeansProject extends AbstractResourceModelElement implements IBeans
 		this.allConfigs = Collections.unmodifiableSet(newAllConfigs);
 	}
 
+	/**
+	 * Drops the config set memberships of this project from the dependency graph of the model, as the config sets or
+	 * their configs changed.
+	 * @since 3.9.17
+	 */
+	protected void configSetsChanged() {
+		if (getElementParent() instanceof BeansModel) {
+			((BeansModel) getElementParent()).getDependencyGraph().configSetsChanged(project);
+		}
+	}
+
 	/**
 	 * Default implementation of {@link IBeansConfigEventListener} that handles
 	 * events and propagates those to {@link IBeansConfigSet}s and other
@@ -1336,14 +1361,10 @@ public class BeansProject extends AbstractResourceModelElement implements IBeans
 		 */
 		@Override
 		public void onPostProcessorDetected(IBeansConfig config, IBeansConfigPostProcessor postProcessor) {
-			for (IBeansProject project : BeansCorePlugin.getModel().getProjects()) {
-				for (IBeansConfigSet configSet : project.getConfigSets()) {
-					if (configSet.hasConfig((IFile) config.getElementResource())) {
-						for (IBeansConfig configSetConfig : configSet.getConfigs()) {
-							if (!configSetConfig.equals(config) && configSetConfig instanceof BeansConfig) {
-								((BeansConfig) configSetConfig).addExternalPostProcessor(postProcessor, config);
-							}
-						}
+			for (IBeansConfigSet configSet : getConfigSets(config)) {
+				for (IBeansConfig configSetConfig : configSet.getConfigs()) {
+					if (!configSetConfig.equals(config) && configSetConfig instanceof BeansConfig) {
+						((BeansConfig) configSetConfig).addExternalPostProcessor(postProcessor, config);
 					}
 				}
 			}
@@ -1354,14 +1375,10 @@ public class BeansProject extends AbstractResourceModelElement implements IBeans
 		 */
 		@Override
 		public void onPostProcessorRemoved(IBeansConfig config, IBeansConfigPostProcessor postProcessor) {
-			for (IBeansProject project : BeansCorePlugin.getModel().getProjects()) {
-				for (IBeansConfigSet configSet : project.getConfigSets()) {
-					if (configSet.hasConfig((IFile) config.getElementResource())) {
-						for (IBeansConfig configSetConfig : configSet.getConfigs()) {
-							if (!configSetConfig.equals(config) && configSetConfig instanceof BeansConfig) {
-								((BeansConfig) configSetConfig).removeExternalPostProcessor(postProcessor, config);
-							}
-						}
+			for (IBeansConfigSet configSet : getConfigSets(config)) {
+				for (IBeansConfig configSetConfig : configSet.getConfigs()) {
+					if (!configSetConfig.equals(config) && configSetConfig instanceof BeansConfig) {
+						((BeansConfig) configSetConfig).removeExternalPostProcessor(postProcessor, config);
 					}
 				}
 			}
@@ -1386,15 +1403,31 @@ public class BeansProject extends AbstractResourceModelElement implements IBeans
 		 */
 		@Override
 		public void onReset(IBeansConfig config) {
-			for (IBeansProject project : BeansCorePlugin.getModel().getProjects()) {
+			for (IBeansConfigSet configSet : getConfigSets(config)) {
+				if (configSet instanceof BeansConfigSet) {
+					((BeansConfigSet) configSet).reset();
+				}
+			}
+		}
+
+		/**
+		 * Returns the config sets of all projects that contain the given config.
+		 */
+		private Set<IBeansConfigSet> getConfigSets(IBeansConfig config) {
+			IBeansModel model = BeansCorePlugin.getModel();
+			if (model instanceof BeansModel) {
+				return ((BeansModel) model).getDependencyGraph().getConfigSets(model.getProjects(),
+						config.getElementResource());
+			}
+			Set<IBeansConfigSet> configSets = new LinkedHashSet<IBeansConfigSet>();
+			for (IBeansProject project : model.getProjects()) {
 				for (IBeansConfigSet configSet : project.getConfigSets()) {
 					if (configSet.hasConfig((IFile) config.getElementResource())) {
-						if (configSet instanceof BeansConfigSet) {
-							((BeansConfigSet) configSet).reset();
-						}
+						configSets.add(configSet);
 					}
 				}
 			}
+			return configSets;
 		}
 	}
 
@@ -0,0 +1,462 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.internal.model;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IResourceDeltaVisitor;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
+import org.springframework.ide.eclipse.beans.core.model.IBean;
+import org.springframework.ide.eclipse.beans.core.model.IBeansConfig;
+import org.springframework.ide.eclipse.beans.core.model.IBeansProject;
+import org.springframework.ide.eclipse.core.java.JdtUtils;
+import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchyEngine;
+
+/**
+ * Workspace-wide reverse index from a type name to the {@link IBeansConfig}s and {@link IBean}s that use this type,
+ * either directly as bean class or indirectly through one of the supertypes or interfaces of their bean class.
+ * <p>
+ * Entries are calculated lazily per config the first time a project is queried. They are dropped when the config gets
+ * reloaded, when one of the types an entry depends on changes and when the classpath or a library of a project changes
+ * (see {@link TypeChangeListener}), so that the next query recalculates them using the current type hierarchy.
+ * @since 3.9.17
+ */
+public class BeansTypeIndex {
+
+	/** All index entries per project, keyed by config */
+	private final Map<IProject, Map<IBeansConfig, IndexEntry>> entriesByProject = new ConcurrentHashMap<IProject, Map<IBeansConfig, IndexEntry>>();
+
+	/** The reverse index: all entries that use a type as bean class or as supertype of a bean class */
+	private final Map<String, Set<IndexEntry>> entriesByType = new HashMap<String, Set<IndexEntry>>();
+
+	/** Incremented on every invalidation; entries calculated concurrently with an invalidation are not stored */
+	private final AtomicLong modificationCount = new AtomicLong();
+
+	/**
+	 * Returns all configs of the given project that contain a bean class which is one of the given types or a subtype of
+	 * them.
+	 */
+	public Set<IBeansConfig> getConfigs(IBeansProject project, String[] typeNames, TypeHierarchyEngine typeEngine) {
+		Set<IBeansConfig> configs = new LinkedHashSet<IBeansConfig>();
+		for (IndexEntry entry : getEntries(update(project, typeEngine), typeNames)) {
+			for (String typeName : typeNames) {
+				if (entry.configTypes.contains(typeName)) {
+					configs.add(entry.config);
+					break;
+				}
+			}
+		}
+		return configs;
+	}
+
+	/**
+	 * Returns all beans of the given project that are of one of the given types or a subtype of them.
+	 * <p>
+	 * Beans whose type can't be resolved are always returned for Java projects, as we can't tell if they are affected.
+	 */
+	public Set<IBean> getBeans(IBeansProject project, String[] typeNames, TypeHierarchyEngine typeEngine) {
+		Map<IBeansConfig, IndexEntry> entries = update(project, typeEngine);
+		Set<IBean> beans = new LinkedHashSet<IBean>();
+		for (IndexEntry entry : getEntries(entries, typeNames)) {
+			for (String typeName : typeNames) {
+				Set<IBean> beansOfType = entry.beansByType.get(typeName);
+				if (beansOfType != null) {
+					beans.addAll(beansOfType);
+				}
+			}
+		}
+		if (JdtUtils.isJavaProject(project.getProject())) {
+			for (IndexEntry entry : entries.values()) {
+				beans.addAll(entry.unresolvedBeans);
+			}
+		}
+		return beans;
+	}
+
+	/**
+	 * Removes the index entry of the given config; it will be recalculated on next access.
+	 */
+	public void remove(IBeansConfig config) {
+		IBeansProject project = BeansModelUtils.getParentOfClass(config, IBeansProject.class);
+		if (project != null) {
+			Map<IBeansConfig, IndexEntry> entries = entriesByProject.get(project.getProject());
+			if (entries != null) {
+				IndexEntry entry = entries.get(config);
+				if (entry != null && entry.config == config) {
+					removeEntry(entry);
+				}
+			}
+		}
+		modificationCount.incrementAndGet();
+	}
+
+	/**
+	 * Removes all index entries that depend on one of the given types.
+	 */
+	public void typesChanged(Set<String> typeNames) {
+		Set<IndexEntry> affectedEntries = new HashSet<IndexEntry>();
+		synchronized (entriesByType) {
+			for (String typeName : typeNames) {
+				Set<IndexEntry> entries = entriesByType.get(typeName);
+				if (entries != null) {
+					affectedEntries.addAll(entries);
+				}
+			}
+		}
+		for (IndexEntry entry : affectedEntries) {
+			removeEntry(entry);
+		}
+		modificationCount.incrementAndGet();
+	}
+
+	/**
+	 * Removes all index entries of projects that have one of the given Java elements on their classpath.
+	 * @param elements changed Java projects and package fragment roots
+	 */
+	public void classpathChanged(Set<IJavaElement> elements) {
+		Set<IndexEntry> affectedEntries = new HashSet<IndexEntry>();
+		for (IProject project : entriesByProject.keySet()) {
+			IJavaProject javaProject = JdtUtils.getJavaProject(project);
+			if (javaProject == null) {
+				continue;
+			}
+			for (IJavaElement element : elements) {
+				if (javaProject.equals(element.getJavaProject()) || javaProject.isOnClasspath(element)) {
+					affectedEntries.addAll(getEntries(project));
+					break;
+				}
+			}
+		}
+		for (IndexEntry entry : affectedEntries) {
+			removeEntry(entry);
+		}
+		modificationCount.incrementAndGet();
+	}
+
+	/**
+	 * Removes all index entries.
+	 */
+	public void clear() {
+		synchronized (entriesByType) {
+			entriesByProject.clear();
+			entriesByType.clear();
+		}
+		modificationCount.incrementAndGet();
+	}
+
+	/**
+	 * Returns those of the given up-to-date index entries that use at least one of the given types.
+	 */
+	private Set<IndexEntry> getEntries(Map<IBeansConfig, IndexEntry> entries, String[] typeNames) {
+		Set<IndexEntry> result = new LinkedHashSet<IndexEntry>();
+		synchronized (entriesByType) {
+			for (String typeName : typeNames) {
+				Set<IndexEntry> entriesOfType = entriesByType.get(typeName);
+				if (entriesOfType != null) {
+					result.addAll(entriesOfType);
+				}
+			}
+		}
+
+		// Entries that are not stored, e.g. due to concurrent modifications, are not part of the reverse index
+		for (IndexEntry entry : entries.values()) {
+			if (!entry.stored) {
+				result.add(entry);
+			}
+		}
+
+		// Only keep the given entries of the current configs
+		Set<IndexEntry> projectEntries = new LinkedHashSet<IndexEntry>();
+		for (IndexEntry entry : result) {
+			if (entries.get(entry.config) == entry) {
+				projectEntries.add(entry);
+			}
+		}
+		return projectEntries;
+	}
+
+	private Set<IndexEntry> getEntries(IProject project) {
+		Map<IBeansConfig, IndexEntry> entries = entriesByProject.get(project);
+		if (entries != null) {
+			return new HashSet<IndexEntry>(entries.values());
+		}
+		return new HashSet<IndexEntry>();
+	}
+
+	/**
+	 * Makes sure that every config of the given project is indexed and drops entries of configs that are no longer part
+	 * of the project.
+	 * @return the current entries of the project's configs
+	 */
+	private Map<IBeansConfig, IndexEntry> update(IBeansProject project, TypeHierarchyEngine typeEngine) {
+		Set<IBeansConfig> configs = project.getConfigs();
+
+		for (IndexEntry entry : getEntries(project.getProject())) {
+			if (!configs.contains(entry.config)) {
+				removeEntry(entry);
+			}
+		}
+
+		Map<IBeansConfig, IndexEntry> entries = new HashMap<IBeansConfig, IndexEntry>();
+		Map<IBeansConfig, IndexEntry> storedEntries = entriesByProject.get(project.getProject());
+		for (IBeansConfig config : configs) {
+			IndexEntry entry = (storedEntries != null ? storedEntries.get(config) : null);
+
+			// Configs get replaced by new instances if the project is reset
+			if (entry == null || entry.config != config) {
+				long count = modificationCount.get();
+				entry = createEntry(project, config, typeEngine);
+				if (count == modificationCount.get()) {
+					addEntry(entry);
+				}
+			}
+			entries.put(config, entry);
+		}
+		return entries;
+	}
+
+	private IndexEntry createEntry(IBeansProject project, IBeansConfig config, TypeHierarchyEngine typeEngine) {
+		IndexEntry entry = new IndexEntry(config, project.getProject());
+		Map<String, Set<String>> supertypesCache = new HashMap<String, Set<String>>();
+
+		for (String className : config.getBeanClasses()) {
+			entry.configTypes.addAll(getAllSupertypes(className, project.getProject(), typeEngine, supertypesCache));
+		}
+
+		for (IBean bean : BeansModelUtils.getBeans(config)) {
+			String className = BeansModelUtils.resolveBeanTypeAsString(bean);
+			if (className != null) {
+				for (String typeName : getAllSupertypes(className, project.getProject(), typeEngine, supertypesCache)) {
+					Set<IBean> beans = entry.beansByType.get(typeName);
+					if (beans == null) {
+						beans = new LinkedHashSet<IBean>();
+						entry.beansByType.put(typeName, beans);
+					}
+					beans.add(bean);
+				}
+			}
+			else {
+				entry.unresolvedBeans.add(bean);
+			}
+		}
+		return entry;
+	}
+
+	private Set<String> getAllSupertypes(String className, IProject project, TypeHierarchyEngine typeEngine,
+			Map<String, Set<String>> supertypesCache) {
+		Set<String> supertypes = supertypesCache.get(className);
+		if (supertypes == null) {
+			supertypes = typeEngine.getAllSupertypes(className, project);
+			supertypesCache.put(className, supertypes);
+		}
+		return supertypes;
+	}
+
+	private void addEntry(IndexEntry entry) {
+		synchronized (entriesByType) {
+			Map<IBeansConfig, IndexEntry> entries = entriesByProject.get(entry.project);
+			if (entries == null) {
+				entries = new ConcurrentHashMap<IBeansConfig, IndexEntry>();
+				entriesByProject.put(entry.project, entries);
+			}
+			IndexEntry oldEntry = entries.put(entry.config, entry);
+			if (oldEntry != null) {
+				removeFromTypes(oldEntry);
+			}
+			for (String typeName : entry.getTypes()) {
+				Set<IndexEntry> entriesOfType = entriesByType.get(typeName);
+				if (entriesOfType == null) {
+					entriesOfType = new HashSet<IndexEntry>();
+					entriesByType.put(typeName, entriesOfType);
+				}
+				entriesOfType.add(entry);
+			}
+			entry.stored = true;
+		}
+	}
+
+	private void removeEntry(IndexEntry entry) {
+		synchronized (entriesByType) {
+			Map<IBeansConfig, IndexEntry> entries = entriesByProject.get(entry.project);
+			if (entries != null && entries.get(entry.config) == entry) {
+				entries.remove(entry.config);
+			}
+			removeFromTypes(entry);
+			entry.stored = false;
+		}
+	}
+
+	private void removeFromTypes(IndexEntry entry) {
+		for (String typeName : entry.getTypes()) {
+			Set<IndexEntry> entriesOfType = entriesByType.get(typeName);
+			if (entriesOfType != null) {
+				entriesOfType.remove(entry);
+				if (entriesOfType.isEmpty()) {
+					entriesByType.remove(typeName);
+				}
+			}
+		}
+	}
+
+	/**
+	 * The types used by a single config and its beans.
+	 */
+	private static class IndexEntry {
+
+		final IBeansConfig config;
+
+		final IProject project;
+
+		/** The bean classes of the config including all their supertypes */
+		final Set<String> configTypes = new HashSet<String>();
+
+		/** The beans of the config by resolved bean type and all supertypes of it */
+		final Map<String, Set<IBean>> beansByType = new HashMap<String, Set<IBean>>();
+
+		/** The beans of the config whose type can't be resolved */
+		final Set<IBean> unresolvedBeans = new LinkedHashSet<IBean>();
+
+		volatile boolean stored = false;
+
+		IndexEntry(IBeansConfig config, IProject project) {
+			this.config = config;
+			this.project = project;
+		}
+
+		Set<String> getTypes() {
+			Set<String> types = new HashSet<String>(configTypes);
+			types.addAll(beansByType.keySet());
+			return types;
+		}
+	}
+
+	/**
+	 * {@link IResourceChangeListener} that drops all index entries which depend on a type declared in a changed Java
+	 * source file, and {@link IElementChangedListener} that drops the entries of projects whose classpath, libraries or
+	 * binary class folders changed.
+	 */
+	public static class TypeChangeListener implements IResourceChangeListener, IElementChangedListener {
+
+		private final BeansTypeIndex index;
+
+		public TypeChangeListener(BeansTypeIndex index) {
+			this.index = index;
+		}
+
+		public void resourceChanged(IResourceChangeEvent event) {
+			if (event.getType() == IResourceChangeEvent.POST_CHANGE && event.getDelta() != null) {
+				final Set<String> typeNames = new HashSet<String>();
+				try {
+					event.getDelta().accept(new IResourceDeltaVisitor() {
+
+						public boolean visit(IResourceDelta delta) {
+							IResource resource = delta.getResource();
+							if (resource instanceof IFile && resource.getName().endsWith(JdtUtils.JAVA_FILE_EXTENSION)) {
+								addTypeNames(resource, typeNames);
+							}
+							return true;
+						}
+					});
+				}
+				catch (CoreException e) {
+					BeansCorePlugin.log(e);
+				}
+				if (typeNames.size() > 0) {
+					index.typesChanged(typeNames);
+				}
+			}
+		}
+
+		public void elementChanged(ElementChangedEvent event) {
+			Set<IJavaElement> changedElements = new HashSet<IJavaElement>();
+			addClasspathChanges(event.getDelta(), changedElements);
+			if (changedElements.size() > 0) {
+				index.classpathChanged(changedElements);
+			}
+		}
+
+		private void addClasspathChanges(IJavaElementDelta delta, Set<IJavaElement> changedElements) {
+			IJavaElement element = delta.getElement();
+			if ((delta.getFlags() & (IJavaElementDelta.F_CLASSPATH_CHANGED
+					| IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED)) != 0) {
+				changedElements.add(element);
+				return;
+			}
+			switch (element.getElementType()) {
+			case IJavaElement.CLASS_FILE:
+				// Class files are only reported for binary package fragment roots, e.g. class folders
+				changedElements.add(element.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT));
+				break;
+			case IJavaElement.JAVA_MODEL:
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				for (IJavaElementDelta child : delta.getAffectedChildren()) {
+					addClasspathChanges(child, changedElements);
+				}
+				break;
+			default:
+				// Changed sources are handled by the resource delta
+			}
+		}
+
+		private void addTypeNames(IResource resource, Set<String> typeNames) {
+			IJavaElement element = JavaCore.create(resource);
+			if (element instanceof ICompilationUnit) {
+				ICompilationUnit compilationUnit = (ICompilationUnit) element;
+				if (compilationUnit.exists()) {
+					try {
+						for (IType type : compilationUnit.getAllTypes()) {
+							typeNames.add(type.getFullyQualifiedName());
+						}
+						return;
+					}
+					catch (JavaModelException e) {
+						// fall back to the primary type
+					}
+				}
+				IType primaryType = compilationUnit.findPrimaryType();
+				if (primaryType != null) {
+					typeNames.add(primaryType.getFullyQualifiedName());
+				}
+				else {
+					String packageName = compilationUnit.getParent().getElementName();
+					String typeName = resource.getName().substring(0,
+							resource.getName().length() - JdtUtils.JAVA_FILE_EXTENSION.length());
+					typeNames.add(packageName.length() > 0 ? packageName + "." + typeName : typeName);
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.internal.model;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.ide.eclipse.beans.core.model.IBeansConfig;
+
+/**
+ * Workspace-wide index from the packages scanned for candidate components, and the types referenced by the filters of
+ * these scans, to the {@link IBeansConfig}s scanning them.
+ * <p>
+ * A config is added with its {@link ComponentScanScope} once it has been read and removed again when it gets reloaded.
+ * Configs that are not indexed have to be treated as if they could scan any package.
+ * @since 3.9.17
+ */
+public class ComponentScanIndex {
+
+	/** The configs by scanned base package; the unbounded scans are stored with the default package */
+	private final Map<String, Set<IBeansConfig>> configsByPackage = new HashMap<String, Set<IBeansConfig>>();
+
+	/** The configs by type referenced from an include or exclude filter */
+	private final Map<String, Set<IBeansConfig>> configsByFilterType = new HashMap<String, Set<IBeansConfig>>();
+
+	/** The recorded scopes, keyed by config */
+	private final Map<IBeansConfig, IndexEntry> entries = new HashMap<IBeansConfig, IndexEntry>();
+
+	/**
+	 * Adds or replaces the scanned packages and filter types of the given config.
+	 */
+	public synchronized void update(IBeansConfig config, ComponentScanScope scope) {
+		removeEntry(config);
+		IndexEntry entry = new IndexEntry(config, new HashSet<String>(scope.getBasePackages()), new HashSet<String>(
+				scope.getFilterTypes()));
+		entries.put(config, entry);
+		for (String basePackage : entry.basePackages) {
+			add(configsByPackage, basePackage, config);
+		}
+		for (String filterType : entry.filterTypes) {
+			add(configsByFilterType, filterType, config);
+		}
+	}
+
+	/**
+	 * Removes the given config; it is indexed again when it has been read.
+	 */
+	public synchronized void remove(IBeansConfig config) {
+		removeEntry(config);
+	}
+
+	/**
+	 * Returns <code>true</code> if the scanned packages of the given config instance are known.
+	 */
+	public synchronized boolean isIndexed(IBeansConfig config) {
+		IndexEntry entry = entries.get(config);
+		return entry != null && entry.config == config;
+	}
+
+	/**
+	 * Returns the indexed configs that scan the package of at least one of the given types, or that reference one of
+	 * the given types from a filter of their scans.
+	 */
+	public synchronized Set<IBeansConfig> getConfigs(String[] classNames) {
+		Set<IBeansConfig> result = new LinkedHashSet<IBeansConfig>();
+		if (classNames.length > 0) {
+			addConfigs(configsByFilterType, ComponentScanScope.ANY_TYPE, result);
+		}
+		for (String className : classNames) {
+			addConfigs(configsByFilterType, className, result);
+			addConfigs(configsByPackage, ComponentScanScope.DEFAULT_PACKAGE, result);
+			int index = className.indexOf('.');
+			while (index > 0) {
+				addConfigs(configsByPackage, className.substring(0, index), result);
+				index = className.indexOf('.', index + 1);
+			}
+		}
+		return result;
+	}
+
+	public synchronized void clear() {
+		configsByPackage.clear();
+		configsByFilterType.clear();
+		entries.clear();
+	}
+
+	private void addConfigs(Map<String, Set<IBeansConfig>> index, String key, Set<IBeansConfig> result) {
+		Set<IBeansConfig> configs = index.get(key);
+		if (configs != null) {
+			result.addAll(configs);
+		}
+	}
+
+	private void removeEntry(IBeansConfig config) {
+		IndexEntry entry = entries.remove(config);
+		if (entry != null) {
+			for (String basePackage : entry.basePackages) {
+				remove(configsByPackage, basePackage, config);
+			}
+			for (String filterType : entry.filterTypes) {
+				remove(configsByFilterType, filterType, config);
+			}
+		}
+	}
+
+	private static void add(Map<String, Set<IBeansConfig>> index, String key, IBeansConfig config) {
+		Set<IBeansConfig> configs = index.get(key);
+		if (configs == null) {
+			configs = new HashSet<IBeansConfig>();
+			index.put(key, configs);
+		}
+		configs.add(config);
+	}
+
+	private static void remove(Map<String, Set<IBeansConfig>> index, String key, IBeansConfig config) {
+		Set<IBeansConfig> configs = index.get(key);
+		if (configs != null) {
+			configs.remove(config);
+			if (configs.isEmpty()) {
+				index.remove(key);
+			}
+		}
+	}
+
+	/**
+	 * The scanned packages and filter types of a single config.
+	 */
+	private static class IndexEntry {
+
+		final IBeansConfig config;
+
+		final Set<String> basePackages;
+
+		final Set<String> filterTypes;
+
+		IndexEntry(IBeansConfig config, Set<String> basePackages, Set<String> filterTypes) {
+			this.config = config;
+			this.basePackages = basePackages;
+			this.filterTypes = filterTypes;
+		}
+	}
+
+}
@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.internal.model;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.util.ClassUtils;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * The packages scanned for candidate components while reading a {@link BeansConfig}.
+ * <p>
+ * Scans are recorded from the <code>.class</code> location patterns requested from the config's resource loader, e.g.
+ * <code>classpath*:com/example/service/**&#47;*.class</code> for <code>base-package="com.example.service"</code>. A scan
+ * covers its base package and all sub packages. A pattern without base package, or one that can't be interpreted, makes
+ * the scope unbounded.
+ * <p>
+ * Include and exclude filters only narrow the scanned types, but the types they reference (annotations, supertypes and
+ * custom filter classes) decide which of the scanned types become components. These are recorded as filter types;
+ * {@link #ANY_TYPE} denotes a filter that may depend on any type, e.g. an AspectJ type pattern.
+ * @since 3.9.17
+ */
+public class ComponentScanScope {
+
+	/** The base package of an unbounded scan */
+	public static final String DEFAULT_PACKAGE = "";
+
+	/** The filter type of a filter that may depend on any type */
+	public static final String ANY_TYPE = "*";
+
+	private static final String INCLUDE_FILTER_ELEMENT = "include-filter";
+
+	private static final String EXCLUDE_FILTER_ELEMENT = "exclude-filter";
+
+	private static final String FILTER_TYPE_ATTRIBUTE = "type";
+
+	private static final String FILTER_EXPRESSION_ATTRIBUTE = "expression";
+
+	private final Set<String> basePackages = new CopyOnWriteArraySet<String>();
+
+	private final Set<String> filterTypes = new CopyOnWriteArraySet<String>();
+
+	/**
+	 * Records a scan for the given resource location pattern; patterns that don't scan for classes are ignored.
+	 */
+	public void recordScan(String locationPattern) {
+		if (locationPattern != null && locationPattern.endsWith(ClassUtils.CLASS_FILE_SUFFIX)) {
+			basePackages.add(getBasePackage(locationPattern));
+		}
+	}
+
+	/**
+	 * Records a type referenced by an include or exclude filter of a scan.
+	 */
+	public void recordFilterType(String className) {
+		if (className != null && className.trim().length() > 0) {
+			filterTypes.add(className.trim());
+		}
+	}
+
+	/**
+	 * Records the types referenced by the <code>include-filter</code> and <code>exclude-filter</code> children of the
+	 * given <code>&lt;context:component-scan&gt;</code> element.
+	 */
+	public void recordFilters(Element componentScanElement) {
+		NodeList children = componentScanElement.getChildNodes();
+		for (int i = 0; i < children.getLength(); i++) {
+			Node child = children.item(i);
+			if (child.getNodeType() != Node.ELEMENT_NODE) {
+				continue;
+			}
+			String localName = child.getLocalName();
+			if (INCLUDE_FILTER_ELEMENT.equals(localName) || EXCLUDE_FILTER_ELEMENT.equals(localName)) {
+				Element filter = (Element) child;
+				recordFilter(filter.getAttribute(FILTER_TYPE_ATTRIBUTE), filter.getAttribute(FILTER_EXPRESSION_ATTRIBUTE));
+			}
+		}
+	}
+
+	/**
+	 * Records the types referenced by a filter of the given type, named as in the <code>type</code> attribute of
+	 * filter elements or the constants of <code>FilterType</code>.
+	 */
+	public void recordFilter(String filterType, String expression) {
+		if ("regex".equalsIgnoreCase(filterType)) {
+			// only matches the names of the scanned types
+			return;
+		}
+		if ("aspectj".equalsIgnoreCase(filterType)) {
+			filterTypes.add(ANY_TYPE);
+		}
+		else {
+			// annotation, assignable and custom filters reference a single type
+			recordFilterType(expression);
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if the given type is referenced by one of the recorded filters.
+	 */
+	public boolean isFilteredBy(String className) {
+		return filterTypes.contains(className) || filterTypes.contains(ANY_TYPE);
+	}
+
+	/**
+	 * Returns the types referenced by include and exclude filters; {@link #ANY_TYPE} denotes a filter that may depend
+	 * on any type.
+	 */
+	public Set<String> getFilterTypes() {
+		return Collections.unmodifiableSet(filterTypes);
+	}
+
+	/**
+	 * Returns <code>true</code> if the given type is located in one of the scanned packages.
+	 */
+	public boolean covers(String className) {
+		for (String basePackage : basePackages) {
+			if (isInPackage(className, basePackage)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public boolean isUnbounded() {
+		return basePackages.contains(DEFAULT_PACKAGE);
+	}
+
+	/**
+	 * Returns the scanned base packages; {@link #DEFAULT_PACKAGE} denotes an unbounded scan.
+	 */
+	public Set<String> getBasePackages() {
+		return Collections.unmodifiableSet(basePackages);
+	}
+
+	/**
+	 * Returns the package to which the given class location pattern is rooted, i.e. all path segments before the first
+	 * segment containing a wildcard.
+	 */
+	static String getBasePackage(String locationPattern) {
+		String path = locationPattern;
+		if (path.startsWith(ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX)) {
+			path = path.substring(ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX.length());
+		}
+		else if (path.startsWith(ResourcePatternResolver.CLASSPATH_URL_PREFIX)) {
+			path = path.substring(ResourcePatternResolver.CLASSPATH_URL_PREFIX.length());
+		}
+		else {
+			// file system and other urls can't be related to packages
+			return DEFAULT_PACKAGE;
+		}
+
+		StringBuilder basePackage = new StringBuilder();
+		for (String segment : path.split("/")) {
+			if (segment.length() == 0) {
+				continue;
+			}
+			if (segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0 || segment.indexOf('{') >= 0
+					|| segment.endsWith(ClassUtils.CLASS_FILE_SUFFIX)) {
+				break;
+			}
+			if (basePackage.length() > 0) {
+				basePackage.append('.');
+			}
+			basePackage.append(segment);
+		}
+		return basePackage.toString();
+	}
+
+	/**
+	 * Returns <code>true</code> if the given type is located in the given package or one of its sub packages.
+	 */
+	static boolean isInPackage(String className, String basePackage) {
+		if (DEFAULT_PACKAGE.equals(basePackage)) {
+			return true;
+		}
+		return className.startsWith(basePackage) && className.length() > basePackage.length()
+				&& className.charAt(basePackage.length()) == '.';
+	}
+
+}
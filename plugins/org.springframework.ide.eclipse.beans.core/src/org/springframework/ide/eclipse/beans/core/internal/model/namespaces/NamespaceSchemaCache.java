@@ -0,0 +1,213 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.internal.model.namespaces;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IResourceDeltaVisitor;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.springframework.beans.factory.xml.PluggableSchemaResolver;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
+import org.springframework.ide.eclipse.core.io.xml.SchemaGrammarPool;
+import org.springframework.util.CollectionUtils;
+import org.xml.sax.EntityResolver;
+import org.xml.sax.InputSource;
+
+/**
+ * Cache of the <code>spring.schemas</code> mappings and compiled XML schemas used to read beans configs.
+ * <p>
+ * Configs resolving namespaces from the project classpath share an entry per project, all other configs share the entry
+ * of the plugin's namespaces. All entries are dropped when a project classpath, a library or a
+ * <code>spring.schemas</code> or <code>.xsd</code> file in the workspace changes (see {@link ChangeListener}), as
+ * projects provide their namespaces to the projects depending on them.
+ * @since 3.9.17
+ */
+public class NamespaceSchemaCache {
+
+	/** Key of the entry for the namespaces of the plugin */
+	private static final Object PLUGIN_NAMESPACES = new Object();
+
+	private final ConcurrentMap<Object, CacheEntry> entries = new ConcurrentHashMap<Object, CacheEntry>();
+
+	/**
+	 * Returns an {@link EntityResolver} that resolves schemas like a {@link PluggableSchemaResolver} for the given
+	 * class loader, using the cached <code>spring.schemas</code> mappings.
+	 * @param project the project whose classpath provides the namespaces, or <code>null</code> for the namespaces of
+	 * the plugin
+	 */
+	public EntityResolver getSchemaResolver(IProject project, ClassLoader classLoader) {
+		return new CachingSchemaResolver(getEntry(project), classLoader);
+	}
+
+	/**
+	 * Returns the pool of the compiled schemas for the given project's classpath.
+	 * @param project the project whose classpath provides the namespaces, or <code>null</code> for the namespaces of
+	 * the plugin
+	 */
+	public SchemaGrammarPool getGrammarPool(IProject project) {
+		return getEntry(project).grammarPool;
+	}
+
+	public void clear() {
+		entries.clear();
+	}
+
+	private CacheEntry getEntry(IProject project) {
+		Object key = (project != null ? project : PLUGIN_NAMESPACES);
+		CacheEntry entry = entries.get(key);
+		if (entry == null) {
+			entry = new CacheEntry();
+			CacheEntry existingEntry = entries.putIfAbsent(key, entry);
+			if (existingEntry != null) {
+				entry = existingEntry;
+			}
+		}
+		return entry;
+	}
+
+	/**
+	 * The cached mappings and schemas of one classpath.
+	 */
+	private static class CacheEntry {
+
+		final SchemaGrammarPool grammarPool = new SchemaGrammarPool();
+
+		private volatile Map<String, String> schemaMappings;
+
+		Map<String, String> getSchemaMappings(ClassLoader classLoader) {
+			Map<String, String> mappings = schemaMappings;
+			if (mappings == null) {
+				synchronized (this) {
+					mappings = schemaMappings;
+					if (mappings == null) {
+						mappings = new ConcurrentHashMap<String, String>();
+						try {
+							Properties properties = PropertiesLoaderUtils.loadAllProperties(
+									PluggableSchemaResolver.DEFAULT_SCHEMA_MAPPINGS_LOCATION, classLoader);
+							CollectionUtils.mergePropertiesIntoMap(properties, mappings);
+							schemaMappings = mappings;
+						}
+						catch (IOException e) {
+							// don't cache the mappings; they will be loaded again with the next config
+							BeansCorePlugin.log(e);
+						}
+					}
+				}
+			}
+			return mappings;
+		}
+	}
+
+	/**
+	 * {@link EntityResolver} that resolves schemas like a {@link PluggableSchemaResolver} from the cached mappings.
+	 */
+	private static class CachingSchemaResolver implements EntityResolver {
+
+		private final CacheEntry entry;
+
+		private final ClassLoader classLoader;
+
+		CachingSchemaResolver(CacheEntry entry, ClassLoader classLoader) {
+			this.entry = entry;
+			this.classLoader = classLoader;
+		}
+
+		public InputSource resolveEntity(String publicId, String systemId) throws IOException {
+			if (systemId != null) {
+				String resourceLocation = entry.getSchemaMappings(classLoader).get(systemId);
+				if (resourceLocation != null) {
+					ClassPathResource resource = new ClassPathResource(resourceLocation, classLoader);
+					try {
+						InputSource source = new InputSource(resource.getInputStream());
+						source.setPublicId(publicId);
+						source.setSystemId(systemId);
+						return source;
+					}
+					catch (FileNotFoundException e) {
+						// fall through to the other resolvers
+					}
+				}
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Drops cache entries when the classpath of a project, a library or a schema file changes.
+	 */
+	public static class ChangeListener implements IElementChangedListener, IResourceChangeListener {
+
+		private final NamespaceSchemaCache cache;
+
+		public ChangeListener(NamespaceSchemaCache cache) {
+			this.cache = cache;
+		}
+
+		public void elementChanged(ElementChangedEvent event) {
+			for (IJavaElementDelta delta : event.getDelta().getAffectedChildren()) {
+				if ((delta.getFlags() & IJavaElementDelta.F_CLASSPATH_CHANGED) != 0
+						|| (delta.getFlags() & IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED) != 0) {
+					// Dependent projects see the changed classpath as well
+					cache.clear();
+					return;
+				}
+				for (IJavaElementDelta rootDelta : delta.getAffectedChildren()) {
+					if ((rootDelta.getFlags() & IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED) != 0) {
+						cache.clear();
+						return;
+					}
+				}
+			}
+		}
+
+		public void resourceChanged(IResourceChangeEvent event) {
+			if (event.getType() == IResourceChangeEvent.POST_CHANGE && event.getDelta() != null) {
+				final boolean[] schemasChanged = new boolean[1];
+				try {
+					event.getDelta().accept(new IResourceDeltaVisitor() {
+
+						public boolean visit(IResourceDelta delta) {
+							IResource resource = delta.getResource();
+							if (resource.getType() == IResource.FILE
+									&& (resource.getName().equals("spring.schemas") || resource.getName().endsWith(
+											".xsd"))) {
+								schemasChanged[0] = true;
+							}
+							return !schemasChanged[0];
+						}
+					});
+				}
+				catch (CoreException e) {
+					BeansCorePlugin.log(e);
+				}
+				if (schemasChanged[0]) {
+					cache.clear();
+				}
+			}
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2014 Spring IDE Developers
+ * Copyright (c) 2009, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -26,16 +26,26 @@ import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.SubProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
 import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
 import org.springframework.ide.eclipse.beans.core.BeansCoreUtils;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansConfig;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansConfigDependencyGraph;
 import org.springframework.ide.eclipse.beans.core.internal.model.BeansModel;
 import org.springframework.ide.eclipse.beans.core.internal.model.BeansModelUtils;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansTypeIndex;
+import org.springframework.ide.eclipse.beans.core.internal.model.ComponentScanIndex;
 import org.springframework.ide.eclipse.beans.core.model.IBeansConfig;
 import org.springframework.ide.eclipse.beans.core.model.IBeansConfigSet;
 import org.springframework.ide.eclipse.beans.core.model.IBeansImport;
 import org.springframework.ide.eclipse.beans.core.model.IBeansProject;
 import org.springframework.ide.eclipse.beans.core.model.IImportedBeansConfig;
 import org.springframework.ide.eclipse.beans.core.model.IReloadableBeansConfig;
+import org.springframework.ide.eclipse.core.SpringCore;
 import org.springframework.ide.eclipse.core.internal.model.validation.ValidatorDefinition;
 import org.springframework.ide.eclipse.core.java.ITypeStructureCache;
 import org.springframework.ide.eclipse.core.java.JdtUtils;
@@ -136,7 +146,10 @@ public class BeansConfigReloadingProjectContributionEventListener extends Projec
 	/**
 	 * Check if the given <code>resource</code> affects the {@link IBeansConfig}s.
 	 * <p>
-	 * If that is the case the {@link IBeansConfig} and all configs from {@link IBeansConfigSet}s are reset.
+	 * If that is the case the {@link IBeansConfig} and all configs from {@link IBeansConfigSet}s are reset. Annotation
+	 * changes of a Java type only reset the configs that scan the package of the type for components, that reference
+	 * the type from a filter of their scans or that use the type as bean class or supertype of a bean class. Changes
+	 * to annotation types reset all configs as these might be used as stereotype, meta or qualifier annotations.
 	 */
 	private void checkResource(IResource resource) {
 		// Only reset if the resource represents a Java source file and the types have structural changes
@@ -145,15 +158,8 @@ public class BeansConfigReloadingProjectContributionEventListener extends Projec
 						| ITypeStructureCache.FLAG_ANNOTATION_VALUE)) {
 
 			// Reset configs that use component-scanning and annotation-config
-			for (IBeansProject beansProject : BeansCorePlugin.getModel().getProjects()) {
-				if (JdtUtils.isJavaProject(beansProject.getProject())
-						&& JdtUtils.getJavaProject(beansProject.getProject()).isOnClasspath(resource)) {
-					for (IBeansConfig config : beansProject.getConfigs()) {
-						if (config.doesAnnotationScanning()) {
-							propagateToConfigsFromConfigSet(config, false);
-						}
-					}
-				}
+			for (IBeansConfig config : getAffectedConfigs(resource)) {
+				propagateToConfigsFromConfigSet(config, false);
 			}
 		}
 		else if (BeansCoreUtils.isBeansConfig(resource, true)) {
@@ -173,30 +179,130 @@ public class BeansConfigReloadingProjectContributionEventListener extends Projec
 		}
 	}
 
+	/**
+	 * Returns the annotation-driven configs that are affected by annotation changes of the types declared in the given
+	 * Java source file.
+	 */
+	Set<IBeansConfig> getAffectedConfigs(IResource resource) {
+		String[] typeNames = getTypeNames(resource);
+		Set<IBeansConfig> scanningConfigs = null;
+		if (typeNames != null && BeansCorePlugin.getModel() instanceof BeansModel) {
+			scanningConfigs = ((BeansModel) BeansCorePlugin.getModel()).getComponentScanIndex().getConfigs(typeNames);
+		}
+
+		Set<IBeansConfig> affectedConfigs = new LinkedHashSet<IBeansConfig>();
+		for (IBeansProject beansProject : BeansCorePlugin.getModel().getProjects()) {
+			if (JdtUtils.isJavaProject(beansProject.getProject())
+					&& JdtUtils.getJavaProject(beansProject.getProject()).isOnClasspath(resource)) {
+				Set<IBeansConfig> usingConfigs = null;
+				for (IBeansConfig config : beansProject.getConfigs()) {
+					if (config.doesAnnotationScanning()) {
+						if (scanningConfigs != null && usingConfigs == null) {
+							BeansTypeIndex typeIndex = ((BeansModel) BeansCorePlugin.getModel()).getTypeIndex();
+							usingConfigs = typeIndex.getConfigs(beansProject, typeNames,
+									SpringCore.getTypeHierarchyEngine());
+						}
+						if (scanningConfigs == null || isAffected(config, scanningConfigs, usingConfigs)) {
+							affectedConfigs.add(config);
+						}
+					}
+				}
+			}
+		}
+		return affectedConfigs;
+	}
+
+	/**
+	 * Checks if the given annotation-driven config is affected by annotation changes of the types given to the indexes.
+	 * <p>
+	 * Only the scanned packages and filter types of {@link BeansConfig}s are recorded; all other configs and configs
+	 * that haven't been read since their last reset are always affected.
+	 */
+	private boolean isAffected(IBeansConfig config, Set<IBeansConfig> scanningConfigs, Set<IBeansConfig> usingConfigs) {
+		ComponentScanIndex scanIndex = ((BeansModel) BeansCorePlugin.getModel()).getComponentScanIndex();
+		return !(config instanceof BeansConfig) || !scanIndex.isIndexed(config) || scanningConfigs.contains(config)
+				|| usingConfigs.contains(config);
+	}
+
+	/**
+	 * Returns the names of the types declared in the given Java source file, or <code>null</code> if the file declares
+	 * an annotation type or its types can't be determined.
+	 * <p>
+	 * Annotation types can be used as stereotype, meta or qualifier annotations of types in any package, so changes to
+	 * them affect every annotation-driven config. The same applies to removed files, as it can't be told anymore
+	 * whether they declared an annotation type.
+	 */
+	private String[] getTypeNames(IResource resource) {
+		IJavaElement element = JavaCore.create(resource);
+		if (!(element instanceof ICompilationUnit) || !element.exists()) {
+			return null;
+		}
+		try {
+			IType[] types = ((ICompilationUnit) element).getAllTypes();
+			String[] typeNames = new String[types.length];
+			for (int i = 0; i < types.length; i++) {
+				if (types[i].isAnnotation()) {
+					return null;
+				}
+				typeNames[i] = types[i].getFullyQualifiedName();
+			}
+			return typeNames;
+		}
+		catch (JavaModelException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Adds the given config, the configs of the config sets containing it and the configs importing it to the configs
+	 * that should be reloaded.
+	 * <p>
+	 * Config sets and imports are looked up in the {@link BeansConfigDependencyGraph}; only configs whose imports are
+	 * not known to the graph yet are read to check their imports.
+	 */
 	private void propagateToConfigsFromConfigSet(IBeansConfig config, boolean onlyImportsCheck) {
 		// Add config to make sure that in case on config set is configured
 		if (!onlyImportsCheck) {
 			configs.add(config);
 		}
 
-		for (IBeansProject beansProject : BeansCorePlugin.getModel().getProjects()) {
-			if (!onlyImportsCheck) {
-				for (IBeansConfigSet configSet : beansProject.getConfigSets()) {
-					if (configSet.hasConfig((IFile) config.getElementResource())) {
-						configs.addAll(configSet.getConfigs());
-					}
-				}
+		Set<IBeansProject> beansProjects = BeansCorePlugin.getModel().getProjects();
+		BeansConfigDependencyGraph dependencyGraph = ((BeansModel) BeansCorePlugin.getModel()).getDependencyGraph();
+		IResource resource = config.getElementResource();
+
+		if (!onlyImportsCheck) {
+			for (IBeansConfigSet configSet : dependencyGraph.getConfigSets(beansProjects, resource)) {
+				configs.addAll(configSet.getConfigs());
+			}
+		}
+
+		Set<IBeansConfig> importingConfigs = dependencyGraph.getImportingConfigs(resource);
+		for (IBeansProject beansProject : beansProjects) {
+			if (!beansProject.isImportsEnabled()) {
+				continue;
 			}
 			for (IBeansConfig bc : beansProject.getConfigs()) {
-				for (IBeansImport beansImport : bc.getImports()) {
-					for (IImportedBeansConfig importedBeansConfig : beansImport.getImportedBeansConfigs()) {
-						if (config.getElementResource().equals(importedBeansConfig.getElementResource())) {
-							configs.add(bc);
-						}
+				if (dependencyGraph.hasImports(bc)) {
+					if (importingConfigs.contains(bc)) {
+						configs.add(bc);
 					}
 				}
+				else if (isImporting(bc, resource)) {
+					configs.add(bc);
+				}
+			}
+		}
+	}
+
+	private boolean isImporting(IBeansConfig config, IResource resource) {
+		for (IBeansImport beansImport : config.getImports()) {
+			for (IImportedBeansConfig importedBeansConfig : beansImport.getImportedBeansConfigs()) {
+				if (resource.equals(importedBeansConfig.getElementResource())) {
+					return true;
+				}
 			}
 		}
+		return false;
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2014 Spring IDE Developers
+ * Copyright (c) 2007, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,8 +10,12 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.beans.core.internal.model.validation;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.core.resources.IFile;
@@ -26,6 +30,9 @@ import org.eclipse.jdt.core.JavaModelException;
 import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
 import org.springframework.ide.eclipse.beans.core.internal.model.BeansModelUtils;
 import org.springframework.ide.eclipse.beans.core.internal.model.resources.BeansResourceChangeListener;
+import org.springframework.ide.eclipse.beans.core.internal.model.validation.rules.BeanClassRule;
+import org.springframework.ide.eclipse.beans.core.internal.model.validation.rules.BeanPropertyRule;
+import org.springframework.ide.eclipse.beans.core.internal.model.validation.rules.BeanReferenceRule;
 import org.springframework.ide.eclipse.beans.core.model.IBean;
 import org.springframework.ide.eclipse.beans.core.model.IBeansConfig;
 import org.springframework.ide.eclipse.beans.core.model.IBeansConfigSet;
@@ -33,7 +40,9 @@ import org.springframework.ide.eclipse.beans.core.model.IBeansImport;
 import org.springframework.ide.eclipse.beans.core.model.IBeansModelElement;
 import org.springframework.ide.eclipse.beans.core.model.IBeansProject;
 import org.springframework.ide.eclipse.beans.core.model.IImportedBeansConfig;
+import org.springframework.ide.eclipse.beans.core.model.validation.IBeansValidationContext;
 import org.springframework.ide.eclipse.core.MarkerUtils;
+import org.springframework.ide.eclipse.core.internal.model.validation.ValidationRuleDefinition;
 import org.springframework.ide.eclipse.core.java.ITypeStructureCache;
 import org.springframework.ide.eclipse.core.java.JdtUtils;
 import org.springframework.ide.eclipse.core.java.TypeStructureState;
@@ -45,9 +54,13 @@ import org.springframework.ide.eclipse.core.model.validation.IValidationContext;
 import org.springframework.ide.eclipse.core.model.validation.IValidationElementLifecycleManager;
 import org.springframework.ide.eclipse.core.model.validation.IValidationElementLifecycleManagerExtension;
 import org.springframework.ide.eclipse.core.model.validation.IValidator;
+import org.springframework.ide.eclipse.core.model.validation.ValidationProblem;
 
 /**
  * {@link IValidator} implementation that is responsible for validating the {@link IBeansModelElement}s.
+ * <p>
+ * The problems reported by the rules in {@link #CACHEABLE_RULES} are cached per bean in a
+ * {@link BeansValidationResultCache}, so that these rules only run again for beans that have been changed.
  * @author Torsten Juergeleit
  * @author Christian Dupuis
  * @author Martin Lippert
@@ -55,8 +68,16 @@ import org.springframework.ide.eclipse.core.model.validation.IValidator;
  */
 public class BeansConfigValidator extends AbstractValidator {
 
+	/** Rules whose results depend only on the bean, the bean names of the context and the bean's Java types */
+	private static final List<Class<?>> CACHEABLE_RULES = Arrays.<Class<?>> asList(BeanClassRule.class,
+			BeanPropertyRule.class, BeanReferenceRule.class);
+
+	private static final char KEY_SEPARATOR_CHAR = '/';
+
 	private Set<String> affectedBeans = new LinkedHashSet<String>();
 
+	private final BeansValidationResultCache resultCache = new BeansValidationResultCache();
+
 	public Set<IResource> deriveResources(Object object) {
 		Set<IResource> resources = new LinkedHashSet<IResource>();
 		if (object instanceof ISpringProject) {
@@ -90,6 +111,9 @@ public class BeansConfigValidator extends AbstractValidator {
 
 	public Set<IResource> getAffectedResources(IResource resource, int kind, int deltaKind) throws CoreException {
 		Set<IResource> resources = new LinkedHashSet<IResource>();
+		if (kind == IncrementalProjectBuilder.FULL_BUILD) {
+			resultCache.clear();
+		}
 		if (resource instanceof IFile) {
 
 			// First check for a beans config file
@@ -134,6 +158,8 @@ public class BeansConfigValidator extends AbstractValidator {
 					}
 					else {
 						for (IBean bean : hierachyState.getBeansByContainingTypes(resource)) {
+							// the bean's types have changed; cached results no longer apply
+							resultCache.invalidate(bean);
 							IBeansConfig beansConfig = BeansModelUtils.getConfig(bean);
 							// Resolve imported config files to their root importing one
 							if (beansConfig instanceof IImportedBeansConfig) {
@@ -151,6 +177,7 @@ public class BeansConfigValidator extends AbstractValidator {
 							
 							// capture all beans if configuration class has changed
 							if (isConfigurationBean(bean)) {
+								resultCache.invalidate(beansConfig);
 								addBeans(beansConfig);
 							}
 						}
@@ -187,6 +214,7 @@ public class BeansConfigValidator extends AbstractValidator {
 		if (beansProject != null) {
 			for (IBeansConfig beansConfig : beansProject.getConfigs()) {
 				resources.add(beansConfig.getElementResource());
+				resultCache.invalidate(beansConfig);
 				addBeans(beansConfig);
 			}
 		}
@@ -261,6 +289,49 @@ public class BeansConfigValidator extends AbstractValidator {
 		return !BeansModelUtils.isProfileDisabled(contextElement, element);
 	}
 
+	/**
+	 * Reuses the problems of a previous run of a cacheable rule if the bean containing the given element is unchanged.
+	 */
+	@Override
+	protected void validateElement(ValidationRuleDefinition ruleDefinition, IModelElement element,
+			IValidationContext context, IProgressMonitor monitor) {
+		IBean bean = null;
+		if (context instanceof IBeansValidationContext && isCacheable(ruleDefinition)) {
+			bean = BeansValidationResultCache.getOutermostBean(element);
+		}
+		if (bean == null) {
+			super.validateElement(ruleDefinition, element, context, monitor);
+			return;
+		}
+
+		String key = context.getContextElement().getElementID() + KEY_SEPARATOR_CHAR + ruleDefinition.getId()
+				+ KEY_SEPARATOR_CHAR + element.getElementID();
+		long fingerprint = resultCache.getFingerprint(bean, ruleDefinition, (IBeansValidationContext) context);
+		Set<ValidationProblem> cachedProblems = resultCache.get(bean, key, fingerprint);
+		if (cachedProblems != null) {
+			context.addProblems(cachedProblems.toArray(new ValidationProblem[cachedProblems.size()]));
+			return;
+		}
+
+		int existingProblems = context.getProblems().size();
+		super.validateElement(ruleDefinition, element, context, monitor);
+
+		// the problems of the context are kept in reporting order
+		List<ValidationProblem> newProblems = new ArrayList<ValidationProblem>();
+		Iterator<ValidationProblem> problems = context.getProblems().iterator();
+		for (int i = 0; problems.hasNext(); i++) {
+			ValidationProblem problem = problems.next();
+			if (i >= existingProblems) {
+				newProblems.add(problem);
+			}
+		}
+		resultCache.put(bean, key, fingerprint, newProblems);
+	}
+
+	private boolean isCacheable(ValidationRuleDefinition ruleDefinition) {
+		return ruleDefinition.getRule() != null && CACHEABLE_RULES.contains(ruleDefinition.getRule().getClass());
+	}
+
 	private void addBeans(IBeansConfig beansConfig) {
 		for (IBean bean : BeansModelUtils.getBeans(beansConfig)) {
 			affectedBeans.add(bean.getElementID());
@@ -0,0 +1,322 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.internal.model.validation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.ide.eclipse.beans.core.internal.model.Bean;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansModelUtils;
+import org.springframework.ide.eclipse.beans.core.model.IBean;
+import org.springframework.ide.eclipse.beans.core.model.IBeansConfig;
+import org.springframework.ide.eclipse.beans.core.model.validation.IBeansValidationContext;
+import org.springframework.ide.eclipse.core.internal.model.validation.ValidationRuleDefinition;
+import org.springframework.ide.eclipse.core.model.IModelElement;
+import org.springframework.ide.eclipse.core.model.ISourceModelElement;
+import org.springframework.ide.eclipse.core.model.validation.ValidationProblem;
+import org.springframework.ide.eclipse.core.model.validation.ValidationProblemAttribute;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Cache of the {@link ValidationProblem}s reported by validation rules for the elements of a bean.
+ * <p>
+ * Every cached result is stored together with a fingerprint of the bean's structure, the bean names of the validation
+ * context and the configuration of the rule. As long as the fingerprint is unchanged the rule does not need to run
+ * again. Changes to the Java types used by a bean are not part of the fingerprint; the results of such beans have to
+ * be {@link #invalidate(IBean) invalidated} explicitly.
+ * <p>
+ * Line numbers are stored relative to the start line of the outermost bean, so that results survive edits that only
+ * move a bean within its file.
+ * @since 3.9.17
+ */
+public class BeansValidationResultCache {
+
+	private static final int MAX_CACHED_BEANS = 100000;
+
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	/** Cached results by element id of the outermost bean */
+	private final ConcurrentHashMap<String, Map<String, CachedResult>> results = new ConcurrentHashMap<String, Map<String, CachedResult>>();
+
+	private final Map<BeanDefinitionRegistry, Long> registryFingerprints = Collections
+			.synchronizedMap(new WeakHashMap<BeanDefinitionRegistry, Long>());
+
+	/**
+	 * Returns the bean the results for the given element are stored with; this is the outermost bean containing the
+	 * element or <code>null</code> if the element is not part of a bean.
+	 */
+	public static IBean getOutermostBean(IModelElement element) {
+		IBean bean = (element instanceof IBean ? (IBean) element : BeansModelUtils.getParentOfClass(element,
+				IBean.class));
+		while (bean != null && bean.isInnerBean()) {
+			IBean parentBean = BeansModelUtils.getParentOfClass(bean, IBean.class);
+			if (parentBean == null) {
+				break;
+			}
+			bean = parentBean;
+		}
+		return bean;
+	}
+
+	/**
+	 * Returns the fingerprint for the results of the given rule for the elements of the given outermost bean.
+	 */
+	public long getFingerprint(IBean bean, ValidationRuleDefinition ruleDefinition, IBeansValidationContext context) {
+		long fingerprint = getBeanFingerprint(bean);
+		fingerprint = mix(fingerprint, getRegistryFingerprint(context.getCompleteRegistry()));
+		fingerprint = mix(fingerprint, ruleDefinition.getId());
+		fingerprint = mix(fingerprint, ruleDefinition.getPropertyValues().hashCode());
+		fingerprint = mix(fingerprint, ruleDefinition.getMessageSeverities().hashCode());
+		return fingerprint;
+	}
+
+	/**
+	 * Returns the cached problems for the given key or <code>null</code> if nothing has been cached for the key and
+	 * fingerprint.
+	 */
+	public Set<ValidationProblem> get(IBean bean, String key, long fingerprint) {
+		Map<String, CachedResult> beanResults = results.get(bean.getElementID());
+		if (beanResults == null) {
+			return null;
+		}
+		CachedResult result = beanResults.get(key);
+		if (result == null || result.fingerprint != fingerprint) {
+			return null;
+		}
+
+		int startLine = bean.getElementStartLine();
+		Set<ValidationProblem> problems = new LinkedHashSet<ValidationProblem>(result.problems.size());
+		for (CachedProblem cachedProblem : result.problems) {
+			ValidationProblem problem = cachedProblem.problem;
+			if (problem.getLine() != -1 && problem.getLine() != startLine + cachedProblem.lineOffset) {
+				problem = new ValidationProblem(problem.getRuleId(), problem.getErrorId(), problem.getSeverity(),
+						problem.getMessage(), problem.getResource(), startLine + cachedProblem.lineOffset,
+						problem.getAttributes());
+			}
+			problems.add(problem);
+		}
+		return problems;
+	}
+
+	/**
+	 * Caches the given problems. Problems pointing to character ranges or to other resources than the one of the bean
+	 * are not cached.
+	 * @return <code>true</code> if the problems have been cached
+	 */
+	public boolean put(IBean bean, String key, long fingerprint, Collection<ValidationProblem> problems) {
+		IResource resource = bean.getElementResource();
+		int startLine = bean.getElementStartLine();
+		List<CachedProblem> cachedProblems = new ArrayList<CachedProblem>(problems.size());
+		for (ValidationProblem problem : problems) {
+			if (!isCacheable(problem, resource)) {
+				return false;
+			}
+			cachedProblems.add(new CachedProblem(problem, problem.getLine() - startLine));
+		}
+
+		Map<String, CachedResult> beanResults = results.get(bean.getElementID());
+		if (beanResults == null) {
+			if (results.size() >= MAX_CACHED_BEANS) {
+				results.clear();
+			}
+			beanResults = new ConcurrentHashMap<String, CachedResult>();
+			Map<String, CachedResult> existingResults = results.putIfAbsent(bean.getElementID(), beanResults);
+			if (existingResults != null) {
+				beanResults = existingResults;
+			}
+		}
+		beanResults.put(key, new CachedResult(fingerprint, cachedProblems));
+		return true;
+	}
+
+	/**
+	 * Removes all results cached for the given bean.
+	 */
+	public void invalidate(IBean bean) {
+		IBean outermostBean = getOutermostBean(bean);
+		if (outermostBean != null) {
+			results.remove(outermostBean.getElementID());
+		}
+	}
+
+	/**
+	 * Removes all results cached for the beans of the given config.
+	 */
+	public void invalidate(IBeansConfig config) {
+		String configId = config.getElementID();
+		for (Iterator<String> iterator = results.keySet().iterator(); iterator.hasNext();) {
+			if (isElementOf(iterator.next(), configId)) {
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if the given element ID is the given parent ID or the ID of one of its children. A plain
+	 * prefix match would also take the IDs of siblings like <code>beans.xml.bak</code> for <code>beans.xml</code>.
+	 */
+	static boolean isElementOf(String elementId, String parentId) {
+		return elementId.startsWith(parentId)
+				&& (elementId.length() == parentId.length() || elementId.charAt(parentId.length()) == IModelElement.ID_DELIMITER);
+	}
+
+	/**
+	 * Removes all cached results.
+	 */
+	public void clear() {
+		results.clear();
+		registryFingerprints.clear();
+	}
+
+	/**
+	 * Returns the number of beans having cached results.
+	 */
+	public int size() {
+		return results.size();
+	}
+
+	private boolean isCacheable(ValidationProblem problem, IResource resource) {
+		if (problem.getResource() != null && !problem.getResource().equals(resource)) {
+			return false;
+		}
+		if (problem.getAttributes() != null) {
+			for (ValidationProblemAttribute attribute : problem.getAttributes()) {
+				if (IMarker.CHAR_START.equals(attribute.getKey()) || IMarker.CHAR_END.equals(attribute.getKey())) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Bean names, aliases and classes of all beans of a validation context. Rules checking bean references only need
+	 * to run again if one of them changes.
+	 */
+	private long getRegistryFingerprint(BeanDefinitionRegistry registry) {
+		Long fingerprint = registryFingerprints.get(registry);
+		if (fingerprint == null) {
+			long sum = 0;
+			for (String beanName : registry.getBeanDefinitionNames()) {
+				BeanDefinition bd = registry.getBeanDefinition(beanName);
+				long beanFingerprint = mix(FNV_OFFSET, beanName);
+				beanFingerprint = mix(beanFingerprint, bd.getBeanClassName());
+				beanFingerprint = mix(beanFingerprint, bd.getParentName());
+				beanFingerprint = mix(beanFingerprint, bd.getFactoryBeanName());
+				beanFingerprint = mix(beanFingerprint, bd.isAbstract() ? 1 : 0);
+				beanFingerprint = mix(beanFingerprint, ObjectUtils.nullSafeHashCode(registry.getAliases(beanName)));
+				// independent of the order of the bean definitions
+				sum += beanFingerprint;
+			}
+			fingerprint = sum;
+			registryFingerprints.put(registry, fingerprint);
+		}
+		return fingerprint;
+	}
+
+	private static long getBeanFingerprint(IBean bean) {
+		long fingerprint = mix(FNV_OFFSET, bean.getElementName());
+		fingerprint = mix(fingerprint, ObjectUtils.nullSafeHashCode(bean.getAliases()));
+		fingerprint = mix(fingerprint, bean.getClassName());
+		fingerprint = mix(fingerprint, bean.getParentName());
+		fingerprint = mix(fingerprint, (bean.isAbstract() ? 1 : 0) | (bean.isLazyInit() ? 2 : 0)
+				| (bean.isSingleton() ? 4 : 0) | (bean.isFactory() ? 8 : 0) | (bean.isInfrastructure() ? 16 : 0));
+
+		if (bean instanceof Bean && ((Bean) bean).getBeanDefinition() instanceof AbstractBeanDefinition) {
+			AbstractBeanDefinition bd = (AbstractBeanDefinition) ((Bean) bean).getBeanDefinition();
+			// covers class, scope, property values, constructor arguments and factory bean/method
+			fingerprint = mix(fingerprint, bd.hashCode());
+			fingerprint = mix(fingerprint, bd.getAutowireMode());
+			fingerprint = mix(fingerprint, bd.getDependencyCheck());
+			fingerprint = mix(fingerprint, ObjectUtils.nullSafeHashCode(bd.getDependsOn()));
+			fingerprint = mix(fingerprint, bd.getInitMethodName());
+			fingerprint = mix(fingerprint, bd.getDestroyMethodName());
+			fingerprint = mix(fingerprint, (bd.isPrimary() ? 1 : 0) | (bd.isAutowireCandidate() ? 2 : 0));
+		}
+
+		int startLine = bean.getElementStartLine();
+		fingerprint = mix(fingerprint, bean.getElementEndLine() - startLine);
+		fingerprint = mixStructure(fingerprint, bean, startLine);
+		return fingerprint;
+	}
+
+	/**
+	 * Adds names and relative positions of all nested elements. Element ids of inner beans contain absolute line
+	 * numbers, so beans with inner beans only match at the same position.
+	 */
+	private static long mixStructure(long fingerprint, IModelElement element, int startLine) {
+		for (IModelElement child : element.getElementChildren()) {
+			fingerprint = mix(fingerprint, child.getElementType());
+			fingerprint = mix(fingerprint, child.getElementName());
+			if (child instanceof ISourceModelElement) {
+				fingerprint = mix(fingerprint, ((ISourceModelElement) child).getElementStartLine() - startLine);
+				fingerprint = mix(fingerprint, ((ISourceModelElement) child).getElementEndLine() - startLine);
+			}
+			if (child instanceof IBean && ((IBean) child).isInnerBean()) {
+				fingerprint = mix(fingerprint, startLine);
+			}
+			fingerprint = mixStructure(fingerprint, child, startLine);
+		}
+		return fingerprint;
+	}
+
+	private static long mix(long fingerprint, String value) {
+		return mix(fingerprint, value != null ? value.hashCode() : 0);
+	}
+
+	private static long mix(long fingerprint, long value) {
+		for (int i = 0; i < 8; i++) {
+			fingerprint ^= (value >>> (i * 8)) & 0xff;
+			fingerprint *= FNV_PRIME;
+		}
+		return fingerprint;
+	}
+
+	private static class CachedResult {
+
+		final long fingerprint;
+
+		final List<CachedProblem> problems;
+
+		CachedResult(long fingerprint, List<CachedProblem> problems) {
+			this.fingerprint = fingerprint;
+			this.problems = problems;
+		}
+	}
+
+	private static class CachedProblem {
+
+		final ValidationProblem problem;
+
+		final int lineOffset;
+
+		CachedProblem(ValidationProblem problem, int lineOffset) {
+			this.problem = problem;
+			this.lineOffset = lineOffset;
+		}
+	}
+
+}
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.internal.parser;
+
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+
+/**
+ * Determines the namespace URI of the root element of XML files by streaming the file up to the root start tag.
+ * <p>
+ * Results are cached per file and modification stamp, so unchanged files are never read twice.
+ *
+ * @since 3.9.17
+ */
+public class RootNamespaceSniffer {
+
+	private static final int MAX_CACHE_SIZE = 50000;
+
+	/** Marks files without root element namespace, including files that are not well-formed XML */
+	private static final String NO_NAMESPACE = "";
+
+	private static final Map<IFile, CacheEntry> CACHE = new ConcurrentHashMap<IFile, CacheEntry>();
+
+	private static XMLInputFactory inputFactory;
+
+	/**
+	 * Returns the namespace URI of the root element of the given file, or <code>null</code> if the root element has no
+	 * namespace or the file is not a readable XML file.
+	 */
+	public static String getRootNamespaceUri(IFile file) {
+		long modificationStamp = file.getModificationStamp();
+		if (modificationStamp == IResource.NULL_STAMP) {
+			return null;
+		}
+
+		CacheEntry entry = CACHE.get(file);
+		if (entry == null || entry.modificationStamp != modificationStamp) {
+			entry = new CacheEntry(modificationStamp, sniff(file));
+			if (CACHE.size() >= MAX_CACHE_SIZE) {
+				CACHE.clear();
+			}
+			CACHE.put(file, entry);
+		}
+		return entry.namespaceUri == NO_NAMESPACE ? null : entry.namespaceUri;
+	}
+
+	/**
+	 * Removes all cached results.
+	 */
+	public static void clearCache() {
+		CACHE.clear();
+	}
+
+	private static String sniff(IFile file) {
+		InputStream contents = null;
+		XMLStreamReader reader = null;
+		try {
+			contents = file.getContents(true);
+			reader = createReader(contents);
+			while (reader.hasNext()) {
+				if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+					String namespaceUri = reader.getNamespaceURI();
+					return namespaceUri != null && namespaceUri.length() > 0 ? namespaceUri : NO_NAMESPACE;
+				}
+			}
+		}
+		catch (Exception e) {
+			// not a well-formed XML file
+		}
+		finally {
+			if (reader != null) {
+				try {
+					reader.close();
+				}
+				catch (XMLStreamException e) {
+					// ignore
+				}
+			}
+			if (contents != null) {
+				try {
+					contents.close();
+				}
+				catch (Exception e) {
+					// ignore
+				}
+			}
+		}
+		return NO_NAMESPACE;
+	}
+
+	private static synchronized XMLStreamReader createReader(InputStream contents) throws XMLStreamException {
+		if (inputFactory == null) {
+			inputFactory = XMLInputFactory.newInstance();
+			inputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.TRUE);
+			// never resolve DTDs or external entities, the root element comes first anyway
+			inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+			inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+		}
+		return inputFactory.createXMLStreamReader(contents);
+	}
+
+	private static class CacheEntry {
+
+		final long modificationStamp;
+
+		final String namespaceUri;
+
+		CacheEntry(long modificationStamp, String namespaceUri) {
+			this.modificationStamp = modificationStamp;
+			this.namespaceUri = namespaceUri;
+		}
+	}
+
+}
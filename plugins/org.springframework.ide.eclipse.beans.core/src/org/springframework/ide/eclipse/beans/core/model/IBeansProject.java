@@ -10,10 +10,12 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.beans.core.model;
 
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.springframework.ide.eclipse.core.model.IResourceModelElement;
 
 /**
@@ -119,6 +121,15 @@ public interface IBeansProject extends IBeansModelElement, IResourceModelElement
 	 */
 	Set<IBeansConfig> getConfigs();
 
+	/**
+	 * Loads all configs of this project that are not initialized yet. Independent configs are loaded in parallel,
+	 * configs importing other configs of this project are loaded after the imported ones.
+	 * @param monitor the progress monitor to report progress to; may be <code>null</code>
+	 * @return the time in milliseconds it took to load each config
+	 * @since 3.9.17
+	 */
+	Map<IBeansConfig, Long> preloadConfigs(IProgressMonitor monitor);
+
 	/**
 	 * Returns true if a config set with the given name is defined within this project.
 	 */
@@ -10,7 +10,6 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.beans.core.model.locate;
 
-import java.io.IOException;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -20,18 +19,14 @@ import java.util.concurrent.ConcurrentSkipListSet;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
-import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaModelException;
-import org.eclipse.wst.sse.core.StructuredModelManager;
-import org.eclipse.wst.sse.core.internal.provisional.IStructuredModel;
-import org.eclipse.wst.xml.core.internal.document.DOMModelImpl;
-import org.eclipse.wst.xml.core.internal.provisional.document.IDOMDocument;
 import org.springframework.beans.factory.xml.NamespaceHandlerResolver;
 import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
 import org.springframework.ide.eclipse.beans.core.internal.model.namespaces.DelegatingNamespaceHandlerResolver;
+import org.springframework.ide.eclipse.beans.core.internal.parser.RootNamespaceSniffer;
 import org.springframework.ide.eclipse.beans.core.namespaces.NamespaceUtils;
 import org.springframework.ide.eclipse.core.java.JdtUtils;
 import org.springframework.util.StringUtils;
@@ -42,12 +37,12 @@ import org.springsource.ide.eclipse.commons.core.SpringCoreUtils;
  * {@link IProject} or {@link IJavaProject} for Spring XML configuration files.
  * <p>
  * Only those XML files that have any known namespace uri at the root element
- * level are being considered to be a suitable candidate.
+ * level are being considered to be a suitable candidate. The namespace uri is
+ * determined by {@link RootNamespaceSniffer} without building a DOM.
  * 
  * @author Christian Dupuis
  * @since 2.0.5
  */
-@SuppressWarnings("restriction")
 public class ProjectScanningBeansConfigLocator extends
 		AbstractJavaProjectPathMatchingBeansConfigLocator {
 
@@ -168,38 +163,9 @@ public class ProjectScanningBeansConfigLocator extends
 			}
 
 			// check if the file is known Spring xml file
-			IStructuredModel model = null;
-			try {
-				try {
-					model = StructuredModelManager.getModelManager()
-							.getExistingModelForRead(file);
-				} catch (RuntimeException e) {
-					// sometimes WTP throws a NPE in concurrency situations
-				}
-				if (model == null) {
-					model = StructuredModelManager.getModelManager()
-							.getModelForRead(file);
-				}
-				if (model != null) {
-					IDOMDocument document = ((DOMModelImpl) model)
-							.getDocument();
-					if (document != null
-							&& document.getDocumentElement() != null) {
-						String namespaceUri = document.getDocumentElement()
-								.getNamespaceURI();
-						if (applyNamespaceFilter(file, namespaceUri)) {
-							detectedFiles.add(file);
-						}
-					}
-				}
-			} catch (IOException e) {
-				BeansCorePlugin.log(e);
-			} catch (CoreException e) {
-				BeansCorePlugin.log(e);
-			} finally {
-				if (model != null) {
-					model.releaseFromRead();
-				}
+			String namespaceUri = RootNamespaceSniffer.getRootNamespaceUri(file);
+			if (applyNamespaceFilter(file, namespaceUri)) {
+				detectedFiles.add(file);
 			}
 		}
 		return detectedFiles;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,9 +10,12 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.boot.properties.editor.test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.TreeSet;
 
 import junit.framework.TestCase;
 
@@ -124,6 +127,72 @@ public class FuzzyMapTests extends TestCase {
 		}
 	}
 
+	public void testFindAgreesWithMatcher() {
+		String[] entries = {
+				"server.port",
+				"server.address",
+				"spring.datasource.url",
+				"spring.jpa.show-sql",
+				"Logging.Level",
+				"zoroaster"
+		};
+		TestMap map = new TestMap(entries);
+		String[] patterns = { "s", "sport", "spox", "level", "LL", "jsql", "q", "" };
+		for (String pattern : patterns) {
+			List<String> expected = new ArrayList<>();
+			for (String e : new TreeSet<>(Arrays.asList(entries))) {
+				if (pattern.equals("") || FuzzyMatcher.matchScore(pattern, e)!=0.0) {
+					expected.add(e);
+				}
+			}
+			List<String> actual = new ArrayList<>();
+			for (Match<String> m : map.find(pattern)) {
+				actual.add(m.data);
+			}
+			assertEquals(pattern, expected, actual);
+		}
+		map.add("spox");
+		assertEquals(1, map.find("spox").size());
+	}
+
+	public void testFindTopK() {
+		String[] datas = {
+				"port",
+				"server.port",
+				"server.port-mapping",
+				"piano.sorting"
+		};
+		TestMap map = new TestMap("zzz", "piano.sorting", "server.port-mapping", "port", "server.port");
+		for (int limit = 0; limit <= datas.length + 1; limit++) {
+			List<Match<String>> found = map.find("port", limit);
+			assertEquals(Math.min(limit, datas.length), found.size());
+			for (int i = 0; i < found.size(); i++) {
+				assertEquals(datas[i], found.get(i).data);
+			}
+		}
+		List<Match<String>> all = map.find("", 2);
+		assertEquals(2, all.size());
+		assertEquals("piano.sorting", all.get(0).data);
+		assertEquals("port", all.get(1).data);
+		assertTrue(map.find("xyz", 10).isEmpty());
+	}
+
+	public void testFindTopKWithKeyPrefix() {
+		TestMap map = new TestMap("port", "server.port", "server.port-mapping", "server.address",
+				"server", "serverx.port", "spring.port");
+		List<Match<String>> found = map.find("server.port", "server.", 10);
+		assertEquals(2, found.size());
+		assertEquals("server.port", found.get(0).data);
+		assertEquals("server.port-mapping", found.get(1).data);
+
+		assertEquals(1, map.find("server.port", "server.", 1).size());
+		assertEquals(3, map.find("", "server.", 10).size());
+		assertEquals("server.address", map.find("", "server.", 10).get(0).data);
+		assertEquals(2, map.find("port", "server.", 10).size());
+		assertTrue(map.find("", "zzz.", 10).isEmpty());
+		assertEquals(map.find("port", 10).size(), map.find("port", "", 10).size());
+	}
+
 	public void testCommonPrefixEmptyMap() {
 		TestMap empty = new TestMap();
 		assertEquals(null, empty.findValidPrefix("foo"));
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.properties.editor.test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.springframework.ide.eclipse.boot.properties.editor.JarMetadataCache;
+import org.springframework.ide.eclipse.boot.properties.editor.StsConfigMetadataRepositoryJsonLoader;
+
+import junit.framework.TestCase;
+
+/**
+ * Note: this test doesn't need to run as "JUnit plugin test". Can be run
+ * as simple JUnit test (no dependencies on Eclipse).
+ *
+ * @since 3.9.17
+ */
+public class JarMetadataCacheTest extends TestCase {
+
+	private static final String METADATA =
+			"{\"properties\": [{\"name\": \"server.port\", \"type\": \"java.lang.Integer\"}]}";
+
+	private static final String[] LOCATIONS = StsConfigMetadataRepositoryJsonLoader.JAR_META_DATA_LOCATIONS;
+
+	private JarMetadataCache cache = new JarMetadataCache();
+
+	public void testJarIsParsedOnce() throws Exception {
+		File jar = createJar("META-INF/spring-configuration-metadata.json", METADATA);
+		List<?> first = cache.getDocuments(jar, LOCATIONS);
+		assertEquals(1, first.size());
+		assertSame(first, cache.getDocuments(jar, LOCATIONS));
+		assertEquals(1, cache.getMissCount());
+		assertEquals(1, cache.getHitCount());
+	}
+
+	public void testJarWithoutMetadataIsCached() throws Exception {
+		File jar = createJar("META-INF/MANIFEST.MF", "Manifest-Version: 1.0\n");
+		assertTrue(cache.getDocuments(jar, LOCATIONS).isEmpty());
+		assertTrue(cache.getDocuments(jar, LOCATIONS).isEmpty());
+		assertEquals(1, cache.getMissCount());
+		assertEquals(1, cache.size());
+	}
+
+	public void testChangedJarIsParsedAgain() throws Exception {
+		File jar = createJar("META-INF/MANIFEST.MF", "Manifest-Version: 1.0\n");
+		assertTrue(cache.getDocuments(jar, LOCATIONS).isEmpty());
+
+		writeJar(jar, "META-INF/spring-configuration-metadata.json", METADATA);
+		jar.setLastModified(jar.lastModified() + 2000);
+		assertEquals(1, cache.getDocuments(jar, LOCATIONS).size());
+		assertEquals(2, cache.getMissCount());
+
+		cache.evict(jar);
+		assertEquals(0, cache.size());
+	}
+
+	public void testValidDocumentsOfPartlyBrokenJarAreCached() throws Exception {
+		String[] locations = {
+				"META-INF/spring-configuration-metadata.json",
+				StsConfigMetadataRepositoryJsonLoader.ADDITIONAL_SPRING_CONFIGURATION_METADATA_JSON
+		};
+		File jar = createJar(
+				"META-INF/spring-configuration-metadata.json", "{\"properties\": [",
+				StsConfigMetadataRepositoryJsonLoader.ADDITIONAL_SPRING_CONFIGURATION_METADATA_JSON, METADATA
+		);
+		assertEquals(1, cache.getDocuments(jar, locations).size());
+		assertEquals(1, cache.getDocuments(jar, locations).size());
+		assertEquals(1, cache.getMissCount());
+	}
+
+	public void testUnreadableJarIsCached() throws Exception {
+		File jar = File.createTempFile("metadata", ".jar");
+		jar.deleteOnExit();
+		Files.write(jar.toPath(), "not a jar".getBytes(StandardCharsets.UTF_8));
+		assertTrue(cache.getDocuments(jar, LOCATIONS).isEmpty());
+		assertTrue(cache.getDocuments(jar, LOCATIONS).isEmpty());
+		assertEquals(1, cache.getMissCount());
+		assertEquals(1, cache.size());
+	}
+
+	public void testLeastRecentlyUsedJarIsEvicted() throws Exception {
+		cache = new JarMetadataCache(2);
+		File first = createJar("META-INF/MANIFEST.MF", "Manifest-Version: 1.0\n");
+		File second = createJar("META-INF/MANIFEST.MF", "Manifest-Version: 1.0\n");
+		File third = createJar("META-INF/MANIFEST.MF", "Manifest-Version: 1.0\n");
+		cache.getDocuments(first, LOCATIONS);
+		cache.getDocuments(second, LOCATIONS);
+		cache.getDocuments(first, LOCATIONS);
+		cache.getDocuments(third, LOCATIONS);
+		assertEquals(2, cache.size());
+		assertEquals(3, cache.getMissCount());
+
+		//'second' was used least recently
+		cache.getDocuments(first, LOCATIONS);
+		assertEquals(3, cache.getMissCount());
+		cache.getDocuments(second, LOCATIONS);
+		assertEquals(4, cache.getMissCount());
+	}
+
+	private File createJar(String... entriesAndContents) throws Exception {
+		File jar = File.createTempFile("metadata", ".jar");
+		jar.deleteOnExit();
+		writeJar(jar, entriesAndContents);
+		return jar;
+	}
+
+	private void writeJar(File jar, String... entriesAndContents) throws Exception {
+		JarOutputStream out = new JarOutputStream(new FileOutputStream(jar));
+		try {
+			for (int i = 0; i < entriesAndContents.length; i += 2) {
+				out.putNextEntry(new ZipEntry(entriesAndContents[i]));
+				out.write(entriesAndContents[i + 1].getBytes(StandardCharsets.UTF_8));
+				out.closeEntry();
+			}
+		} finally {
+			out.close();
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014-2016 Pivotal, Inc.
+ * Copyright (c) 2014, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,6 +18,7 @@ import java.util.List;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaCore;
@@ -27,6 +28,7 @@ import org.eclipse.jface.text.contentassist.ICompletionProposal;
 import org.springframework.ide.eclipse.boot.properties.editor.SpringPropertiesCompletionEngine;
 import org.springframework.ide.eclipse.boot.properties.editor.StsConfigMetadataRepositoryJsonLoader;
 import org.springframework.ide.eclipse.boot.properties.editor.metadata.CachingValueProvider;
+import org.springframework.ide.eclipse.boot.properties.editor.reconciling.SpringPropertiesReconcileEngine;
 import org.springframework.ide.eclipse.boot.properties.editor.reconciling.SpringPropertyProblem;
 import org.springframework.ide.eclipse.boot.properties.editor.test.ApplicationYamlEditorTestHarness.YamlEditor;
 import org.springframework.ide.eclipse.boot.properties.editor.util.AptUtils;
@@ -90,6 +92,15 @@ public class SpringPropertiesEditorTests extends SpringPropertiesEditorTestHarne
 		}
 	}
 
+	public void testShortPrefixProposalsNotLimited() throws Exception {
+		int count = SpringPropertiesCompletionEngine.MAX_PROPERTY_PROPOSALS + 100;
+		for (int i = 0; i < count; i++) {
+			data("test.key"+i, "java.lang.Integer", null, "Test property "+i);
+		}
+		assertEquals(count, getCompletions(newEditor("")).length);
+		assertEquals(count, getCompletions(newEditor("t")).length);
+	}
+
 	public void testValueCompletion() throws Exception {
 		defaultTestData();
 		assertCompletionsVariations("liquibase.enabled=<*>",
@@ -268,6 +279,45 @@ public class SpringPropertiesEditorTests extends SpringPropertiesEditorTestHarne
 
 	}
 
+	public void testIncrementalReconcile() throws Exception {
+		defaultTestData();
+		MockEditor editor = newEditor(
+				"server.port=8080\n" +
+				"server.port.extracrap=8080\n" +
+				"logging.snuggem=what?\n" +
+				"server.port=8080\n"
+		);
+		SpringPropertiesReconcileEngine reconciler = createReconcileEngine();
+		assertSameProblems(editor, reconciler);
+
+		//entries after the change are moved, the changed entry is checked again
+		editor.document.replace(0, 0, "bogus.no.good=true\n");
+		assertSameProblems(editor, reconciler);
+		editor.document.replace(editor.getText().indexOf("8080"), 4, "not-a-port");
+		assertSameProblems(editor, reconciler);
+		editor.document.replace(0, editor.getText().indexOf("\n")+1, "");
+		assertSameProblems(editor, reconciler);
+	}
+
+	/**
+	 * Checks that the given reconciler, which may reuse problems from the previous reconcile,
+	 * reports the same problems as a fresh one.
+	 */
+	private void assertSameProblems(MockEditor editor, SpringPropertiesReconcileEngine reconciler) throws Exception {
+		MockProblemCollector actual = new MockProblemCollector();
+		reconciler.reconcile(editor.document, actual, new NullProgressMonitor());
+		List<ReconcileProblem> expected = reconcile(editor);
+		assertEquals(problemsToString(editor, expected), problemsToString(editor, actual.getAllProblems()));
+	}
+
+	private String problemsToString(MockEditor editor, List<ReconcileProblem> problems) throws BadLocationException {
+		StringBuilder buf = new StringBuilder();
+		for (ReconcileProblem p : problems) {
+			buf.append(p.getType()+"@"+p.getOffset()+"["+editor.getText(p.getOffset(), p.getLength())+"]: "+p.getMessage()+"\n");
+		}
+		return buf.toString();
+	}
+
 	public void testReconcilePojoArray() throws Exception {
 		IProject p = createPredefinedMavenProject("demo-list-of-pojo");
 		IJavaProject jp = JavaCore.create(p);
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.properties.editor.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.springframework.ide.eclipse.boot.properties.editor.FuzzyMap;
+import org.springframework.ide.eclipse.boot.properties.editor.metadata.PropertyInfo;
+import org.springframework.ide.eclipse.boot.properties.editor.metadata.ValueProviderRegistry;
+import org.springframework.ide.eclipse.boot.properties.editor.util.Listener;
+import org.springframework.ide.eclipse.boot.properties.editor.util.SpringPropertiesIndexManager;
+
+import junit.framework.TestCase;
+
+/**
+ * @since 3.9.17
+ */
+public class SpringPropertiesIndexManagerTest extends TestCase {
+
+	private final List<IProject> projects = new ArrayList<>();
+
+	private SpringPropertiesIndexManager manager;
+
+	private final AtomicInteger refreshes = new AtomicInteger();
+
+	@Override
+	protected void setUp() throws Exception {
+		manager = new SpringPropertiesIndexManager(ValueProviderRegistry.getDefault());
+		manager.addListener(new Listener<SpringPropertiesIndexManager>() {
+			@Override
+			public void changed(SpringPropertiesIndexManager info) {
+				refreshes.incrementAndGet();
+			}
+		});
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		Job.getJobManager().join(manager, null);
+		for (IProject p : projects) {
+			p.delete(true, true, null);
+		}
+	}
+
+	public void testDependentProjectsAreInvalidated() throws Exception {
+		IJavaProject base = createProject("IndexManagerBase");
+		IJavaProject dependent = createProject("IndexManagerDependent", base);
+		IJavaProject transitive = createProject("IndexManagerTransitive", dependent);
+		IJavaProject unrelated = createProject("IndexManagerUnrelated");
+		FuzzyMap<PropertyInfo> baseIndex = manager.get(base);
+		FuzzyMap<PropertyInfo> dependentIndex = manager.get(dependent);
+		FuzzyMap<PropertyInfo> transitiveIndex = manager.get(transitive);
+		FuzzyMap<PropertyInfo> unrelatedIndex = manager.get(unrelated);
+
+		manager.classpathChanged(base);
+		Job.getJobManager().join(manager, null);
+
+		assertNotSame(baseIndex, manager.get(base));
+		assertNotSame(dependentIndex, manager.get(dependent));
+		assertNotSame(transitiveIndex, manager.get(transitive));
+		assertSame(unrelatedIndex, manager.get(unrelated));
+	}
+
+	public void testBurstOfChangesIsRefreshedOnce() throws Exception {
+		IJavaProject first = createProject("IndexManagerFirst");
+		IJavaProject second = createProject("IndexManagerSecond");
+		FuzzyMap<PropertyInfo> firstIndex = manager.get(first);
+		FuzzyMap<PropertyInfo> secondIndex = manager.get(second);
+		Job.getJobManager().join(manager, null);
+		refreshes.set(0);
+
+		//all well within the refresh delay of 500ms
+		for (int i = 0; i < 5; i++) {
+			manager.classpathChanged(first);
+			manager.classpathChanged(second);
+		}
+		//the index stays available while the refresh is pending
+		assertSame(firstIndex, manager.get(first));
+		Job.getJobManager().join(manager, null);
+
+		assertEquals(1, refreshes.get());
+		assertNotSame(firstIndex, manager.get(first));
+		assertNotSame(secondIndex, manager.get(second));
+	}
+
+	private IJavaProject createProject(String name, IJavaProject... required) throws Exception {
+		IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(name);
+		project.create(null);
+		project.open(null);
+		projects.add(project);
+		IProjectDescription description = project.getDescription();
+		description.setNatureIds(new String[] { JavaCore.NATURE_ID });
+		project.setDescription(description, null);
+		IClasspathEntry[] entries = new IClasspathEntry[required.length];
+		for (int i = 0; i < required.length; i++) {
+			entries[i] = JavaCore.newProjectEntry(required[i].getPath());
+		}
+		IJavaProject jp = JavaCore.create(project);
+		jp.setRawClasspath(entries, project.getFullPath().append("bin"), null);
+		return jp;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -54,6 +54,29 @@ public class TypeUtilTests extends SpringPropertiesEditorTestHarness {
 		assertElements(actualNames, "public-property"); //static and private properties should not be included.
 	}
 
+	public void testGetInheritedProperties() throws Exception {
+		IProject p = createPredefinedMavenProject("demo");
+		useProject(p);
+
+		Type type = TypeParser.parse("demo.InheritedGetters");
+		List<TypedProperty> props = getProperties(type, EnumCaseMode.LOWER_CASE, BeanPropertyNameMode.HYPHENATED);
+		String[] actualNames = new String[props.size()];
+		for (int i = 0; i < actualNames.length; i++) {
+			actualNames[i] = props.get(i).getName();
+		}
+		//overridden getter only included once, getters of java.lang.Object not at all.
+		assertElements(actualNames, "own-property", "public-property");
+
+		//second lookup is answered from the cached model: same model and same resolved property types
+		Object stamp = engine.getTypeUtil().getPropertyModelStamp();
+		List<TypedProperty> cached = getProperties(type, EnumCaseMode.LOWER_CASE, BeanPropertyNameMode.HYPHENATED);
+		assertSame(stamp, engine.getTypeUtil().getPropertyModelStamp());
+		assertEquals(props.size(), cached.size());
+		for (int i = 0; i < props.size(); i++) {
+			assertSame(props.get(i).getType(), cached.get(i).getType());
+		}
+	}
+
 	public void testGetProperties() throws Exception {
 		IProject p = createPredefinedMavenProject("demo-enum");
 		IJavaProject jp = JavaCore.create(p);
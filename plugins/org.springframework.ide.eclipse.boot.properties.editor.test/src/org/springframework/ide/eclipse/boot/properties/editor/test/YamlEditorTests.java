@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2016 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -19,6 +19,7 @@ import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jface.text.contentassist.ICompletionProposal;
 import org.eclipse.ui.part.EditorActionBarContributor;
+import org.springframework.ide.eclipse.boot.properties.editor.SpringPropertiesCompletionEngine;
 import org.springframework.ide.eclipse.boot.properties.editor.metadata.CachingValueProvider;
 import org.springframework.ide.eclipse.boot.properties.editor.metadata.PropertyInfo;
 import org.springframework.ide.eclipse.editor.support.reconcile.ProblemSeverity;
@@ -74,6 +75,15 @@ public class YamlEditorTests extends ApplicationYamlEditorTestHarness {
 		editor.assertNoHover("error");
 	}
 
+	public void testEmptyPrefixProposalsNotLimited() throws Exception {
+		int count = SpringPropertiesCompletionEngine.MAX_PROPERTY_PROPOSALS + 100;
+		for (int i = 0; i < count; i++) {
+			data("test.key"+i, "java.lang.Integer", null, "Test property "+i);
+		}
+		assertEquals(count, getCompletions(newEditor("")).length);
+		assertEquals(count, getCompletions(newEditor("test:\n  <*>")).length);
+	}
+
 	public void testHoverInfoForEnumValueInMapKey() throws Exception {
 		MockEditor editor;
 		IJavaProject project = JavaCore.create(createPredefinedMavenProject("boot13"));
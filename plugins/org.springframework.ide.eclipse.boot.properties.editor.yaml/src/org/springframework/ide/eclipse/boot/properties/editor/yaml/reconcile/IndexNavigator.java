@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,8 +12,6 @@ package org.springframework.ide.eclipse.boot.properties.editor.yaml.reconcile;
 
 import static org.springsource.ide.eclipse.commons.core.util.StringUtil.*;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 import org.springframework.ide.eclipse.boot.properties.editor.FuzzyMap;
@@ -101,25 +99,18 @@ public class IndexNavigator {
 		return prefix;
 	}
 
+	/**
+	 * Finds all properties below the prefix of this navigator that match the query, best
+	 * matches first. The matches are not limited, so that the completions in a YAML
+	 * context propose every property that can be nested in it.
+	 */
 	public List<Match<PropertyInfo>> findMatching(String query) {
 		if (!StringUtil.hasText(prefix)) {
-			return index.find(query);
+			return index.find(query, Integer.MAX_VALUE);
 		} else {
 			String dottedPrefix = prefix +".";
-			List<Match<PropertyInfo>> candidates = index.find(dottedPrefix + query);
-			if (!candidates.isEmpty()) {
-				//TODO: we can do better than this using treemap to narrow based on
-				// prefix
-				List<Match<PropertyInfo>> matches = new ArrayList<Match<PropertyInfo>>(candidates.size());
-				for (Match<PropertyInfo> match : candidates) {
-					if (match.data.getId().startsWith(dottedPrefix)){
-						matches.add(match);
-					}
-				}
-				return matches;
-			}
+			return index.find(dottedPrefix + query, dottedPrefix, Integer.MAX_VALUE);
 		}
-		return Collections.emptyList();
 	}
 
 	@Override
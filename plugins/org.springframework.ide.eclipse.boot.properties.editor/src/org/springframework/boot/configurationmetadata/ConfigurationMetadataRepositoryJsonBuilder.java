@@ -26,6 +26,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.ide.eclipse.org.json.JSONException;
+import org.springframework.ide.eclipse.org.json.JSONObject;
 
 /**
  * Load a {@link ConfigurationMetadataRepository} from the content of arbitrary
@@ -87,6 +88,55 @@ public final class ConfigurationMetadataRepositoryJsonBuilder {
 		return this;
 	}
 
+	/**
+	 * Add the content of a {@link ConfigurationMetadataRepository} defined by an
+	 * already parsed json document (see {@link #readJson(InputStream)}). The document
+	 * is not modified, so it can be shared by several builders.
+	 * @param json the parsed json document
+	 * @return this builder
+	 * @throws IOException in case of I/O errors
+	 */
+	public ConfigurationMetadataRepositoryJsonBuilder withJsonDocument(JSONObject json)
+			throws IOException {
+		if (json == null) {
+			throw new IllegalArgumentException("JSONObject must not be null.");
+		}
+		try {
+			this.rawDatas.add(this.reader.read(json));
+		}
+		catch (JSONException ex) {
+			throw new IllegalArgumentException(
+					"Invalid configuration " + "metadata document", ex);
+		}
+		return this;
+	}
+
+	/**
+	 * Parse a json document using the default charset, without adding it to this
+	 * builder. Closes the stream when done.
+	 * @param inputStream the source input stream
+	 * @return the parsed document
+	 * @throws IOException in case of I/O errors
+	 */
+	public JSONObject readJson(InputStream inputStream) throws IOException {
+		if (inputStream == null) {
+			throw new IllegalArgumentException("InputStream must not be null.");
+		}
+		try {
+			return this.reader.readJson(inputStream, this.defaultCharset);
+		}
+		catch (IOException ex) {
+			throw ex;
+		}
+		catch (JSONException ex) {
+			throw new IllegalArgumentException(
+					"Invalid configuration " + "metadata document", ex);
+		}
+		catch (Exception ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
 	/**
 	 * Build a {@link ConfigurationMetadataRepository} with the current state of this
 	 * builder.
@@ -42,7 +42,26 @@ class JsonReader {
 	public RawConfigurationMetadata read(InputStream in, Charset charset)
 			throws IOException {
 		try {
-			JSONObject json = readJson(in, charset);
+			return read(readJson(in, charset));
+		}
+		catch (Exception ex) {
+			if (ex instanceof IOException) {
+				throw (IOException) ex;
+			}
+			if (ex instanceof RuntimeException) {
+				throw (RuntimeException) ex;
+			}
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/**
+	 * Read metadata from an already parsed json document. The document is only read,
+	 * so the same document can be used to create any number of independent
+	 * {@link RawConfigurationMetadata}.
+	 */
+	public RawConfigurationMetadata read(JSONObject json) throws IOException {
+		try {
 			List<ConfigurationMetadataSource> groups = parseAllSources(json);
 			List<ConfigurationMetadataItem> items = parseAllItems(json);
 			List<ConfigurationMetadataHint> hints = parseAllHints(json);
@@ -204,7 +223,7 @@ class JsonReader {
 		return value;
 	}
 
-	private JSONObject readJson(InputStream in, Charset charset) throws Exception {
+	JSONObject readJson(InputStream in, Charset charset) throws Exception {
 		try {
 			StringBuilder out = new StringBuilder();
 			InputStreamReader reader = new InputStreamReader(in, charset);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014 Pivotal, Inc.
+ * Copyright (c) 2014, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,10 +11,15 @@
 package org.springframework.ide.eclipse.boot.properties.editor;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.PriorityQueue;
 import java.util.TreeMap;
 
 import org.springframework.ide.eclipse.editor.support.util.FuzzyMatcher;
@@ -68,6 +73,11 @@ public abstract class FuzzyMap<E> implements Iterable<E> {
 
 	private TreeMap<String,E> entries = new TreeMap<>();
 
+	/**
+	 * Character index over the keys, rebuilt lazily after entries were added.
+	 */
+	private volatile CharIndex<E> index;
+
 	protected abstract String getKey(E entry);
 
 	public void add(E value) {
@@ -76,6 +86,7 @@ public abstract class FuzzyMap<E> implements Iterable<E> {
 		E existing = entries.get(key);
 		if (existing==null) {
 			entries.put(getKey(value), value);
+			index = null;
 		} else {
 			SpringPropertiesEditorPlugin.warning(FuzzyMap.class.getName()+": Multiple entries for key "+key+" some entries discarded");
 		}
@@ -99,19 +110,217 @@ public abstract class FuzzyMap<E> implements Iterable<E> {
 			}
 			return matches;
 		} else {
-			//TODO: optimize somehow with a smarter index? (right now searches all map entries sequentially)
+			CharIndex<E> index = getIndex();
 			ArrayList<Match<E>> matches = new ArrayList<>();
+			BitSet candidates = index.candidates(pattern);
+			if (candidates!=null) {
+				for (int i = candidates.nextSetBit(0); i>=0; i = candidates.nextSetBit(i+1)) {
+					double score = FuzzyMatcher.matchScore(pattern, index.keys[i]);
+					if (score!=0.0) {
+						matches.add(new Match<>(pattern, score, index.values.get(i)));
+					}
+				}
+			}
+			return matches;
+		}
+	}
+
+	/**
+	 * Search for pattern like {@link #find(String)} but only returns the best 'limit' matches.
+	 * Unlike {@link #find(String)}, the returned list is sorted by descending score. Matches
+	 * with equal scores are sorted lexicographically.
+	 */
+	public List<Match<E>> find(String pattern, int limit) {
+		return find(pattern, "", limit);
+	}
+
+	/**
+	 * Search for pattern like {@link #find(String, int)} but only considers the entries
+	 * whose key starts with the given keyPrefix. Since the keys are sorted, these entries
+	 * form a contiguous range which is found by binary search rather than by filtering
+	 * the matches.
+	 */
+	public List<Match<E>> find(String pattern, String keyPrefix, int limit) {
+		if (limit<=0) {
+			return new ArrayList<>();
+		}
+		CharIndex<E> index = getIndex();
+		int from = index.firstWithPrefix(keyPrefix);
+		int to = index.endOfPrefix(keyPrefix, from);
+		if (from>=to) {
+			return new ArrayList<>();
+		}
+		boolean matchAll = "".equals(pattern);
+		BitSet candidates;
+		if (matchAll) {
+			candidates = new BitSet(to);
+			candidates.set(from, to);
+		} else {
+			candidates = index.candidates(pattern);
+			if (candidates==null) {
+				return new ArrayList<>();
+			}
+			candidates.clear(0, from);
+			candidates.clear(to, Math.max(to, candidates.length()));
+			if (candidates.isEmpty()) {
+				return new ArrayList<>();
+			}
+		}
+		//Bounded min-heap: the head is the 'worst' of the best matches found so far.
+		//On equal scores the later key is the worse one, so lexicographic order wins ties.
+		PriorityQueue<ScoredOrdinal> best = new PriorityQueue<>(Math.min(limit, candidates.cardinality()) + 1, WORST_FIRST);
+		for (int i = candidates.nextSetBit(0); i>=0; i = candidates.nextSetBit(i+1)) {
+			double score = matchAll ? 1.0 : FuzzyMatcher.matchScore(pattern, index.keys[i]);
+			if (score!=0.0) {
+				if (best.size()<limit) {
+					best.add(new ScoredOrdinal(score, i));
+				} else if (score>best.peek().score) {
+					best.poll();
+					best.add(new ScoredOrdinal(score, i));
+				}
+			}
+		}
+		Match<E>[] sorted = newMatchArray(best.size());
+		for (int i = sorted.length-1; i>=0; i--) {
+			ScoredOrdinal s = best.poll();
+			sorted[i] = new Match<>(pattern, s.score, index.values.get(s.ordinal));
+		}
+		ArrayList<Match<E>> matches = new ArrayList<>(sorted.length);
+		for (Match<E> m : sorted) {
+			matches.add(m);
+		}
+		return matches;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <E> Match<E>[] newMatchArray(int size) {
+		return new Match[size];
+	}
+
+	/**
+	 * Builds the character index used by {@link #find(String)} ahead of the first search.
+	 * Subclasses that populate the map up front can call this once they are done adding
+	 * entries, so that the first search doesn't have to pay for it.
+	 */
+	protected void buildIndex() {
+		getIndex();
+	}
+
+	private CharIndex<E> getIndex() {
+		CharIndex<E> index = this.index;
+		if (index==null) {
+			synchronized (this) {
+				index = this.index;
+				if (index==null) {
+					this.index = index = new CharIndex<>(entries);
+				}
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Maps each (lower-cased) character to the set of ordinals of the keys that contain it. Since a
+	 * pattern matches a key only when all of its characters occur in the key, intersecting the sets
+	 * of the pattern's characters yields a small superset of the matches, which is then scored.
+	 */
+	private static class CharIndex<E> {
+		final String[] keys;
+		final List<E> values;
+		final Map<Character, BitSet> postings = new HashMap<>();
+
+		CharIndex(TreeMap<String, E> entries) {
+			keys = new String[entries.size()];
+			values = new ArrayList<>(entries.size());
+			int ordinal = 0;
 			for (Entry<String, E> e : entries.entrySet()) {
 				String key = e.getKey();
-				double score = FuzzyMatcher.matchScore(pattern, key);
-				if (score!=0.0) {
-					matches.add(new Match<>(pattern, score, e.getValue()));
+				keys[ordinal] = key;
+				values.add(e.getValue());
+				for (int i = 0; i < key.length(); i++) {
+					Character c = Character.toLowerCase(key.charAt(i));
+					BitSet posting = postings.get(c);
+					if (posting==null) {
+						postings.put(c, posting = new BitSet(keys.length));
+					}
+					posting.set(ordinal);
 				}
+				ordinal++;
 			}
-			return matches;
+		}
+
+		/**
+		 * @return ordinal of the first key that is not smaller than the prefix.
+		 */
+		int firstWithPrefix(String prefix) {
+			int low = 0;
+			int high = keys.length;
+			while (low<high) {
+				int mid = (low + high) >>> 1;
+				if (keys[mid].compareTo(prefix)<0) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+
+		/**
+		 * @return ordinal following the last key starting with the prefix, given the ordinal
+		 *     of the first key that is not smaller than the prefix.
+		 */
+		int endOfPrefix(String prefix, int from) {
+			int low = from;
+			int high = keys.length;
+			while (low<high) {
+				int mid = (low + high) >>> 1;
+				if (keys[mid].startsWith(prefix)) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+
+		/**
+		 * @return ordinals of the keys containing every character of the pattern, or null if there are none.
+		 */
+		BitSet candidates(String pattern) {
+			BitSet result = null;
+			for (int i = 0; i < pattern.length(); i++) {
+				BitSet posting = postings.get(Character.toLowerCase(pattern.charAt(i)));
+				if (posting==null) {
+					return null;
+				}
+				if (result==null) {
+					result = (BitSet) posting.clone();
+				} else {
+					result.and(posting);
+				}
+				if (result.isEmpty()) {
+					return null;
+				}
+			}
+			return result;
 		}
 	}
 
+	private static class ScoredOrdinal {
+		final double score;
+		final int ordinal;
+		ScoredOrdinal(double score, int ordinal) {
+			this.score = score;
+			this.ordinal = ordinal;
+		}
+	}
+
+	private static final Comparator<ScoredOrdinal> WORST_FIRST = (a, b) -> {
+		int c = Double.compare(a.score, b.score);
+		return c!=0 ? c : Integer.compare(b.ordinal, a.ordinal);
+	};
+
 	/**
 	 * Searches the index for the longest string which is both
 	 *  - a prefix of propertyName
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.properties.editor;
+
+import static org.springframework.ide.eclipse.boot.properties.editor.SpringPropertiesCompletionEngine.debug;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataRepositoryJsonBuilder;
+import org.springframework.ide.eclipse.org.json.JSONObject;
+
+/**
+ * Cache of the parsed Spring Boot configuration metadata found in jar files. Entries are keyed
+ * by the jar's path, size and modification time, so a jar is only opened and parsed again when
+ * it changed on disk. Jars without metadata are cached too, as they are the vast majority of
+ * the jars on a typical classpath. So are jars that can't be read, so a broken jar isn't
+ * opened again on every rebuild of an index.
+ * <p>
+ * The cache holds at most a fixed number of jars, evicting the least recently used one when
+ * it is full. Jars that changed or were removed from a classpath are evicted by the
+ * {@link org.springframework.ide.eclipse.boot.properties.editor.util.SpringPropertiesIndexManager}.
+ * <p>
+ * The cached json documents are never modified by {@link ConfigurationMetadataRepositoryJsonBuilder},
+ * so one cache is shared by the indexes of all projects (see {@link #getDefault()}).
+ *
+ * @since 3.9.17
+ */
+public class JarMetadataCache {
+
+	/**
+	 * Default maximum number of jars in the cache.
+	 */
+	public static final int DEFAULT_MAX_ENTRIES = 2000;
+
+	private static final JarMetadataCache DEFAULT = new JarMetadataCache();
+
+	public static JarMetadataCache getDefault() {
+		return DEFAULT;
+	}
+
+	private static class CacheEntry {
+		final long length;
+		final long lastModified;
+		final List<JSONObject> documents;
+
+		CacheEntry(long length, long lastModified, List<JSONObject> documents) {
+			this.length = length;
+			this.lastModified = lastModified;
+			this.documents = documents;
+		}
+
+		boolean isValidFor(File jar) {
+			return length==jar.length() && lastModified==jar.lastModified();
+		}
+	}
+
+	/**
+	 * Entries in access order. Guarded by itself.
+	 */
+	private final Map<String, CacheEntry> entries;
+
+	private final AtomicInteger hits = new AtomicInteger();
+	private final AtomicInteger misses = new AtomicInteger();
+
+	public JarMetadataCache() {
+		this(DEFAULT_MAX_ENTRIES);
+	}
+
+	/**
+	 * @param maxEntries Maximum number of jars in the cache.
+	 */
+	public JarMetadataCache(final int maxEntries) {
+		this.entries = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+				return size()>maxEntries;
+			}
+		};
+	}
+
+	/**
+	 * Get the parsed json documents found at the given locations inside a jar file, reading
+	 * and parsing the jar only if it isn't in the cache yet or was modified since it was cached.
+	 *
+	 * @return The parsed documents, in the order of the locations. Empty if the jar contains none of them
+	 *     or can't be read. Documents that can't be parsed are left out.
+	 */
+	public List<JSONObject> getDocuments(File jar, String[] locations) {
+		String key = jar.getAbsolutePath();
+		CacheEntry entry;
+		synchronized (entries) {
+			entry = entries.get(key);
+		}
+		if (entry!=null && entry.isValidFor(jar)) {
+			hits.incrementAndGet();
+			return entry.documents;
+		}
+		misses.incrementAndGet();
+		//Read size and time stamp before the content, so a concurrent change can't be cached as up-to-date.
+		long length = jar.length();
+		long lastModified = jar.lastModified();
+		List<JSONObject> documents = readDocuments(jar, locations);
+		synchronized (entries) {
+			entries.put(key, new CacheEntry(length, lastModified, documents));
+		}
+		return documents;
+	}
+
+	/**
+	 * Reads the documents of a jar. Failures are logged and skipped, so the documents that
+	 * can be read are still used and the jar is cached either way.
+	 */
+	private List<JSONObject> readDocuments(File f, String[] locations) {
+		debug("load from jar: "+f);
+		ConfigurationMetadataRepositoryJsonBuilder parser = ConfigurationMetadataRepositoryJsonBuilder.create();
+		List<JSONObject> documents = new ArrayList<>(locations.length);
+		JarFile jarFile;
+		try {
+			jarFile = new JarFile(f);
+		} catch (IOException e) {
+			log(e);
+			return Collections.emptyList();
+		}
+		try {
+			for (String loc : locations) {
+				try {
+					ZipEntry ze = jarFile.getEntry(loc);
+					if (ze!=null) {
+						InputStream is = jarFile.getInputStream(ze);
+						//readJson closes the stream
+						documents.add(parser.readJson(is));
+					}
+				} catch (Exception e) {
+					log(e);
+				}
+			}
+		} finally {
+			try {
+				jarFile.close();
+			} catch (IOException e) {
+			}
+		}
+		return documents.isEmpty() ? Collections.<JSONObject>emptyList() : Collections.unmodifiableList(documents);
+	}
+
+	private static void log(Exception e) {
+		//The cache is also used outside of a running plugin, e.g. in plain JUnit tests.
+		if (SpringPropertiesEditorPlugin.getDefault()!=null) {
+			SpringPropertiesEditorPlugin.log(e);
+		} else {
+			debug("failed to read jar: "+e);
+		}
+	}
+
+	/**
+	 * Remove the cached metadata of a jar file.
+	 */
+	public void evict(File jar) {
+		synchronized (entries) {
+			entries.remove(jar.getAbsolutePath());
+		}
+	}
+
+	public void clear() {
+		synchronized (entries) {
+			entries.clear();
+		}
+	}
+
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	/**
+	 * @return Number of requests answered from the cache.
+	 */
+	public int getHitCount() {
+		return hits.get();
+	}
+
+	/**
+	 * @return Number of requests that required reading a jar.
+	 */
+	public int getMissCount() {
+		return misses.get();
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014 Pivotal, Inc.
+ * Copyright (c) 2014, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -85,6 +85,20 @@ public class SpringPropertiesCompletionEngine implements HoverInfoProvider, ICom
 		}
 	}
 
+	/**
+	 * Maximum number of property proposals computed for a single completion request. Only
+	 * the best scoring properties are proposed, so that very large indexes don't produce
+	 * proposal lists nobody will scroll through.
+	 */
+	public static final int MAX_PROPERTY_PROPOSALS = 500;
+
+	/**
+	 * Prefixes shorter than this are not limited to {@link #MAX_PROPERTY_PROPOSALS}. They match
+	 * (almost) every property with the same score, so the limit would just cut off the
+	 * alphabetically last properties.
+	 */
+	public static final int MIN_LIMITED_PREFIX_LENGTH = 2;
+
 	public static final boolean DEFAULT_VALUE_INCLUDED = false; //might make sense to make this user configurable
 
 	private static boolean isValuePrefixChar(char c) {
@@ -495,7 +509,9 @@ public class SpringPropertiesCompletionEngine implements HoverInfoProvider, ICom
 	}
 
 	private List<Match<PropertyInfo>> findMatches(String prefix) {
-		List<Match<PropertyInfo>> matches = getIndex().find(camelCaseToHyphens(prefix));
+		String pattern = camelCaseToHyphens(prefix);
+		int limit = pattern.length()<MIN_LIMITED_PREFIX_LENGTH ? Integer.MAX_VALUE : MAX_PROPERTY_PROPOSALS;
+		List<Match<PropertyInfo>> matches = getIndex().find(pattern, limit);
 		return matches;
 	}
 
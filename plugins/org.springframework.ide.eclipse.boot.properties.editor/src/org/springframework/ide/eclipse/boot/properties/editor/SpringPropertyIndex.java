@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Pivotal, Inc.
+ * Copyright (c) 2015, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -46,6 +46,7 @@ public class SpringPropertyIndex extends FuzzyMap<PropertyInfo> {
 						}
 					}
 				}
+				buildIndex();
 
 	//			System.out.println(">>> spring properties metadata loaded "+this.size()+" items===");
 	//			dumpAsTestData();
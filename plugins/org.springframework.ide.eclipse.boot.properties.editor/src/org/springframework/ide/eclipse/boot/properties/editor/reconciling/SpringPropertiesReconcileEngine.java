@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014-2016 Pivotal, Inc.
+ * Copyright (c) 2014, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,6 +15,10 @@ import static org.springframework.ide.eclipse.boot.properties.editor.reconciling
 import static org.springframework.ide.eclipse.boot.properties.editor.reconciling.SpringPropertyProblem.problem;
 import static org.springsource.ide.eclipse.commons.core.util.StringUtil.commonPrefix;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import javax.inject.Provider;
@@ -44,6 +48,7 @@ import org.springframework.ide.eclipse.boot.properties.editor.util.TypeParser;
 import org.springframework.ide.eclipse.boot.properties.editor.util.TypeUtil;
 import org.springframework.ide.eclipse.editor.support.reconcile.IProblemCollector;
 import org.springframework.ide.eclipse.editor.support.reconcile.IReconcileEngine;
+import org.springframework.ide.eclipse.editor.support.reconcile.ReconcileProblem;
 import org.springframework.ide.eclipse.editor.support.util.DocumentRegion;
 import org.springframework.ide.eclipse.editor.support.util.DocumentUtil;
 import org.springframework.ide.eclipse.editor.support.util.ValueParseException;
@@ -81,11 +86,28 @@ public class SpringPropertiesReconcileEngine implements IReconcileEngine {
 	private Provider<FuzzyMap<PropertyInfo>> fIndexProvider;
 	private TypeUtil typeUtil;
 
+	private boolean incremental = true;
+
+	/**
+	 * Problems found by the last reconcile, reused for the entries that didn't change.
+	 */
+	private volatile EntryProblems entryProblems;
+
 	public SpringPropertiesReconcileEngine(Provider<FuzzyMap<PropertyInfo>> provider, TypeUtil typeUtil) {
 		this.fIndexProvider = provider;
 		this.typeUtil = typeUtil;
 	}
 
+	/**
+	 * Enables reusing the problems found for property entries that didn't change since the last reconcile.
+	 */
+	public void setIncremental(boolean incremental) {
+		this.incremental = incremental;
+		if (!incremental) {
+			entryProblems = null;
+		}
+	}
+
 	public void reconcile(IDocument doc, IProblemCollector problemCollector, IProgressMonitor mon) {
 		FuzzyMap<PropertyInfo> index = getIndex();
 		if (index==null || index.isEmpty()) {
@@ -94,6 +116,13 @@ public class SpringPropertiesReconcileEngine implements IReconcileEngine {
 			// some problem putting information about properties into the index.
 			return;
 		}
+		Object modelStamp = typeUtil.getPropertyModelStamp();
+		EntryProblems previous = entryProblems;
+		if (previous!=null && (previous.index!=index || previous.modelStamp!=modelStamp)) {
+			//Problems found with another index or bean property model may no longer be valid.
+			previous = null;
+		}
+		EntryProblems current = incremental ? new EntryProblems(index, modelStamp) : null;
 		problemCollector.beginCollecting();
 		try {
 			DuplicateNameChecker duplicateNameChecker = new DuplicateNameChecker(problemCollector);
@@ -113,28 +142,13 @@ public class SpringPropertiesReconcileEngine implements IReconcileEngine {
 									continue;
 								}
 							}
+							//Duplicates depend on the other entries, so they are always checked.
 							duplicateNameChecker.check(fullName);
-							PropertyInfo validProperty = SpringPropertiesCompletionEngine.findLongestValidProperty(index, fullName.toString());
-							if (validProperty!=null) {
-								//TODO: Remove last remnants of 'IRegion trimmedRegion' here and replace
-								// it all with just passing around 'fullName' DocumentRegion. This may require changes
-								// in PropertyNavigator (probably these changes are also for the better making it simpler as well)
-								IRegion trimmedRegion = fullName.asRegion();
-								if (validProperty.isDeprecated()) {
-									problemCollector.accept(problemDeprecated(fullName, validProperty));
-								}
-								int offset = validProperty.getId().length() + trimmedRegion.getOffset();
-								PropertyNavigator navigator = new PropertyNavigator(doc, problemCollector, typeUtil, trimmedRegion);
-								Type valueType = navigator.navigate(offset, TypeParser.parse(validProperty.getType()));
-								if (valueType!=null) {
-									reconcileType(doc, valueType, regions, i, problemCollector);
-								}
-							} else { //validProperty==null
-								//The name is invalid, with no 'prefix' of the name being a valid property name.
-								PropertyInfo similarEntry = index.findLongestCommonPrefixEntry(fullName.toString());
-								CharSequence validPrefix = commonPrefix(similarEntry.getId(), fullName);
-								problemCollector.accept(problemUnkownProperty(fullName, similarEntry, validPrefix));
-							} //end: validProperty==null
+							if (current==null) {
+								reconcileEntry(doc, index, regions, i, fullName, problemCollector);
+							} else {
+								reconcileEntryIncrementally(doc, index, regions, i, fullName, problemCollector, previous, current);
+							}
 						}
 					} catch (Exception e) {
 						SpringPropertiesEditorPlugin.log(e);
@@ -146,6 +160,136 @@ public class SpringPropertiesReconcileEngine implements IReconcileEngine {
 		} finally {
 			problemCollector.endCollecting();
 		}
+		entryProblems = current;
+	}
+
+	/**
+	 * Reconcile the property entry starting with regions[i], reusing the problems found by the previous
+	 * reconcile if the text of the entry didn't change since then.
+	 */
+	private void reconcileEntryIncrementally(IDocument doc, FuzzyMap<PropertyInfo> index, ITypedRegion[] regions, int i,
+			DocumentRegion fullName, IProblemCollector problemCollector, EntryProblems previous, EntryProblems current) throws Exception {
+		int entryStart = regions[i].getOffset();
+		String entryText = getEntryText(doc, regions, i);
+		List<SpringPropertyProblem> problems = current.get(entryText);
+		if (problems==null && previous!=null) {
+			problems = previous.get(entryText);
+		}
+		if (problems==null) {
+			RecordingProblemCollector recorder = new RecordingProblemCollector(problemCollector, entryStart);
+			reconcileEntry(doc, index, regions, i, fullName, recorder);
+			problems = recorder.getProblems();
+		} else {
+			for (SpringPropertyProblem p : problems) {
+				problemCollector.accept(p.moveBy(entryStart));
+			}
+		}
+		if (problems!=null) {
+			current.put(entryText, problems);
+		}
+	}
+
+	/**
+	 * The text the problems of an entry depend on: its name and value, plus the character following them.
+	 */
+	private String getEntryText(IDocument doc, ITypedRegion[] regions, int i) throws BadLocationException {
+		int start = regions[i].getOffset();
+		int end = start + regions[i].getLength();
+		if (i+1<regions.length && IPropertiesFilePartitions.PROPERTY_VALUE.equals(regions[i+1].getType())) {
+			end = regions[i+1].getOffset() + regions[i+1].getLength();
+		}
+		end = Math.min(end+1, doc.getLength());
+		return doc.get(start, end-start);
+	}
+
+	private void reconcileEntry(IDocument doc, FuzzyMap<PropertyInfo> index, ITypedRegion[] regions, int i,
+			DocumentRegion fullName, IProblemCollector problemCollector) {
+		PropertyInfo validProperty = SpringPropertiesCompletionEngine.findLongestValidProperty(index, fullName.toString());
+		if (validProperty!=null) {
+			//TODO: Remove last remnants of 'IRegion trimmedRegion' here and replace
+			// it all with just passing around 'fullName' DocumentRegion. This may require changes
+			// in PropertyNavigator (probably these changes are also for the better making it simpler as well)
+			IRegion trimmedRegion = fullName.asRegion();
+			if (validProperty.isDeprecated()) {
+				problemCollector.accept(problemDeprecated(fullName, validProperty));
+			}
+			int offset = validProperty.getId().length() + trimmedRegion.getOffset();
+			PropertyNavigator navigator = new PropertyNavigator(doc, problemCollector, typeUtil, trimmedRegion);
+			Type valueType = navigator.navigate(offset, TypeParser.parse(validProperty.getType()));
+			if (valueType!=null) {
+				reconcileType(doc, valueType, regions, i, problemCollector);
+			}
+		} else { //validProperty==null
+			//The name is invalid, with no 'prefix' of the name being a valid property name.
+			PropertyInfo similarEntry = index.findLongestCommonPrefixEntry(fullName.toString());
+			CharSequence validPrefix = commonPrefix(similarEntry.getId(), fullName);
+			problemCollector.accept(problemUnkownProperty(fullName, similarEntry, validPrefix));
+		} //end: validProperty==null
+	}
+
+	/**
+	 * Problems found for the entries of a document, keyed by the text of the entry, with
+	 * offsets relative to the start of the entry.
+	 */
+	private static class EntryProblems {
+		final FuzzyMap<PropertyInfo> index;
+		final Object modelStamp;
+		private final Map<String, List<SpringPropertyProblem>> problems = new HashMap<>();
+
+		EntryProblems(FuzzyMap<PropertyInfo> index, Object modelStamp) {
+			this.index = index;
+			this.modelStamp = modelStamp;
+		}
+
+		List<SpringPropertyProblem> get(String entryText) {
+			return problems.get(entryText);
+		}
+
+		void put(String entryText, List<SpringPropertyProblem> entryProblems) {
+			problems.put(entryText, entryProblems);
+		}
+	}
+
+	/**
+	 * Passes problems on to another collector, and records them relative to a given offset.
+	 */
+	private static class RecordingProblemCollector implements IProblemCollector {
+		private final IProblemCollector delegate;
+		private final int base;
+		private List<SpringPropertyProblem> problems = new ArrayList<>();
+
+		RecordingProblemCollector(IProblemCollector delegate, int base) {
+			this.delegate = delegate;
+			this.base = base;
+		}
+
+		@Override
+		public void beginCollecting() {
+		}
+
+		@Override
+		public void endCollecting() {
+		}
+
+		@Override
+		public void accept(ReconcileProblem problem) {
+			delegate.accept(problem);
+			if (problems!=null) {
+				if (problem instanceof SpringPropertyProblem) {
+					problems.add(((SpringPropertyProblem) problem).moveBy(-base));
+				} else {
+					//can't copy it, so the entry must be checked again next time.
+					problems = null;
+				}
+			}
+		}
+
+		/**
+		 * @return The recorded problems, or null if they can't be reused.
+		 */
+		List<SpringPropertyProblem> getProblems() {
+			return problems;
+		}
 	}
 
 	protected SpringPropertyProblem problemDeprecated(DocumentRegion trimmedRegion, PropertyInfo property) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014-2016 Pivotal, Inc.
+ * Copyright (c) 2014, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -197,4 +197,15 @@ public class SpringPropertyProblem implements ReconcileProblem, FixableProblem {
 	public int getEnd() {
 		return getOffset()+getLength();
 	}
+
+	/**
+	 * @return A copy of this problem, moved by the given number of characters.
+	 */
+	public SpringPropertyProblem moveBy(int delta) {
+		SpringPropertyProblem copy = new SpringPropertyProblem(type, msg, offset+delta, length);
+		copy.propertyName = propertyName;
+		copy.metadata = metadata;
+		copy.problemFixer = problemFixer;
+		return copy;
+	}
 }
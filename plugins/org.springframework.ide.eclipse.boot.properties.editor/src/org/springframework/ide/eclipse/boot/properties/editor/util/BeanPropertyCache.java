@@ -0,0 +1,286 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.properties.editor.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.springframework.boot.configurationmetadata.Deprecation;
+import org.springframework.ide.eclipse.boot.properties.editor.FuzzyMap;
+import org.springframework.ide.eclipse.boot.properties.editor.metadata.PropertyInfo;
+import org.springframework.ide.eclipse.boot.properties.editor.util.TypeUtil.BeanPropertyNameMode;
+import org.springframework.ide.eclipse.boot.properties.editor.util.TypeUtil.EnumCaseMode;
+import org.springframework.ide.eclipse.boot.util.Log;
+
+/**
+ * Per-project cache of the bean properties model that {@link TypeUtil} computes from JDT, so that
+ * navigating deeply nested properties doesn't query JDT again for every step on every reconcile
+ * and completion.
+ * <p>
+ * The cache of a project is dropped, together with the caches of the projects depending on it,
+ * whenever JDT reports a change to the classpath of that project or to one of its Java types.
+ * Changes of other resources, like the properties files being edited, keep the cache. After a project's property index is (re)built,
+ * the types it references can be loaded ahead of time with {@link #warm(IJavaProject, FuzzyMap)}.
+ *
+ * @since 3.9.17
+ */
+public class BeanPropertyCache {
+
+	/**
+	 * How deep the property types reachable from the indexed properties are loaded by {@link #warm(IJavaProject, FuzzyMap)}.
+	 */
+	private static final int WARM_DEPTH = 4;
+
+	/**
+	 * Flags of the deltas on a project, or on its package fragment roots, that change the types visible to the project.
+	 */
+	private static final int CLASSPATH_FLAGS =
+			IJavaElementDelta.F_CLASSPATH_CHANGED |
+			IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED |
+			IJavaElementDelta.F_ADDED_TO_CLASSPATH |
+			IJavaElementDelta.F_REMOVED_FROM_CLASSPATH |
+			IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED |
+			IJavaElementDelta.F_REORDER |
+			IJavaElementDelta.F_OPENED |
+			IJavaElementDelta.F_CLOSED;
+
+	private static BeanPropertyCache instance;
+
+	public static synchronized BeanPropertyCache getDefault() {
+		if (instance==null) {
+			instance = new BeanPropertyCache();
+			JavaCore.addElementChangedListener(instance.new InvalidationListener(), ElementChangedEvent.POST_CHANGE);
+		}
+		return instance;
+	}
+
+	/**
+	 * A getter method of a bean type, with its return type resolved.
+	 */
+	public static class BeanGetter {
+		private final String methodName;
+		private final Type type;
+		private final Deprecation deprecation;
+
+		public BeanGetter(String methodName, Type type, Deprecation deprecation) {
+			this.methodName = methodName;
+			this.type = type;
+			this.deprecation = deprecation;
+		}
+
+		public String getMethodName() {
+			return methodName;
+		}
+
+		public Type getType() {
+			return type;
+		}
+
+		public Deprecation getDeprecation() {
+			return deprecation;
+		}
+	}
+
+	/**
+	 * The cached model of one project. Once invalidated, an instance is no longer reachable from the
+	 * cache, so computations still running against it can't store stale results.
+	 */
+	static class ProjectCache {
+		final Map<String, List<BeanGetter>> getters = new ConcurrentHashMap<>();
+		final Map<String, Boolean> enums = new ConcurrentHashMap<>();
+
+		/**
+		 * Names of the projects required by the project. A change of the classpath drops the cache, so
+		 * they don't need to be resolved again when other projects are invalidated.
+		 */
+		final Set<String> requiredProjects;
+
+		ProjectCache(Set<String> requiredProjects) {
+			this.requiredProjects = requiredProjects;
+		}
+	}
+
+	private final Map<String, ProjectCache> projects = new ConcurrentHashMap<>();
+
+	ProjectCache getProjectCache(IJavaProject jp) {
+		String key = jp.getElementName();
+		ProjectCache cache = projects.get(key);
+		if (cache==null) {
+			ProjectCache existing = projects.putIfAbsent(key, cache = new ProjectCache(getRequiredProjects(jp)));
+			if (existing!=null) {
+				cache = existing;
+			}
+		}
+		return cache;
+	}
+
+	/**
+	 * @return The names of the projects required by a project, or null if they can't be determined.
+	 */
+	private static Set<String> getRequiredProjects(IJavaProject jp) {
+		try {
+			if (jp.exists()) {
+				return new HashSet<>(Arrays.asList(jp.getRequiredProjectNames()));
+			}
+			return Collections.emptySet();
+		} catch (JavaModelException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Drop the cached model of a project and of the cached projects that depend on it, directly or indirectly.
+	 */
+	public void invalidate(String projectName) {
+		Set<String> invalid = new HashSet<>();
+		invalid.add(projectName);
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			for (Map.Entry<String, ProjectCache> e : projects.entrySet()) {
+				if (!invalid.contains(e.getKey()) && requiresAny(e.getValue(), invalid)) {
+					invalid.add(e.getKey());
+					changed = true;
+				}
+			}
+		}
+		for (String p : invalid) {
+			projects.remove(p);
+		}
+	}
+
+	private boolean requiresAny(ProjectCache cache, Set<String> projectNames) {
+		if (cache.requiredProjects==null) {
+			//Can't tell, so assume it does.
+			return true;
+		}
+		for (String r : cache.requiredProjects) {
+			if (projectNames.contains(r)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public void clear() {
+		projects.clear();
+	}
+
+	/**
+	 * Schedule a background job that loads the bean properties of the types referenced by the
+	 * properties in the given index, and of the types of their nested properties.
+	 */
+	public void warm(final IJavaProject jp, final FuzzyMap<PropertyInfo> index) {
+		if (jp==null || index==null || index.isEmpty()) {
+			return;
+		}
+		Job job = new Job("Load bean properties of "+jp.getElementName()) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				TypeUtil typeUtil = new TypeUtil(jp);
+				Set<String> visited = new HashSet<>();
+				for (PropertyInfo info : index) {
+					if (monitor.isCanceled()) {
+						return Status.CANCEL_STATUS;
+					}
+					try {
+						warm(typeUtil, TypeParser.parse(info.getType()), WARM_DEPTH, visited);
+					} catch (Exception e) {
+						Log.log(e);
+					}
+				}
+				return Status.OK_STATUS;
+			}
+		};
+		job.setSystem(true);
+		job.setPriority(Job.DECORATE);
+		job.schedule();
+	}
+
+	private void warm(TypeUtil typeUtil, Type type, int depth, Set<String> visited) {
+		if (type==null || depth<=0 || !visited.add(type.toString())) {
+			return;
+		}
+		if (TypeUtil.isMap(type) || TypeUtil.isSequencable(type)) {
+			warm(typeUtil, TypeUtil.getDomainType(type), depth, visited);
+		} else if (typeUtil.isDotable(type)) {
+			List<TypedProperty> properties = typeUtil.getProperties(type, EnumCaseMode.ALIASED, BeanPropertyNameMode.CAMEL_CASE);
+			if (properties!=null) {
+				for (TypedProperty p : properties) {
+					warm(typeUtil, p.getType(), depth-1, visited);
+				}
+			}
+		}
+	}
+
+	private class InvalidationListener implements IElementChangedListener {
+
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			if (!projects.isEmpty()) {
+				visit(event.getDelta());
+			}
+		}
+
+		private void visit(IJavaElementDelta delta) {
+			IJavaElement el = delta.getElement();
+			switch (el.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				for (IJavaElementDelta c : delta.getAffectedChildren()) {
+					visit(c);
+				}
+				break;
+			case IJavaElement.JAVA_PROJECT:
+				if (affectsTypes(delta)) {
+					invalidate(el.getElementName());
+				}
+				break;
+			default:
+				break;
+			}
+		}
+
+		/**
+		 * @return Whether the delta changes the classpath or the Java types of a project, as opposed to
+		 * e.g. only non-Java resources.
+		 */
+		private boolean affectsTypes(IJavaElementDelta delta) {
+			int type = delta.getElement().getElementType();
+			if (type==IJavaElement.COMPILATION_UNIT || type==IJavaElement.CLASS_FILE
+					|| delta.getKind()!=IJavaElementDelta.CHANGED || (delta.getFlags() & CLASSPATH_FLAGS)!=0) {
+				return true;
+			}
+			for (IJavaElementDelta c : delta.getAffectedChildren()) {
+				if (affectsTypes(c)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014 Pivotal, Inc.
+ * Copyright (c) 2014, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,8 +10,13 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.boot.properties.editor.util;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -20,6 +25,7 @@ import org.eclipse.core.resources.IResourceChangeEvent;
 import org.eclipse.core.resources.IResourceChangeListener;
 import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.IResourceDeltaVisitor;
+import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
@@ -27,9 +33,15 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaCore;
 import org.springframework.ide.eclipse.boot.properties.editor.FuzzyMap;
+import org.springframework.ide.eclipse.boot.properties.editor.JarMetadataCache;
 import org.springframework.ide.eclipse.boot.properties.editor.SpringPropertiesEditorPlugin;
 import org.springframework.ide.eclipse.boot.properties.editor.SpringPropertyIndex;
 import org.springframework.ide.eclipse.boot.properties.editor.StsConfigMetadataRepositoryJsonLoader;
@@ -46,12 +58,18 @@ import org.springframework.ide.eclipse.boot.properties.editor.metadata.ValueProv
  */
 public class SpringPropertiesIndexManager extends ListenerManager<Listener<SpringPropertiesIndexManager>> implements ClasspathListener {
 
-	//TODO: More precise cache flushing?
-	// right now, any detected change that may affect the cached metadata results.
-	// in clearing the entire cache.
-	// Probably this is okay, since reading the data is pretty fast.
+	/**
+	 * Delay before stale indexes are rebuilt, so that a burst of changes results in a single rebuild.
+	 */
+	private static final long REFRESH_DELAY = 500;
 
 	private Map<String, SpringPropertyIndex> indexes = null;
+
+	/**
+	 * Names of the projects whose index must be rebuilt by the next run of the refreshJob.
+	 */
+	private final Set<String> staleProjects = new HashSet<>();
+
 	final private ValueProviderRegistry valueProviders;
 	final private Job refreshJob = new Job("Refresh SpringPropertiesIndexManager") {
 		{
@@ -60,17 +78,27 @@ public class SpringPropertiesIndexManager extends ListenerManager<Listener<Sprin
 
 		@Override
 		protected IStatus run(IProgressMonitor arg0) {
-			clearAll();
+			refreshStale();
 			return Status.OK_STATUS;
 		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family==SpringPropertiesIndexManager.this;
+		}
 	};
 
 	public SpringPropertiesIndexManager(ValueProviderRegistry valueProviders) {
 		this.valueProviders = valueProviders;
 		SpringPropertiesEditorPlugin.getClasspathListeners().addListener(this);
 		ResourcesPlugin.getWorkspace().addResourceChangeListener(new LiveMetadataListener(), IResourceChangeEvent.POST_CHANGE);
+		JavaCore.addElementChangedListener(new JarMetadataEvictingListener(JarMetadataCache.getDefault()), ElementChangedEvent.POST_CHANGE);
 	}
 
+	/**
+	 * Get the index for a project. If the project's index is being rebuilt in the background,
+	 * the previous index is returned until the new one is ready.
+	 */
 	public synchronized FuzzyMap<PropertyInfo> get(IJavaProject jp) {
 		String key = jp.getElementName();
 		if (indexes==null) {
@@ -80,21 +108,122 @@ public class SpringPropertiesIndexManager extends ListenerManager<Listener<Sprin
 		if (index==null) {
 			index = new SpringPropertyIndex(valueProviders, jp);
 			indexes.put(key, index);
+			BeanPropertyCache.getDefault().warm(jp, index);
 		}
 		return index;
 	}
 
 	@Override
 	public void classpathChanged(IJavaProject jp) {
-		refreshJob.schedule();
+		invalidate(jp);
 	}
 
-	private synchronized void clearAll() {
-		if (indexes!=null) {
-			indexes.clear();
-			for (Listener<SpringPropertiesIndexManager> l : getListeners()) {
-				l.changed(this);
+	/**
+	 * Mark the index of the given project, and of all the projects that depend on it, as stale
+	 * and schedule their rebuild.
+	 */
+	private void invalidate(IJavaProject jp) {
+		Set<String> indexedProjects;
+		synchronized (this) {
+			if (indexes==null || indexes.isEmpty()) {
+				return;
 			}
+			indexedProjects = new HashSet<>(indexes.keySet());
+		}
+		//Resolving the classpaths can block on the java model, so it is done without holding the lock
+		// that editors need to get their index.
+		Set<String> dependents = getDependentProjects(jp.getElementName(), indexedProjects);
+		synchronized (this) {
+			staleProjects.addAll(dependents);
+		}
+		//Rescheduling a sleeping job postpones it, so a burst of changes is handled by a single run.
+		refreshJob.schedule(REFRESH_DELAY);
+	}
+
+	/**
+	 * @return The name of the given project and the names of the indexed projects that depend on it, directly or indirectly.
+	 */
+	private Set<String> getDependentProjects(String projectName, Set<String> indexedProjects) {
+		Set<String> dependents = new HashSet<>();
+		dependents.add(projectName);
+		Map<String, String[]> requiredProjects = new HashMap<>();
+		IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+		for (String indexed : indexedProjects) {
+			IProject p = root.getProject(indexed);
+			String[] required = new String[0];
+			try {
+				if (p.isAccessible() && p.hasNature(JavaCore.NATURE_ID)) {
+					required = JavaCore.create(p).getRequiredProjectNames();
+				}
+			} catch (CoreException e) {
+				SpringPropertiesEditorPlugin.log(e);
+			}
+			requiredProjects.put(indexed, required);
+		}
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			for (Entry<String, String[]> e : requiredProjects.entrySet()) {
+				if (!dependents.contains(e.getKey())) {
+					for (String required : e.getValue()) {
+						if (dependents.contains(required)) {
+							dependents.add(e.getKey());
+							changed = true;
+							break;
+						}
+					}
+				}
+			}
+		}
+		return dependents;
+	}
+
+	/**
+	 * Rebuilds the stale indexes. The new indexes are created outside the lock, so
+	 * clients keep getting the previous indexes while this is in progress.
+	 */
+	private void refreshStale() {
+		List<String> stale;
+		synchronized (this) {
+			stale = new ArrayList<>(staleProjects);
+			staleProjects.clear();
+			if (indexes!=null) {
+				stale.retainAll(indexes.keySet());
+			}
+		}
+		if (stale.isEmpty()) {
+			return;
+		}
+		Map<String, SpringPropertyIndex> rebuilt = new HashMap<>();
+		IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+		for (String projectName : stale) {
+			IProject p = root.getProject(projectName);
+			try {
+				if (p.isAccessible() && p.hasNature(JavaCore.NATURE_ID)) {
+					IJavaProject jp = JavaCore.create(p);
+					SpringPropertyIndex index = new SpringPropertyIndex(valueProviders, jp);
+					rebuilt.put(projectName, index);
+					BeanPropertyCache.getDefault().warm(jp, index);
+				}
+			} catch (CoreException e) {
+				SpringPropertiesEditorPlugin.log(e);
+			}
+		}
+		synchronized (this) {
+			if (indexes!=null) {
+				for (String projectName : stale) {
+					SpringPropertyIndex index = rebuilt.get(projectName);
+					if (index!=null) {
+						indexes.put(projectName, index);
+					} else {
+						//closed or deleted
+						indexes.remove(projectName);
+					}
+				}
+			}
+		}
+		for (Listener<SpringPropertiesIndexManager> l : getListeners()) {
+			l.changed(this);
 		}
 	}
 
@@ -107,7 +236,53 @@ public class SpringPropertiesIndexManager extends ListenerManager<Listener<Sprin
 	 * @param jsonFile The IFile in project's output folder that was changed.
 	 */
 	public void liveMetadataChanged(IJavaProject jp, IFile jsonFile) {
-		refreshJob.schedule();
+		invalidate(jp);
+	}
+
+	/**
+	 * Evicts the jars whose content changed or that were removed from a classpath from the
+	 * {@link JarMetadataCache}, so it doesn't keep the metadata of jars that are no longer used.
+	 */
+	private static class JarMetadataEvictingListener implements IElementChangedListener {
+
+		private final JarMetadataCache jarCache;
+
+		JarMetadataEvictingListener(JarMetadataCache jarCache) {
+			this.jarCache = jarCache;
+		}
+
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			visit(event.getDelta());
+		}
+
+		private void visit(IJavaElementDelta delta) {
+			IJavaElement el = delta.getElement();
+			switch (el.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+			case IJavaElement.JAVA_PROJECT:
+				for (IJavaElementDelta c : delta.getAffectedChildren()) {
+					visit(c);
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				IPackageFragmentRoot root = (IPackageFragmentRoot) el;
+				if (root.isArchive() && (delta.getKind()==IJavaElementDelta.REMOVED || isArchiveChanged(delta.getFlags()))) {
+					//Same key as used by the StsConfigMetadataRepositoryJsonLoader for the resolved classpath entry.
+					jarCache.evict(root.getPath().toFile());
+				}
+				break;
+			default:
+				break;
+			}
+		}
+
+		private boolean isArchiveChanged(int flags) {
+			return 0!= (flags & (
+					IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED |
+					IJavaElementDelta.F_REMOVED_FROM_CLASSPATH
+			));
+		}
 	}
 
 	private class LiveMetadataListener implements IResourceChangeListener, IResourceDeltaVisitor {
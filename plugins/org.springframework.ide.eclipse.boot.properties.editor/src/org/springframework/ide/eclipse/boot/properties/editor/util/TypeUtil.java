@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014-2016 Pivotal, Inc.
+ * Copyright (c) 2014, 2026 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -48,6 +48,7 @@ import org.springframework.ide.eclipse.boot.properties.editor.metadata.Deprecati
 import org.springframework.ide.eclipse.boot.properties.editor.metadata.StsValueHint;
 import org.springframework.ide.eclipse.boot.properties.editor.metadata.ValueProviderRegistry.ValueProviderStrategy;
 import org.springframework.ide.eclipse.boot.properties.editor.reconciling.AlwaysFailingParser;
+import org.springframework.ide.eclipse.boot.properties.editor.util.BeanPropertyCache.BeanGetter;
 import org.springframework.ide.eclipse.boot.util.Log;
 import org.springframework.ide.eclipse.editor.support.util.CollectionUtil;
 import org.springframework.ide.eclipse.editor.support.util.EnumValueParser;
@@ -544,15 +545,43 @@ public class TypeUtil {
 	}
 
 	public boolean isEnum(Type type) {
-		try {
-			IType eclipseType = findType(type.getErasure());
-			if (eclipseType!=null) {
-				return eclipseType.isEnum();
+		String typeName = type.getErasure();
+		BeanPropertyCache.ProjectCache cache = getPropertyCache();
+		Boolean isEnum = cache==null ? null : cache.enums.get(typeName);
+		if (isEnum==null) {
+			isEnum = false;
+			try {
+				IType eclipseType = findType(typeName);
+				if (eclipseType!=null) {
+					isEnum = eclipseType.isEnum();
+				}
+			} catch (Exception e) {
+				Log.log(e);
+			}
+			if (cache!=null) {
+				cache.enums.put(typeName, isEnum);
 			}
-		} catch (Exception e) {
-			Log.log(e);
 		}
-		return false;
+		return isEnum;
+	}
+
+	/**
+	 * @return An object that stays the same as long as the cached bean property model of the project
+	 * is valid. Clients caching results derived from this {@link TypeUtil} can compare it by identity to
+	 * find out whether they are still valid.
+	 */
+	public Object getPropertyModelStamp() {
+		return getPropertyCache();
+	}
+
+	/**
+	 * @return The cached bean property model of the project, or null if there is no project.
+	 */
+	private BeanPropertyCache.ProjectCache getPropertyCache() {
+		if (javaProject!=null) {
+			return BeanPropertyCache.getDefault().getProjectCache(javaProject);
+		}
+		return null;
 	}
 
 	private IType findType(String typeName) {
@@ -649,33 +678,104 @@ public class TypeUtil {
 			}
 		} else {
 			String typename = type.getErasure();
-			IType eclipseType = findType(typename);
-
+			List<BeanGetter> getters = getBeanGetters(typename);
 			//TODO: handle type parameters.
-			if (eclipseType!=null) {
-				List<IMethod> getters = getGetterMethods(eclipseType);
-				//TODO: getters inherited from super classes?
-				if (getters!=null && !getters.isEmpty()) {
-					ArrayList<TypedProperty> properties = new ArrayList<>(getters.size());
-					for (IMethod m : getters) {
+			if (!getters.isEmpty()) {
+				ArrayList<TypedProperty> properties = new ArrayList<>(getters.size());
+				for (BeanGetter g : getters) {
+					if (beanMode.includesHyphenated()) {
+						properties.add(new TypedProperty(getterOrSetterNameToProperty(g.getMethodName()), g.getType(), g.getDeprecation()));
+					}
+					if (beanMode.includesCamelCase()) {
+						properties.add(new TypedProperty(getterOrSetterNameToCamelName(g.getMethodName()), g.getType(), g.getDeprecation()));
+					}
+				}
+				return properties;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Get the getters of a bean type, including the ones inherited from its super classes, from the
+	 * project's {@link BeanPropertyCache}; computing them with JDT if they aren't cached yet.
+	 *
+	 * @return The getters, or an empty list if there are none or the type can't be found.
+	 */
+	private List<BeanGetter> getBeanGetters(String typename) {
+		BeanPropertyCache.ProjectCache cache = getPropertyCache();
+		List<BeanGetter> getters = cache==null ? null : cache.getters.get(typename);
+		if (getters==null) {
+			getters = computeBeanGetters(typename);
+			if (cache!=null) {
+				cache.getters.put(typename, getters);
+			}
+		}
+		return getters;
+	}
+
+	private List<BeanGetter> computeBeanGetters(String typename) {
+		IType eclipseType = findType(typename);
+		if (eclipseType==null) {
+			return Collections.emptyList();
+		}
+		List<IType> types = new ArrayList<>();
+		types.add(eclipseType);
+		try {
+			if (eclipseType.isClass()) {
+				//Only the super classes are needed, which is much cheaper than computing a type hierarchy.
+				Set<String> visited = new HashSet<>();
+				visited.add(eclipseType.getFullyQualifiedName());
+				IType superType = getSuperclass(eclipseType);
+				while (superType!=null && !OBJECT_TYPE_NAME.equals(superType.getFullyQualifiedName())
+						&& visited.add(superType.getFullyQualifiedName())) {
+					types.add(superType);
+					superType = getSuperclass(superType);
+				}
+			}
+		} catch (Exception e) {
+			Log.log(e);
+		}
+		ArrayList<BeanGetter> beanGetters = new ArrayList<>();
+		Set<String> seen = new HashSet<>();
+		for (IType t : types) {
+			List<IMethod> getters = getGetterMethods(t);
+			if (getters!=null) {
+				for (IMethod m : getters) {
+					//Getters overridden in a sub class hide the ones of the super class.
+					if (seen.add(m.getElementName())) {
 						Deprecation deprecation = DeprecationUtil.extract(m);
 						Type propType = null;
 						try {
-							propType = Type.fromSignature(m.getReturnType(), eclipseType);
+							propType = Type.fromSignature(m.getReturnType(), t);
 						} catch (JavaModelException e) {
 							Log.log(e);
 						}
-						if (beanMode.includesHyphenated()) {
-							properties.add(new TypedProperty(getterOrSetterNameToProperty(m.getElementName()), propType, deprecation));
-						}
-						if (beanMode.includesCamelCase()) {
-							properties.add(new TypedProperty(getterOrSetterNameToCamelName(m.getElementName()), propType, deprecation));
-						}
+						beanGetters.add(new BeanGetter(m.getElementName(), propType, deprecation));
 					}
-					return properties;
 				}
 			}
 		}
+		return beanGetters;
+	}
+
+	/**
+	 * @return The super class of a type, or null if it has none or it can't be found.
+	 */
+	private IType getSuperclass(IType type) throws JavaModelException {
+		String superclassName = type.getSuperclassName();
+		if (superclassName==null) {
+			return null;
+		}
+		superclassName = Signature.getTypeErasure(superclassName);
+		if (type.isBinary()) {
+			//Binary types report the fully qualified name.
+			return findType(superclassName);
+		}
+		String[][] resolved = type.resolveType(superclassName);
+		if (resolved!=null && resolved.length>0) {
+			return javaProject.findType(resolved[0][0], resolved[0][1]);
+		}
 		return null;
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2014 Spring IDE Developers
+ * Copyright (c) 2005, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -29,6 +29,7 @@ import org.springframework.ide.eclipse.core.java.typehierarchy.BytecodeTypeHiera
 import org.springframework.ide.eclipse.core.java.typehierarchy.DirectTypeHierarchyElementCacheFactory;
 import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchyEngine;
 import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchyResourceChangeListener;
+import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchySnapshotStore;
 import org.springframework.ide.eclipse.core.model.ISpringModel;
 
 /**
@@ -74,6 +75,9 @@ public class SpringCore extends Plugin {
 	/** Temporally setting to enable or disable the use of XBean's non-locking classloader infrastructure */
 	public static final String USE_NON_LOCKING_CLASSLOADER = PLUGIN_ID + ".useNonLockingClassLoader";
 
+	/** Setting to enable or disable the concurrent validation of resources by thread-safe validators */
+	public static final String PARALLEL_VALIDATION = PLUGIN_ID + ".parallelValidation";
+
 	/** The shared instance */
 	private static SpringCore plugin;
 
@@ -87,6 +91,8 @@ public class SpringCore extends Plugin {
 	
 	private static TypeHierarchyEngine typeHierarchyEngine;
 
+	private static TypeHierarchySnapshotStore typeHierarchySnapshotStore;
+
 	/**
 	 * Creates the Spring core plug-in.
 	 * <p>
@@ -117,16 +123,21 @@ public class SpringCore extends Plugin {
 		super.start(context);
 		model.startup();
 		typeStructureCache.startup();
+		typeHierarchySnapshotStore = new TypeHierarchySnapshotStore(getStateLocation().append("typehierarchy").toFile());
+		typeHierarchySnapshotStore.startup();
 		// install default for incremtal compilation
 		plugin.getPluginPreferences().setDefault(USE_CHANGE_DETECTION_IN_JAVA_FILES, true);
 		// non.locking classloader is not enabled by default
 		plugin.getPluginPreferences().setDefault(USE_NON_LOCKING_CLASSLOADER, false);
+		// parallel validation is not enabled by default
+		plugin.getPluginPreferences().setDefault(PARALLEL_VALIDATION, false);
 	}
 
 	@Override
 	public void stop(BundleContext context) throws Exception {
 		model.shutdown();
 		typeStructureCache.shutdown();
+		typeHierarchySnapshotStore.shutdown();
 		super.stop(context);
 	}
 
@@ -152,6 +163,14 @@ public class SpringCore extends Plugin {
 		return typeHierarchyEngine;
 	}
 
+	/**
+	 * Returns the persistent store of type hierarchy snapshots, or <code>null</code> if the plug-in is not started.
+	 * @since 3.9.17
+	 */
+	public static final TypeHierarchySnapshotStore getTypeHierarchySnapshotStore() {
+		return typeHierarchySnapshotStore;
+	}
+
 	/**
 	 * Returns the workspace instance.
 	 */
@@ -50,6 +50,8 @@ public class ValidatorDefinition extends PersistablePreferenceObjectSupport {
 
 	private static final String ORDER_ATTRIBUTE = "order";
 
+	private static final String THREAD_SAFE_ATTRIBUTE = "threadSafe";
+
 	private String description;
 
 	private String iconUri;
@@ -58,6 +60,8 @@ public class ValidatorDefinition extends PersistablePreferenceObjectSupport {
 
 	private String markerId;
 
+	private boolean threadSafe;
+
 	private String name;
 
 	private String namespaceUri;
@@ -151,6 +155,7 @@ public class ValidatorDefinition extends PersistablePreferenceObjectSupport {
 		markerId = element.getContributor().getName() + "."
 				+ element.getAttribute(MARKER_ID_ATTRIBUTE);
 		namespaceUri = element.getDeclaringExtension().getNamespaceIdentifier();
+		threadSafe = Boolean.valueOf(element.getAttribute(THREAD_SAFE_ATTRIBUTE));
 		String enabledByDefault = element
 				.getAttribute(ENABLED_BY_DEFAULT_ATTRIBUTE);
 		if (enabledByDefault != null) {
@@ -166,6 +171,7 @@ public class ValidatorDefinition extends PersistablePreferenceObjectSupport {
 		if (validator instanceof AbstractValidator) {
 			((AbstractValidator) validator).setMarkerId(markerId);
 			((AbstractValidator) validator).setValidatorId(id);
+			((AbstractValidator) validator).setThreadSafe(threadSafe);
 		}
 	}
 
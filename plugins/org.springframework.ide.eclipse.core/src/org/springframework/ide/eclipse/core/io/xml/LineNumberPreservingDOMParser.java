@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2009 Spring IDE Developers
+ * Copyright (c) 2005, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,48 +10,68 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.core.io.xml;
 
-import java.util.Map;
-import java.util.WeakHashMap;
-
+import org.apache.xerces.dom.CoreDocumentImpl;
 import org.apache.xerces.parsers.DOMParser;
+import org.apache.xerces.util.SymbolTable;
 import org.apache.xerces.xni.Augmentations;
 import org.apache.xerces.xni.NamespaceContext;
 import org.apache.xerces.xni.QName;
 import org.apache.xerces.xni.XMLAttributes;
 import org.apache.xerces.xni.XMLLocator;
 import org.apache.xerces.xni.XNIException;
+import org.apache.xerces.xni.grammars.XMLGrammarPool;
+import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 import org.xml.sax.SAXException;
 
 /**
- * Extended version of Xerces' DOM parser which adds line numbers to an internal structure that can be queried in the
- * same thread.
+ * Extended version of Xerces' DOM parser which adds line numbers to a table attached to the parsed document. The line
+ * numbers can be queried from any thread once the document has been parsed.
  * @author Torsten Juergeleit
  * @author Christian Dupuis
  */
 public class LineNumberPreservingDOMParser extends DOMParser {
 
-	private static final String START_LINE = "startLine";
-
-	private static final String END_LINE = "endLine";
+	/** Key of the document's {@link LineNumberTable} in its user data */
+	private static final String LINE_NUMBERS = LineNumberPreservingDOMParser.class.getName() + ".lineNumbers";
 
 	private XMLLocator locator;
 
+	private LineNumberTable lineNumbers;
+
 	public LineNumberPreservingDOMParser() throws SAXException {
 		// To access current nodes we have to turn off a feature
 		setFeature(DEFER_NODE_EXPANSION, false);
 	}
 
+	/**
+	 * Creates a parser that shares the grammars of the given pool.
+	 * @since 3.9.17
+	 */
+	public LineNumberPreservingDOMParser(SymbolTable symbolTable, XMLGrammarPool grammarPool) throws SAXException {
+		super(symbolTable, grammarPool);
+		setFeature(DEFER_NODE_EXPANSION, false);
+	}
+
 	public static final int getStartLineNumber(Node node) {
-		return getLineNumberFromUserData(node, START_LINE);
+		return getLineNumber(node, true);
 	}
 
 	public static final int getEndLineNumber(Node node) {
-		return getLineNumberFromUserData(node, END_LINE);
+		return getLineNumber(node, false);
 	}
 
-	private static int getLineNumberFromUserData(Node node, String key) {
-		return NodeLineNumberAccessor.getLineNumber(node, key);
+	private static int getLineNumber(Node node, boolean start) {
+		if (node != null) {
+			Document document = (node.getNodeType() == Node.DOCUMENT_NODE ? (Document) node : node.getOwnerDocument());
+			if (document instanceof CoreDocumentImpl) {
+				Object lineNumbers = document.getUserData(LINE_NUMBERS);
+				if (lineNumbers instanceof LineNumberTable) {
+					return ((LineNumberTable) lineNumbers).getLineNumber(node, start);
+				}
+			}
+		}
+		return -1;
 	}
 
 	@Override
@@ -59,33 +79,37 @@ public class LineNumberPreservingDOMParser extends DOMParser {
 			throws XNIException {
 		this.locator = locator;
 		super.startDocument(locator, encoding, namespaceContext, augs);
-		addLineNumberToCurrentNode(START_LINE);
+		lineNumbers = new LineNumberTable();
+		if (fDocument != null) {
+			fDocument.setUserData(LINE_NUMBERS, lineNumbers, null);
+		}
+		addLineNumberToCurrentNode(true);
 	}
 
 	@Override
 	public void endDocument(Augmentations augs) throws XNIException {
-		addLineNumberToCurrentNode(END_LINE);
+		addLineNumberToCurrentNode(false);
 		super.endDocument(augs);
+		lineNumbers = null;
 	}
 
 	@Override
 	public void startElement(QName element, XMLAttributes attributes, Augmentations augs) throws XNIException {
 		super.startElement(element, attributes, augs);
-		addLineNumberToCurrentNode(START_LINE);
+		addLineNumberToCurrentNode(true);
 	}
 
 	@Override
 	public void endElement(QName element, Augmentations augs) throws XNIException {
-		addLineNumberToCurrentNode(END_LINE);
+		addLineNumberToCurrentNode(false);
 		super.endElement(element, augs);
 	}
 
-	private void addLineNumberToCurrentNode(String key) throws XNIException {
+	private void addLineNumberToCurrentNode(boolean start) throws XNIException {
 		try {
 			Node node = (Node) getProperty(CURRENT_ELEMENT_NODE);
-			if (node != null) {
-				int line = locator.getLineNumber();
-				NodeLineNumberAccessor.setLineNumber(node, line, key);
+			if (node != null && lineNumbers != null) {
+				lineNumbers.setLineNumber(node, locator.getLineNumber(), start);
 			}
 		}
 		catch (SAXException e) {
@@ -93,65 +117,67 @@ public class LineNumberPreservingDOMParser extends DOMParser {
 		}
 	}
 
-	private static class NodeLineNumberAccessor {
+	/**
+	 * Table of the start and end lines of the nodes of a single document, using open addressing on the nodes' identity
+	 * to avoid allocating objects per node.
+	 */
+	private static class LineNumberTable {
 
-		private static ThreadLocal<Map<Node, LineNumbers>> LINE_NUMBERS = new ThreadLocal<Map<Node, LineNumbers>>() {
-			protected Map<Node, LineNumbers> initialValue() {
-				return new WeakHashMap<Node, LineNumbers>();
-			};
-		};
+		private Node[] nodes = new Node[64];
 
-		public static void setLineNumber(Node node, int line, String key) {
-			LineNumbers lineNumbers = null;
-			if (LINE_NUMBERS.get().containsKey(node)) {
-				lineNumbers = LINE_NUMBERS.get().get(node);
-			}
-			else {
-				lineNumbers = new LineNumbers();
-				LINE_NUMBERS.get().put(node, lineNumbers);
-			}
+		/** The start and end line of the node at index <code>i</code> are at <code>2 * i</code> and <code>2 * i + 1</code> */
+		private int[] lines = new int[128];
 
-			if (START_LINE.equals(key)) {
-				lineNumbers.setStart(line);
-			}
-			else if (END_LINE.equals(key)) {
-				lineNumbers.setEnd(line);
-			}
-		}
+		private int size = 0;
 
-		public static int getLineNumber(Node node, String key) {
-			if (LINE_NUMBERS.get().containsKey(node)) {
-				if (START_LINE.equals(key)) {
-					return LINE_NUMBERS.get().get(node).getStart();
-				}
-				else if (END_LINE.equals(key)) {
-					return LINE_NUMBERS.get().get(node).getEnd();
+		public void setLineNumber(Node node, int line, boolean start) {
+			int index = indexOf(nodes, node);
+			if (nodes[index] == null) {
+				if ((size + 1) * 3 > nodes.length * 2) {
+					resize();
+					index = indexOf(nodes, node);
 				}
+				nodes[index] = node;
+				lines[2 * index] = -1;
+				lines[2 * index + 1] = -1;
+				size++;
 			}
-			return -1;
+			lines[(start ? 2 * index : 2 * index + 1)] = line;
 		}
-	}
-
-	private static class LineNumbers {
-
-		private int start = -1;
-
-		private int end = -1;
 
-		public int getStart() {
-			return start;
-		}
-
-		public void setStart(int start) {
-			this.start = start;
+		public int getLineNumber(Node node, boolean start) {
+			int index = indexOf(nodes, node);
+			if (nodes[index] == null) {
+				return -1;
+			}
+			return lines[(start ? 2 * index : 2 * index + 1)];
 		}
 
-		public int getEnd() {
-			return end;
+		private void resize() {
+			Node[] oldNodes = nodes;
+			int[] oldLines = lines;
+			nodes = new Node[oldNodes.length * 2];
+			lines = new int[oldLines.length * 2];
+			for (int i = 0; i < oldNodes.length; i++) {
+				if (oldNodes[i] != null) {
+					int index = indexOf(nodes, oldNodes[i]);
+					nodes[index] = oldNodes[i];
+					lines[2 * index] = oldLines[2 * i];
+					lines[2 * index + 1] = oldLines[2 * i + 1];
+				}
+			}
 		}
 
-		public void setEnd(int end) {
-			this.end = end;
+		/**
+		 * Returns the slot of the given node or the free slot to add it to.
+		 */
+		private static int indexOf(Node[] nodes, Node node) {
+			int mask = nodes.length - 1;
+			int index = System.identityHashCode(node) & mask;
+			while (nodes[index] != null && nodes[index] != node) {
+				index = (index + 1) & mask;
+			}
+			return index;
 		}
 	}
 }
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.io.xml;
+
+import org.apache.xerces.impl.xs.XSDDescription;
+import org.apache.xerces.util.SymbolTable;
+import org.apache.xerces.util.SynchronizedSymbolTable;
+import org.apache.xerces.util.XMLGrammarPoolImpl;
+import org.apache.xerces.xni.grammars.Grammar;
+import org.apache.xerces.xni.grammars.XMLGrammarDescription;
+import org.apache.xerces.xni.grammars.XMLGrammarPool;
+
+/**
+ * Thread-safe {@link XMLGrammarPool} that shares compiled XML schemas between the parsers created by a
+ * {@link XercesDocumentLoader}, so that a schema is read and compiled once instead of once per document.
+ * <p>
+ * Xerces pools schemas by target namespace. As documents may reference different versions of a namespace's schema,
+ * e.g. <code>spring-beans-3.0.xsd</code> and <code>spring-beans.xsd</code>, a pooled schema is only used for a document
+ * that references it by the location it was loaded from; otherwise the schema is compiled again and replaces the pooled
+ * one. DTDs are not pooled.
+ * @since 3.9.17
+ */
+public class SchemaGrammarPool extends XMLGrammarPoolImpl {
+
+	private static final Grammar[] NO_GRAMMARS = new Grammar[0];
+
+	/** Pooled grammars refer to the symbols of the parser that compiled them */
+	private final SymbolTable symbolTable = new SynchronizedSymbolTable();
+
+	/**
+	 * Returns the symbol table to be used by all parsers sharing this pool.
+	 */
+	public SymbolTable getSymbolTable() {
+		return symbolTable;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Pooled schemas are not preloaded into a parser, as they might not match the schema locations of the document.
+	 */
+	@Override
+	public Grammar[] retrieveInitialGrammarSet(String grammarType) {
+		return NO_GRAMMARS;
+	}
+
+	@Override
+	public void cacheGrammars(String grammarType, Grammar[] grammars) {
+		if (XMLGrammarDescription.XML_SCHEMA.equals(grammarType)) {
+			super.cacheGrammars(grammarType, grammars);
+		}
+	}
+
+	@Override
+	public void putGrammar(Grammar grammar) {
+		if (XMLGrammarDescription.XML_SCHEMA.equals(grammar.getGrammarDescription().getGrammarType())) {
+			super.putGrammar(grammar);
+		}
+	}
+
+	@Override
+	public Grammar retrieveGrammar(XMLGrammarDescription description) {
+		if (!XMLGrammarDescription.XML_SCHEMA.equals(description.getGrammarType())) {
+			return null;
+		}
+		Grammar grammar = super.retrieveGrammar(description);
+		if (grammar != null && description instanceof XSDDescription) {
+			String[] locationHints = ((XSDDescription) description).getLocationHints();
+			String location = grammar.getGrammarDescription().getLiteralSystemId();
+			if (locationHints != null && locationHints.length > 0 && location != null
+					&& !location.equals(locationHints[0])) {
+				return null;
+			}
+		}
+		return grammar;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2009 Spring IDE Developers
+ * Copyright (c) 2006, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -29,10 +29,31 @@ import org.xml.sax.SAXNotSupportedException;
  */
 public class XercesDocumentLoader implements DocumentLoader {
 
+	private final SchemaGrammarPool grammarPool;
+
+	public XercesDocumentLoader() {
+		this(null);
+	}
+
+	/**
+	 * Creates a document loader whose parsers share the compiled schemas of the given pool.
+	 * @param grammarPool the pool or <code>null</code> to compile the schemas per document
+	 * @since 3.9.17
+	 */
+	public XercesDocumentLoader(SchemaGrammarPool grammarPool) {
+		this.grammarPool = grammarPool;
+	}
+
 	public Document loadDocument(InputSource inputSource, EntityResolver entityResolver, ErrorHandler errorHandler,
 			int validationMode, boolean namespaceAware) throws Exception {
 		try {
-			LineNumberPreservingDOMParser parser = new LineNumberPreservingDOMParser();
+			LineNumberPreservingDOMParser parser;
+			if (grammarPool != null && validationMode == XmlBeanDefinitionReader.VALIDATION_XSD) {
+				parser = new LineNumberPreservingDOMParser(grammarPool.getSymbolTable(), grammarPool);
+			}
+			else {
+				parser = new LineNumberPreservingDOMParser();
+			}
 			parser.setEntityResolver(entityResolver);
 			parser.setErrorHandler(errorHandler);
 			
@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe, size bounded cache that computes missing values per key.
+ * <p>
+ * Values of different keys are computed in parallel, while concurrent requests for the same key wait for a single
+ * computation. Failed computations are not cached. When the cache grows beyond its maximum size, the least recently
+ * used tenth of the entries is evicted.
+ * @since 3.9.17
+ */
+public class ComputingCache<K, V> {
+
+	/**
+	 * Matches the entries to remove in {@link ComputingCache#invalidate(EntryMatcher)}.
+	 */
+	public interface EntryMatcher<K, V> {
+
+		/**
+		 * @param key the key of the entry
+		 * @param value the value of the entry or <code>null</code> if it is still being computed
+		 */
+		boolean matches(K key, V value);
+
+	}
+
+	private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<K, Entry<V>>();
+
+	private final int maxSize;
+
+	private final AtomicLong clock = new AtomicLong();
+
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	public ComputingCache(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Returns the cached value of the given key, computing it with the given <code>computation</code> if it isn't
+	 * cached yet.
+	 */
+	public V get(K key, Callable<V> computation) throws IOException {
+		Entry<V> entry = entries.get(key);
+		if (entry == null) {
+			Entry<V> newEntry = new Entry<V>(new FutureTask<V>(computation));
+			newEntry.lastAccess = clock.incrementAndGet();
+			entry = entries.putIfAbsent(key, newEntry);
+			if (entry == null) {
+				entry = newEntry;
+				newEntry.task.run();
+				if (entries.size() > maxSize) {
+					evict();
+				}
+			}
+		}
+		else {
+			entry.lastAccess = clock.incrementAndGet();
+		}
+		try {
+			return entry.task.get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+		catch (ExecutionException e) {
+			entries.remove(key, entry);
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+
+	public void invalidate(K key) {
+		entries.remove(key);
+	}
+
+	/**
+	 * Removes all entries matched by the given <code>matcher</code>.
+	 */
+	public void invalidate(EntryMatcher<K, V> matcher) {
+		for (Map.Entry<K, Entry<V>> entry : entries.entrySet()) {
+			if (matcher.matches(entry.getKey(), entry.getValue().getValueIfDone())) {
+				entries.remove(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
+	public void clear() {
+		entries.clear();
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	private void evict() {
+		// one thread evicts, the others don't wait for it
+		if (!evictionLock.tryLock()) {
+			return;
+		}
+		try {
+			if (entries.size() <= maxSize) {
+				return;
+			}
+			List<Map.Entry<K, Entry<V>>> snapshot = new ArrayList<Map.Entry<K, Entry<V>>>(entries.entrySet());
+			Collections.sort(snapshot, new Comparator<Map.Entry<K, Entry<V>>>() {
+				public int compare(Map.Entry<K, Entry<V>> o1, Map.Entry<K, Entry<V>> o2) {
+					long a1 = o1.getValue().lastAccess;
+					long a2 = o2.getValue().lastAccess;
+					return a1 < a2 ? -1 : (a1 == a2 ? 0 : 1);
+				}
+			});
+			int toEvict = snapshot.size() - maxSize + maxSize / 10;
+			for (int i = 0; i < toEvict && i < snapshot.size(); i++) {
+				entries.remove(snapshot.get(i).getKey(), snapshot.get(i).getValue());
+			}
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private static class Entry<V> {
+
+		private final FutureTask<V> task;
+
+		private volatile long lastAccess;
+
+		public Entry(FutureTask<V> task) {
+			this.task = task;
+		}
+
+		public V getValueIfDone() {
+			if (task.isDone()) {
+				try {
+					return task.get();
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				catch (ExecutionException e) {
+				}
+			}
+			return null;
+		}
+	}
+
+}
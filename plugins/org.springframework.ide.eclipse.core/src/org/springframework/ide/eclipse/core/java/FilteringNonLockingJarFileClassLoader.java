@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 Spring IDE Developers
+ * Copyright (c) 2009, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,11 +18,15 @@ import java.util.Collections;
 import java.util.Enumeration;
 
 import org.apache.xbean.classloader.NonLockingJarFileClassLoader;
+import org.apache.xbean.classloader.UrlResourceFinder;
 
 /**
  * Extension to {@link NonLockingJarFileClassLoader} that filters resource loading attempts by
  * calling {@link ProjectClassLoaderCache#shouldFilter(String)} before delegating to the super
  * implementation.
+ * <p>
+ * Jar files are taken from the workspace wide {@link SharedJarFilePool}, so loaders of projects sharing the same
+ * libraries don't open and cache their own copies of them.
  * 
  * @since 2.7.0
  */
@@ -33,6 +37,11 @@ public class FilteringNonLockingJarFileClassLoader extends NonLockingJarFileClas
 	public FilteringNonLockingJarFileClassLoader(String name, URL[] urls, ClassLoader parent) {
 		super(name, urls, parent);
 	}
+
+	@Override
+	protected UrlResourceFinder newResourceFinder() {
+		return new UrlResourceFinder(SharedJarFilePool.getDefault());
+	}
 	
 	@Override
 	public URL findResource(String resourceName) {
@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java;
+
+import java.util.Set;
+
+import org.eclipse.core.resources.IProject;
+
+/**
+ * Listener that is notified by an {@link ITypeStructureChangeNotifier} about java types that have structural changes, so that
+ * information derived from the previous structure of these types can be discarded.
+ * @since 3.9.17
+ */
+public interface ITypeStructureChangeListener {
+
+	/**
+	 * Called when types of the given <code>project</code> have structural changes or were removed.
+	 * @param project the project containing the types
+	 * @param classNames the full-qualified names of the changed types, or <code>null</code> if any type of the project
+	 * may have changed
+	 */
+	void typeStructuresChanged(IProject project, Set<String> classNames);
+
+}
@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+
+/**
+ * Optional interface to be implemented by {@link ITypeStructureCache}s that notify
+ * {@link ITypeStructureChangeListener}s about java types with structural changes.
+ * @since 3.9.17
+ */
+public interface ITypeStructureChangeNotifier {
+
+	/**
+	 * Adds a listener that is notified about types with structural changes. Listeners are only weakly referenced and
+	 * need to be kept reachable by their owner.
+	 * @param listener the listener to add
+	 */
+	void addTypeStructureChangeListener(ITypeStructureChangeListener listener);
+
+	/**
+	 * Removes a listener previously added with {@link #addTypeStructureChangeListener(ITypeStructureChangeListener)}.
+	 * @param listener the listener to remove
+	 */
+	void removeTypeStructureChangeListener(ITypeStructureChangeListener listener);
+
+	/**
+	 * Notifies the listeners about the types of the given changed class files that are structurally different from
+	 * their recorded type structures.
+	 * <p>
+	 * Called with the changed resources of a build before any builder or validator runs; the recorded type structures
+	 * are not updated.
+	 * @param project the project being built
+	 * @param resources the changed class files, or <code>null</code> if any type of the project may have changed
+	 */
+	void notifyStructuralChanges(IProject project, IResource... resources);
+
+}
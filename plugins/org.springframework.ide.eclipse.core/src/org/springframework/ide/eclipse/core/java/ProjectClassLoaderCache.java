@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 Spring IDE Developers
+ * Copyright (c) 2009, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,11 +16,17 @@ import java.net.URI;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.xbean.classloader.NonLockingJarFileClassLoader;
 import org.eclipse.core.resources.IFolder;
@@ -41,6 +47,7 @@ import org.eclipse.core.runtime.Preferences.PropertyChangeEvent;
 import org.eclipse.jdt.core.ElementChangedEvent;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
@@ -57,47 +64,100 @@ import org.springframework.ide.eclipse.core.SpringCore;
 public class ProjectClassLoaderCache {
 
 	private static final String FILE_SCHEME = "file";
-	private static final int CACHE_SIZE = 12;
-	private static final List<ClassLoaderCacheEntry> CLASSLOADER_CACHE = new ArrayList<ClassLoaderCacheEntry>(CACHE_SIZE);
+
+	/**
+	 * Maximum total weight of the cached class loaders; the weight of an entry is the number of
+	 * class path urls (directories and jars) it loads from.
+	 */
+	private static final long DEFAULT_MAX_CACHE_WEIGHT = Long.getLong("spring.ide.classloader.cache.weight", 4000);
+
+	private static volatile long maxCacheWeight = DEFAULT_MAX_CACHE_WEIGHT;
+
+	private static final ConcurrentMap<CacheKey, ClassLoaderCacheEntry> CLASSLOADER_CACHE = new ConcurrentHashMap<CacheKey, ClassLoaderCacheEntry>();
+
+	/**
+	 * Jar class loaders shared by the entries of projects with identical jar class paths.
+	 */
+	private static final ConcurrentMap<JarClassLoaderKey, SharedJarClassLoader> SHARED_JAR_CLASSLOADERS = new ConcurrentHashMap<JarClassLoaderKey, SharedJarClassLoader>();
+
+	private static final AtomicLong CACHE_WEIGHT = new AtomicLong();
+	private static final AtomicLong HITS = new AtomicLong();
+	private static final AtomicLong MISSES = new AtomicLong();
+	private static final AtomicLong EVICTIONS = new AtomicLong();
+
+	/**
+	 * Incremented before the entries affected by a class path change are removed; an entry added by a lookup that
+	 * overlapped with a change may have been created from the old class path.
+	 */
+	private static final AtomicLong CLASSPATH_CHANGES = new AtomicLong();
+
+	/**
+	 * Only serializes evictions; lookups and insertions don't take any lock.
+	 */
+	private static final Object EVICTION_LOCK = new Object();
 
 	private static final String DEBUG_OPTION = SpringCore.PLUGIN_ID + "/java/classloader/debug";
 	private static final boolean DEBUG_CLASSLOADER = SpringCore.isDebug(DEBUG_OPTION);
 
-	private static ClassLoader cachedParentClassLoader = null;
+	private static volatile ClassLoader cachedParentClassLoader = null;
 	private static IPropertyChangeListener propertyChangeListener = null;
 	private static IResourceChangeListener resourceChangeListener = null;
+	private static IElementChangedListener elementChangedListener = null;
+
+	private static ClassLoader addClassLoaderToCache(IProject project, List<URL> urls, ClassLoader parentClassLoader,
+			long classpathChanges) {
+		CacheKey key = new CacheKey(project, parentClassLoader);
+		ClassLoaderCacheEntry newEntry = new ClassLoaderCacheEntry(project, urls, parentClassLoader);
+		ClassLoaderCacheEntry existing = CLASSLOADER_CACHE.putIfAbsent(key, newEntry);
+		if (existing != null) {
+			// another thread was faster
+			newEntry.dispose();
+			existing.markAsAccessed();
+			return existing.getClassLoader();
+		}
+		if (CACHE_WEIGHT.addAndGet(newEntry.getWeight()) > maxCacheWeight) {
+			evict(newEntry);
+		}
+		ClassLoader classLoader = newEntry.getClassLoader();
+		if (CLASSPATH_CHANGES.get() != classpathChanges) {
+			// a class path changed while the urls were computed, don't keep an entry that might be stale
+			removeClassLoaderEntryFromCache(newEntry);
+		}
+		return classLoader;
+	}
 
-	private static ClassLoader addClassLoaderToCache(IProject project, List<URL> urls, ClassLoader parentClassLoader) {
-		synchronized (CLASSLOADER_CACHE) {
-			int nEntries = CLASSLOADER_CACHE.size();
-			if (nEntries >= CACHE_SIZE) {
-				// find obsolete entries or remove entry that was least recently accessed
-				ClassLoaderCacheEntry oldest = null;
-				List<ClassLoaderCacheEntry> obsoleteClassLoaders = new ArrayList<ClassLoaderCacheEntry>(CACHE_SIZE);
-				for (int i = 0; i < nEntries; i++) {
-					ClassLoaderCacheEntry entry = (ClassLoaderCacheEntry) CLASSLOADER_CACHE.get(i);
-					IProject curr = entry.getProject();
-					if (!curr.exists() || !curr.isAccessible() || !curr.isOpen()) {
-						obsoleteClassLoaders.add(entry);
-					}
-					else {
-						if (oldest == null || entry.getLastAccess() < oldest.getLastAccess()) {
-							oldest = entry;
-						}
-					}
+	/**
+	 * Removes entries of closed or deleted projects and then the least recently accessed entries
+	 * until the total weight of the cache is within the {@link #setMaxCacheWeight(long) maximum weight} again.
+	 * @param keep the entry that was just added, which is not evicted
+	 */
+	private static void evict(ClassLoaderCacheEntry keep) {
+		synchronized (EVICTION_LOCK) {
+			List<ClassLoaderCacheEntry> entries = new ArrayList<ClassLoaderCacheEntry>(CLASSLOADER_CACHE.values());
+			for (ClassLoaderCacheEntry entry : entries) {
+				IProject curr = entry.getProject();
+				if (!curr.exists() || !curr.isAccessible() || !curr.isOpen()) {
+					removeClassLoaderEntryFromCache(entry);
 				}
-				if (!obsoleteClassLoaders.isEmpty()) {
-					for (int i = 0; i < obsoleteClassLoaders.size(); i++) {
-						removeClassLoaderEntryFromCache((ClassLoaderCacheEntry) obsoleteClassLoaders.get(i));
-					}
+			}
+			if (CACHE_WEIGHT.get() <= maxCacheWeight) {
+				return;
+			}
+			Collections.sort(entries, new Comparator<ClassLoaderCacheEntry>() {
+				public int compare(ClassLoaderCacheEntry o1, ClassLoaderCacheEntry o2) {
+					long a1 = o1.getLastAccess();
+					long a2 = o2.getLastAccess();
+					return a1 < a2 ? -1 : (a1 == a2 ? 0 : 1);
 				}
-				else if (oldest != null) {
-					removeClassLoaderEntryFromCache(oldest);
+			});
+			for (ClassLoaderCacheEntry entry : entries) {
+				if (CACHE_WEIGHT.get() <= maxCacheWeight) {
+					break;
+				}
+				if (entry != keep && removeClassLoaderEntryFromCache(entry)) {
+					EVICTIONS.incrementAndGet();
 				}
 			}
-			ClassLoaderCacheEntry newEntry = new ClassLoaderCacheEntry(project, urls, parentClassLoader);
-			CLASSLOADER_CACHE.add(newEntry);
-			return newEntry.getClassLoader();
 		}
 	}
 
@@ -210,25 +270,19 @@ public class ProjectClassLoaderCache {
 	}
 
 	private static ClassLoader findClassLoaderInCache(IProject project, ClassLoader parentClassLoader) {
-		synchronized (CLASSLOADER_CACHE) {
-			for (int i = CLASSLOADER_CACHE.size() - 1; i >= 0; i--) {
-				ClassLoaderCacheEntry entry = (ClassLoaderCacheEntry) CLASSLOADER_CACHE.get(i);
-				IProject curr = entry.getProject();
-				if (curr == null || !curr.exists() || !curr.isAccessible() || !curr.isOpen()) {
-					removeClassLoaderEntryFromCache(entry);
-					if (DEBUG_CLASSLOADER) {
-						System.out.println(String.format("> removing classloader for '%s' : total %s",
-								entry.getProject(), CLASSLOADER_CACHE.size()));
-					}
-				}
-				else {
-					if (entry.matches(project, parentClassLoader)) {
-						entry.markAsAccessed();
-						return entry.getClassLoader();
-					}
-				}
+		ClassLoaderCacheEntry entry = CLASSLOADER_CACHE.get(new CacheKey(project, parentClassLoader));
+		if (entry != null) {
+			IProject curr = entry.getProject();
+			if (!curr.exists() || !curr.isAccessible() || !curr.isOpen()) {
+				removeClassLoaderEntryFromCache(entry);
+			}
+			else {
+				entry.markAsAccessed();
+				HITS.incrementAndGet();
+				return entry.getClassLoader();
 			}
 		}
+		MISSES.incrementAndGet();
 		return null;
 	}
 
@@ -263,21 +317,28 @@ public class ProjectClassLoaderCache {
 			resourceChangeListener = new SourceAndOutputLocationResourceChangeListener();
 			ResourcesPlugin.getWorkspace().addResourceChangeListener(resourceChangeListener);
 		}
+		if (elementChangedListener == null) {
+			elementChangedListener = new ClasspathChangeListener();
+			JavaCore.addElementChangedListener(elementChangedListener, ElementChangedEvent.POST_CHANGE);
+		}
 	}
 
 	/**
 	 * Removes the given {@link ClassLoaderCacheEntry} from the internal cache.
 	 * @param entry the entry to remove
+	 * @return <code>true</code> if the entry was still in the cache
 	 */
-	private static void removeClassLoaderEntryFromCache(ClassLoaderCacheEntry entry) {
-		synchronized (CLASSLOADER_CACHE) {
+	private static boolean removeClassLoaderEntryFromCache(ClassLoaderCacheEntry entry) {
+		if (CLASSLOADER_CACHE.remove(entry.getKey(), entry)) {
+			CACHE_WEIGHT.addAndGet(-entry.getWeight());
+			entry.dispose();
 			if (DEBUG_CLASSLOADER) {
 				System.out.println(String.format("> removing classloader for '%s' : total %s", entry.getProject()
 						.getName(), CLASSLOADER_CACHE.size()));
 			}
-			entry.dispose();
-			CLASSLOADER_CACHE.remove(entry);
+			return true;
 		}
+		return false;
 	}
 
 	public static boolean shouldFilter(String name) {
@@ -302,36 +363,38 @@ public class ProjectClassLoaderCache {
 	 * Returns a {@link ClassLoader} for the given project.
 	 */
 	protected static ClassLoader getClassLoader(IProject project, ClassLoader parentClassLoader) {
-		synchronized (ProjectClassLoaderCache.class) {
-			// Setup the root class loader to be used when no explicit parent class loader is given
-			if (parentClassLoader == null && cachedParentClassLoader == null) {
-				List<URL> paths = new ArrayList<URL>();
-				Enumeration<String> libs = SpringCore.getDefault().getBundle().getEntryPaths("/lib/");
-				while (libs.hasMoreElements()) {
-					String lib = libs.nextElement();
-					// Don't add the non locking classloader jar
-					if (!lib.contains("xbean-nonlocking-classloader")) {
-						paths.add(SpringCore.getDefault().getBundle().getEntry(lib));
+		if (cachedParentClassLoader == null) {
+			synchronized (ProjectClassLoaderCache.class) {
+				// Setup the root class loader to be used when no explicit parent class loader is given
+				if (cachedParentClassLoader == null) {
+					List<URL> paths = new ArrayList<URL>();
+					Enumeration<String> libs = SpringCore.getDefault().getBundle().getEntryPaths("/lib/");
+					while (libs.hasMoreElements()) {
+						String lib = libs.nextElement();
+						// Don't add the non locking classloader jar
+						if (!lib.contains("xbean-nonlocking-classloader")) {
+							paths.add(SpringCore.getDefault().getBundle().getEntry(lib));
+						}
 					}
+					paths.addAll(JdtUtils.getBundleClassPath("org.aspectj.runtime"));
+					paths.addAll(JdtUtils.getBundleClassPath("org.aspectj.weaver"));
+					paths.addAll(JdtUtils.getBundleClassPath("org.objectweb.asm"));
+					paths.addAll(JdtUtils.getBundleClassPath("org.aopalliance"));
+					registerListenersIfRequired();
+					cachedParentClassLoader = new URLClassLoader(paths.toArray(new URL[paths.size()]));
 				}
-				paths.addAll(JdtUtils.getBundleClassPath("org.aspectj.runtime"));
-				paths.addAll(JdtUtils.getBundleClassPath("org.aspectj.weaver"));
-				paths.addAll(JdtUtils.getBundleClassPath("org.objectweb.asm"));
-				paths.addAll(JdtUtils.getBundleClassPath("org.aopalliance"));
-				cachedParentClassLoader = new URLClassLoader(paths.toArray(new URL[paths.size()]));
-			}
-
-			if (project == null) {
-				return cachedParentClassLoader;
 			}
+		}
 
-			registerListenersIfRequired();
+		if (project == null) {
+			return cachedParentClassLoader;
 		}
 
 		ClassLoader classLoader = findClassLoaderInCache(project, parentClassLoader);
 		if (classLoader == null) {
+			long classpathChanges = CLASSPATH_CHANGES.get();
 			List<URL> urls = getClassPathUrls(project, parentClassLoader);
-			classLoader = addClassLoaderToCache(project, urls, parentClassLoader);
+			classLoader = addClassLoaderToCache(project, urls, parentClassLoader, classpathChanges);
 			if (DEBUG_CLASSLOADER) {
 				System.out.println(String.format("> creating new classloader for '%s' with parent '%s' : total %s",
 						project.getName(), parentClassLoader, CLASSLOADER_CACHE.size()));
@@ -339,36 +402,274 @@ public class ProjectClassLoaderCache {
 		}
 		return classLoader;
 	}
-	
+
 	/**
 	 * Removes any cached {@link ClassLoaderCacheEntry} for the given {@link IProject}.
 	 * @param project the project to remove {@link ClassLoaderCacheEntry} for
 	 */
 	protected static void removeClassLoaderEntryFromCache(IProject project) {
-		synchronized (CLASSLOADER_CACHE) {
-			if (DEBUG_CLASSLOADER) {
-				System.out.println(String.format("> removing classloader for '%s' : total %s", project.getName(),
-						CLASSLOADER_CACHE.size()));
+		if (DEBUG_CLASSLOADER) {
+			System.out.println(String.format("> removing classloader for '%s' : total %s", project.getName(),
+					CLASSLOADER_CACHE.size()));
+		}
+		for (ClassLoaderCacheEntry entry : CLASSLOADER_CACHE.values()) {
+			if (project.equals(entry.getProject())) {
+				removeClassLoaderEntryFromCache(entry);
+			}
+		}
+	}
+
+	/**
+	 * Removes all cached {@link ClassLoaderCacheEntry}s.
+	 */
+	private static void clear() {
+		for (ClassLoaderCacheEntry entry : CLASSLOADER_CACHE.values()) {
+			removeClassLoaderEntryFromCache(entry);
+		}
+	}
+
+	/**
+	 * Sets the maximum total weight of the cached class loaders and evicts entries if the cache is heavier. The
+	 * default is taken from the <code>spring.ide.classloader.cache.weight</code> system property.
+	 * @return the previous maximum weight
+	 * @since 3.9.17
+	 */
+	public static long setMaxCacheWeight(long maxWeight) {
+		long previous = maxCacheWeight;
+		maxCacheWeight = maxWeight;
+		if (CACHE_WEIGHT.get() > maxWeight) {
+			evict(null);
+		}
+		return previous;
+	}
+
+	/**
+	 * Returns the current statistics of the class loader cache.
+	 * @since 3.9.17
+	 */
+	public static Statistics getStatistics() {
+		return new Statistics(HITS.get(), MISSES.get(), EVICTIONS.get(), CLASSLOADER_CACHE.size(), CACHE_WEIGHT.get(),
+				SHARED_JAR_CLASSLOADERS.size());
+	}
+
+	/**
+	 * Snapshot of the statistics of the class loader cache.
+	 * @since 3.9.17
+	 */
+	public static class Statistics {
+
+		private final long hitCount;
+
+		private final long missCount;
+
+		private final long evictionCount;
+
+		private final int entryCount;
+
+		private final long weight;
+
+		private final int jarClassLoaderCount;
+
+		Statistics(long hitCount, long missCount, long evictionCount, int entryCount, long weight,
+				int jarClassLoaderCount) {
+			this.hitCount = hitCount;
+			this.missCount = missCount;
+			this.evictionCount = evictionCount;
+			this.entryCount = entryCount;
+			this.weight = weight;
+			this.jarClassLoaderCount = jarClassLoaderCount;
+		}
+
+		public long getHitCount() {
+			return hitCount;
+		}
+
+		public long getMissCount() {
+			return missCount;
+		}
+
+		public long getEvictionCount() {
+			return evictionCount;
+		}
+
+		public int getEntryCount() {
+			return entryCount;
+		}
+
+		/**
+		 * Returns the total number of class path urls of the cached class loaders.
+		 */
+		public long getWeight() {
+			return weight;
+		}
+
+		/**
+		 * Returns the number of distinct jar class loaders, which are shared by projects with identical jar class paths.
+		 */
+		public int getJarClassLoaderCount() {
+			return jarClassLoaderCount;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("hits=%s, misses=%s, evictions=%s, entries=%s, weight=%s, jar classloaders=%s",
+					hitCount, missCount, evictionCount, entryCount, weight, jarClassLoaderCount);
+		}
+	}
+
+	/**
+	 * Key of a {@link ClassLoaderCacheEntry}.
+	 */
+	static class CacheKey {
+
+		private final IProject project;
+
+		private final ClassLoader parentClassLoader;
+
+		CacheKey(IProject project, ClassLoader parentClassLoader) {
+			this.project = project;
+			this.parentClassLoader = parentClassLoader;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey other = (CacheKey) obj;
+			return project.equals(other.project)
+					&& (parentClassLoader == null ? other.parentClassLoader == null : parentClassLoader
+							.equals(other.parentClassLoader));
+		}
+
+		@Override
+		public int hashCode() {
+			return project.hashCode() * 31 + (parentClassLoader == null ? 0 : parentClassLoader.hashCode());
+		}
+	}
+
+	/**
+	 * Key of a shared jar class loader: its parent, the kind of class loader and the jars it loads from.
+	 */
+	static class JarClassLoaderKey {
+
+		private final ClassLoader parentClassLoader;
+
+		private final boolean nonLocking;
+
+		private final List<String> jars;
+
+		JarClassLoaderKey(ClassLoader parentClassLoader, boolean nonLocking, Set<URL> jars) {
+			this.parentClassLoader = parentClassLoader;
+			this.nonLocking = nonLocking;
+			// compare by external form, URL.equals may resolve host names
+			this.jars = new ArrayList<String>(jars.size());
+			for (URL jar : jars) {
+				this.jars.add(jar.toExternalForm());
+			}
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof JarClassLoaderKey)) {
+				return false;
+			}
+			JarClassLoaderKey other = (JarClassLoaderKey) obj;
+			return parentClassLoader == other.parentClassLoader && nonLocking == other.nonLocking
+					&& jars.equals(other.jars);
+		}
+
+		@Override
+		public int hashCode() {
+			return (System.identityHashCode(parentClassLoader) * 31 + (nonLocking ? 1 : 0)) * 31 + jars.hashCode();
+		}
+	}
+
+	/**
+	 * A jar class loader with the number of {@link ClassLoaderCacheEntry}s using it.
+	 */
+	static class SharedJarClassLoader {
+
+		private final ClassLoader classLoader;
+
+		private int references = 1;
+
+		SharedJarClassLoader(ClassLoader classLoader) {
+			this.classLoader = classLoader;
+		}
+
+		/**
+		 * Adds a reference, unless the loader was already released by all its users.
+		 */
+		synchronized boolean retain() {
+			if (references == 0) {
+				return false;
+			}
+			references++;
+			return true;
+		}
+
+		synchronized boolean release() {
+			return --references == 0;
+		}
+
+		ClassLoader getClassLoader() {
+			return classLoader;
+		}
+	}
+
+	private static ClassLoader acquireJarClassLoader(String name, Set<URL> jars, ClassLoader parent) {
+		boolean nonLocking = useNonLockingClassLoader();
+		JarClassLoaderKey key = new JarClassLoaderKey(parent, nonLocking, jars);
+		while (true) {
+			SharedJarClassLoader shared = SHARED_JAR_CLASSLOADERS.get(key);
+			if (shared != null) {
+				if (shared.retain()) {
+					return shared.getClassLoader();
+				}
+				// released concurrently, wait for it to be removed
+				SHARED_JAR_CLASSLOADERS.remove(key, shared);
+				continue;
 			}
-			for (ClassLoaderCacheEntry entry : new ArrayList<ClassLoaderCacheEntry>(CLASSLOADER_CACHE)) {
-				if (project.equals(entry.getProject())) {
-					entry.dispose();
-					CLASSLOADER_CACHE.remove(entry);
+			ClassLoader classLoader = createJarClassLoader(name, jars, parent, nonLocking);
+			if (SHARED_JAR_CLASSLOADERS.putIfAbsent(key, new SharedJarClassLoader(classLoader)) == null) {
+				return classLoader;
+			}
+		}
+	}
+
+	private static ClassLoader createJarClassLoader(String name, Set<URL> jars, ClassLoader parent, boolean nonLocking) {
+		URL[] urls = jars.toArray(new URL[jars.size()]);
+		if (nonLocking) {
+			return new FilteringNonLockingJarFileClassLoader(name, urls, parent);
+		}
+		else {
+			return new FilteringURLClassLoader(urls, parent);
+		}
+	}
+
+	private static void releaseJarClassLoader(ClassLoader classLoader) {
+		for (Map.Entry<JarClassLoaderKey, SharedJarClassLoader> entry : SHARED_JAR_CLASSLOADERS.entrySet()) {
+			SharedJarClassLoader shared = entry.getValue();
+			if (shared.getClassLoader() == classLoader) {
+				if (shared.release()) {
+					SHARED_JAR_CLASSLOADERS.remove(entry.getKey(), shared);
 				}
+				return;
 			}
 		}
 	}
-	
+
 	/**
 	 * Internal cache entry
 	 */
-	static class ClassLoaderCacheEntry implements IElementChangedListener {
+	static class ClassLoaderCacheEntry {
 
 		private URL[] directories;
 
 		private ClassLoader jarClassLoader;
 
-		private long lastAccess;
+		private volatile long lastAccess;
 
 		private ClassLoader parentClassLoader;
 
@@ -376,32 +677,43 @@ public class ProjectClassLoaderCache {
 
 		private URL[] urls;
 
+		private final int weight;
+
+		private boolean disposed;
+
 		public ClassLoaderCacheEntry(IProject project, List<URL> urls, ClassLoader parentClassLoader) {
 			this.project = project;
 			this.urls = urls.toArray(new URL[urls.size()]);
 			this.parentClassLoader = parentClassLoader;
+			this.weight = Math.max(1, this.urls.length);
 			markAsAccessed();
-			JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE);
 		}
 
-		public void dispose() {
-			JavaCore.removeElementChangedListener(this);
-			this.urls = null;
+		public synchronized void dispose() {
+			if (jarClassLoader != null && !disposed) {
+				releaseJarClassLoader(jarClassLoader);
+			}
+			this.disposed = true;
 			this.jarClassLoader = null;
 		}
 
-		public void elementChanged(ElementChangedEvent event) {
+		CacheKey getKey() {
+			return new CacheKey(project, parentClassLoader);
+		}
+
+		/**
+		 * Returns the weight of this entry in the cache: the number of its class path urls.
+		 */
+		int getWeight() {
+			return weight;
+		}
+
+		/**
+		 * Returns <code>true</code> if the class path of this entry depends on the given changed element.
+		 */
+		boolean isAffectedBy(IJavaElement element) {
 			IJavaProject javaProject = JdtUtils.getJavaProject(project);
-			if (javaProject != null) {
-				for (IJavaElementDelta delta : event.getDelta().getAffectedChildren()) {
-					if ((delta.getFlags() & IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED) != 0
-							|| (delta.getFlags() & IJavaElementDelta.F_CLASSPATH_CHANGED) != 0) {
-						if (javaProject.equals(delta.getElement()) || javaProject.isOnClasspath(delta.getElement())) {
-							removeClassLoaderEntryFromCache(this);
-						}
-					}
-				}
-			}
+			return javaProject != null && (javaProject.equals(element) || javaProject.isOnClasspath(element));
 		}
 
 		public ClassLoader getClassLoader() {
@@ -445,26 +757,15 @@ public class ProjectClassLoaderCache {
 						dirs.add(url);
 					}
 				}
-				if (parentClassLoader != null) {
-					// We use the parent class loader of the org.springframework.ide.eclipse.beans.core bundle
-					if (useNonLockingClassLoader()) {
-						jarClassLoader = new FilteringNonLockingJarFileClassLoader(String.format("ClassLoader for '%s'",
-								project.getName()), (URL[]) jars.toArray(new URL[jars.size()]), parentClassLoader);
-					}
-					else {
-						jarClassLoader = new FilteringURLClassLoader((URL[]) jars.toArray(new URL[jars.size()]),
-								parentClassLoader);
-					}
+				// We use the parent class loader of the org.springframework.ide.eclipse.beans.core bundle
+				ClassLoader parent = parentClassLoader != null ? parentClassLoader : cachedParentClassLoader;
+				String name = String.format("ClassLoader for '%s'", project.getName());
+				if (disposed) {
+					// evicted while in use, don't register a loader in the shared pool that is never released
+					jarClassLoader = createJarClassLoader(name, jars, parent, useNonLockingClassLoader());
 				}
 				else {
-					if (useNonLockingClassLoader()) {
-						jarClassLoader = new FilteringNonLockingJarFileClassLoader(String.format("ClassLoader for '%s'",
-								project.getName()), (URL[]) jars.toArray(new URL[jars.size()]), cachedParentClassLoader);
-					}
-					else {
-						jarClassLoader = new FilteringURLClassLoader((URL[]) jars.toArray(new URL[jars.size()]),
-								cachedParentClassLoader);
-					}
+					jarClassLoader = acquireJarClassLoader(name, jars, parent);
 				}
 				directories = dirs.toArray(new URL[dirs.size()]);
 			}
@@ -483,6 +784,28 @@ public class ProjectClassLoaderCache {
 		}
 	}
 	
+	/**
+	 * {@link IElementChangedListener} to remove the entries whose class path depends on a project with a changed
+	 * class path.
+	 * @since 3.9.17
+	 */
+	static class ClasspathChangeListener implements IElementChangedListener {
+
+		public void elementChanged(ElementChangedEvent event) {
+			for (IJavaElementDelta delta : event.getDelta().getAffectedChildren()) {
+				if ((delta.getFlags() & IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED) != 0
+						|| (delta.getFlags() & IJavaElementDelta.F_CLASSPATH_CHANGED) != 0) {
+					CLASSPATH_CHANGES.incrementAndGet();
+					for (ClassLoaderCacheEntry entry : CLASSLOADER_CACHE.values()) {
+						if (entry.isAffectedBy(delta.getElement())) {
+							removeClassLoaderEntryFromCache(entry);
+						}
+					}
+				}
+			}
+		}
+	}
+
 	/**
 	 * {@link IPropertyChangeListener} to clear the cache whenever the setting is changed.
 	 * @since 2.5.0
@@ -494,9 +817,7 @@ public class ProjectClassLoaderCache {
 		 */
 		public void propertyChange(PropertyChangeEvent event) {
 			if (SpringCore.USE_NON_LOCKING_CLASSLOADER.equals(event.getProperty())) {
-				synchronized (CLASSLOADER_CACHE) {
-					CLASSLOADER_CACHE.clear();
-				}
+				clear();
 			}
 		}
 	}
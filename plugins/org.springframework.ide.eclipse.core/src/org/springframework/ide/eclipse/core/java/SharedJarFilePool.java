@@ -0,0 +1,365 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.jar.JarFile;
+import java.util.zip.ZipFile;
+
+import org.apache.xbean.classloader.NonLockingJarFile;
+import org.apache.xbean.classloader.UrlResourceFinder.JarFileFactory;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+/**
+ * Workspace wide, reference counted pool of the jar files read by {@link FilteringNonLockingJarFileClassLoader}s.
+ * <p>
+ * Jars are pooled by canonical path, modification time and size, so class loaders of different projects that use the
+ * same libraries share one jar file, together with its cached entries and resource bytes. While classes are loaded, a
+ * pooled jar keeps one handle on the file open (its central directory is mapped by the JDK) instead of reopening the
+ * file for every entry; the handle is closed again after an idle timeout without access, so jars are not locked between
+ * class loading bursts. The timeout defaults to 0 on Windows, where an open handle keeps the jar from being replaced or
+ * deleted, so handles are closed as soon as no entry is read anymore.
+ * <p>
+ * A pooled jar is released when the resource finder of a class loader is destroyed; it is removed from the pool when
+ * its last user released it or when all class loaders using it were garbage collected.
+ * @since 3.9.17
+ */
+public class SharedJarFilePool implements JarFileFactory {
+
+	/**
+	 * Default time in ms after which an unused open jar handle is closed; can be overridden with the system property
+	 * <code>spring.ide.classloader.jar.idle.timeout</code>.
+	 */
+	private static final long DEFAULT_IDLE_TIMEOUT = Long.getLong("spring.ide.classloader.jar.idle.timeout",
+			Platform.OS_WIN32.equals(Platform.getOS()) ? 0 : 2000);
+
+	private static final SharedJarFilePool INSTANCE = new SharedJarFilePool();
+
+	private final long idleTimeout;
+
+	private final Map<Key, PoolReference> pool = new HashMap<Key, PoolReference>();
+
+	private final ReferenceQueue<PooledJarFile> collected = new ReferenceQueue<PooledJarFile>();
+
+	private final Map<PooledJarFile, Boolean> openJarFiles = new HashMap<PooledJarFile, Boolean>();
+
+	private final Job closeIdleJarFilesJob = new Job("Closing idle jar files") {
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			if (closeIdleJarFiles()) {
+				schedule(idleTimeout);
+			}
+			return Status.OK_STATUS;
+		}
+	};
+
+	public SharedJarFilePool() {
+		this(DEFAULT_IDLE_TIMEOUT);
+	}
+
+	/**
+	 * Creates a pool that closes open jar handles after the given time in ms without access; with a timeout of 0 a
+	 * handle is closed as soon as its last reader released it.
+	 */
+	public SharedJarFilePool(long idleTimeout) {
+		this.idleTimeout = idleTimeout;
+		closeIdleJarFilesJob.setSystem(true);
+	}
+
+	public static SharedJarFilePool getDefault() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Returns the pooled jar file for the given file, adding a reference to it. The reference is released by closing
+	 * the returned {@link JarFile}.
+	 */
+	public JarFile newJarFile(File file) throws IOException {
+		File canonicalFile = file.getCanonicalFile();
+		Key key = new Key(canonicalFile.getPath(), canonicalFile.lastModified(), canonicalFile.length());
+		synchronized (pool) {
+			purgeCollected();
+			PoolReference reference = pool.get(key);
+			PooledJarFile jarFile = (reference != null ? reference.get() : null);
+			if (jarFile != null && jarFile.retain()) {
+				return jarFile;
+			}
+			jarFile = new PooledJarFile(canonicalFile, key);
+			pool.put(key, new PoolReference(jarFile, key, collected));
+			return jarFile;
+		}
+	}
+
+	/**
+	 * Returns the number of jar files in the pool.
+	 */
+	public int size() {
+		synchronized (pool) {
+			purgeCollected();
+			return pool.size();
+		}
+	}
+
+	/**
+	 * Returns the number of pooled jar files that currently keep a handle on their file open.
+	 */
+	public int getOpenCount() {
+		synchronized (openJarFiles) {
+			return openJarFiles.size();
+		}
+	}
+
+	private void release(PooledJarFile jarFile) {
+		synchronized (pool) {
+			PoolReference reference = pool.get(jarFile.key);
+			if (reference != null && reference.get() == jarFile) {
+				pool.remove(jarFile.key);
+			}
+		}
+		jarFile.closeHandle();
+	}
+
+	private void purgeCollected() {
+		PoolReference reference;
+		while ((reference = (PoolReference) collected.poll()) != null) {
+			if (pool.get(reference.key) == reference) {
+				pool.remove(reference.key);
+			}
+		}
+	}
+
+	private void opened(PooledJarFile jarFile) {
+		synchronized (openJarFiles) {
+			boolean schedule = openJarFiles.isEmpty() && idleTimeout > 0;
+			openJarFiles.put(jarFile, Boolean.TRUE);
+			if (schedule) {
+				closeIdleJarFilesJob.schedule(idleTimeout);
+			}
+		}
+	}
+
+	private void closed(PooledJarFile jarFile) {
+		synchronized (openJarFiles) {
+			openJarFiles.remove(jarFile);
+		}
+	}
+
+	/**
+	 * Closes the handles of the jar files that weren't accessed during the idle timeout.
+	 * @return <code>true</code> if handles remain open
+	 */
+	private boolean closeIdleJarFiles() {
+		PooledJarFile[] jarFiles;
+		synchronized (openJarFiles) {
+			jarFiles = openJarFiles.keySet().toArray(new PooledJarFile[openJarFiles.size()]);
+		}
+		long idleSince = System.currentTimeMillis() - idleTimeout;
+		for (PooledJarFile jarFile : jarFiles) {
+			jarFile.closeHandleIfIdle(idleSince);
+		}
+		synchronized (openJarFiles) {
+			return !openJarFiles.isEmpty();
+		}
+	}
+
+	/**
+	 * Key of a pooled jar file; a modified jar file gets a new pool entry.
+	 */
+	static class Key {
+
+		private final String path;
+
+		private final long lastModified;
+
+		private final long length;
+
+		Key(String path, long lastModified, long length) {
+			this.path = path;
+			this.lastModified = lastModified;
+			this.length = length;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return path.equals(other.path) && lastModified == other.lastModified && length == other.length;
+		}
+
+		@Override
+		public int hashCode() {
+			return (path.hashCode() * 31 + (int) (lastModified ^ (lastModified >>> 32))) * 31
+					+ (int) (length ^ (length >>> 32));
+		}
+	}
+
+	/**
+	 * Weak reference to a pooled jar file, so that jar files of class loaders that were never destroyed don't stay in
+	 * the pool.
+	 */
+	static class PoolReference extends WeakReference<PooledJarFile> {
+
+		private final Key key;
+
+		PoolReference(PooledJarFile jarFile, Key key, ReferenceQueue<PooledJarFile> queue) {
+			super(jarFile, queue);
+			this.key = key;
+		}
+	}
+
+	/**
+	 * A {@link NonLockingJarFile} shared by several class loaders, that reads its entries from one open handle.
+	 */
+	class PooledJarFile extends NonLockingJarFile {
+
+		private final Key key;
+
+		private final boolean initialized;
+
+		private int references = 1;
+
+		private SharedJarFileHandle handle;
+
+		private int handleUsers;
+
+		private long lastAccess;
+
+		PooledJarFile(File file, Key key) throws IOException {
+			super(file);
+			this.key = key;
+			this.initialized = true;
+			// Changes of the file result in a new pool entry
+			setCheckForUpdates(false);
+		}
+
+		synchronized boolean retain() {
+			if (references == 0) {
+				return false;
+			}
+			references++;
+			return true;
+		}
+
+		@Override
+		protected JarFile reopenJarFile() throws IOException {
+			boolean opened = false;
+			JarFile jarFile;
+			synchronized (this) {
+				if (handle == null) {
+					handle = new SharedJarFileHandle(getFile(), this);
+					opened = true;
+				}
+				handleUsers++;
+				lastAccess = System.currentTimeMillis();
+				jarFile = handle;
+			}
+			if (opened) {
+				opened(this);
+			}
+			return jarFile;
+		}
+
+		void handleReleased() {
+			boolean idle;
+			synchronized (this) {
+				handleUsers--;
+				lastAccess = System.currentTimeMillis();
+				idle = (handleUsers == 0);
+			}
+			if (idle && idleTimeout == 0) {
+				closeHandleIfIdle(Long.MAX_VALUE);
+			}
+		}
+
+		void closeHandleIfIdle(long idleSince) {
+			SharedJarFileHandle closing;
+			synchronized (this) {
+				if (handleUsers > 0 || lastAccess > idleSince) {
+					return;
+				}
+				closing = handle;
+				handle = null;
+			}
+			dispose(closing);
+		}
+
+		void closeHandle() {
+			SharedJarFileHandle closing;
+			synchronized (this) {
+				closing = handle;
+				handle = null;
+			}
+			dispose(closing);
+		}
+
+		private void dispose(SharedJarFileHandle closing) {
+			if (closing != null) {
+				closed(this);
+				closing.dispose();
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (!initialized) {
+				// NonLockingJarFile closes the file opened by its constructor
+				super.close();
+				return;
+			}
+			boolean released;
+			synchronized (this) {
+				released = references > 0 && --references == 0;
+			}
+			if (released) {
+				release(this);
+			}
+		}
+	}
+
+	/**
+	 * Open handle of a pooled jar file, which stays open when a reader closes it.
+	 */
+	static class SharedJarFileHandle extends JarFile {
+
+		private final PooledJarFile owner;
+
+		SharedJarFileHandle(File file, PooledJarFile owner) throws IOException {
+			super(file, false, ZipFile.OPEN_READ);
+			this.owner = owner;
+		}
+
+		@Override
+		public void close() {
+			owner.handleReleased();
+		}
+
+		void dispose() {
+			try {
+				super.close();
+			}
+			catch (IOException e) {
+			}
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2016 Spring IDE Developers
+ * Copyright (c) 2008, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,8 +17,12 @@ import java.lang.reflect.Method;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -68,10 +72,12 @@ import org.springsource.ide.eclipse.commons.core.SpringCoreUtils;
  * @since 2.2.0
  */
 @SuppressWarnings("restriction")
-public class TypeStructureCache implements ITypeStructureCache {
+public class TypeStructureCache implements ITypeStructureCache, ITypeStructureChangeNotifier {
 
 	private static final char[][] EMPTY_CHAR_ARRAY = new char[0][];
 
+	private static final int ALL_FLAGS = FLAG_ANNOTATION | FLAG_ANNOTATION_VALUE | FLAG_TAB_BITS;
+
 	private IElementChangedListener changedListener = null;
 
 	/** {@link TypeStructure} instances keyed by full-qualified class names */
@@ -83,6 +89,10 @@ public class TypeStructureCache implements ITypeStructureCache {
 
 	protected final Lock w = rwl.writeLock();
 
+	/** Weakly referenced {@link ITypeStructureChangeListener}s */
+	private final Set<ITypeStructureChangeListener> listeners = Collections
+			.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<ITypeStructureChangeListener, Boolean>()));
+
 	public void startup() {
 		changedListener = new TypeRemovingJavaElementChangeListener();
 		JavaCore.addElementChangedListener(changedListener);
@@ -107,6 +117,67 @@ public class TypeStructureCache implements ITypeStructureCache {
 		}
 	}
 
+	public void addTypeStructureChangeListener(ITypeStructureChangeListener listener) {
+		listeners.add(listener);
+	}
+
+	public void removeTypeStructureChangeListener(ITypeStructureChangeListener listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Notifies the listeners about the types of the given class files that differ from their recorded structures.
+	 */
+	public void notifyStructuralChanges(IProject project, IResource... resources) {
+		if (resources == null || !hasRecordedTypeStructures(project)) {
+			notifyListeners(project, null);
+			return;
+		}
+
+		Set<String> changedTypes = new HashSet<String>();
+		try {
+			r.lock();
+			Map<String, TypeStructure> typeStructures = typeStructuresByProject.get(project);
+			for (IResource resource : resources) {
+				if (resource instanceof IFile && "class".equals(resource.getFileExtension()) && resource.exists()) {
+					ClassFileReader reader = readClassFile((IFile) resource);
+					if (reader != null) {
+						String className = new String(reader.getName()).replace('/', '.');
+						TypeStructure existingType = (typeStructures != null ? typeStructures.get(className) : null);
+						if (existingType != null && hasStructuralChanges(reader, existingType, ALL_FLAGS)) {
+							changedTypes.add(className);
+						}
+					}
+				}
+			}
+		}
+		finally {
+			r.unlock();
+		}
+		notifyListeners(project, changedTypes);
+	}
+
+	/**
+	 * Notifies the registered {@link ITypeStructureChangeListener}s; must not be called while holding a lock.
+	 */
+	private void notifyListeners(IProject project, Set<String> classNames) {
+		if (classNames != null && classNames.isEmpty()) {
+			return;
+		}
+		ITypeStructureChangeListener[] currentListeners;
+		synchronized (listeners) {
+			currentListeners = listeners.toArray(new ITypeStructureChangeListener[listeners.size()]);
+		}
+		for (ITypeStructureChangeListener listener : currentListeners) {
+			try {
+				listener.typeStructuresChanged(project, classNames);
+			}
+			catch (RuntimeException e) {
+				SpringCore.log(e);
+			}
+		}
+	}
+
 	/**
 	 * Checks if {@link TypeStructure} instances exist for a given project.
 	 */
@@ -137,28 +208,11 @@ public class TypeStructureCache implements ITypeStructureCache {
 
 			for (IResource resource : resources) {
 				if (resource.getFileExtension().equals("class") && resource instanceof IFile) {
-					InputStream input = null;
-					try {
-						input = ((IFile) resource).getContents();
-						ClassFileReader reader = ClassFileReader.read(input, resource.getName());
+					ClassFileReader reader = readClassFile((IFile) resource);
+					if (reader != null) {
 						TypeStructure typeStructure = new TypeStructure(reader);
 						typeStructures.put(new String(reader.getName()).replace('/', '.'), typeStructure);
 					}
-					catch (CoreException e) {
-					}
-					catch (ClassFormatException e) {
-					}
-					catch (IOException e) {
-					}
-					finally {
-						if (input != null) {
-							try {
-								input.close();
-							}
-							catch (IOException e) {
-							}
-						}
-					}
 				}
 			}
 		}
@@ -167,6 +221,30 @@ public class TypeStructureCache implements ITypeStructureCache {
 		}
 	}
 
+	private static ClassFileReader readClassFile(IFile file) {
+		InputStream input = null;
+		try {
+			input = file.getContents();
+			return ClassFileReader.read(input, file.getName());
+		}
+		catch (CoreException e) {
+		}
+		catch (ClassFormatException e) {
+		}
+		catch (IOException e) {
+		}
+		finally {
+			if (input != null) {
+				try {
+					input.close();
+				}
+				catch (IOException e) {
+				}
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Check if a given {@link IResource} representing a class file has structural changes.
 	 */
@@ -239,6 +317,7 @@ public class TypeStructureCache implements ITypeStructureCache {
 		finally {
 			w.unlock();
 		}
+		notifyListeners(project, Collections.singleton(className));
 	}
 
 	private static ClassFileReader getClassFileReaderForClassName(String className, IProject project)
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2009 Spring IDE Developers
+ * Copyright (c) 2008, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -48,6 +48,16 @@ public class TypeStructureStateRegisteringEventListener extends ProjectContribut
 	public void start(int kind, IResourceDelta delta, List<ProjectBuilderDefinition> builderDefinitions,
 			List<ValidatorDefinition> validatorDefinitions, IProjectContributorState state, IProject project) {
 		state.hold(new TypeStructureState());
+
+		// Let caches drop information derived from the previous structure of the changed types before the build
+		if (SpringCore.getTypeStructureCache() instanceof ITypeStructureChangeNotifier) {
+			try {
+				notifyStructuralChanges((ITypeStructureChangeNotifier) SpringCore.getTypeStructureCache(), kind,
+						project, delta);
+			}
+			catch (CoreException e) {
+			}
+		}
 	}
 
 	/**
@@ -63,6 +73,24 @@ public class TypeStructureStateRegisteringEventListener extends ProjectContribut
 		}
 	}
 
+	/**
+	 * Notifies about the types of the class files in the given delta that differ from their recorded structures.
+	 */
+	private void notifyStructuralChanges(ITypeStructureChangeNotifier notifier, int kind, IProject project,
+			IResourceDelta delta) throws CoreException {
+		if (delta == null || kind == IncrementalProjectBuilder.FULL_BUILD
+				|| kind == IncrementalProjectBuilder.CLEAN_BUILD) {
+			notifier.notifyStructuralChanges(project, (IResource[]) null);
+		}
+		else {
+			JavaResourceRecordingProjectContributor contributor = new JavaResourceRecordingProjectContributor();
+			ResourceDeltaVisitor visitor = new ResourceDeltaVisitor(contributor, kind);
+			delta.accept(visitor);
+			notifier.notifyStructuralChanges(project,
+					visitor.getResources().toArray(new IResource[visitor.getResources().size()]));
+		}
+	}
+
 	/**
 	 * Updates the type structures for a given project.s
 	 */
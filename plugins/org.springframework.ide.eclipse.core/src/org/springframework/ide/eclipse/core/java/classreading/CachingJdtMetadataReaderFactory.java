@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2014 Spring IDE Developers
+ * Copyright (c) 2012, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,35 +11,81 @@
 package org.springframework.ide.eclipse.core.java.classreading;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
 
+import org.eclipse.core.resources.IProject;
 import org.eclipse.jdt.core.IJavaProject;
 import org.springframework.core.io.Resource;
 import org.springframework.core.type.classreading.MetadataReader;
 import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.ide.eclipse.core.SpringCore;
+import org.springframework.ide.eclipse.core.java.ComputingCache;
+import org.springframework.ide.eclipse.core.java.ITypeStructureCache;
+import org.springframework.ide.eclipse.core.java.ITypeStructureChangeListener;
+import org.springframework.ide.eclipse.core.java.ITypeStructureChangeNotifier;
 
 /**
+ * {@link MetadataReaderFactory} that caches the {@link MetadataReader} per class name.
+ * <p>
+ * Readers of different classes are created in parallel, the cache is bounded in size and drops the readers of types
+ * that the {@link ITypeStructureCache} reports structural changes for.
  * @author Martin Lippert
  * @since 3.2.0
  */
 public class CachingJdtMetadataReaderFactory implements MetadataReaderFactory {
 	
+	private static final int MAX_CACHE_SIZE = 2000;
+
 	private final JdtMetadataReaderFactory factory;
-	private final Map<String, MetadataReader> cache = new HashMap<String, MetadataReader>();
+	private final ComputingCache<String, MetadataReader> cache = new ComputingCache<String, MetadataReader>(MAX_CACHE_SIZE);
+
+	/** Only weakly referenced by the type structure cache, it lives as long as this factory */
+	private final ITypeStructureChangeListener typeStructureChangeListener = new ITypeStructureChangeListener() {
+		public void typeStructuresChanged(IProject project, Set<String> classNames) {
+			invalidate(classNames);
+		}
+	};
 	
 	public CachingJdtMetadataReaderFactory(IJavaProject project, ClassLoader classloader) {
 		this.factory = new JdtMetadataReaderFactory(project, classloader);
+		ITypeStructureCache typeStructureCache = SpringCore.getTypeStructureCache();
+		if (typeStructureCache instanceof ITypeStructureChangeNotifier) {
+			((ITypeStructureChangeNotifier) typeStructureCache).addTypeStructureChangeListener(typeStructureChangeListener);
+		}
 	}
 
-	public MetadataReader getMetadataReader(String className) throws IOException {
-		synchronized(cache) {
-			if (!cache.containsKey(className)) {
-				cache.put(className, factory.getMetadataReader(className));
+	public MetadataReader getMetadataReader(final String className) throws IOException {
+		return cache.get(className, new Callable<MetadataReader>() {
+			public MetadataReader call() throws IOException {
+				return factory.getMetadataReader(className);
 			}
+		});
+	}
+
+	/**
+	 * Removes the cached readers of the given types and their inner types.
+	 * @param classNames full-qualified class names or <code>null</code> to clear the cache
+	 * @since 3.9.17
+	 */
+	public void invalidate(final Set<String> classNames) {
+		if (classNames == null) {
+			cache.clear();
+			return;
 		}
-		
-		return cache.get(className);
+		cache.invalidate(new ComputingCache.EntryMatcher<String, MetadataReader>() {
+			public boolean matches(String className, MetadataReader reader) {
+				// inner classes may be requested with '$' or '.' as separator
+				String name = className.replace('$', '.');
+				for (String changed : classNames) {
+					String changedName = changed.replace('$', '.');
+					if (name.equals(changedName) || name.startsWith(changedName + ".")) {
+						return true;
+					}
+				}
+				return false;
+			}
+		});
 	}
 
 	public MetadataReader getMetadataReader(Resource resource) throws IOException {
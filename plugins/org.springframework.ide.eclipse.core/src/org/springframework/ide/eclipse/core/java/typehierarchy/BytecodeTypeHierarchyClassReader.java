@@ -12,14 +12,23 @@ package org.springframework.ide.eclipse.core.java.typehierarchy;
 
 import java.io.BufferedInputStream;
 import java.io.DataInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
 import org.springframework.ide.eclipse.core.SpringCore;
 
 /**
+ * If a {@link TypeHierarchySnapshotStore} is given, the type hierarchy information of classes is taken from the
+ * snapshot of the jar or output folder containing the class file whenever possible, and newly read information is
+ * added to that snapshot.
+ *
  * @author Martin Lippert
  * @since 3.3.0
  */
@@ -28,8 +37,21 @@ public class BytecodeTypeHierarchyClassReader implements TypeHierarchyClassReade
 	
 	private ClasspathLookup lookup;
 
+	private TypeHierarchySnapshotStore snapshotStore;
+
+	// jars validated against their snapshot during the lifetime of this reader
+	private final Map<File, TypeHierarchySnapshot> archiveSnapshots = new ConcurrentHashMap<File, TypeHierarchySnapshot>();
+
 	public BytecodeTypeHierarchyClassReader(ClasspathLookup lookup) {
+		this(lookup, null);
+	}
+
+	/**
+	 * @since 3.9.17
+	 */
+	public BytecodeTypeHierarchyClassReader(ClasspathLookup lookup, TypeHierarchySnapshotStore snapshotStore) {
 		this.lookup = lookup;
+		this.snapshotStore = snapshotStore;
 	}
 
 	public TypeHierarchyElement readTypeHierarchyInformation(char[] fullyQualifiedClassName, IProject project) {
@@ -44,6 +66,11 @@ public class BytecodeTypeHierarchyClassReader implements TypeHierarchyClassReade
 			className = fullyQualifiedClassFileName.substring(lastIndexOf + 1);
 		}
 
+		if (snapshotStore != null) {
+			return readTypeHierarchyInformation(fullyQualifiedClassName, fullyQualifiedClassFileName, packageName,
+					className);
+		}
+
 		InputStream stream = null;
 		try {
 			stream = lookup.getStream(fullyQualifiedClassFileName, packageName, className);
@@ -64,6 +91,73 @@ public class BytecodeTypeHierarchyClassReader implements TypeHierarchyClassReade
 
 	public void cleanup() {
 		lookup.close();
+		archiveSnapshots.clear();
+	}
+
+	private TypeHierarchyElement readTypeHierarchyInformation(char[] fullyQualifiedClassName,
+			String fullyQualifiedClassFileName, String packageName, String className) {
+		URL resource = lookup.getResource(fullyQualifiedClassFileName, packageName, className);
+		if (resource == null) {
+			return null;
+		}
+
+		TypeHierarchySnapshot snapshot = null;
+		long stamp = 0;
+		try {
+			if ("jar".equals(resource.getProtocol())) {
+				String path = resource.getPath();
+				int separator = path.indexOf("!/");
+				if (separator > 0) {
+					File archive = new File(new URI(path.substring(0, separator)));
+					snapshot = archiveSnapshots.get(archive);
+					if (snapshot == null) {
+						snapshot = snapshotStore.getArchiveSnapshot(archive);
+						archiveSnapshots.put(archive, snapshot);
+					}
+				}
+			}
+			else if ("file".equals(resource.getProtocol())) {
+				File classFile = new File(resource.toURI());
+				String path = classFile.getPath();
+				int folderPathLength = path.length() - fullyQualifiedClassFileName.length() - 1;
+				if (folderPathLength > 0) {
+					snapshot = snapshotStore.getFolderSnapshot(new File(path.substring(0, folderPathLength)));
+					stamp = classFile.lastModified();
+				}
+			}
+		}
+		catch (Exception e) {
+			// not a location we can take snapshots of
+			snapshot = null;
+		}
+
+		if (snapshot != null) {
+			TypeHierarchyElement element = snapshot.get(fullyQualifiedClassName, stamp);
+			if (element != null) {
+				return element;
+			}
+		}
+
+		InputStream stream = null;
+		try {
+			stream = lookup.getStream(fullyQualifiedClassFileName, packageName, className);
+			if (stream != null) {
+				TypeHierarchyElement element = readTypeHierarchy(stream);
+				if (element != null && snapshot != null) {
+					snapshot.put(element, stamp);
+				}
+				return element;
+			}
+		} finally {
+			if (stream != null) {
+				try {
+					stream.close();
+				} catch (IOException e) {
+					SpringCore.log(e);
+				}
+			}
+		}
+		return null;
 	}
 
 	public TypeHierarchyElement readTypeHierarchy(InputStream stream) {
@@ -154,7 +248,9 @@ public class BytecodeTypeHierarchyClassReader implements TypeHierarchyClassReade
 				}
 			}
 			
-			return new TypeHierarchyElement(className, superclassName, interfaceNames);
+			// share the names across all projects and caches
+			return new TypeHierarchyElement(TypeHierarchyNames.intern(className),
+					TypeHierarchyNames.intern(superclassName), TypeHierarchyNames.intern(interfaceNames));
 		} catch(Exception e) {
 			SpringCore.log(e);
 		}
@@ -11,6 +11,7 @@
 package org.springframework.ide.eclipse.core.java.typehierarchy;
 
 import java.io.InputStream;
+import java.net.URL;
 
 /**
  * @author Martin Lippert
@@ -19,6 +20,7 @@ import java.io.InputStream;
 public interface ClasspathElement {
 
 	public InputStream getStream(String fullyQualifiedClassFileName, String packageName, String classFileName) throws Exception;
+	public URL getResource(String fullyQualifiedClassFileName, String packageName, String classFileName) throws Exception;
 	public void cleanup();
 
 }
@@ -15,6 +15,7 @@ import java.io.FileInputStream;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -45,6 +46,12 @@ public class ClasspathElementDirectory implements ClasspathElement {
 		}
 	}
 
+	public URL getResource(String fullyQualifiedClassFileName, String packageName, String classFileName) throws Exception {
+		if (!doesFileExist(fullyQualifiedClassFileName, packageName, classFileName)) return null;
+
+		return new File(this.directoryPath + File.separatorChar + fullyQualifiedClassFileName).toURI().toURL();
+	}
+
 	public void cleanup() {
 		this.directoryCache.clear();
 	}
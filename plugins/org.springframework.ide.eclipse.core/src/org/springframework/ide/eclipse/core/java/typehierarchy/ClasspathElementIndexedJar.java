@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java.typehierarchy;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.net.URL;
+import java.nio.channels.FileChannel;
+
+/**
+ * {@link ClasspathElement} that reads class files from a jar file through a {@link ZipDirectoryIndex}.
+ * <p>
+ * The central directory of the jar is indexed once and the index is shared by all elements (and therefore all
+ * projects) referencing the same version of the jar. Like the {@link java.util.jar.JarFile} of a
+ * {@link ClasspathElementJar}, the jar is opened on first use and kept open until {@link #cleanup()}; entries are
+ * read with positional reads from a single read-only {@link FileChannel}. The lastModified/size check of the package
+ * cache of {@link ClasspathElementJar} runs once when the jar is opened, so a changed jar is indexed again on the
+ * first use after the cleanup. Jars that cannot be indexed are read through a {@link ClasspathElementJar}.
+ *
+ * @since 3.9.17
+ */
+public class ClasspathElementIndexedJar implements ClasspathElement {
+
+	private final String jarFileName;
+
+	private final ClasspathElementJar fallback;
+
+	private ZipDirectoryIndex index;
+
+	private FileChannel channel;
+
+	private boolean indexingFailed;
+
+	public ClasspathElementIndexedJar(String jarFileName) {
+		this.jarFileName = jarFileName;
+		this.fallback = new ClasspathElementJar(jarFileName);
+	}
+
+	public synchronized InputStream getStream(String fullyQualifiedClassFileName, String packageName, String classFileName) throws Exception {
+		ZipDirectoryIndex index = getIndex();
+		if (index == null) {
+			return fallback.getStream(fullyQualifiedClassFileName, packageName, classFileName);
+		}
+		try {
+			return index.getInputStream(channel, fullyQualifiedClassFileName);
+		}
+		catch (IOException e) {
+			// a channel closed by an interrupt is reopened on next use
+			if (!channel.isOpen() || index.isCurrent()) {
+				throw e;
+			}
+			// the jar has been rewritten in place since it was opened
+			close();
+			index = getIndex();
+			return (index != null ? index.getInputStream(channel, fullyQualifiedClassFileName) : fallback.getStream(
+					fullyQualifiedClassFileName, packageName, classFileName));
+		}
+	}
+
+	public synchronized URL getResource(String fullyQualifiedClassFileName, String packageName, String classFileName) throws Exception {
+		ZipDirectoryIndex index = getIndex();
+		if (index == null) {
+			return fallback.getResource(fullyQualifiedClassFileName, packageName, classFileName);
+		}
+		if (index.contains(fullyQualifiedClassFileName)) {
+			return new URL("jar:" + new File(jarFileName).toURI() + "!/" + fullyQualifiedClassFileName);
+		}
+		return null;
+	}
+
+	public void cleanup() {
+		synchronized(this) {
+			// the index is shared, only drop the reference so that the jar gets checked for changes on next use
+			close();
+			this.indexingFailed = false;
+		}
+		fallback.cleanup();
+	}
+
+	private ZipDirectoryIndex getIndex() {
+		if (this.channel != null && !this.channel.isOpen()) {
+			close();
+		}
+		if (this.index == null && !this.indexingFailed) {
+			FileChannel channel = null;
+			try {
+				// opened before the index is looked up, so that the channel is never older than the index
+				channel = new RandomAccessFile(jarFileName, "r").getChannel();
+				ZipDirectoryIndex index = ClasspathElementJar.getIndex(jarFileName);
+				if (!index.matches(channel)) {
+					throw new IOException("Archive changed while it was opened: " + jarFileName);
+				}
+				this.index = index;
+				this.channel = channel;
+			}
+			catch (IOException e) {
+				closeQuietly(channel);
+				this.indexingFailed = true;
+			}
+		}
+		return this.index;
+	}
+
+	private void close() {
+		closeQuietly(this.channel);
+		this.channel = null;
+		this.index = null;
+	}
+
+	private static void closeQuietly(FileChannel channel) {
+		if (channel != null) {
+			try {
+				channel.close();
+			}
+			catch (IOException e) { // ignore it
+			}
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2015 Spring IDE Developers
+ * Copyright (c) 2013, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,11 +13,12 @@ package org.springframework.ide.eclipse.core.java.typehierarchy;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
 import java.util.Collections;
 import java.util.Enumeration;
-import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.jar.JarFile;
 import java.util.zip.ZipEntry;
 
@@ -46,6 +47,16 @@ public class ClasspathElementJar implements ClasspathElement {
 		return null;
 	}
 
+	public URL getResource(String fullyQualifiedClassFileName, String packageName, String classFileName) throws Exception {
+		if (!isPackage(packageName)) return null;
+
+		ZipEntry entry = jarFile.getEntry(fullyQualifiedClassFileName);
+		if (entry != null) {
+			return new URL("jar:" + new File(jarFileName).toURI() + "!/" + fullyQualifiedClassFileName);
+		}
+		return null;
+	}
+
 	public void cleanup() {
 		synchronized(this) {
 			if (this.jarFile != null) {
@@ -86,7 +97,7 @@ public class ClasspathElementJar implements ClasspathElement {
 		long lastModified = lastModified();
 		long fileSize = new File(jarFileName).length();
 		PackageCacheEntry cacheEntry = (PackageCacheEntry) PackageCache.get(jarFileName);
-		if (cacheEntry != null && cacheEntry.lastModified == lastModified && cacheEntry.fileSize == fileSize)
+		if (cacheEntry != null && cacheEntry.matches(lastModified, fileSize) && cacheEntry.packageSet != null)
 			return cacheEntry.packageSet;
 		
 		Set<String> packageSet = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
@@ -105,23 +116,60 @@ public class ClasspathElementJar implements ClasspathElement {
 			}
 		}
 
-		PackageCache.put(jarFileName, new PackageCacheEntry(lastModified, fileSize, packageSet));
+		if (cacheEntry != null && cacheEntry.matches(lastModified, fileSize))
+			cacheEntry.packageSet = packageSet;
+		else
+			PackageCache.put(jarFileName, new PackageCacheEntry(lastModified, fileSize, packageSet));
 		return packageSet;
 	}
+
+	/**
+	 * Returns the central directory index of the given jar file, shared by all elements for the same version of the
+	 * jar.
+	 * @since 3.9.17
+	 */
+	static ZipDirectoryIndex getIndex(String jarFileName) throws IOException {
+		File file = new File(jarFileName);
+		long lastModified = file.lastModified();
+		long fileSize = file.length();
+		PackageCacheEntry cacheEntry;
+		while (true) {
+			cacheEntry = PackageCache.get(jarFileName);
+			if (cacheEntry != null && cacheEntry.matches(lastModified, fileSize))
+				break;
+			// publish the new entry atomically, so that concurrent callers index the jar only once
+			PackageCacheEntry newEntry = new PackageCacheEntry(lastModified, fileSize, null);
+			if (cacheEntry == null ? PackageCache.putIfAbsent(jarFileName, newEntry) == null : PackageCache.replace(
+					jarFileName, cacheEntry, newEntry)) {
+				cacheEntry = newEntry;
+				break;
+			}
+		}
+		synchronized (cacheEntry) {
+			if (cacheEntry.index == null)
+				cacheEntry.index = ZipDirectoryIndex.open(file);
+			return cacheEntry.index;
+		}
+	}
 	
 	// global zip file content cache
-	private static Map<String, PackageCacheEntry> PackageCache = new ConcurrentHashMap<String, PackageCacheEntry>();
+	private static ConcurrentMap<String, PackageCacheEntry> PackageCache = new ConcurrentHashMap<String, PackageCacheEntry>();
 	
 	private static class PackageCacheEntry {
 		long lastModified;
 		long fileSize;
-		Set<String> packageSet;
+		volatile Set<String> packageSet;
+		ZipDirectoryIndex index;
 
 		public PackageCacheEntry(long lastModified, long fileSize, Set<String> packageSet) {
 			this.lastModified = lastModified;
 			this.fileSize = fileSize;
 			this.packageSet = packageSet;
 		}
+
+		public boolean matches(long lastModified, long fileSize) {
+			return this.lastModified == lastModified && this.fileSize == fileSize;
+		}
 	}
 
 }
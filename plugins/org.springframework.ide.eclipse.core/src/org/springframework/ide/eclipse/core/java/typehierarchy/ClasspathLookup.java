@@ -11,6 +11,7 @@
 package org.springframework.ide.eclipse.core.java.typehierarchy;
 
 import java.io.InputStream;
+import java.net.URL;
 
 /**
  * @author Martin Lippert
@@ -18,6 +19,13 @@ import java.io.InputStream;
 public interface ClasspathLookup {
 
 	InputStream getStream(String fullyQualifiedClassFileName, String packageName, String className);
+
+	/**
+	 * Returns the location of the given class file without reading it, or <code>null</code> if it does not exist.
+	 * @since 3.9.17
+	 */
+	URL getResource(String fullyQualifiedClassFileName, String packageName, String className);
+
 	void close();
 
 }
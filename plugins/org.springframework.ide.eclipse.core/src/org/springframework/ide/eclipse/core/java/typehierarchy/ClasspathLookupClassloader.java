@@ -11,6 +11,7 @@
 package org.springframework.ide.eclipse.core.java.typehierarchy;
 
 import java.io.InputStream;
+import java.net.URL;
 
 /**
  * @author Martin Lippert
@@ -27,6 +28,10 @@ public class ClasspathLookupClassloader implements ClasspathLookup {
 		return loader.getResourceAsStream(fullyQualifiedClassFileName);
 	}
 
+	public URL getResource(String fullyQualifiedClassFileName, String packageName, String className) {
+		return loader.getResource(fullyQualifiedClassFileName);
+	}
+
 	public void close() {
 	}
 
@@ -43,7 +43,7 @@ public class ClasspathLookupDirect implements ClasspathLookup {
 				if (url.toString().endsWith(".jar")) {
 					try {
 						String path = url.toURI().getPath();
-						locations.add(new ClasspathElementJar(path));
+						locations.add(new ClasspathElementIndexedJar(path));
 						usedURLs.add(url);
 					} catch (Exception e) {
 						SpringCore.log(e);
@@ -84,6 +84,21 @@ public class ClasspathLookupDirect implements ClasspathLookup {
 		return null;
 	}
 
+	public URL getResource(String fullyQualifiedClassFileName, String packageName, String className) {
+		for (int i = 0; i < cpElements.length; i++) {
+			synchronized(cpElements[i]) {
+				try {
+					URL resource = cpElements[i].getResource(fullyQualifiedClassFileName, packageName, className);
+					if (resource != null) {
+						return resource;
+					}
+				} catch (Exception e) {
+				}
+			}
+		}
+		return null;
+	}
+
 	public void close() {
 		for (int i = 0; i < cpElements.length; i++) {
 			synchronized(cpElements[i]) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013 Spring IDE Developers
+ * Copyright (c) 2013, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,35 +10,113 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.core.java.typehierarchy;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.jdt.core.compiler.CharOperation;
 
 /**
+ * Cache of {@link TypeHierarchyElement}s keyed by the fully qualified class name.
+ * <p>
+ * Implemented as open-addressing hash table with linear probing on the <code>char[]</code> names to avoid boxing
+ * and hash collisions between different class names. Entries keep the hash code of their name, so names are only
+ * compared on equal hash codes and growing the table doesn't hash them again. Reads are lock-free, writes are
+ * synchronized. Since entries are immutable, readers either see a complete entry or none at all.
+ *
  * @author Martin Lippert
  * @since 3.3.0
  */
 public class TypeHierarchyElementCache {
-	
-	private Map<Integer, TypeHierarchyElement> cache;
-	
+
+	private static final int INITIAL_CAPACITY = 256;
+
+	private volatile Entry[] table;
+
+	private int size;
+
 	public TypeHierarchyElementCache() {
-		this.cache = new ConcurrentHashMap<Integer, TypeHierarchyElement>();
+		this.table = new Entry[INITIAL_CAPACITY];
 	}
 
 	public TypeHierarchyElement get(char[] fullyQualifiedClassName) {
-		return cache.get(charArrayToHashcode(fullyQualifiedClassName));
+		Entry[] entries = this.table;
+		int mask = entries.length - 1;
+		int hash = hash(fullyQualifiedClassName);
+		int index = hash & mask;
+
+		Entry entry;
+		while ((entry = entries[index]) != null) {
+			if (entry.hash == hash && CharOperation.equals(entry.name, fullyQualifiedClassName)) {
+				return entry.element;
+			}
+			index = (index + 1) & mask;
+		}
+		return null;
 	}
 
-	public void put(char[] fullyQualifiedClassName, TypeHierarchyElement typeElement) {
-		cache.put(charArrayToHashcode(fullyQualifiedClassName), typeElement);
+	public synchronized void put(char[] fullyQualifiedClassName, TypeHierarchyElement typeElement) {
+		Entry[] entries = this.table;
+		if ((size + 1) * 4 > entries.length * 3) {
+			entries = resize(entries);
+		}
+
+		int mask = entries.length - 1;
+		int hash = hash(fullyQualifiedClassName);
+		int index = hash & mask;
+
+		Entry entry;
+		while ((entry = entries[index]) != null) {
+			if (entry.hash == hash && CharOperation.equals(entry.name, fullyQualifiedClassName)) {
+				entries[index] = new Entry(entry.name, hash, typeElement);
+				return;
+			}
+			index = (index + 1) & mask;
+		}
+
+		entries[index] = new Entry(TypeHierarchyNames.intern(fullyQualifiedClassName), hash, typeElement);
+		size++;
 	}
-	
-	private int charArrayToHashcode(char[] characters) {
+
+	public synchronized int size() {
+		return size;
+	}
+
+	private Entry[] resize(Entry[] entries) {
+		Entry[] newEntries = new Entry[entries.length * 2];
+		int mask = newEntries.length - 1;
+		for (Entry entry : entries) {
+			if (entry != null) {
+				int index = entry.hash & mask;
+				while (newEntries[index] != null) {
+					index = (index + 1) & mask;
+				}
+				newEntries[index] = entry;
+			}
+		}
+		// publish the fully populated table
+		this.table = newEntries;
+		return newEntries;
+	}
+
+	static int hash(char[] characters) {
 		int h = 0;
 		for (int i = 0; i < characters.length; i++) {
-			h = 31*h + characters[i];
+			h = 31 * h + characters[i];
+		}
+		// spread the bits as class names of the same package share long prefixes
+		return h ^ (h >>> 16);
+	}
+
+	private static class Entry {
+
+		final char[] name;
+
+		final int hash;
+
+		final TypeHierarchyElement element;
+
+		Entry(char[] name, int hash, TypeHierarchyElement element) {
+			this.name = name;
+			this.hash = hash;
+			this.element = element;
 		}
-        return h;
 	}
 
 }
@@ -11,7 +11,9 @@
 package org.springframework.ide.eclipse.core.java.typehierarchy;
 
 import java.util.ArrayDeque;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.resources.IProject;
@@ -118,6 +120,43 @@ public class TypeHierarchyEngine {
 		return null;
 	}
 
+	/**
+	 * Returns the name of the given type together with the names of all its superclasses and all directly or
+	 * indirectly implemented interfaces. Supertypes that cannot be found on the classpath of the given project end the
+	 * traversal of their branch, but are still part of the result.
+	 * @since 3.9.17
+	 */
+	public Set<String> getAllSupertypes(String type, IProject project) {
+		Set<String> result = new LinkedHashSet<String>();
+		try {
+			TypeHierarchyElementCache elementCache = getTypeHierarchyElementCache(project);
+
+			ArrayDeque<char[]> typesToAnalyze = new ArrayDeque<char[]>();
+			typesToAnalyze.add(type.replace('.', '/').toCharArray());
+
+			while (!typesToAnalyze.isEmpty()) {
+				char[] typeName = typesToAnalyze.pop();
+				if (result.add(new String(typeName).replace('/', '.'))) {
+					TypeHierarchyElement typeElement = getTypeElement(typeName, project, elementCache);
+					if (typeElement != null) {
+						if (typeElement.superclassName != null) {
+							typesToAnalyze.add(typeElement.superclassName);
+						}
+						if (typeElement.interfaces != null) {
+							for (char[] interfaceName : typeElement.interfaces) {
+								typesToAnalyze.add(interfaceName);
+							}
+						}
+					}
+				}
+			}
+		}
+		finally {
+			if (autoCleanup) cleanup(project);
+		}
+		return result;
+	}
+
 	public boolean doesExtend(IType type, String className) {
 		IJavaElement ancestor = type.getAncestor(IJavaElement.JAVA_PROJECT);
 		if (ancestor != null && ancestor instanceof IJavaProject) {
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java.typehierarchy;
+
+import org.eclipse.jdt.core.compiler.CharOperation;
+
+/**
+ * Workspace-wide intern table for the class names used by {@link TypeHierarchyElement}s.
+ * <p>
+ * Library types (JDK, Spring, etc.) show up in the type hierarchy caches of almost every project. Interning their names
+ * makes all caches share a single <code>char[]</code> per name. The table is bounded; once it is full, it starts over,
+ * which only affects sharing and never correctness.
+ *
+ * @since 3.9.17
+ */
+public class TypeHierarchyNames {
+
+	private static final int INITIAL_CAPACITY = 4096;
+
+	private static final int MAX_SIZE = 1 << 18;
+
+	private static char[][] table = new char[INITIAL_CAPACITY][];
+
+	private static int size = 0;
+
+	/**
+	 * Returns the canonical instance of the given name.
+	 */
+	public static synchronized char[] intern(char[] name) {
+		if (name == null) {
+			return null;
+		}
+
+		int mask = table.length - 1;
+		int index = TypeHierarchyElementCache.hash(name) & mask;
+
+		char[] existing;
+		while ((existing = table[index]) != null) {
+			if (CharOperation.equals(existing, name)) {
+				return existing;
+			}
+			index = (index + 1) & mask;
+		}
+
+		if (size >= MAX_SIZE) {
+			clear();
+			return intern(name);
+		}
+
+		table[index] = name;
+		size++;
+
+		if (size * 4 > table.length * 3) {
+			resize();
+		}
+		return name;
+	}
+
+	/**
+	 * Returns an array holding the canonical instances of the given names.
+	 */
+	public static char[][] intern(char[][] names) {
+		if (names != null) {
+			for (int i = 0; i < names.length; i++) {
+				names[i] = intern(names[i]);
+			}
+		}
+		return names;
+	}
+
+	public static synchronized int size() {
+		return size;
+	}
+
+	public static synchronized void clear() {
+		table = new char[INITIAL_CAPACITY][];
+		size = 0;
+	}
+
+	private static void resize() {
+		char[][] newTable = new char[table.length * 2][];
+		int mask = newTable.length - 1;
+		for (char[] name : table) {
+			if (name != null) {
+				int index = TypeHierarchyElementCache.hash(name) & mask;
+				while (newTable[index] != null) {
+					index = (index + 1) & mask;
+				}
+				newTable[index] = name;
+			}
+		}
+		table = newTable;
+	}
+
+}
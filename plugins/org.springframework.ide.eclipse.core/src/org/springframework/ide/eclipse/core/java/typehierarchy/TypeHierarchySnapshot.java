@@ -0,0 +1,372 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java.typehierarchy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Supertype and interface data of all classes read from a single classpath location (jar or output folder).
+ * <p>
+ * A snapshot is backed by a buffer holding the records of a previous session and an in-memory
+ * map of records read since then. The buffer layout is:
+ *
+ * <pre>
+ * int magic, int version, long size, long lastModified, int locationLength, char[] location, int count, int slots,
+ * int[slots] record offsets (open addressing, 0 = empty), records
+ * </pre>
+ *
+ * with each record being <code>long stamp, name, superclass name, int interface count, interface names</code>. Names
+ * are written as <code>int length</code> (-1 for <code>null</code>) followed by the chars.
+ * <p>
+ * Jar snapshots are valid as long as the size and modification time of the jar are unchanged. Records of output
+ * folders carry the modification time of the individual class file as stamp.
+ *
+ * @since 3.9.17
+ * @see TypeHierarchySnapshotStore
+ */
+public class TypeHierarchySnapshot {
+
+	static final int MAGIC = 0x54485358;
+
+	static final int VERSION = 1;
+
+	private final File location;
+
+	private final long size;
+
+	private final long lastModified;
+
+	private final ByteBuffer buffer;
+
+	private final int slotsOffset;
+
+	private final int slots;
+
+	private final int count;
+
+	private final Map<String, Record> records;
+
+	private volatile boolean dirty;
+
+	/**
+	 * Creates an empty snapshot for the given location.
+	 */
+	public TypeHierarchySnapshot(File location, long size, long lastModified) {
+		this(location, size, lastModified, null, 0, 0, 0);
+		this.dirty = true;
+	}
+
+	private TypeHierarchySnapshot(File location, long size, long lastModified, ByteBuffer buffer, int slotsOffset,
+			int slots, int count) {
+		this.location = location;
+		this.size = size;
+		this.lastModified = lastModified;
+		this.buffer = buffer;
+		this.slotsOffset = slotsOffset;
+		this.slots = slots;
+		this.count = count;
+		this.records = new ConcurrentHashMap<String, Record>();
+	}
+
+	public File getLocation() {
+		return location;
+	}
+
+	/**
+	 * Returns <code>true</code> if this snapshot has been taken from a location with the given size and modification
+	 * time.
+	 */
+	public boolean matches(long size, long lastModified) {
+		return this.size == size && this.lastModified == lastModified;
+	}
+
+	public boolean isDirty() {
+		return dirty;
+	}
+
+	public int size() {
+		int result = records.size();
+		for (int i = 0; i < slots; i++) {
+			int offset = buffer.getInt(slotsOffset + i * 4);
+			if (offset != 0 && !records.containsKey(new String(readName(offset + 8)))) {
+				result++;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns a new {@link TypeHierarchyElement} for the given class if this snapshot contains a record with the given
+	 * stamp; <code>null</code> otherwise.
+	 */
+	public TypeHierarchyElement get(char[] fullyQualifiedClassName, long stamp) {
+		if (!records.isEmpty()) {
+			Record record = records.get(new String(fullyQualifiedClassName));
+			if (record != null) {
+				return record.stamp == stamp ? record.newElement() : null;
+			}
+		}
+
+		int offset = find(fullyQualifiedClassName);
+		if (offset == 0 || buffer.getLong(offset) != stamp) {
+			return null;
+		}
+		return readRecord(offset).newElement();
+	}
+
+	/**
+	 * Records the given element with the given stamp. The element itself is not retained.
+	 */
+	public void put(TypeHierarchyElement element, long stamp) {
+		records.put(new String(element.className), new Record(stamp, element.className, element.superclassName,
+				element.interfaces));
+		dirty = true;
+	}
+
+	/**
+	 * Serializes all records of this snapshot.
+	 */
+	byte[] toByteArray() throws IOException {
+		List<Record> all = new ArrayList<Record>(records.values());
+		for (int i = 0; i < slots; i++) {
+			int offset = buffer.getInt(slotsOffset + i * 4);
+			if (offset != 0) {
+				Record record = readRecord(offset);
+				if (!records.containsKey(new String(record.name))) {
+					all.add(record);
+				}
+			}
+		}
+
+		int newSlots = 16;
+		while (newSlots < all.size() * 2) {
+			newSlots <<= 1;
+		}
+
+		String path = location.getPath();
+		int headerLength = 4 + 4 + 8 + 8 + 4 + path.length() * 2 + 4 + 4;
+		int recordsOffset = headerLength + newSlots * 4;
+
+		ByteArrayOutputStream recordBytes = new ByteArrayOutputStream(all.size() * 64);
+		DataOutputStream recordOut = new DataOutputStream(recordBytes);
+		int[] offsets = new int[newSlots];
+		int mask = newSlots - 1;
+		for (Record record : all) {
+			int index = TypeHierarchyElementCache.hash(record.name) & mask;
+			while (offsets[index] != 0) {
+				index = (index + 1) & mask;
+			}
+			offsets[index] = recordsOffset + recordOut.size();
+
+			recordOut.writeLong(record.stamp);
+			writeName(recordOut, record.name);
+			writeName(recordOut, record.superclassName);
+			if (record.interfaces == null) {
+				recordOut.writeInt(-1);
+			}
+			else {
+				recordOut.writeInt(record.interfaces.length);
+				for (char[] name : record.interfaces) {
+					writeName(recordOut, name);
+				}
+			}
+		}
+		recordOut.flush();
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(recordsOffset + recordBytes.size());
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeLong(size);
+		out.writeLong(lastModified);
+		out.writeInt(path.length());
+		out.writeChars(path);
+		out.writeInt(all.size());
+		out.writeInt(newSlots);
+		for (int offset : offsets) {
+			out.writeInt(offset);
+		}
+		recordBytes.writeTo(out);
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	void markSaved() {
+		dirty = false;
+	}
+
+	void markDirty() {
+		dirty = true;
+	}
+
+	/**
+	 * Creates a snapshot from a buffer written by {@link #toByteArray()}.
+	 * @throws IOException if the buffer does not hold a snapshot of the current version
+	 */
+	static TypeHierarchySnapshot read(ByteBuffer buffer) throws IOException {
+		try {
+			if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+				throw new IOException("Unknown type hierarchy snapshot format");
+			}
+			long size = buffer.getLong(8);
+			long lastModified = buffer.getLong(16);
+			int pathLength = buffer.getInt(24);
+			char[] path = new char[pathLength];
+			for (int i = 0; i < pathLength; i++) {
+				path[i] = buffer.getChar(28 + i * 2);
+			}
+			int offset = 28 + pathLength * 2;
+			int count = buffer.getInt(offset);
+			int slots = buffer.getInt(offset + 4);
+			if (Integer.bitCount(slots) != 1 || offset + 8 + slots * 4 > buffer.limit()) {
+				throw new IOException("Corrupt type hierarchy snapshot");
+			}
+			return new TypeHierarchySnapshot(new File(new String(path)), size, lastModified, buffer, offset + 8, slots,
+					count);
+		}
+		catch (IndexOutOfBoundsException e) {
+			throw new IOException("Corrupt type hierarchy snapshot", e);
+		}
+	}
+
+	/**
+	 * Reads the location from the header of a snapshot written by {@link #toByteArray()}, without reading the records.
+	 * @throws IOException if the input does not hold a snapshot of the current version
+	 */
+	static File readLocation(DataInput in) throws IOException {
+		if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+			throw new IOException("Unknown type hierarchy snapshot format");
+		}
+		in.readLong();
+		in.readLong();
+		int pathLength = in.readInt();
+		if (pathLength < 0 || pathLength > 0xffff) {
+			throw new IOException("Corrupt type hierarchy snapshot");
+		}
+		char[] path = new char[pathLength];
+		for (int i = 0; i < pathLength; i++) {
+			path[i] = in.readChar();
+		}
+		return new File(new String(path));
+	}
+
+	private int find(char[] name) {
+		if (count == 0) {
+			return 0;
+		}
+		int mask = slots - 1;
+		int index = TypeHierarchyElementCache.hash(name) & mask;
+		int offset;
+		while ((offset = buffer.getInt(slotsOffset + index * 4)) != 0) {
+			if (nameEquals(offset + 8, name)) {
+				return offset;
+			}
+			index = (index + 1) & mask;
+		}
+		return 0;
+	}
+
+	private boolean nameEquals(int offset, char[] name) {
+		if (buffer.getInt(offset) != name.length) {
+			return false;
+		}
+		for (int i = 0; i < name.length; i++) {
+			if (buffer.getChar(offset + 4 + i * 2) != name[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private Record readRecord(int offset) {
+		long stamp = buffer.getLong(offset);
+		int position = offset + 8;
+		char[] name = readName(position);
+		position += nameLength(name);
+		char[] superclassName = readName(position);
+		position += nameLength(superclassName);
+		int interfaceCount = buffer.getInt(position);
+		position += 4;
+		char[][] interfaces = null;
+		if (interfaceCount >= 0) {
+			interfaces = new char[interfaceCount][];
+			for (int i = 0; i < interfaceCount; i++) {
+				interfaces[i] = readName(position);
+				position += nameLength(interfaces[i]);
+			}
+		}
+		return new Record(stamp, TypeHierarchyNames.intern(name), TypeHierarchyNames.intern(superclassName),
+				TypeHierarchyNames.intern(interfaces));
+	}
+
+	private char[] readName(int offset) {
+		int length = buffer.getInt(offset);
+		if (length < 0) {
+			return null;
+		}
+		char[] name = new char[length];
+		for (int i = 0; i < length; i++) {
+			name[i] = buffer.getChar(offset + 4 + i * 2);
+		}
+		return name;
+	}
+
+	private static int nameLength(char[] name) {
+		return name == null ? 4 : 4 + name.length * 2;
+	}
+
+	private static void writeName(DataOutputStream out, char[] name) throws IOException {
+		if (name == null) {
+			out.writeInt(-1);
+		}
+		else {
+			out.writeInt(name.length);
+			for (char c : name) {
+				out.writeChar(c);
+			}
+		}
+	}
+
+	private static class Record {
+
+		final long stamp;
+
+		final char[] name;
+
+		final char[] superclassName;
+
+		final char[][] interfaces;
+
+		Record(long stamp, char[] name, char[] superclassName, char[][] interfaces) {
+			this.stamp = stamp;
+			this.name = name;
+			this.superclassName = superclassName;
+			this.interfaces = interfaces;
+		}
+
+		/**
+		 * Elements are linked lazily within a single engine cache and therefore never shared.
+		 */
+		TypeHierarchyElement newElement() {
+			return new TypeHierarchyElement(name, superclassName, interfaces);
+		}
+	}
+
+}
@@ -0,0 +1,311 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java.typehierarchy;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.springframework.ide.eclipse.core.SpringCore;
+
+/**
+ * Persistent store of {@link TypeHierarchySnapshot}s, one file per classpath location.
+ * <p>
+ * The snapshot of a location is read when it is first asked for, so that type hierarchy information of unchanged jars
+ * and class files is available after a restart without reading any class file, and only for the locations that are
+ * actually used. To find the file of a location, the headers of all snapshot files are read on the first request.
+ * Snapshot files are named after the hash code and length of the location path; colliding locations take the next
+ * free name. Snapshot files are read into heap buffers rather than memory-mapped, as a mapping can't be released
+ * explicitly and would keep the file from being replaced or deleted until it is garbage collected. Changed snapshots
+ * are written back periodically and on {@link #shutdown()}.
+ *
+ * @since 3.9.17
+ */
+public class TypeHierarchySnapshotStore {
+
+	private static final String FILE_EXTENSION = ".snapshot";
+
+	private static final String DEBUG_OPTION = SpringCore.PLUGIN_ID + "/java/typehierarchy/debug";
+
+	private static final boolean DEBUG = SpringCore.isDebug(DEBUG_OPTION);
+
+	/**
+	 * Time in ms between two saves of the changed snapshots.
+	 */
+	private static final long SAVE_INTERVAL = 5 * 60 * 1000;
+
+	private final File directory;
+
+	private final Map<File, TypeHierarchySnapshot> snapshots = new ConcurrentHashMap<File, TypeHierarchySnapshot>();
+
+	/** The snapshot files by location, guarded by {@link #snapshots} */
+	private final Map<File, File> files = new HashMap<File, File>();
+
+	private boolean filesRead = false;
+
+	private volatile boolean running;
+
+	private final Job saveJob = new Job("Saving type hierarchy snapshots") {
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			save();
+			if (running) {
+				schedule(SAVE_INTERVAL);
+			}
+			return Status.OK_STATUS;
+		}
+	};
+
+	public TypeHierarchySnapshotStore(File directory) {
+		this.directory = directory;
+		saveJob.setSystem(true);
+	}
+
+	/**
+	 * Starts saving changed snapshots periodically. Snapshot files are read on demand.
+	 */
+	public void startup() {
+		running = true;
+		saveJob.schedule(SAVE_INTERVAL);
+	}
+
+	/**
+	 * Stops the periodic saving and writes all changed snapshots back to disk.
+	 */
+	public void shutdown() {
+		running = false;
+		saveJob.cancel();
+		save();
+	}
+
+	/**
+	 * Returns the snapshot for the given jar, replacing any snapshot taken from a different version of the jar.
+	 */
+	public TypeHierarchySnapshot getArchiveSnapshot(File archive) {
+		return getSnapshot(archive, archive.length(), archive.lastModified());
+	}
+
+	/**
+	 * Returns the snapshot for the given output folder. Its records need to be validated by the modification time of
+	 * the class files.
+	 */
+	public TypeHierarchySnapshot getFolderSnapshot(File folder) {
+		return getSnapshot(folder, 0, 0);
+	}
+
+	/**
+	 * Writes all changed snapshots to disk and deletes the snapshots of locations that no longer exist.
+	 */
+	public synchronized void save() {
+		if (!directory.exists() && !directory.mkdirs()) {
+			return;
+		}
+		for (TypeHierarchySnapshot snapshot : snapshots.values()) {
+			File file;
+			synchronized (snapshots) {
+				file = getFile(snapshot.getLocation());
+				if (!snapshot.getLocation().exists()) {
+					snapshots.remove(snapshot.getLocation());
+					files.remove(snapshot.getLocation());
+					file.delete();
+					continue;
+				}
+			}
+			if (snapshot.isDirty()) {
+				// marked before serializing, so that records put meanwhile are written by the next save
+				snapshot.markSaved();
+				try {
+					write(snapshot, file);
+				}
+				catch (IOException e) {
+					snapshot.markDirty();
+					SpringCore.log("Error writing type hierarchy snapshot for " + snapshot.getLocation(), e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Drops all snapshots from memory and disk.
+	 */
+	public void clear() {
+		synchronized (snapshots) {
+			snapshots.clear();
+			files.clear();
+			filesRead = true;
+			File[] snapshotFiles = directory.listFiles();
+			if (snapshotFiles != null) {
+				for (File file : snapshotFiles) {
+					if (file.getName().endsWith(FILE_EXTENSION)) {
+						file.delete();
+					}
+				}
+			}
+		}
+	}
+
+	private TypeHierarchySnapshot getSnapshot(File location, long size, long lastModified) {
+		TypeHierarchySnapshot snapshot = snapshots.get(location);
+		if (snapshot == null || !snapshot.matches(size, lastModified)) {
+			synchronized (snapshots) {
+				snapshot = snapshots.get(location);
+				if (snapshot == null) {
+					snapshot = load(location);
+				}
+				if (snapshot == null || !snapshot.matches(size, lastModified)) {
+					snapshot = new TypeHierarchySnapshot(location, size, lastModified);
+				}
+				snapshots.put(location, snapshot);
+			}
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Reads the snapshot file of the given location, if there is one. Unreadable snapshot files are deleted.
+	 */
+	private TypeHierarchySnapshot load(File location) {
+		readFiles();
+		File file = files.get(location);
+		if (file == null) {
+			return null;
+		}
+		try {
+			TypeHierarchySnapshot snapshot = read(file);
+			if (location.equals(snapshot.getLocation())) {
+				if (DEBUG) {
+					System.out.println(String.format("> read type hierarchy snapshot of %s", location));
+				}
+				return snapshot;
+			}
+		}
+		catch (IOException e) {
+		}
+		files.remove(location);
+		file.delete();
+		return null;
+	}
+
+	/**
+	 * Reads the locations from the headers of all snapshot files, once. Unreadable snapshot files are deleted.
+	 */
+	private void readFiles() {
+		if (filesRead) {
+			return;
+		}
+		filesRead = true;
+		File[] snapshotFiles = directory.listFiles();
+		if (snapshotFiles == null) {
+			return;
+		}
+		for (File file : snapshotFiles) {
+			if (file.getName().endsWith(FILE_EXTENSION)) {
+				File location = readLocation(file);
+				if (location == null || files.containsKey(location)) {
+					file.delete();
+				}
+				else {
+					files.put(location, file);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the file of the given location. A location without a file takes the first name that neither exists nor
+	 * belongs to another location; an existing file belongs to another location with the same hash code, as the headers
+	 * of all files have been read.
+	 */
+	private File getFile(File location) {
+		File file = files.get(location);
+		if (file == null) {
+			readFiles();
+			Set<File> usedFiles = new HashSet<File>(files.values());
+			String path = location.getPath();
+			String fileName = Integer.toHexString(path.hashCode()) + '-' + Integer.toHexString(path.length());
+			for (int i = 0; file == null; i++) {
+				File candidate = new File(directory, (i == 0 ? fileName : fileName + '-' + i) + FILE_EXTENSION);
+				if (!candidate.exists() && !usedFiles.contains(candidate)) {
+					file = candidate;
+				}
+			}
+			files.put(location, file);
+		}
+		return file;
+	}
+
+	private File readLocation(File file) {
+		DataInputStream in = null;
+		try {
+			in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+			return TypeHierarchySnapshot.readLocation(in);
+		}
+		catch (IOException e) {
+			return null;
+		}
+		finally {
+			try {
+				if (in != null)
+					in.close();
+			}
+			catch (IOException e) {
+			}
+		}
+	}
+
+	private TypeHierarchySnapshot read(File file) throws IOException {
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+		try {
+			long length = randomAccessFile.length();
+			if (length > Integer.MAX_VALUE) {
+				throw new IOException("Corrupt type hierarchy snapshot");
+			}
+			byte[] bytes = new byte[(int) length];
+			randomAccessFile.readFully(bytes);
+			return TypeHierarchySnapshot.read(ByteBuffer.wrap(bytes));
+		}
+		finally {
+			randomAccessFile.close();
+		}
+	}
+
+	private void write(TypeHierarchySnapshot snapshot, File file) throws IOException {
+		byte[] bytes = snapshot.toByteArray();
+		File tempFile = new File(file.getPath() + ".tmp");
+		FileOutputStream out = new FileOutputStream(tempFile);
+		try {
+			out.write(bytes);
+		}
+		finally {
+			out.close();
+		}
+		if (!file.delete() && file.exists() || !tempFile.renameTo(file)) {
+			tempFile.delete();
+			throw new IOException("Unable to replace " + file);
+		}
+	}
+
+}
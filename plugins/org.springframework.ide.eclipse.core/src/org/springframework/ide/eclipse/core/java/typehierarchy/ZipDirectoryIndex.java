@@ -0,0 +1,320 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java.typehierarchy;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Read-only index of the central directory of a zip file.
+ * <p>
+ * The central directory is read once into the heap and indexed in an open-addressing table of record offsets, keyed
+ * by the entry name. The index doesn't keep the file open: entries are read with positional reads from a
+ * {@link FileChannel} owned by the caller, which has to make sure that the file has not been changed since it was
+ * indexed (see {@link #isCurrent()}).
+ * <p>
+ * Zip64 archives and archives larger than 2GB are not supported and are rejected with an {@link IOException}.
+ *
+ * @since 3.9.17
+ */
+class ZipDirectoryIndex {
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+
+	private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+
+	private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+
+	private static final int END_HEADER_SIGNATURE = 0x06054b50;
+
+	private static final int LOCAL_HEADER_LENGTH = 30;
+
+	private static final int CENTRAL_HEADER_LENGTH = 46;
+
+	private static final int END_HEADER_LENGTH = 22;
+
+	private static final int STORED = 0;
+
+	private static final int DEFLATED = 8;
+
+	private final File file;
+
+	private final long lastModified;
+
+	private final long fileSize;
+
+	/** The central directory of the file */
+	private final ByteBuffer directory;
+
+	// central directory record offset + 1, 0 marks an empty slot
+	private final int[] table;
+
+	private final int size;
+
+	private ZipDirectoryIndex(File file, long lastModified, long fileSize, ByteBuffer directory, int[] table, int size) {
+		this.file = file;
+		this.lastModified = lastModified;
+		this.fileSize = fileSize;
+		this.directory = directory;
+		this.table = table;
+		this.size = size;
+	}
+
+	public static ZipDirectoryIndex open(File file) throws IOException {
+		long lastModified = file.lastModified();
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+		try {
+			long fileSize = randomAccessFile.length();
+			if (fileSize > Integer.MAX_VALUE) {
+				throw new IOException("Archive too large: " + file);
+			}
+			int tailLength = (int) Math.min(fileSize, END_HEADER_LENGTH + 0xffff);
+			ByteBuffer tail = read(randomAccessFile, fileSize - tailLength, tailLength);
+			int end = findEndHeader(tail);
+			if (end < 0) {
+				throw new IOException("No central directory found: " + file);
+			}
+
+			int entries = tail.getShort(end + 10) & 0xffff;
+			long directorySize = tail.getInt(end + 12) & 0xffffffffL;
+			long directoryOffset = tail.getInt(end + 16) & 0xffffffffL;
+			if (entries == 0xffff || directoryOffset == 0xffffffffL) {
+				throw new IOException("Zip64 archives are not supported: " + file);
+			}
+			if (directoryOffset + directorySize > fileSize) {
+				throw new IOException("Invalid central directory: " + file);
+			}
+			ByteBuffer directory = read(randomAccessFile, directoryOffset, (int) directorySize);
+			return index(file, lastModified, fileSize, directory, entries);
+		}
+		catch (IndexOutOfBoundsException e) {
+			throw new IOException("Invalid archive: " + file, e);
+		}
+		finally {
+			randomAccessFile.close();
+		}
+	}
+
+	private static ZipDirectoryIndex index(File file, long lastModified, long fileSize, ByteBuffer directory,
+			int entries) throws IOException {
+		int slots = 16;
+		while (slots < entries * 2) {
+			slots <<= 1;
+		}
+		int[] table = new int[slots];
+		int mask = slots - 1;
+
+		int offset = 0;
+		for (int i = 0; i < entries; i++) {
+			if (directory.getInt(offset) != CENTRAL_HEADER_SIGNATURE) {
+				throw new IOException("Invalid central directory: " + file);
+			}
+			int nameLength = directory.getShort(offset + 28) & 0xffff;
+			int extraLength = directory.getShort(offset + 30) & 0xffff;
+			int commentLength = directory.getShort(offset + 32) & 0xffff;
+
+			int index = hash(directory, offset + CENTRAL_HEADER_LENGTH, nameLength) & mask;
+			while (table[index] != 0) {
+				index = (index + 1) & mask;
+			}
+			table[index] = offset + 1;
+
+			offset += CENTRAL_HEADER_LENGTH + nameLength + extraLength + commentLength;
+		}
+		return new ZipDirectoryIndex(file, lastModified, fileSize, directory, table, entries);
+	}
+
+	private static ByteBuffer read(RandomAccessFile file, long position, int length) throws IOException {
+		byte[] bytes = new byte[length];
+		file.seek(position);
+		file.readFully(bytes);
+		return ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	private static int findEndHeader(ByteBuffer buffer) {
+		for (int offset = buffer.limit() - END_HEADER_LENGTH; offset >= 0; offset--) {
+			if (buffer.getInt(offset) == END_HEADER_SIGNATURE) {
+				return offset;
+			}
+		}
+		return -1;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns <code>true</code> if the file has not been changed since it was indexed.
+	 */
+	public boolean isCurrent() {
+		return file.lastModified() == lastModified && file.length() == fileSize;
+	}
+
+	public boolean contains(String name) {
+		return find(name.getBytes(UTF8)) >= 0;
+	}
+
+	/**
+	 * Returns <code>true</code> if the given channel has the size of the file when it was indexed.
+	 */
+	public boolean matches(FileChannel channel) throws IOException {
+		return channel.size() == fileSize;
+	}
+
+	/**
+	 * Returns a stream on the uncompressed data of the given entry, or <code>null</code> if there is no such entry.
+	 * The compressed data is read from the given channel on the indexed file before this method returns.
+	 */
+	public InputStream getInputStream(FileChannel channel, String name) throws IOException {
+		int offset = find(name.getBytes(UTF8));
+		if (offset < 0) {
+			return null;
+		}
+		byte[] data = readRawData(channel, offset);
+		switch (getMethod(offset)) {
+		case STORED:
+			return new ByteArrayInputStream(data);
+		case DEFLATED:
+			return new RawInflaterInputStream(new ByteArrayInputStream(data));
+		default:
+			throw new IOException("Unsupported compression method for " + name);
+		}
+	}
+
+	private int getMethod(int offset) {
+		return directory.getShort(offset + 10) & 0xffff;
+	}
+
+	private byte[] readRawData(FileChannel channel, int offset) throws IOException {
+		int compressedSize = directory.getInt(offset + 20);
+		long localOffset = directory.getInt(offset + 42) & 0xffffffffL;
+		if (compressedSize < 0 || localOffset + LOCAL_HEADER_LENGTH > fileSize) {
+			throw new IOException("Invalid central directory record in " + file);
+		}
+		ByteBuffer header = ByteBuffer.allocate(LOCAL_HEADER_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+		read(channel, header, localOffset);
+		if (header.getInt(0) != LOCAL_HEADER_SIGNATURE) {
+			throw new IOException("Invalid local header in " + file);
+		}
+		// the extra field of the local header may differ from the one in the central directory
+		long dataOffset = localOffset + LOCAL_HEADER_LENGTH + (header.getShort(26) & 0xffff)
+				+ (header.getShort(28) & 0xffff);
+		if (dataOffset + compressedSize > fileSize) {
+			throw new IOException("Invalid local header in " + file);
+		}
+		byte[] data = new byte[compressedSize];
+		read(channel, ByteBuffer.wrap(data), dataOffset);
+		return data;
+	}
+
+	private void read(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			int read = channel.read(buffer, position);
+			if (read < 0) {
+				throw new EOFException("Unexpected end of " + file);
+			}
+			position += read;
+		}
+	}
+
+	private int find(byte[] name) {
+		int mask = table.length - 1;
+		int index = hash(name) & mask;
+		int entry;
+		while ((entry = table[index]) != 0) {
+			int offset = entry - 1;
+			if (nameEquals(offset, name)) {
+				return offset;
+			}
+			index = (index + 1) & mask;
+		}
+		return -1;
+	}
+
+	private boolean nameEquals(int offset, byte[] name) {
+		if ((directory.getShort(offset + 28) & 0xffff) != name.length) {
+			return false;
+		}
+		int nameOffset = offset + CENTRAL_HEADER_LENGTH;
+		for (int i = 0; i < name.length; i++) {
+			if (directory.get(nameOffset + i) != name[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int hash(ByteBuffer buffer, int offset, int length) {
+		int h = 0;
+		for (int i = 0; i < length; i++) {
+			h = 31 * h + (buffer.get(offset + i) & 0xff);
+		}
+		return h ^ (h >>> 16);
+	}
+
+	private static int hash(byte[] bytes) {
+		int h = 0;
+		for (int i = 0; i < bytes.length; i++) {
+			h = 31 * h + (bytes[i] & 0xff);
+		}
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * Inflates raw deflate data the same way as {@link java.util.zip.ZipFile} does, including the dummy byte at the
+	 * end of the input, and releases the native inflater on close.
+	 */
+	private static class RawInflaterInputStream extends InflaterInputStream {
+
+		private boolean eof;
+
+		private boolean closed;
+
+		RawInflaterInputStream(InputStream in) {
+			super(in, new Inflater(true), 1024);
+		}
+
+		@Override
+		protected void fill() throws IOException {
+			if (eof) {
+				throw new EOFException("Unexpected end of ZLIB input stream");
+			}
+			len = in.read(buf, 0, buf.length);
+			if (len == -1) {
+				buf[0] = 0;
+				len = 1;
+				eof = true;
+			}
+			inf.setInput(buf, 0, len);
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (!closed) {
+				closed = true;
+				inf.end();
+				super.close();
+			}
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2014 Spring IDE Developers
+ * Copyright (c) 2007, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,16 +10,29 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.core.model.validation;
 
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRunnable;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubProgressMonitor;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.core.runtime.jobs.MultiRule;
 import org.springframework.ide.eclipse.core.MarkerUtils;
+import org.springframework.ide.eclipse.core.SpringCore;
 import org.springframework.ide.eclipse.core.internal.model.validation.ValidationRuleDefinition;
 import org.springframework.ide.eclipse.core.internal.model.validation.ValidationRuleDefinitionFactory;
 import org.springframework.ide.eclipse.core.model.IModelElement;
@@ -32,6 +45,10 @@ import org.springframework.ide.eclipse.core.project.IProjectContributorStateAwar
 /**
  * Base {@link IValidator} implementation that abstracts model visiting and provides implementation hooks for sub
  * classes.
+ * <p>
+ * If {@link SpringCore#PARALLEL_VALIDATION parallel validation} is enabled and the validator is marked as
+ * {@link #isThreadSafe() thread-safe}, the affected resources are validated concurrently and the resulting markers are
+ * created in batches afterwards.
  * @author Torsten Juergeleit
  * @author Christian Dupuis
  * @author Martin Lippert
@@ -39,6 +56,12 @@ import org.springframework.ide.eclipse.core.project.IProjectContributorStateAwar
  */
 public abstract class AbstractValidator implements IValidator, IProjectContributorStateAware {
 
+	/** Number of resources whose markers are created within a single workspace operation */
+	private static final int MARKER_BATCH_SIZE = 50;
+
+	/** Pool shared by all validators running in parallel mode; created on first use */
+	private static ForkJoinPool validationPool;
+
 	/** Internal state object */
 	private IProjectContributorState contributorState;
 
@@ -50,6 +73,9 @@ public abstract class AbstractValidator implements IValidator, IProjectContribut
 	/** unique id for this validator */
 	private String validatorId;
 
+	/** <code>true</code> if the rules of this validator can validate several resources at the same time */
+	private boolean threadSafe = false;
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -73,11 +99,32 @@ public abstract class AbstractValidator implements IValidator, IProjectContribut
 		this.validatorId = validatorId;
 	}
 
+	/**
+	 * Marks this validator as safe to validate several resources at the same time.
+	 * @since 3.9.17
+	 */
+	public void setThreadSafe(boolean threadSafe) {
+		this.threadSafe = threadSafe;
+	}
+
+	/**
+	 * Returns <code>true</code> if this validator and its rules can validate several resources at the same time.
+	 * @since 3.9.17
+	 */
+	public boolean isThreadSafe() {
+		return threadSafe;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	public final void validate(Set<IResource> affectedResources, int kind, IProgressMonitor monitor)
 			throws CoreException {
+		if (affectedResources.size() > 1 && isThreadSafe() && isParallelValidationEnabled()) {
+			validateConcurrently(affectedResources, kind, monitor);
+			return;
+		}
+
 		SubProgressMonitor subMonitor = new SubProgressMonitor(monitor, affectedResources.size());
 		try {
 			for (IResource resource : affectedResources) {
@@ -119,6 +166,157 @@ public abstract class AbstractValidator implements IValidator, IProjectContribut
 		}
 	}
 
+	/**
+	 * Removes the markers of all given resources, validates the resources on the shared validation pool and finally
+	 * creates the markers on the calling thread in resource order.
+	 */
+	private void validateConcurrently(Set<IResource> affectedResources, final int kind, final IProgressMonitor monitor)
+			throws CoreException {
+		SubProgressMonitor subMonitor = new SubProgressMonitor(monitor, affectedResources.size() * 2);
+		List<Future<Set<ValidationProblem>>> results = new ArrayList<Future<Set<ValidationProblem>>>();
+		try {
+			for (IResource resource : affectedResources) {
+				cleanup(resource, subMonitor);
+				subMonitor.worked(1);
+				if (subMonitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+			}
+
+			reportProgress("Validating %s resources", subMonitor, affectedResources.size());
+
+			// workers only check for cancellation; progress is reported while collecting the results
+			final IProgressMonitor workerMonitor = new NullProgressMonitor() {
+
+				@Override
+				public boolean isCanceled() {
+					return monitor.isCanceled();
+				}
+			};
+
+			ForkJoinPool pool = getValidationPool();
+			for (final IResource resource : affectedResources) {
+				results.add(pool.submit(new Callable<Set<ValidationProblem>>() {
+
+					public Set<ValidationProblem> call() {
+						return validate(resource, kind, workerMonitor);
+					}
+				}));
+			}
+
+			List<IResource> batchResources = new ArrayList<IResource>();
+			List<Set<ValidationProblem>> batchProblems = new ArrayList<Set<ValidationProblem>>();
+			int i = 0;
+			for (IResource resource : affectedResources) {
+				Set<ValidationProblem> problems = getResult(results.get(i++));
+				if (problems != null && problems.size() > 0) {
+					batchResources.add(resource);
+					batchProblems.add(problems);
+				}
+				if (batchResources.size() >= MARKER_BATCH_SIZE) {
+					createProblemMarkers(batchResources, batchProblems, subMonitor);
+					batchResources.clear();
+					batchProblems.clear();
+				}
+				subMonitor.worked(1);
+				if (subMonitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+			}
+			createProblemMarkers(batchResources, batchProblems, subMonitor);
+		}
+		finally {
+			// stop pending validations if we got canceled or one of the validations failed
+			for (Future<Set<ValidationProblem>> result : results) {
+				result.cancel(false);
+			}
+			subMonitor.done();
+		}
+	}
+
+	/**
+	 * Validates a single resource without creating any markers. Called on a thread of the validation pool.
+	 */
+	private Set<ValidationProblem> validate(IResource resource, int kind, IProgressMonitor monitor) {
+		if (monitor.isCanceled()) {
+			throw new OperationCanceledException();
+		}
+		IValidationElementLifecycleManager callback = initValidationElementCallback(resource, kind);
+		try {
+			IResourceModelElement rootElement = callback.getRootElement();
+
+			// Check if resource model element is external to the workspace -> if so, do not validate the resource
+			if (rootElement == null || rootElement.isExternal()) {
+				return null;
+			}
+
+			Set<ValidationRuleDefinition> ruleDefinitions = getRuleDefinitions(resource);
+			if (ruleDefinitions != null && ruleDefinitions.size() > 0) {
+				return validate(callback, ruleDefinitions, monitor);
+			}
+			return null;
+		}
+		finally {
+			callback.destroy();
+		}
+	}
+
+	private Set<ValidationProblem> getResult(Future<Set<ValidationProblem>> result) {
+		try {
+			return result.get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		}
+		catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	/**
+	 * Creates the markers for a batch of resources within a single workspace operation, so that only one resource
+	 * change event gets fired for the whole batch.
+	 */
+	private void createProblemMarkers(final List<IResource> resources, final List<Set<ValidationProblem>> problems,
+			IProgressMonitor monitor) throws CoreException {
+		if (resources.isEmpty()) {
+			return;
+		}
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		ISchedulingRule rule = null;
+		for (IResource resource : resources) {
+			rule = MultiRule.combine(rule, workspace.getRuleFactory().markerRule(resource));
+		}
+		workspace.run(new IWorkspaceRunnable() {
+
+			public void run(IProgressMonitor monitor) throws CoreException {
+				for (int i = 0; i < resources.size(); i++) {
+					ValidationUtils.createProblemMarkers(resources.get(i), problems.get(i), getMarkerId());
+				}
+			}
+		}, rule, IWorkspace.AVOID_UPDATE, monitor);
+	}
+
+	private static synchronized ForkJoinPool getValidationPool() {
+		if (validationPool == null) {
+			validationPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+		}
+		return validationPool;
+	}
+
+	private static boolean isParallelValidationEnabled() {
+		SpringCore plugin = SpringCore.getDefault();
+		return plugin != null && plugin.getPluginPreferences().getBoolean(SpringCore.PARALLEL_VALIDATION);
+	}
+
 	private IValidationElementLifecycleManager initValidationElementCallback(IResource resource, int kind) {
 		IValidationElementLifecycleManager callback = createValidationElementLifecycleManager();
 		if (callback instanceof IValidationElementLifecycleManagerExtension) {
@@ -129,7 +327,7 @@ public abstract class AbstractValidator implements IValidator, IProjectContribut
 	}
 
 	private Set<ValidationProblem> validate(IValidationElementLifecycleManager callback,
-			Set<ValidationRuleDefinition> ruleDefinitions, SubProgressMonitor subMonitor) {
+			Set<ValidationRuleDefinition> ruleDefinitions, IProgressMonitor subMonitor) {
 		Set<ValidationProblem> problems = new LinkedHashSet<ValidationProblem>();
 		for (IResourceModelElement contextElement : callback.getContextElements()) {
 			IValidationContext context = createContext(callback.getRootElement(), contextElement);
@@ -248,6 +446,17 @@ public abstract class AbstractValidator implements IValidator, IProjectContribut
 		return true;
 	}
 
+	/**
+	 * Runs the rule of the given {@link ValidationRuleDefinition} against the given element. Subclasses may override
+	 * to reuse the problems reported for an unchanged element by a previous run of the rule.
+	 * @since 3.9.17
+	 */
+	@SuppressWarnings("unchecked")
+	protected void validateElement(ValidationRuleDefinition ruleDefinition, IModelElement element,
+			IValidationContext context, IProgressMonitor monitor) {
+		ruleDefinition.getRule().validate(element, context, monitor);
+	}
+
 	/**
 	 * {@link IModelElementVisitor} implementation that validates a specified model tree.
 	 */
@@ -277,7 +486,7 @@ public abstract class AbstractValidator implements IValidator, IProjectContribut
 						IValidationRule rule = ruleDefinition.getRule();
 						if (rule.supports(element, context)) {
 							context.setCurrentRuleDefinition(ruleDefinition);
-							rule.validate(element, context, monitor);
+							validateElement(ruleDefinition, element, context, monitor);
 						}
 						subMonitor.worked(1);
 					}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007 Spring IDE Developers
+ * Copyright (c) 2007, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,30 +11,50 @@
 package org.springframework.ide.eclipse.core.type.asm;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
 
+import org.eclipse.core.resources.IProject;
 import org.springframework.asm.ClassReader;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.ide.eclipse.core.SpringCore;
+import org.springframework.ide.eclipse.core.java.ComputingCache;
+import org.springframework.ide.eclipse.core.java.ITypeStructureCache;
+import org.springframework.ide.eclipse.core.java.ITypeStructureChangeListener;
+import org.springframework.ide.eclipse.core.java.ITypeStructureChangeNotifier;
 
 /**
  * Caching implementation of the {@link ClassReaderFactory} interface, caching a
  * ClassReader per Spring Resource handle (i.e. per ".class" file).
+ * <p>
+ * The cache can be used by several threads concurrently, is bounded in size and drops the
+ * ClassReaders of types that the {@link ITypeStructureCache} reports structural changes for.
  * @author Christian Dupuis
  * @author Juergen Hoeller
  * @since 2.0.2
  */
 public class CachingClassReaderFactory extends SimpleClassReaderFactory {
 
-	private final Map<Resource, ClassReader> classReaderCache = 
-		new HashMap<Resource, ClassReader>();
+	private static final int MAX_CACHE_SIZE = 5000;
+
+	private final ComputingCache<Resource, ClassReader> classReaderCache = 
+		new ComputingCache<Resource, ClassReader>(MAX_CACHE_SIZE);
+
+	/** Only weakly referenced by the type structure cache, it lives as long as this factory */
+	private final ITypeStructureChangeListener typeStructureChangeListener = new ITypeStructureChangeListener() {
+		public void typeStructuresChanged(IProject project, Set<String> classNames) {
+			invalidate(classNames);
+		}
+	};
 
 	/**
 	 * Create a new CachingClassReaderFactory for the default class loader.
 	 */
 	public CachingClassReaderFactory() {
 		super();
+		registerTypeStructureChangeListener();
 	}
 
 	/**
@@ -44,6 +64,7 @@ public class CachingClassReaderFactory extends SimpleClassReaderFactory {
 	 */
 	public CachingClassReaderFactory(ResourceLoader resourceLoader) {
 		super(resourceLoader);
+		registerTypeStructureChangeListener();
 	}
 
 	/**
@@ -52,17 +73,54 @@ public class CachingClassReaderFactory extends SimpleClassReaderFactory {
 	 */
 	public CachingClassReaderFactory(ClassLoader classLoader) {
 		super(classLoader);
+		registerTypeStructureChangeListener();
 	}
 
-	public ClassReader getClassReader(Resource resource) throws IOException {
-		synchronized (this.classReaderCache) {
-			ClassReader classReader = this.classReaderCache.get(resource);
-			if (classReader == null) {
-				classReader = super.getClassReader(resource);
-				this.classReaderCache.put(resource, classReader);
+	private void registerTypeStructureChangeListener() {
+		ITypeStructureCache typeStructureCache = SpringCore.getTypeStructureCache();
+		if (typeStructureCache instanceof ITypeStructureChangeNotifier) {
+			((ITypeStructureChangeNotifier) typeStructureCache).addTypeStructureChangeListener(typeStructureChangeListener);
+		}
+	}
+
+	public ClassReader getClassReader(final Resource resource) throws IOException {
+		return this.classReaderCache.get(resource, new Callable<ClassReader>() {
+			public ClassReader call() throws IOException {
+				return readClassReader(resource);
 			}
-			return classReader;
+		});
+	}
+
+	private ClassReader readClassReader(Resource resource) throws IOException {
+		return super.getClassReader(resource);
+	}
+
+	/**
+	 * Removes the cached ClassReaders of the given types and their inner types.
+	 * @param classNames full-qualified class names or <code>null</code> to clear the cache
+	 * @since 3.9.17
+	 */
+	public void invalidate(Set<String> classNames) {
+		if (classNames == null) {
+			this.classReaderCache.clear();
+			return;
+		}
+		final Set<String> internalNames = new HashSet<String>();
+		for (String className : classNames) {
+			internalNames.add(className.replace('.', '/'));
 		}
+		this.classReaderCache.invalidate(new ComputingCache.EntryMatcher<Resource, ClassReader>() {
+			public boolean matches(Resource resource, ClassReader classReader) {
+				if (classReader == null) {
+					// still being read, possibly from an outdated class file
+					return true;
+				}
+				String internalName = classReader.getClassName();
+				int ix = internalName.indexOf('$');
+				return internalNames.contains(internalName)
+						|| (ix > 0 && internalNames.contains(internalName.substring(0, ix)));
+			}
+		});
 	}
 
 }
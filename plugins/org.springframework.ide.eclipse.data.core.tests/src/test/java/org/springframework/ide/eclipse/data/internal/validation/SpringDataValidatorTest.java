@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.data.internal.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.ide.eclipse.core.SpringCore;
+import org.springframework.ide.eclipse.core.internal.model.validation.ValidatorDefinition;
+import org.springframework.ide.eclipse.core.internal.model.validation.ValidatorDefinitionFactory;
+import org.springframework.ide.eclipse.core.model.validation.AbstractValidator;
+import org.springsource.ide.eclipse.commons.tests.util.StsTestUtil;
+
+/**
+ * Test case for the {@link SpringDataValidator} validating several repositories at the same time.
+ * @since 3.9.17
+ */
+public class SpringDataValidatorTest {
+
+	private static final String VALIDATOR_ID = "org.springframework.ide.eclipse.data.core.datavalidator";
+
+	private static final int REPOSITORIES = 16;
+
+	private IProject project;
+
+	private Set<IResource> repositories;
+
+	private AbstractValidator validator;
+
+	private String markerId;
+
+	@BeforeClass
+	public static void setUp() {
+		if (Platform.OS_WIN32.equals(Platform.getOS())) {
+			/*
+			 * Set non-locking class-loader for windows testing
+			 */
+			InstanceScope.INSTANCE.getNode(SpringCore.PLUGIN_ID).putBoolean(
+					SpringCore.USE_NON_LOCKING_CLASSLOADER, true);
+		}
+	}
+
+	@Before
+	public void createProject() throws Exception {
+		project = StsTestUtil.createPredefinedProject("spring-data-testdata", "org.springframework.ide.eclipse.data.core.tests");
+		IFolder folder = project.getFolder("src/org/validation");
+		folder.create(true, true, null);
+		createFile(folder, "Person.java", "package org.validation;\n\n" //
+				+ "public class Person {\n\n" //
+				+ "\tprivate String name;\n\n" //
+				+ "\tpublic String getName() {\n\t\treturn name;\n\t}\n}\n");
+
+		repositories = new LinkedHashSet<IResource>();
+		for (int i = 0; i < REPOSITORIES; i++) {
+			repositories.add(createFile(folder, "PersonRepository" + i + ".java", "package org.validation;\n\n" //
+					+ "import org.springframework.data.repository.Repository;\n\n" //
+					+ "public interface PersonRepository" + i + " extends Repository<Person, Long> {\n\n" //
+					+ "\tPerson findByName(String name);\n\n" //
+					+ "\tPerson findByAge" + i + "(int age);\n}\n"));
+		}
+		project.build(IncrementalProjectBuilder.FULL_BUILD, null);
+
+		ValidatorDefinition definition = ValidatorDefinitionFactory.getValidatorDefinition(VALIDATOR_ID);
+		validator = (AbstractValidator) definition.getValidator();
+		markerId = definition.getMarkerId();
+	}
+
+	@After
+	public void deleteProject() throws Exception {
+		InstanceScope.INSTANCE.getNode(SpringCore.PLUGIN_ID).remove(SpringCore.PARALLEL_VALIDATION);
+		project.delete(true, null);
+	}
+
+	@Test
+	public void testValidatorIsThreadSafe() {
+		assertTrue(validator.isThreadSafe());
+	}
+
+	@Test
+	public void testParallelValidationCreatesSameMarkers() throws Exception {
+		Map<IResource, Set<String>> sequentialMarkers = validate(false);
+		for (int i = 0; i < REPOSITORIES; i++) {
+			Set<String> markers = sequentialMarkers.get(project.getFile("src/org/validation/PersonRepository" + i
+					+ ".java"));
+			assertEquals(1, markers.size());
+			assertTrue(markers.iterator().next().contains("age" + i));
+		}
+
+		assertEquals(sequentialMarkers, validate(true));
+	}
+
+	private Map<IResource, Set<String>> validate(boolean parallel) throws Exception {
+		InstanceScope.INSTANCE.getNode(SpringCore.PLUGIN_ID).putBoolean(SpringCore.PARALLEL_VALIDATION, parallel);
+		validator.validate(repositories, IncrementalProjectBuilder.FULL_BUILD, new NullProgressMonitor());
+
+		Map<IResource, Set<String>> markers = new HashMap<IResource, Set<String>>();
+		for (IResource repository : repositories) {
+			Set<String> messages = new HashSet<String>();
+			for (IMarker marker : repository.findMarkers(markerId, false, IResource.DEPTH_ZERO)) {
+				messages.add(marker.getAttribute(IMarker.LINE_NUMBER, -1) + ": "
+						+ marker.getAttribute(IMarker.MESSAGE, ""));
+			}
+			markers.put(repository, messages);
+		}
+		return markers;
+	}
+
+	private IFile createFile(IFolder folder, String name, String content) throws Exception {
+		IFile file = folder.getFile(name);
+		file.create(new ByteArrayInputStream(content.getBytes("UTF-8")), true, null);
+		return file;
+	}
+
+}
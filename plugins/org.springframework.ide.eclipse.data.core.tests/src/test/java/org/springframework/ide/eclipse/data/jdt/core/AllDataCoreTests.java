@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2013 Spring IDE Developers
+ * Copyright (c) 2012, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,7 @@ package org.springframework.ide.eclipse.data.jdt.core;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
+import org.springframework.ide.eclipse.data.internal.validation.SpringDataValidatorTest;
 
 /**
  * @author Tomasz Zarna
@@ -21,7 +22,8 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses({ KeywordProviderSupportUnitTests.class, //
 		QueryMethodCandidateUnitTests.class, //
 		QueryMethodPartUnitTests.class, //
-		RepositoryInformationTest.class //
+		RepositoryInformationTest.class, //
+		SpringDataValidatorTest.class //
 })
 public class AllDataCoreTests {
 	// goofy junit4, no class body needed
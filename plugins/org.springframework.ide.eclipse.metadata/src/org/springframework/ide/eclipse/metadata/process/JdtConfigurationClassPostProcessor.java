@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2012, 2014 Pivotal Software, Inc.
+ *  Copyright (c) 2012, 2026 Pivotal Software, Inc.
  *  All rights reserved. This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License v1.0
  *  which accompanies this distribution, and is available at
@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.metadata.process;
 
+import java.io.IOException;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -35,12 +36,19 @@ import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.beans.factory.support.GenericBeanDefinition;
 import org.springframework.context.annotation.ConfigurationClassPostProcessor;
 import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.core.type.MethodMetadata;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
 import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansConfig;
+import org.springframework.ide.eclipse.beans.core.internal.model.ComponentScanScope;
 import org.springframework.ide.eclipse.beans.core.internal.model.DelegatingSourceExtractor;
 import org.springframework.ide.eclipse.beans.core.internal.model.ProfileAwareCompositeComponentDefinition;
 import org.springframework.ide.eclipse.beans.core.internal.model.ToolingAwareEnvironment;
+import org.springframework.ide.eclipse.beans.core.model.IBeansConfig;
 import org.springframework.ide.eclipse.beans.core.model.process.IBeansConfigPostProcessingContext;
 import org.springframework.ide.eclipse.beans.core.model.process.IBeansConfigPostProcessor;
 import org.springframework.ide.eclipse.beans.core.model.process.IBeansConfigRegistrationSupport;
@@ -60,6 +68,13 @@ import org.springframework.ide.eclipse.core.model.validation.ValidationProblem;
 @SuppressWarnings("restriction")
 public class JdtConfigurationClassPostProcessor implements IBeansConfigPostProcessor {
 
+	/** The attribute marking the bean definitions of configuration classes */
+	private static final String CONFIGURATION_CLASS_ATTRIBUTE = "org.springframework.context.annotation.ConfigurationClassPostProcessor.configurationClass";
+
+	private static final String COMPONENT_SCAN_ANNOTATION = "org.springframework.context.annotation.ComponentScan";
+
+	private static final String COMPONENT_SCANS_ANNOTATION = "org.springframework.context.annotation.ComponentScans";
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -76,9 +91,10 @@ public class JdtConfigurationClassPostProcessor implements IBeansConfigPostProce
 
 		processor.setEnvironment(new ToolingAwareEnvironment());
 		processor.setSourceExtractor(sourceExtractor);
-		processor.setMetadataReaderFactory(new CachingJdtMetadataReaderFactory(project, classLoader));
+		MetadataReaderFactory metadataReaderFactory = new CachingJdtMetadataReaderFactory(project, classLoader);
+		processor.setMetadataReaderFactory(metadataReaderFactory);
 		processor.setProblemReporter(new JdtAnnotationMetadataProblemReporter(postProcessingContext));
-		processor.setResourceLoader(new DefaultResourceLoader(classLoader));
+		processor.setResourceLoader(createResourceLoader(postProcessingContext.getBeansConfig(), classLoader));
 
 		ReaderEventListenerForwardingBeanDefinitionRegistry registry = new ReaderEventListenerForwardingBeanDefinitionRegistry(
 				postProcessingContext.getBeanDefinitionRegistry(), postProcessingContext
@@ -86,6 +102,91 @@ public class JdtConfigurationClassPostProcessor implements IBeansConfigPostProce
 		registry.setBeanClassLoader(classLoader);
 		
 		processor.processConfigBeanDefinitions(registry);
+
+		IBeansConfig config = postProcessingContext.getBeansConfig();
+		if (config instanceof BeansConfig && ((BeansConfig) config).getComponentScanScope() != null) {
+			recordComponentScanFilters(registry, metadataReaderFactory, ((BeansConfig) config).getComponentScanScope());
+		}
+	}
+
+	/**
+	 * Records the types referenced by the include and exclude filters of the <code>@ComponentScan</code> annotations
+	 * of all configuration classes processed, so that the config gets reset on changes to these types.
+	 */
+	private void recordComponentScanFilters(BeanDefinitionRegistry registry,
+			MetadataReaderFactory metadataReaderFactory, ComponentScanScope scanScope) {
+		for (String beanName : registry.getBeanDefinitionNames()) {
+			BeanDefinition beanDefinition = registry.getBeanDefinition(beanName);
+			if (beanDefinition.getAttribute(CONFIGURATION_CLASS_ATTRIBUTE) == null) {
+				continue;
+			}
+			AnnotationMetadata metadata = null;
+			if (beanDefinition instanceof AnnotatedBeanDefinition) {
+				metadata = ((AnnotatedBeanDefinition) beanDefinition).getMetadata();
+			}
+			else if (beanDefinition.getBeanClassName() != null) {
+				try {
+					metadata = metadataReaderFactory.getMetadataReader(beanDefinition.getBeanClassName())
+							.getAnnotationMetadata();
+				}
+				catch (IOException e) {
+					// the class has been processed already, so problems have been reported there
+				}
+			}
+			if (metadata == null) {
+				continue;
+			}
+
+			recordComponentScanFilters(metadata.getAnnotationAttributes(COMPONENT_SCAN_ANNOTATION, true), scanScope);
+			Map<String, Object> componentScans = metadata.getAnnotationAttributes(COMPONENT_SCANS_ANNOTATION, true);
+			if (componentScans != null && componentScans.get("value") instanceof Map[]) {
+				for (Map<?, ?> componentScan : (Map[]) componentScans.get("value")) {
+					recordComponentScanFilters(componentScan, scanScope);
+				}
+			}
+		}
+	}
+
+	private void recordComponentScanFilters(Map<?, ?> componentScan, ComponentScanScope scanScope) {
+		if (componentScan == null) {
+			return;
+		}
+		for (String filtersAttribute : new String[] { "includeFilters", "excludeFilters" }) {
+			if (!(componentScan.get(filtersAttribute) instanceof Map[])) {
+				continue;
+			}
+			for (Map<?, ?> filter : (Map[]) componentScan.get(filtersAttribute)) {
+				String filterType = String.valueOf(filter.get("type"));
+				for (String typeAttribute : new String[] { "value", "classes", "pattern" }) {
+					Object types = filter.get(typeAttribute);
+					if (types instanceof String[]) {
+						for (String type : (String[]) types) {
+							scanScope.recordFilter(filterType, type);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Creates the resource loader for the given config, that records the packages scanned by
+	 * <code>@ComponentScan</code> with the config so that it gets reset on changes to these packages.
+	 */
+	private ResourceLoader createResourceLoader(IBeansConfig config, ClassLoader classLoader) {
+		final ComponentScanScope scanScope = (config instanceof BeansConfig ? ((BeansConfig) config)
+				.getComponentScanScope() : null);
+		if (scanScope == null) {
+			return new DefaultResourceLoader(classLoader);
+		}
+		return new PathMatchingResourcePatternResolver(classLoader) {
+
+			@Override
+			public Resource[] getResources(String locationPattern) throws IOException {
+				scanScope.recordScan(locationPattern);
+				return super.getResources(locationPattern);
+			}
+		};
 	}
 
 	/**
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.test;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.springframework.ide.eclipse.core.java.ComputingCache;
+
+/**
+ * @since 3.9.17
+ */
+public class ComputingCacheTest {
+
+	@Test
+	public void testValueIsComputedOnce() throws Exception {
+		ComputingCache<String, String> cache = new ComputingCache<String, String>(10);
+		AtomicInteger computations = new AtomicInteger();
+		assertEquals("a", cache.get("a", compute("a", computations)));
+		assertEquals("a", cache.get("a", compute("a", computations)));
+		assertEquals(1, computations.get());
+	}
+
+	@Test
+	public void testFailureIsNotCached() throws Exception {
+		ComputingCache<String, String> cache = new ComputingCache<String, String>(10);
+		try {
+			cache.get("a", new Callable<String>() {
+				public String call() throws Exception {
+					throw new IOException("failed");
+				}
+			});
+			fail();
+		}
+		catch (IOException e) {
+			assertEquals("failed", e.getMessage());
+		}
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testLeastRecentlyUsedAreEvicted() throws Exception {
+		ComputingCache<String, String> cache = new ComputingCache<String, String>(10);
+		AtomicInteger computations = new AtomicInteger();
+		for (int i = 0; i < 10; i++) {
+			cache.get("key" + i, compute("value" + i, computations));
+		}
+		cache.get("key0", compute("value0", computations));
+		cache.get("key10", compute("value10", computations));
+		assertTrue(cache.size() <= 10);
+
+		cache.get("key0", compute("value0", computations));
+		assertEquals(11, computations.get());
+		cache.get("key1", compute("value1", computations));
+		assertEquals(12, computations.get());
+	}
+
+	@Test
+	public void testInvalidate() throws Exception {
+		ComputingCache<String, String> cache = new ComputingCache<String, String>(10);
+		AtomicInteger computations = new AtomicInteger();
+		cache.get("a", compute("a", computations));
+		cache.get("b", compute("b", computations));
+		cache.invalidate(new ComputingCache.EntryMatcher<String, String>() {
+			public boolean matches(String key, String value) {
+				return "a".equals(value);
+			}
+		});
+		assertEquals(1, cache.size());
+		cache.get("a", compute("a", computations));
+		assertEquals(3, computations.get());
+	}
+
+	private Callable<String> compute(final String value, final AtomicInteger computations) {
+		return new Callable<String>() {
+			public String call() {
+				computations.incrementAndGet();
+				return value;
+			}
+		};
+	}
+
+}
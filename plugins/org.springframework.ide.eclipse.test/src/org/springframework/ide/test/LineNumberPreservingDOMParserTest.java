@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.test;
+
+import static org.junit.Assert.*;
+
+import java.io.StringReader;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+import org.springframework.ide.eclipse.core.io.xml.LineNumberPreservingDOMParser;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+
+/**
+ * @since 3.9.17
+ */
+public class LineNumberPreservingDOMParserTest {
+
+	private static final int BEANS = 200;
+
+	@Test
+	public void testLineNumbers() throws Exception {
+		Document document = parse();
+		assertLineNumbers(document);
+	}
+
+	@Test
+	public void testLineNumbersFromOtherThread() throws Exception {
+		final Document document = parse();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			executor.submit(new Callable<Void>() {
+
+				public Void call() throws Exception {
+					assertLineNumbers(document);
+					return null;
+				}
+			}).get();
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testUnknownNodes() throws Exception {
+		Document document = parse();
+		Element element = document.createElement("bean");
+		document.getDocumentElement().appendChild(element);
+		assertEquals(-1, LineNumberPreservingDOMParser.getStartLineNumber(element));
+		assertEquals(-1, LineNumberPreservingDOMParser.getEndLineNumber(element));
+		assertEquals(-1, LineNumberPreservingDOMParser.getStartLineNumber(document.getDocumentElement()
+				.getAttributeNode("id")));
+		assertEquals(-1, LineNumberPreservingDOMParser.getStartLineNumber(null));
+	}
+
+	private Document parse() throws Exception {
+		StringBuilder xml = new StringBuilder("<beans id=\"beans\">\n");
+		for (int i = 0; i < BEANS; i++) {
+			xml.append("<bean>\n<property/>\n</bean>\n");
+		}
+		xml.append("</beans>\n");
+		LineNumberPreservingDOMParser parser = new LineNumberPreservingDOMParser();
+		parser.parse(new InputSource(new StringReader(xml.toString())));
+		return parser.getDocument();
+	}
+
+	private void assertLineNumbers(Document document) {
+		Element root = document.getDocumentElement();
+		assertEquals(1, LineNumberPreservingDOMParser.getStartLineNumber(root));
+		assertEquals(3 * BEANS + 2, LineNumberPreservingDOMParser.getEndLineNumber(root));
+
+		NodeList beans = root.getElementsByTagName("bean");
+		assertEquals(BEANS, beans.getLength());
+		for (int i = 0; i < BEANS; i++) {
+			Element bean = (Element) beans.item(i);
+			assertEquals(3 * i + 2, LineNumberPreservingDOMParser.getStartLineNumber(bean));
+			assertEquals(3 * i + 4, LineNumberPreservingDOMParser.getEndLineNumber(bean));
+			Element property = (Element) bean.getElementsByTagName("property").item(0);
+			assertEquals(3 * i + 3, LineNumberPreservingDOMParser.getStartLineNumber(property));
+			assertEquals(3 * i + 3, LineNumberPreservingDOMParser.getEndLineNumber(property));
+		}
+	}
+
+}
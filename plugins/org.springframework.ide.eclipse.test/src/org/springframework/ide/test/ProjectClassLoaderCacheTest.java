@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011 Spring IDE Developers
+ * Copyright (c) 2011, 2026 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,14 +12,45 @@ package org.springframework.ide.test;
 
 import static org.junit.Assert.*;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.junit.After;
 import org.junit.Test;
+import org.springframework.ide.eclipse.core.java.JdtUtils;
 import org.springframework.ide.eclipse.core.java.ProjectClassLoaderCache;
+import org.springframework.ide.eclipse.core.java.ProjectClassLoaderCache.Statistics;
 
 /**
  * @author Martin Lippert
  */
 public class ProjectClassLoaderCacheTest {
 
+	private final List<IProject> projects = new ArrayList<IProject>();
+
+	@After
+	public void deleteProjects() throws CoreException {
+		for (IProject project : projects) {
+			JdtUtils.removeClassLoaderEntryFromCache(project);
+			project.delete(true, true, null);
+		}
+	}
+
 	@Test
 	public void testFilter() {
 		assertFalse(ProjectClassLoaderCache.shouldFilter(null));
@@ -33,4 +64,131 @@ public class ProjectClassLoaderCacheTest {
 		assertTrue(ProjectClassLoaderCache.shouldFilter("META-INF/services/javax"));
 	}
 
+	@Test
+	public void testEvictionByWeight() throws Exception {
+		File[] jars = new File[] { createJar("a.txt"), createJar("b.txt"), createJar("c.txt") };
+		IProject first = createProject("ClassLoaderCacheFirst", jars);
+		IProject second = createProject("ClassLoaderCacheSecond", jars);
+
+		JdtUtils.getClassLoader(first, null);
+		long previousMaxWeight = ProjectClassLoaderCache.setMaxCacheWeight(jars.length);
+		try {
+			// all entries except the one of the project accessed last are evicted
+			Statistics statistics = ProjectClassLoaderCache.getStatistics();
+			assertEquals(1, statistics.getEntryCount());
+			assertEquals(jars.length, statistics.getWeight());
+
+			JdtUtils.getClassLoader(second, null);
+			Statistics afterSecond = ProjectClassLoaderCache.getStatistics();
+			assertEquals(1, afterSecond.getEntryCount());
+			assertEquals(jars.length, afterSecond.getWeight());
+			assertEquals(statistics.getEvictionCount() + 1, afterSecond.getEvictionCount());
+
+			JdtUtils.getClassLoader(second, null);
+			assertEquals(afterSecond.getMissCount(), ProjectClassLoaderCache.getStatistics().getMissCount());
+			JdtUtils.getClassLoader(first, null);
+			assertEquals(afterSecond.getMissCount() + 1, ProjectClassLoaderCache.getStatistics().getMissCount());
+		}
+		finally {
+			ProjectClassLoaderCache.setMaxCacheWeight(previousMaxWeight);
+		}
+	}
+
+	@Test
+	public void testSharedJarClassLoaderIsReleasedWithLastProject() throws Exception {
+		File[] jars = new File[] { createJar("a.txt"), createJar("b.txt") };
+		IProject first = createProject("ClassLoaderCacheFirst", jars);
+		IProject second = createProject("ClassLoaderCacheSecond", jars);
+		int jarClassLoaders = ProjectClassLoaderCache.getStatistics().getJarClassLoaderCount();
+
+		ClassLoader firstClassLoader = JdtUtils.getClassLoader(first, null);
+		ClassLoader secondClassLoader = JdtUtils.getClassLoader(second, null);
+		assertNotSame(firstClassLoader, secondClassLoader);
+		assertSame(firstClassLoader.getParent(), secondClassLoader.getParent());
+		assertEquals(jarClassLoaders + 1, ProjectClassLoaderCache.getStatistics().getJarClassLoaderCount());
+
+		JdtUtils.removeClassLoaderEntryFromCache(first);
+		assertEquals(jarClassLoaders + 1, ProjectClassLoaderCache.getStatistics().getJarClassLoaderCount());
+		assertNotNull(JdtUtils.getClassLoader(second, null).getResource("a.txt"));
+
+		JdtUtils.removeClassLoaderEntryFromCache(second);
+		assertEquals(jarClassLoaders, ProjectClassLoaderCache.getStatistics().getJarClassLoaderCount());
+	}
+
+	@Test
+	public void testClasspathChangeWhileClassLoaderIsRequested() throws Exception {
+		final File[] jars = new File[] { createJar("a.txt"), createJar("b.txt") };
+		final IProject project = createProject("ClassLoaderCacheProject", jars[0]);
+		final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+		final AtomicBoolean done = new AtomicBoolean();
+
+		Thread requester = new Thread() {
+
+			@Override
+			public void run() {
+				try {
+					while (!done.get()) {
+						JdtUtils.getClassLoader(project, null);
+					}
+				}
+				catch (Throwable e) {
+					failure.set(e);
+				}
+			}
+		};
+		requester.start();
+		try {
+			for (int i = 1; i <= 20; i++) {
+				String current = (i % 2 == 0 ? "a.txt" : "b.txt");
+				String previous = (i % 2 == 0 ? "b.txt" : "a.txt");
+				setClasspath(project, jars[i % 2]);
+
+				ClassLoader classLoader = JdtUtils.getClassLoader(project, null);
+				assertNotNull(classLoader.getResource(current));
+				assertNull(classLoader.getResource(previous));
+			}
+		}
+		finally {
+			done.set(true);
+			requester.join();
+		}
+		assertNull(failure.get());
+	}
+
+	private IProject createProject(String name, File... jars) throws CoreException {
+		IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(name);
+		project.create(null);
+		project.open(null);
+		projects.add(project);
+		IProjectDescription description = project.getDescription();
+		description.setNatureIds(new String[] { JavaCore.NATURE_ID });
+		project.setDescription(description, null);
+		setClasspath(project, jars);
+		return project;
+	}
+
+	private void setClasspath(IProject project, File... jars) throws CoreException {
+		IJavaProject javaProject = JavaCore.create(project);
+		IClasspathEntry[] entries = new IClasspathEntry[jars.length];
+		for (int i = 0; i < jars.length; i++) {
+			entries[i] = JavaCore.newLibraryEntry(new Path(jars[i].getAbsolutePath()), null, null);
+		}
+		javaProject.setRawClasspath(entries, project.getFullPath().append("bin"), null);
+	}
+
+	private File createJar(String resource) throws IOException {
+		File jar = File.createTempFile("classloader", ".jar");
+		jar.deleteOnExit();
+		JarOutputStream out = new JarOutputStream(new FileOutputStream(jar));
+		try {
+			out.putNextEntry(new ZipEntry(resource));
+			out.write(resource.getBytes("UTF-8"));
+			out.closeEntry();
+		}
+		finally {
+			out.close();
+		}
+		return jar;
+	}
+
 }
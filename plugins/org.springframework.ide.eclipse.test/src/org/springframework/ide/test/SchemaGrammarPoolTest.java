@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.test;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.Test;
+import org.springframework.ide.eclipse.core.io.xml.LineNumberPreservingDOMParser;
+import org.springframework.ide.eclipse.core.io.xml.SchemaGrammarPool;
+import org.xml.sax.EntityResolver;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+
+/**
+ * @since 3.9.17
+ */
+public class SchemaGrammarPoolTest {
+
+	private static final String SCHEMA = "<xsd:schema xmlns:xsd='http://www.w3.org/2001/XMLSchema' targetNamespace='urn:test' "
+			+ "elementFormDefault='qualified'><xsd:element name='root'><xsd:complexType><xsd:sequence>"
+			+ "<xsd:element name='%s' minOccurs='0'/></xsd:sequence></xsd:complexType></xsd:element></xsd:schema>";
+
+	private SchemaGrammarPool pool = new SchemaGrammarPool();
+
+	private int resolvedSchemas = 0;
+
+	private int errors = 0;
+
+	@Test
+	public void testSchemaIsResolvedOnce() throws Exception {
+		parse("one.xsd", "one");
+		parse("one.xsd", "one");
+		parse("one.xsd", "one");
+		assertEquals(1, resolvedSchemas);
+		assertEquals(0, errors);
+	}
+
+	@Test
+	public void testSchemaOfOtherLocationIsNotShared() throws Exception {
+		parse("one.xsd", "one");
+		parse("two.xsd", "two");
+		assertEquals(2, resolvedSchemas);
+		assertEquals(0, errors);
+
+		parse("two.xsd", "one");
+		assertEquals(1, errors);
+		parse("one.xsd", "two");
+		assertEquals(2, errors);
+		assertEquals(3, resolvedSchemas);
+	}
+
+	private void parse(String schemaLocation, String element) throws Exception {
+		LineNumberPreservingDOMParser parser = new LineNumberPreservingDOMParser(pool.getSymbolTable(), pool);
+		parser.setFeature("http://xml.org/sax/features/validation", true);
+		parser.setFeature("http://apache.org/xml/features/validation/dynamic", false);
+		parser.setFeature("http://apache.org/xml/features/validation/schema", true);
+		parser.setEntityResolver(new EntityResolver() {
+
+			public InputSource resolveEntity(String publicId, String systemId) throws IOException {
+				resolvedSchemas++;
+				String name = (systemId.endsWith("one.xsd") ? "one" : "two");
+				InputSource source = new InputSource(new StringReader(String.format(SCHEMA, name)));
+				source.setSystemId(systemId);
+				return source;
+			}
+		});
+		parser.setErrorHandler(new ErrorHandler() {
+
+			public void warning(SAXParseException exception) {
+			}
+
+			public void error(SAXParseException exception) {
+				errors++;
+			}
+
+			public void fatalError(SAXParseException exception) throws SAXException {
+				throw exception;
+			}
+		});
+		parser.parse(new InputSource(new StringReader("<root xmlns='urn:test' "
+				+ "xmlns:xsi='http://www.w3.org/2001/XMLSchema-instance' xsi:schemaLocation='urn:test http://test/"
+				+ schemaLocation + "'><" + element + "/></root>")));
+		assertNotNull(parser.getDocument());
+	}
+
+}
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.test;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.junit.Test;
+import org.springframework.ide.eclipse.core.java.SharedJarFilePool;
+
+/**
+ * @since 3.9.17
+ */
+public class SharedJarFilePoolTest {
+
+	private SharedJarFilePool pool = new SharedJarFilePool(2000);
+
+	@Test
+	public void testJarFileIsShared() throws Exception {
+		File jar = createJar("test/Resource.txt", "resource");
+		JarFile first = pool.newJarFile(jar);
+		JarFile second = pool.newJarFile(new File(jar.getParentFile(), "./" + jar.getName()));
+		assertSame(first, second);
+		assertEquals(1, pool.size());
+
+		first.close();
+		assertEquals(1, pool.size());
+		second.close();
+		assertEquals(0, pool.size());
+		assertEquals(0, pool.getOpenCount());
+	}
+
+	@Test
+	public void testEntriesAreReadFromOpenHandle() throws Exception {
+		File jar = createJar("test/Resource.txt", "resource");
+		JarFile jarFile = pool.newJarFile(jar);
+		ZipEntry entry = jarFile.getEntry("test/Resource.txt");
+		assertNotNull(entry);
+		InputStream in = jarFile.getInputStream(entry);
+		try {
+			assertEquals('r', in.read());
+		}
+		finally {
+			in.close();
+		}
+		assertEquals(1, pool.getOpenCount());
+
+		jarFile.close();
+		assertEquals(0, pool.getOpenCount());
+	}
+
+	@Test
+	public void testHandleIsClosedAfterReadWithoutIdleTimeout() throws Exception {
+		pool = new SharedJarFilePool(0);
+		File jar = createJar("test/Resource.txt", "resource");
+		JarFile jarFile = pool.newJarFile(jar);
+		InputStream in = jarFile.getInputStream(jarFile.getEntry("test/Resource.txt"));
+		try {
+			assertEquals('r', in.read());
+		}
+		finally {
+			in.close();
+		}
+		// the handle is closed right after the entry has been read, while the jar stays pooled
+		assertEquals(0, pool.getOpenCount());
+		assertEquals(1, pool.size());
+
+		jarFile.close();
+		assertEquals(0, pool.size());
+	}
+
+	@Test
+	public void testModifiedJarFileIsNotShared() throws Exception {
+		File jar = createJar("test/Resource.txt", "resource");
+		JarFile first = pool.newJarFile(jar);
+		writeJar(jar, "test/Other.txt", "other");
+		jar.setLastModified(jar.lastModified() + 2000);
+		JarFile second = pool.newJarFile(jar);
+		assertNotSame(first, second);
+		assertNull(second.getEntry("test/Resource.txt"));
+		assertNotNull(second.getEntry("test/Other.txt"));
+		first.close();
+		second.close();
+	}
+
+	private File createJar(String entry, String contents) throws Exception {
+		File jar = File.createTempFile("pool", ".jar");
+		jar.deleteOnExit();
+		writeJar(jar, entry, contents);
+		return jar;
+	}
+
+	private void writeJar(File jar, String entry, String contents) throws Exception {
+		JarOutputStream out = new JarOutputStream(new FileOutputStream(jar));
+		try {
+			out.putNextEntry(new ZipEntry(entry));
+			out.write(contents.getBytes("UTF-8"));
+			out.closeEntry();
+		}
+		finally {
+			out.close();
+		}
+	}
+
+}